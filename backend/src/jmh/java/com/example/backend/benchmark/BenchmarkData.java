@@ -0,0 +1,164 @@
+package com.example.backend.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.example.backend.application.dto.response.PageResponse;
+import com.example.backend.application.dto.response.StoryResponse;
+import com.example.backend.domain.entity.Category;
+import com.example.backend.domain.entity.Comment;
+import com.example.backend.domain.entity.Role;
+import com.example.backend.domain.entity.Story;
+import com.example.backend.domain.entity.User;
+import com.example.backend.infrastructure.security.VerifiedTokenCache;
+import com.example.backend.infrastructure.util.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Benchmark'ların ortak girdileri. Metin, sitedeki haberlere benzer uzunlukta ve Türkçe karakter yoğunluğundadır.
+ */
+final class BenchmarkData {
+
+    static final String ARTICLE_TITLE = "Yazılım Doğrulama Süreçlerinde Otomasyonun Önemi: Güncel Yaklaşımlar";
+
+    static final String ARTICLE_TEXT =
+            "Yazılım geliştirme süreçlerinde doğrulama ve geçerleme adımları, ürünün kullanıcıya ulaşmadan önce " +
+            "beklenen kaliteye sahip olduğunu göstermenin en güvenilir yoludur. Özellikle çevik ekiplerde her " +
+            "sprint sonunda çıkan sürümün otomatik testlerden geçmesi, hataların erken aşamada yakalanmasını sağlıyor. " +
+            "İstanbul'daki bir fintech şirketinde yürütülen çalışmada, birim testlerinin kapsama oranı yüzde kırktan " +
+            "yüzde seksene çıkarıldığında üretim ortamına sızan hata sayısının üçte bir oranında azaldığı görüldü. " +
+            "Ekip lideri Gülşah Öztürk, değişikliğin yalnızca test yazmakla sınırlı kalmadığını; kod inceleme " +
+            "kültürünün, sürekli entegrasyon hattının ve ölçülebilir kabul kriterlerinin birlikte ele alındığını " +
+            "vurguluyor. Çalışmanın ikinci aşamasında uçtan uca senaryolar Selenium ile otomatikleştirildi ve " +
+            "her gece çalışan bir test takımı oluşturuldu. Böylece kullanıcı arayüzündeki değişikliklerin " +
+            "mevcut akışları bozup bozmadığı sabaha kadar belli oluyor. Şirketin teknoloji direktörü Çağrı Işık ise " +
+            "performans testlerinin de aynı hatta eklenmesi gerektiğini, aksi hâlde yük altında ortaya çıkan " +
+            "sorunların ancak müşteriler şikâyet ettiğinde fark edildiğini söylüyor. Uzmanlar, doğrulama " +
+            "faaliyetlerinin projenin başından itibaren planlanmasını ve test verilerinin gerçek kullanım " +
+            "senaryolarını yansıtacak şekilde hazırlanmasını öneriyor.";
+
+    // HS512 en az 64 byte'lık anahtar ister
+    static final String JWT_SECRET =
+            "benchmark-secret-key-for-jmh-suites-minimum-512-bits-required-for-hs512-algorithm-security";
+
+    static final String EMAIL = "gulsah.ozturk@example.com";
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Logback yapılandırma dosyası olmadan DEBUG seviyesinde konsola yazar; ölçümü log G/Ç'si domine
+     * etmesin diye üretimdeki varsayılan olan INFO seviyesine çekilir.
+     */
+    static void quietLogging() {
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.INFO);
+    }
+
+    static JwtUtil jwtUtil() {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", JWT_SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 86400000L);
+        return jwtUtil;
+    }
+
+    static VerifiedTokenCache verifiedTokenCache(boolean enabled) {
+        VerifiedTokenCache cache = new VerifiedTokenCache();
+        ReflectionTestUtils.setField(cache, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(cache, "enabled", enabled);
+        ReflectionTestUtils.setField(cache, "maxSize", 10000);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 300L);
+        ReflectionTestUtils.invokeMethod(cache, "registerMetrics");
+        return cache;
+    }
+
+    static Story story(long id) {
+        Role writer = new Role();
+        writer.setId(2L);
+        writer.setName("WRITER");
+
+        User author = new User();
+        author.setId(10L + id);
+        author.setEmail(EMAIL);
+        author.setUsername("gulsahozturk");
+        author.setRoles(Set.of(writer));
+
+        Category category = new Category();
+        category.setId(3L);
+        category.setName("Teknoloji");
+        category.setSlug("teknoloji");
+
+        Story story = new Story();
+        story.setId(id);
+        story.setTitle(ARTICLE_TITLE);
+        story.setSlug("yazilim-dogrulama-sureclerinde-otomasyonun-onemi-" + id);
+        story.setSummary(ARTICLE_TEXT.substring(0, 200));
+        story.setContent(ARTICLE_TEXT);
+        story.setCoverImageUrl("/api/medya/" + id + "/kapak.jpg");
+        story.setStatus(Story.StoryStatus.YAYINLANDI);
+        story.setPublishedAt(LocalDateTime.of(2025, 3, 14, 9, 30));
+        story.setViewCount(1520L);
+        story.setLikeCount(87L);
+        story.setCommentCount(12L);
+        story.setIsEditorPick(false);
+        story.setMetaDescription("Yazılım doğrulamada otomasyon");
+        story.setUser(author);
+        story.setCategory(category);
+        story.setCreatedAt(LocalDateTime.of(2025, 3, 13, 18, 5));
+        story.setUpdatedAt(LocalDateTime.of(2025, 3, 14, 9, 30));
+        return story;
+    }
+
+    static Comment comment(Story story) {
+        Comment parent = new Comment();
+        parent.setId(40L);
+
+        Comment comment = new Comment();
+        comment.setId(41L);
+        comment.setContent("Kapsama oranını artırırken testlerin bakım maliyetini nasıl ölçtünüz?");
+        comment.setStatus(Comment.CommentStatus.ONAYLANDI);
+        comment.setLikeCount(4L);
+        comment.setUser(story.getUser());
+        comment.setStory(story);
+        comment.setParentComment(parent);
+        comment.setCreatedAt(LocalDateTime.of(2025, 3, 14, 11, 0));
+        comment.setUpdatedAt(LocalDateTime.of(2025, 3, 14, 11, 0));
+        return comment;
+    }
+
+    /**
+     * Akış uçlarının döndüğü sayfa: kart alanları dolu, içerik ve roller boş (toCardResponse ile aynı).
+     */
+    static PageResponse<StoryResponse> feedPage(int size) {
+        List<StoryResponse> content = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Story story = story(i + 1);
+            StoryResponse response = new StoryResponse();
+            response.setId(story.getId());
+            response.setBaslik(story.getTitle());
+            response.setSlug(story.getSlug());
+            response.setOzet(story.getSummary());
+            response.setKapakResmiUrl(story.getCoverImageUrl());
+            response.setDurum(story.getStatus());
+            response.setYayinlanmaTarihi(story.getPublishedAt());
+            response.setOkunmaSayisi(story.getViewCount());
+            response.setBegeniSayisi(story.getLikeCount());
+            response.setYorumSayisi(story.getCommentCount());
+            response.setIsEditorPick(story.getIsEditorPick());
+            response.setMetaDescription(story.getMetaDescription());
+            response.setKullaniciId(story.getUser().getId());
+            response.setKullaniciAdi(story.getUser().getUsername());
+            response.setKategoriId(story.getCategory().getId());
+            response.setKategoriAdi(story.getCategory().getName());
+            response.setCreatedAt(story.getCreatedAt());
+            response.setUpdatedAt(story.getUpdatedAt());
+            content.add(response);
+        }
+        return new PageResponse<>(content, 0, size, 240, 240 / size, true, false);
+    }
+}
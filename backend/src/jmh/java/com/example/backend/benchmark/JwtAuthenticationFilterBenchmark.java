@@ -0,0 +1,75 @@
+package com.example.backend.benchmark;
+
+import com.example.backend.infrastructure.security.JwtAuthenticationFilter;
+import com.example.backend.infrastructure.util.JwtUtil;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filtrenin istek başına maliyeti. OncePerRequestFilter.doFilter üzerinden doFilterInternal çağrılır;
+ * her çağrıda yeni bir istek nesnesi ve boş bir SecurityContext kullanılır, tıpkı gerçek bir istekte olduğu gibi.
+ * verifiedCache=false her istekte imza doğrulamasını, true aynı token'ın tekrar geldiği SPA oturumunu ölçer.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final FilterChain NOOP_CHAIN = (request, response) -> { };
+
+    @Param({"false", "true"})
+    private boolean verifiedCache;
+
+    private JwtAuthenticationFilter filter;
+    private String authorizationHeader;
+
+    @Setup
+    public void setUp() {
+        BenchmarkData.quietLogging();
+        JwtUtil jwtUtil = BenchmarkData.jwtUtil();
+        filter = new JwtAuthenticationFilter();
+        ReflectionTestUtils.setField(filter, "jwtUtil", jwtUtil);
+        ReflectionTestUtils.setField(filter, "verifiedTokenCache", BenchmarkData.verifiedTokenCache(verifiedCache));
+        authorizationHeader = "Bearer " + jwtUtil.generateToken(BenchmarkData.EMAIL, 10L, Set.of("WRITER", "USER"));
+    }
+
+    @Benchmark
+    public Authentication authenticatedRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/haberler/yayinlanmis");
+        request.addHeader("Authorization", authorizationHeader);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), NOOP_CHAIN);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Benchmark
+    public Authentication anonymousRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/haberler/yayinlanmis");
+        filter.doFilter(request, new MockHttpServletResponse(), NOOP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
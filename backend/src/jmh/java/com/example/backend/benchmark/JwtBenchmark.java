@@ -0,0 +1,67 @@
+package com.example.backend.benchmark;
+
+import com.example.backend.infrastructure.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Her kimliği doğrulanmış istekte çalışan JWT okuma yolları.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        BenchmarkData.quietLogging();
+        jwtUtil = BenchmarkData.jwtUtil();
+        token = jwtUtil.generateToken(BenchmarkData.EMAIL, 10L, Set.of("WRITER"));
+    }
+
+    @Benchmark
+    public String extractClaim() {
+        return jwtUtil.extractClaim(token, Claims::getSubject);
+    }
+
+    @Benchmark
+    public Boolean validateToken() {
+        return jwtUtil.validateToken(token, BenchmarkData.EMAIL);
+    }
+
+    /** Filtrenin şu anki yolu: tek doğrulama, bütün claim'ler aynı sonuçtan. */
+    @Benchmark
+    public List<String> parseOnce() {
+        Claims claims = jwtUtil.parseVerifiedClaims(token);
+        jwtUtil.extractUserId(claims);
+        return jwtUtil.extractRoles(claims);
+    }
+
+    /** Filtrenin eski yolu: e-posta, doğrulama, kullanıcı ID'si ve roller için ayrı ayrı parse. */
+    @Benchmark
+    public List<String> parsePerClaim() {
+        String email = jwtUtil.extractEmail(token);
+        jwtUtil.validateToken(token, email);
+        jwtUtil.extractUserId(token);
+        return jwtUtil.extractRoles(token);
+    }
+}
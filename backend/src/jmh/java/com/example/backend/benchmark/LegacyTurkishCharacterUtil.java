@@ -0,0 +1,66 @@
+package com.example.backend.benchmark;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * TurkishCharacterUtil'in tablo tabanlı sürümden önceki hâli; sadece karşılaştırma için tutulur.
+ */
+final class LegacyTurkishCharacterUtil {
+
+    private static final String FOLD_FROM = "çÇğĞıİöÖşŞüÜâÂîÎûÛ";
+    private static final String FOLD_TO = "cCgGiIoOsSuUaAiIuU";
+    private static final Pattern TERM_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private LegacyTurkishCharacterUtil() {
+    }
+
+    static String normalizeTurkish(String text) {
+        if (text == null) {
+            return null;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFD);
+
+        normalized = normalized.replaceAll("ö", "o")
+                              .replaceAll("Ö", "O")
+                              .replaceAll("ş", "s")
+                              .replaceAll("Ş", "S")
+                              .replaceAll("ı", "i")
+                              .replaceAll("İ", "I")
+                              .replaceAll("ü", "u")
+                              .replaceAll("Ü", "U")
+                              .replaceAll("ğ", "g")
+                              .replaceAll("Ğ", "G")
+                              .replaceAll("ç", "c")
+                              .replaceAll("Ç", "C");
+
+        Pattern pattern = Pattern.compile("\\p{InCombiningDiacriticalMarks}+");
+        normalized = pattern.matcher(normalized).replaceAll("");
+
+        return normalized.toLowerCase();
+    }
+
+    static String foldForSearch(String text) {
+        StringBuilder folded = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            int index = FOLD_FROM.indexOf(c);
+            char mapped = index >= 0 ? FOLD_TO.charAt(index) : c;
+            folded.append(Character.toLowerCase(mapped));
+        }
+        return folded.toString();
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : TERM_SEPARATOR.split(foldForSearch(text))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.backend.benchmark;
+
+import com.example.backend.application.dto.response.PageResponse;
+import com.example.backend.application.dto.response.StoryResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Akış uçlarının gövdesi olan PageResponse&lt;StoryResponse&gt;'un JSON'a yazılması. Spring MVC'nin
+ * kullandığı Jackson 3 JsonMapper ile ölçülür.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageResponseSerializationBenchmark {
+
+    @Param({"10", "50"})
+    private int pageSize;
+
+    private JsonMapper jsonMapper;
+    private PageResponse<StoryResponse> page;
+
+    @Setup
+    public void setUp() {
+        jsonMapper = JsonMapper.builder().build();
+        page = BenchmarkData.feedPage(pageSize);
+    }
+
+    @Benchmark
+    public byte[] serializeFeedPage() {
+        return jsonMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.backend.benchmark;
+
+import com.example.backend.application.dto.response.CommentResponse;
+import com.example.backend.application.dto.response.StoryResponse;
+import com.example.backend.application.service.impl.CommentServiceImpl;
+import com.example.backend.application.service.impl.StoryServiceImpl;
+import com.example.backend.domain.entity.Comment;
+import com.example.backend.domain.entity.Story;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity'den yanıt DTO'suna dönüşüm. Mapper'lar servislerin private metotları olduğu için
+ * MethodHandle ile çağrılır; handle static final olmadığından küçük bir çağrı maliyeti ölçüme dahildir.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseMappingBenchmark {
+
+    private StoryServiceImpl storyService;
+    private CommentServiceImpl commentService;
+    private MethodHandle storyToResponse;
+    private MethodHandle commentToResponse;
+    private Story story;
+    private Comment comment;
+
+    @Setup
+    public void setUp() throws Exception {
+        storyService = new StoryServiceImpl();
+        commentService = new CommentServiceImpl();
+        storyToResponse = privateMapper(StoryServiceImpl.class, Story.class);
+        commentToResponse = privateMapper(CommentServiceImpl.class, Comment.class);
+        story = BenchmarkData.story(1L);
+        comment = BenchmarkData.comment(story);
+    }
+
+    @Benchmark
+    public StoryResponse storyToResponse() throws Throwable {
+        return (StoryResponse) storyToResponse.invoke(storyService, story);
+    }
+
+    @Benchmark
+    public CommentResponse commentToResponse() throws Throwable {
+        return (CommentResponse) commentToResponse.invoke(commentService, comment);
+    }
+
+    private static MethodHandle privateMapper(Class<?> service, Class<?> entity) throws Exception {
+        Method method = service.getDeclaredMethod("toResponse", entity);
+        method.setAccessible(true);
+        return MethodHandles.lookup().unreflect(method);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.backend.benchmark;
+
+import com.example.backend.infrastructure.util.SlugUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Story ve liste oluşturma/güncellemede başlıktan slug üretimi.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SlugUtilBenchmark {
+
+    private final String title = BenchmarkData.ARTICLE_TITLE;
+
+    @Benchmark
+    public String toSlug() {
+        return SlugUtil.toSlug(title);
+    }
+}
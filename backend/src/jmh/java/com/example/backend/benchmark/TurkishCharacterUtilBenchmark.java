@@ -0,0 +1,96 @@
+package com.example.backend.benchmark;
+
+import com.example.backend.infrastructure.util.TurkishCharacterUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * normalizeTurkish'in eski (Normalizer + replaceAll zinciri) ve tablo tabanlı sürümlerini karşılaştırır.
+ * "article" tüm haber metnini, "tokens" kelime kelime katlamayı ölçer. "tokenize" arama indeksinin ve
+ * sorgu terimlerinin, "foldForSearch" vurgulamanın gerçekte kullandığı yoldur.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TurkishCharacterUtilBenchmark {
+
+    private String article;
+    private String[] tokens;
+    private char[] articleChars;
+    private StringBuilder reusable;
+
+    @Setup
+    public void setUp() {
+        article = BenchmarkData.ARTICLE_TEXT;
+        tokens = article.split("[^\\p{L}\\p{N}]+");
+        articleChars = article.toCharArray();
+        reusable = new StringBuilder(article.length());
+    }
+
+    @Benchmark
+    public String articleLegacy() {
+        return LegacyTurkishCharacterUtil.normalizeTurkish(article);
+    }
+
+    @Benchmark
+    public String articleTable() {
+        return TurkishCharacterUtil.normalizeTurkish(article);
+    }
+
+    @Benchmark
+    public int articleTableReusableBuilder() {
+        reusable.setLength(0);
+        TurkishCharacterUtil.normalizeTurkish(articleChars, 0, articleChars.length, reusable);
+        return reusable.length();
+    }
+
+    @Benchmark
+    public void tokensLegacy(Blackhole blackhole) {
+        for (String token : tokens) {
+            blackhole.consume(LegacyTurkishCharacterUtil.normalizeTurkish(token));
+        }
+    }
+
+    @Benchmark
+    public void tokensTableReusableBuilder(Blackhole blackhole) {
+        for (String token : tokens) {
+            reusable.setLength(0);
+            TurkishCharacterUtil.normalizeTurkish(token, reusable);
+            blackhole.consume(reusable.length());
+        }
+    }
+
+    @Benchmark
+    public Object tokenizeLegacy() {
+        return LegacyTurkishCharacterUtil.tokenize(article);
+    }
+
+    @Benchmark
+    public Object tokenizeTable() {
+        return TurkishCharacterUtil.tokenize(article);
+    }
+
+    @Benchmark
+    public String foldForSearchLegacy() {
+        return LegacyTurkishCharacterUtil.foldForSearch(article);
+    }
+
+    @Benchmark
+    public String foldForSearchTable() {
+        return TurkishCharacterUtil.foldForSearch(article);
+    }
+}
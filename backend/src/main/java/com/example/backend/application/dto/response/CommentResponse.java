@@ -26,6 +26,7 @@ public class CommentResponse {
     private Long storyId;
     private Long parentCommentId;
     private List<CommentResponse> replies;
+    private Boolean hasMoreReplies;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
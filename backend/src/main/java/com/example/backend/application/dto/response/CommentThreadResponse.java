@@ -0,0 +1,22 @@
+package com.example.backend.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Yorum ağacının bir sayfası. Sonraki sayfa için nextCursor aynı uca cursor olarak gönderilir.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentThreadResponse {
+
+    private List<CommentResponse> comments;
+    private Long nextCursor;
+    private boolean hasMore;
+}
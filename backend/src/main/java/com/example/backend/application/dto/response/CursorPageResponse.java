@@ -0,0 +1,23 @@
+package com.example.backend.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * İmleçli (keyset) sayfa. Toplam sayı hesaplanmaz; sonraki sayfa için nextCursor aynı uca cursor
+ * olarak gönderilir. İmlecin içeriği istemci için anlamsızdır, çözülmeye çalışılmamalıdır.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasMore;
+}
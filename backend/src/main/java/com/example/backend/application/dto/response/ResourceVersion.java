@@ -0,0 +1,35 @@
+package com.example.backend.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+/**
+ * Koşullu GET için bir kaynağın sürümü. ETag yanıt gövdesinin byte'larından değil, yanıtı belirleyen
+ * alanlardan (güncellenme zamanı, sayaçlar, yazar adı) türetilir; bu yüzden zayıf (W/) etikettir.
+ */
+@Getter
+@AllArgsConstructor
+public class ResourceVersion {
+
+    private String etag;
+    private LocalDateTime lastModified;
+
+    public static ResourceVersion of(LocalDateTime lastModified, Object... parts) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(Arrays.deepToString(parts).getBytes(StandardCharsets.UTF_8));
+            // İlk 128 bit yeterli; başlık kısa kalır
+            String hash = HexFormat.of().formatHex(digest, 0, 16);
+            return new ResourceVersion("W/\"" + hash + "\"", lastModified);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 desteklenmiyor", e);
+        }
+    }
+}
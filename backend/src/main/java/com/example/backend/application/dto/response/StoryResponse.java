@@ -34,6 +34,9 @@ public class StoryResponse {
     private String kategoriAdi;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private String vurguluBaslik; // Arama sonuçlarında eşleşen kelimeler <mark> ile sarılı, HTML kaçışlı
+    private String vurguluParca; // Arama sonuçlarında içeriğin eşleşme etrafındaki parçası
+    private Integer okumaSuresi; // Kartlarda dakika cinsinden okuma süresi; kartlar içeriği taşımadığı için sunucuda tahmin edilir
 }
 
 
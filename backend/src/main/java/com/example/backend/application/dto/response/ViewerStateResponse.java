@@ -0,0 +1,23 @@
+package com.example.backend.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Set;
+
+/**
+ * Bir akış sayfasındaki haberler için oturumdaki kullanıcının durumu. Sadece true olan kayıtlar
+ * döner: listede olmayan haber beğenilmemiş/kaydedilmemiş, listede olmayan yazar takip edilmiyor demektir.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ViewerStateResponse {
+
+    private Set<Long> begenilenHaberIdleri;
+    private Set<Long> kaydedilenHaberIdleri;
+    private Set<Long> takipEdilenYazarIdleri;
+}
@@ -2,11 +2,17 @@ package com.example.backend.application.service;
 
 import com.example.backend.application.dto.request.AuthorProfileUpdateRequest;
 import com.example.backend.application.dto.response.AuthorProfileResponse;
+import com.example.backend.application.dto.response.ResourceVersion;
 
 public interface AuthorProfileService {
     
     AuthorProfileResponse findByUserId(Long userId);
     
+    /**
+     * Profil yüklenmeden koşullu GET sürümü; profil yoksa null.
+     */
+    ResourceVersion findVersionByUserId(Long userId);
+    
     AuthorProfileResponse createOrUpdate(Long userId, AuthorProfileUpdateRequest request);
     
     AuthorProfileResponse update(Long userId, AuthorProfileUpdateRequest request);
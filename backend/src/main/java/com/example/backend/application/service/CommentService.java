@@ -2,6 +2,7 @@ package com.example.backend.application.service;
 
 import com.example.backend.application.dto.request.CommentCreateRequest;
 import com.example.backend.application.dto.response.CommentResponse;
+import com.example.backend.application.dto.response.CommentThreadResponse;
 import com.example.backend.domain.entity.Comment.CommentStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -17,6 +18,16 @@ public interface CommentService {
     List<CommentResponse> findByStoryId(Long storyId);
     
     Page<CommentResponse> findByStoryId(Long storyId, Pageable pageable);
+
+    /**
+     * Kök yorumların bir sayfası ve altlarındaki yanıt ağacı. cursor bir önceki sayfanın nextCursor değeridir.
+     */
+    CommentThreadResponse findThread(Long storyId, Long cursor, int size, int replyLimit);
+
+    /**
+     * Bir yorumun yanıtlarının bir sayfası ve onların altındaki ağaç; "daha fazla yanıt" için kullanılır.
+     */
+    CommentThreadResponse findReplies(Long parentCommentId, Long cursor, int size, int replyLimit);
     
     Page<CommentResponse> findByDurum(CommentStatus durum, Pageable pageable);
     
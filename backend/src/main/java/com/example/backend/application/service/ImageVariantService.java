@@ -0,0 +1,32 @@
+package com.example.backend.application.service;
+
+public interface ImageVariantService {
+
+    /**
+     * Yüklenen resmin yapılandırılmış tüm genişliklerini arka planda üretir. Kuyruk doluysa atlanır;
+     * eksik kalan boyut ilk istendiğinde üretilir.
+     */
+    void scheduleVariants(String storagePath);
+
+    /**
+     * İstenen genişliği karşılayan en küçük yapılandırılmış genişlik; hiçbiri yetmiyorsa en büyüğü.
+     */
+    int normalizeWidth(int requestedWidth);
+
+    /**
+     * Verilen genişlikteki varyantın göreli yolu (orijinalin yanında, dosya_w320.jpg); biçim
+     * boyutlandırılamıyorsa null.
+     */
+    String variantPath(String storagePath, int width);
+
+    /**
+     * Varyant diskte yoksa havuzda üretir ve sınırlı süre bekler. Resim çözülemiyorsa, orijinal zaten
+     * dar ise, kuyruk doluysa veya süre aşılırsa false döner ve orijinal sunulmalıdır.
+     */
+    boolean ensureVariant(String storagePath, int width);
+
+    /**
+     * Orijinalle birlikte türetilmiş tüm boyutları diskten siler.
+     */
+    void deleteVariants(String storagePath);
+}
@@ -2,6 +2,7 @@ package com.example.backend.application.service;
 
 import com.example.backend.application.dto.request.ListCreateRequest;
 import com.example.backend.application.dto.response.ListResponse;
+import com.example.backend.application.dto.response.ResourceVersion;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -13,6 +14,13 @@ public interface ListService {
     
     ListResponse findBySlug(String slug);
     
+    /**
+     * Liste yüklenmeden koşullu GET sürümü; liste yoksa null.
+     */
+    ResourceVersion findVersionById(Long id);
+    
+    ResourceVersion findVersionBySlug(String slug);
+    
     Page<ListResponse> findByKullaniciId(Long kullaniciId, Pageable pageable);
     
     ListResponse guncelle(Long id, Long kullaniciId, ListCreateRequest request);
@@ -1,11 +1,37 @@
 package com.example.backend.application.service;
 
 import com.example.backend.application.dto.response.MediaFileResponse;
+import com.example.backend.infrastructure.cache.MediaFileHandleCache;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
+
 public interface MediaFileService {
     MediaFileResponse uploadFile(Long userId, MultipartFile file);
+
+    /**
+     * Multipart olmadan gelen gövdeyi doğrudan içerik deposuna yazar. Aynı içerik daha önce
+     * yüklendiyse diskte yeni kopya oluşmaz.
+     */
+    MediaFileResponse uploadStream(Long userId, InputStream in, String originalFilename, String contentType);
     MediaFileResponse findById(Long id);
     void deleteFile(Long id, Long userId);
+
+    /**
+     * yıl/ay/dosya yolundaki dosyanın teslimat bilgisi; içerik tipi kayıtlı mime tipinden gelir.
+     * Dosya yoksa veya yükleme dizininin dışını gösteriyorsa ResourceNotFoundException fırlatır.
+     */
+    MediaFileHandleCache.Handle findHandle(String year, String month, String filename);
+
+    /**
+     * Resmin istenen genişliğe en yakın (büyük ya da eşit) varyantının teslimat bilgisi. Varyant henüz
+     * yoksa üretilir; üretilemezse veya dosya resim değilse orijinal döner.
+     */
+    MediaFileHandleCache.Handle findHandle(String year, String month, String filename, int width);
+
+    /**
+     * Diskte bulunamayan dosyanın önbellekteki kaydını düşürür.
+     */
+    void evictHandle(String year, String month, String filename);
 }
 
@@ -0,0 +1,29 @@
+package com.example.backend.application.service;
+
+import java.util.List;
+
+public interface NotificationCounterService {
+
+    /**
+     * Okunmamış sayacını çağıranın transaction'ında atomik olarak değiştirir; değer sıfırın altına inmez.
+     * Kullanıcının sayaç satırı yoksa bildirimler tablosundan sayılarak oluşturulur.
+     */
+    void adjustUnread(Long userId, long delta);
+
+    /**
+     * Toplu dağıtımda her kullanıcının sayacını birer artırır; tek bir JDBC batch'tir.
+     */
+    void incrementUnread(List<Long> userIds);
+
+    /**
+     * Sayaç satırından okunan değer; satır henüz yoksa bildirimler tablosu sayılır.
+     */
+    long getUnread(Long userId);
+
+    /**
+     * Sayaçları bildirimler tablosundan yeniden hesaplar, eksik satırları oluşturur.
+     *
+     * @return düzeltilen kullanıcı sayısı
+     */
+    int reconcile();
+}
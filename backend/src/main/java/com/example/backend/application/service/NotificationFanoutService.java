@@ -0,0 +1,17 @@
+package com.example.backend.application.service;
+
+import com.example.backend.domain.entity.Notification;
+
+public interface NotificationFanoutService {
+
+    /**
+     * Yazarın tüm takipçilerine gidecek bildirimi kuyruğa alır. Asıl gönderim
+     * transaction commit edildikten sonra arka planda yapılır.
+     */
+    void enqueueForFollowers(Long authorId, String title, String message,
+                             Notification.NotificationType type, Long relatedStoryId);
+
+    void processJob(Long jobId);
+
+    int resumePendingJobs();
+}
@@ -1,8 +1,10 @@
 package com.example.backend.application.service;
 
+import com.example.backend.application.dto.response.CursorPageResponse;
 import com.example.backend.application.dto.response.NotificationResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 public interface NotificationService {
     
@@ -12,10 +14,27 @@ public interface NotificationService {
     
     Page<NotificationResponse> findUnreadByUserId(Long userId, Pageable pageable);
     
+    /**
+     * Bildirim akışı, id imleciyle yeniden eskiye. Toplam sayı hesaplanmaz.
+     */
+    CursorPageResponse<NotificationResponse> findFeedByUserId(Long userId, String cursor, int size, boolean unreadOnly);
+    
     void markAsRead(Long id, Long userId);
     
     void markAllAsRead(Long userId);
     
+    /**
+     * Kullanıcının id'si verilen değere kadar olan (dahil) okunmamış bildirimlerini tek sorguda okundu yapar.
+     * Güncellenen bildirim sayısını döner.
+     */
+    int markAsReadUpTo(Long userId, Long maxId);
+    
     Long countUnread(Long userId);
+    
+    /**
+     * Canlı bildirim akışı açar. lastEventId verilirse ondan sonraki bildirimler önce gönderilir;
+     * kaçırılan çok fazlaysa istemciye listeyi yeniden yüklemesi söylenir.
+     */
+    SseEmitter subscribe(Long userId, Long lastEventId);
 }
 
@@ -0,0 +1,37 @@
+package com.example.backend.application.service;
+
+import com.example.backend.application.dto.response.NotificationResponse;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+public interface NotificationStreamService {
+
+    /**
+     * Kullanıcı için yeni bir SSE bağlantısı açar. Bağlantı önce kaydedilir, sonra replay çağrılır;
+     * bu arada gelen canlı olaylar bekletilir ve replay'de zaten olanlar tekrar gönderilmez.
+     */
+    SseEmitter subscribe(Long userId, Supplier<Replay> replay);
+
+    boolean hasSubscribers(Long userId);
+
+    /**
+     * Bildirimi transaction commit edildikten sonra kullanıcının açık bağlantılarına gönderir.
+     */
+    void publishAfterCommit(Long userId, NotificationResponse notification);
+
+    /**
+     * Okunmamış sayısını transaction bittikten sonra bağlı kullanıcılara gönderir. Sayı önbellek
+     * geçersiz kılındıktan sonra okunsun diye invalidateAfterCompletion çağrısından sonra çağrılmalıdır.
+     */
+    void publishUnreadCountAfterCommit(Collection<Long> userIds);
+
+    /**
+     * Bağlantı açılırken gönderilecekler: kaçırılan bildirimler (eskiden yeniye), liste sığmadıysa
+     * truncated ve güncel okunmamış sayısı.
+     */
+    record Replay(List<NotificationResponse> missed, boolean truncated, Long unreadCount) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.backend.application.service;
 
+import com.example.backend.application.dto.response.CursorPageResponse;
 import com.example.backend.application.dto.response.StoryResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -13,5 +14,10 @@ public interface SavedStoryService {
     boolean isSaved(Long userId, Long storyId);
     
     Page<StoryResponse> findByUserId(Long userId, Pageable pageable);
+    
+    /**
+     * Kayıtlı haberler akışı, son kaydedilenden başlayarak kayıt id'si imleciyle.
+     */
+    CursorPageResponse<StoryResponse> findFeedByUserId(Long userId, String cursor, int size);
 }
 
@@ -0,0 +1,25 @@
+package com.example.backend.application.service;
+
+public interface StoryCounterService {
+
+    /**
+     * Story beğeni sayısını tek bir atomik UPDATE ile değiştirir; değer sıfırın altına inmez.
+     *
+     * @return güncelleme sonrası veritabanındaki değer
+     */
+    long adjustLikeCount(Long storyId, long delta);
+
+    /**
+     * Story yorum sayısını tek bir atomik UPDATE ile değiştirir; değer sıfırın altına inmez.
+     *
+     * @return güncelleme sonrası veritabanındaki değer
+     */
+    long adjustCommentCount(Long storyId, long delta);
+
+    /**
+     * Beğeni ve yorum sayılarını likes ve yorumlar tablolarından yeniden hesaplar.
+     *
+     * @return sayacı düzeltilen story sayısı
+     */
+    int reconcile();
+}
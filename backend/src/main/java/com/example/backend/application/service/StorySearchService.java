@@ -0,0 +1,14 @@
+package com.example.backend.application.service;
+
+import com.example.backend.application.dto.response.StoryResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface StorySearchService {
+
+    /**
+     * Yayınlanmış story'lerde alaka sırasına göre arama yapar. Sonuçlar vurgulanmış başlık ve
+     * içerik parçası taşır; istekteki sıralama yok sayılır.
+     */
+    Page<StoryResponse> search(String query, Pageable pageable);
+}
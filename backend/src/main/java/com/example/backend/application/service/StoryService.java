@@ -2,6 +2,7 @@ package com.example.backend.application.service;
 
 import com.example.backend.application.dto.request.StoryCreateRequest;
 import com.example.backend.application.dto.request.StoryUpdateRequest;
+import com.example.backend.application.dto.response.CursorPageResponse;
 import com.example.backend.application.dto.response.StoryResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -26,6 +27,14 @@ public interface StoryService {
     
     Page<StoryResponse> findPublishedStories(Pageable pageable);
     
+    /**
+     * Yayınlanmış story akışı, (yayınlanma zamanı, id) imleciyle. cursor bir önceki sayfanın
+     * nextCursor değeridir; ilk sayfa için null verilir.
+     */
+    CursorPageResponse<StoryResponse> findPublishedFeed(String cursor, int size);
+    
+    CursorPageResponse<StoryResponse> findCategoryFeed(Long categoryId, String cursor, int size);
+    
     Page<StoryResponse> findPopularStories(Pageable pageable);
     
     Page<StoryResponse> findEditorPicks(Pageable pageable);
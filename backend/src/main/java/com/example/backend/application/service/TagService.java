@@ -16,6 +16,13 @@ public interface TagService {
     TagResponse findBySlug(String slug);
     
     List<TagResponse> findAll();
+
+    /**
+     * Etiket adından id çözer; story oluşturma/güncellemede her etiket için çağrılır ve önbellekten karşılanır.
+     *
+     * @return etiket yoksa null
+     */
+    Long findIdByName(String name);
     
     Page<TagResponse> findAll(Pageable pageable);
     
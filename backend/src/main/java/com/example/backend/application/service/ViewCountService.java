@@ -0,0 +1,18 @@
+package com.example.backend.application.service;
+
+public interface ViewCountService {
+
+    /**
+     * Okunma olayını bellekteki tampona ekler, veritabanına dokunmaz.
+     */
+    void recordView(Long storyId);
+
+    /**
+     * Tampondaki okunma sayılarını tek bir batch UPDATE ile veritabanına yazar.
+     *
+     * @return güncellenen story sayısı
+     */
+    int flush();
+
+    long getPendingViewCount();
+}
@@ -0,0 +1,14 @@
+package com.example.backend.application.service;
+
+import com.example.backend.application.dto.response.ViewerStateResponse;
+
+import java.util.Collection;
+
+public interface ViewerStateService {
+
+    /**
+     * Verilen haberlerden kullanıcının beğendiklerini, kaydettiklerini ve yazarını takip ettiklerini
+     * her biri tek IN sorgusu olmak üzere üç sorguyla döner.
+     */
+    ViewerStateResponse getViewerState(Long userId, Collection<Long> storyIds);
+}
@@ -7,10 +7,13 @@ import com.example.backend.application.service.AuthService;
 import com.example.backend.domain.entity.User;
 import com.example.backend.domain.entity.Role;
 import com.example.backend.domain.repository.UserRepository;
+import com.example.backend.infrastructure.security.VerifiedTokenCache;
 import com.example.backend.infrastructure.util.JwtUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -33,6 +36,9 @@ public class AuthServiceImpl implements AuthService {
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private VerifiedTokenCache verifiedTokenCache;
+
     @Override
     public JwtResponse login(UserLoginRequest request) {
         logger.info("Login attempt for email: {}", request.getEmail());
@@ -79,5 +85,10 @@ public class AuthServiceImpl implements AuthService {
     public void logout() {
         // JWT stateless olduğu için client-side token silinir
         // İsterseniz token blacklist ekleyebilirsiniz
+        // Doğrulanmış token önbelleğindeki kayıtlar atılır; token tekrar gelirse imzası yeniden doğrulanır
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getDetails() instanceof Long userId) {
+            verifiedTokenCache.invalidateUser(userId);
+        }
     }
 }
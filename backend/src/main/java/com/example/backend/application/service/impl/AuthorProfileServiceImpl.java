@@ -2,6 +2,7 @@ package com.example.backend.application.service.impl;
 
 import com.example.backend.application.dto.request.AuthorProfileUpdateRequest;
 import com.example.backend.application.dto.response.AuthorProfileResponse;
+import com.example.backend.application.dto.response.ResourceVersion;
 import com.example.backend.application.exception.ResourceNotFoundException;
 import com.example.backend.application.service.AuthorProfileService;
 import com.example.backend.domain.entity.User;
@@ -30,6 +31,15 @@ public class AuthorProfileServiceImpl implements AuthorProfileService {
                 .orElse(null);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion findVersionByUserId(Long userId) {
+        return authorProfileRepository.findVersionByUserId(userId)
+                .map(view -> ResourceVersion.of(view.getUpdatedAt(), view.getId(), view.getUpdatedAt(),
+                        view.getUsername(), view.getTotalViewCount(), view.getTotalLikeCount()))
+                .orElse(null);
+    }
+
     @Override
     public AuthorProfileResponse createOrUpdate(Long userId, AuthorProfileUpdateRequest request) {
         User user = userRepository.findById(userId)
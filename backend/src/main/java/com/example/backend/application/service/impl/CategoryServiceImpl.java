@@ -7,8 +7,11 @@ import com.example.backend.application.exception.ResourceNotFoundException;
 import com.example.backend.application.service.CategoryService;
 import com.example.backend.domain.entity.Category;
 import com.example.backend.domain.repository.CategoryRepository;
+import com.example.backend.infrastructure.cache.CacheNames;
 import com.example.backend.infrastructure.util.SlugUtil;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -25,6 +28,7 @@ public class CategoryServiceImpl implements CategoryService {
     private CategoryRepository categoryRepository;
 
     @Override
+    @CacheEvict(cacheNames = {CacheNames.CATEGORIES, CacheNames.CATEGORY_BY_SLUG}, allEntries = true)
     public CategoryResponse create(CategoryCreateRequest request) {
         if (categoryRepository.existsByName(request.getName())) {
             throw new BadRequestException("Bu kategori adı zaten kullanılıyor");
@@ -48,6 +52,7 @@ public class CategoryServiceImpl implements CategoryService {
     }
 
     @Override
+    @Cacheable(cacheNames = CacheNames.CATEGORY_BY_SLUG, key = "#slug")
     @Transactional(readOnly = true)
     public CategoryResponse findBySlug(String slug) {
         Category category = categoryRepository.findBySlug(slug)
@@ -56,6 +61,7 @@ public class CategoryServiceImpl implements CategoryService {
     }
 
     @Override
+    @Cacheable(cacheNames = CacheNames.CATEGORIES, key = "'active'")
     @Transactional(readOnly = true)
     public List<CategoryResponse> findAll() {
         return categoryRepository.findByIsActiveTrue().stream()
@@ -71,6 +77,7 @@ public class CategoryServiceImpl implements CategoryService {
     }
 
     @Override
+    @CacheEvict(cacheNames = {CacheNames.CATEGORIES, CacheNames.CATEGORY_BY_SLUG}, allEntries = true)
     public CategoryResponse update(Long id, CategoryCreateRequest request) {
         Category category = categoryRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Kategori bulunamadı"));
@@ -92,6 +99,7 @@ public class CategoryServiceImpl implements CategoryService {
     }
 
     @Override
+    @CacheEvict(cacheNames = {CacheNames.CATEGORIES, CacheNames.CATEGORY_BY_SLUG}, allEntries = true)
     public void delete(Long id) {
         Category category = categoryRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Kategori bulunamadı"));
@@ -2,30 +2,39 @@ package com.example.backend.application.service.impl;
 
 import com.example.backend.application.dto.request.CommentCreateRequest;
 import com.example.backend.application.dto.response.CommentResponse;
+import com.example.backend.application.dto.response.CommentThreadResponse;
 import com.example.backend.application.service.CommentService;
 import com.example.backend.application.exception.BadRequestException;
 import com.example.backend.application.exception.ResourceNotFoundException;
 import com.example.backend.application.service.NotificationService;
+import com.example.backend.application.service.StoryCounterService;
 import com.example.backend.domain.entity.User;
 import com.example.backend.domain.entity.Story;
 import com.example.backend.domain.entity.Comment;
 import com.example.backend.domain.entity.Notification;
+import com.example.backend.domain.projection.CommentView;
 import com.example.backend.domain.repository.StoryRepository;
 import com.example.backend.domain.repository.UserRepository;
 import com.example.backend.domain.repository.CommentRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Service
 @Transactional
 public class CommentServiceImpl implements CommentService {
 
+    // Yanıt zincirinin okunacağı en fazla derinlik; bozuk bir döngüde sorgunun bitmesini de garanti eder
+    static final int MAX_THREAD_DEPTH = 32;
+
     @Autowired
     private CommentRepository commentRepository;
 
@@ -38,6 +47,9 @@ public class CommentServiceImpl implements CommentService {
     @Autowired
     private NotificationService notificationService;
 
+    @Autowired
+    private StoryCounterService storyCounterService;
+
     @Override
     public CommentResponse olustur(Long storyId, Long userId, CommentCreateRequest request) {
         Story story = storyRepository.findById(storyId)
@@ -64,8 +76,7 @@ public class CommentServiceImpl implements CommentService {
         comment = commentRepository.save(comment);
 
         // Haber yorum sayısını artır
-        story.setCommentCount(story.getCommentCount() + 1);
-        storyRepository.save(story);
+        story.setCommentCount(storyCounterService.adjustCommentCount(story.getId(), 1));
 
         // Bildirim gönder
         if (request.getParentCommentId() != null) {
@@ -129,11 +140,26 @@ public class CommentServiceImpl implements CommentService {
     @Override
     @Transactional(readOnly = true)
     public List<CommentResponse> findByStoryId(Long storyId) {
-        List<Comment> comments = commentRepository.findByStoryIdAndParentCommentIsNullAndStatus(
-                storyId, Comment.CommentStatus.ONAYLANDI);
-        return comments.stream()
-                .map(this::toResponseWithReplies)
-                .collect(Collectors.toList());
+        // Sayfasız eski uç: bütün kökler ve bütün yanıtlar, yine iki sorguda
+        List<CommentView> roots = commentRepository.findRootViews(
+                storyId, Comment.CommentStatus.ONAYLANDI, Long.MAX_VALUE, Pageable.unpaged());
+        return assembleThread(roots, Integer.MAX_VALUE);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CommentThreadResponse findThread(Long storyId, Long cursor, int size, int replyLimit) {
+        List<CommentView> roots = commentRepository.findRootViews(storyId, Comment.CommentStatus.ONAYLANDI,
+                cursor != null ? cursor : Long.MAX_VALUE, PageRequest.of(0, size + 1));
+        return toThreadResponse(roots, size, replyLimit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CommentThreadResponse findReplies(Long parentCommentId, Long cursor, int size, int replyLimit) {
+        List<CommentView> replies = commentRepository.findReplyViews(parentCommentId, Comment.CommentStatus.ONAYLANDI,
+                cursor != null ? cursor : 0L, PageRequest.of(0, size + 1));
+        return toThreadResponse(replies, size, replyLimit);
     }
 
     @Override
@@ -187,8 +213,7 @@ public class CommentServiceImpl implements CommentService {
 
         // Haber yorum sayısını azalt
         Story story = comment.getStory();
-        story.setCommentCount(Math.max(0, story.getCommentCount() - 1));
-        storyRepository.save(story);
+        story.setCommentCount(storyCounterService.adjustCommentCount(story.getId(), -1));
     }
 
     @Override
@@ -242,12 +267,65 @@ public class CommentServiceImpl implements CommentService {
         return response;
     }
 
-    private CommentResponse toResponseWithReplies(Comment comment) {
-        CommentResponse response = toResponse(comment);
-        List<Comment> replies = commentRepository.findByParentCommentId(comment.getId(), Comment.CommentStatus.ONAYLANDI);
-        response.setReplies(replies.stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList()));
+    // Sayfa boyutundan bir fazla satır okunur; fazlası varsa sonraki sayfa vardır
+    private CommentThreadResponse toThreadResponse(List<CommentView> level, int size, int replyLimit) {
+        boolean hasMore = level.size() > size;
+        List<CommentView> page = hasMore ? level.subList(0, size) : level;
+        Long nextCursor = hasMore ? page.get(page.size() - 1).getId() : null;
+        return new CommentThreadResponse(assembleThread(page, replyLimit), nextCursor, hasMore);
+    }
+
+    /**
+     * Verilen seviyedeki yorumların altını tek sorguyla okuyup ağacı bellekte kurar. Her yorumun
+     * ilk replyLimit yanıtı eklenir, fazlası için hasMoreReplies işaretlenir ve yanıtlar
+     * {@link #findReplies} ile ayrıca istenir. Sınır dışında kalan yanıtın altı da ağaca eklenmez.
+     */
+    private List<CommentResponse> assembleThread(List<CommentView> level, int replyLimit) {
+        if (level.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, CommentResponse> byId = new HashMap<>();
+        List<CommentResponse> responses = new ArrayList<>(level.size());
+        for (CommentView view : level) {
+            CommentResponse response = toResponse(view);
+            byId.put(response.getId(), response);
+            responses.add(response);
+        }
+
+        List<CommentView> descendants = commentRepository.findDescendantViews(byId.keySet(),
+                Comment.CommentStatus.ONAYLANDI.name(), MAX_THREAD_DEPTH, (long) replyLimit + 1);
+        // Sonuç id sırasında olduğu için üst yorum, yanıtlarından önce haritaya girmiş olur
+        for (CommentView view : descendants) {
+            CommentResponse parent = byId.get(view.getParentCommentId());
+            if (parent == null) {
+                continue;
+            }
+            if (parent.getReplies().size() >= replyLimit) {
+                parent.setHasMoreReplies(true);
+                continue;
+            }
+            CommentResponse reply = toResponse(view);
+            parent.getReplies().add(reply);
+            byId.put(reply.getId(), reply);
+        }
+        return responses;
+    }
+
+    private CommentResponse toResponse(CommentView view) {
+        CommentResponse response = new CommentResponse();
+        response.setId(view.getId());
+        response.setContent(view.getContent());
+        response.setStatus(view.getStatus());
+        response.setLikeCount(view.getLikeCount());
+        response.setUserId(view.getUserId());
+        response.setUsername(view.getUsername());
+        response.setStoryId(view.getStoryId());
+        response.setParentCommentId(view.getParentCommentId());
+        response.setReplies(new ArrayList<>());
+        response.setHasMoreReplies(false);
+        response.setCreatedAt(view.getCreatedAt());
+        response.setUpdatedAt(view.getUpdatedAt());
         return response;
     }
 }
@@ -15,6 +15,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -37,32 +38,24 @@ public class FollowServiceImpl implements FollowService {
             throw new BadRequestException("Kendinizi takip edemezsiniz");
         }
 
-        if (followRepository.existsByFollowerIdAndFollowedId(followerId, followedId)) {
-            throw new BadRequestException("Bu kullanıcıyı zaten takip ediyorsunuz");
-        }
-
-        User follower = userRepository.findById(followerId)
-                .orElseThrow(() -> new ResourceNotFoundException("Kullanıcı bulunamadı"));
-
-        User followed = userRepository.findById(followedId)
-                .orElseThrow(() -> new ResourceNotFoundException("Takip edilecek kullanıcı bulunamadı"));
-
         // Admin kullanıcıları takip edilemez
-        boolean isAdmin = followed.getRoles().stream()
-                .anyMatch(role -> "ADMIN".equals(role.getName()));
-        if (isAdmin) {
+        if (userRepository.hasRole(followedId, "ADMIN")) {
             throw new ForbiddenException("Admin kullanıcıları takip edilemez");
         }
 
-        Follow follow = new Follow();
-        follow.setFollower(follower);
-        follow.setFollowed(followed);
-        followRepository.save(follow);
+        // Çift istekte ikinci ekleme tekil kısıta takılır; 0 ise zaten takip ediliyor veya kullanıcı yok
+        if (followRepository.insertIfAbsent(followerId, followedId, LocalDateTime.now()) == 0) {
+            if (!userRepository.existsById(followerId)) {
+                throw new ResourceNotFoundException("Kullanıcı bulunamadı");
+            }
+            if (!userRepository.existsById(followedId)) {
+                throw new ResourceNotFoundException("Takip edilecek kullanıcı bulunamadı");
+            }
+            throw new BadRequestException("Bu kullanıcıyı zaten takip ediyorsunuz");
+        }
 
         // Takip edilen kullanıcıya bildirim gönder
-        String followerName = follower.getUsername() != null 
-            ? follower.getUsername() 
-            : (follower.getFirstName() != null ? follower.getFirstName() : "Bir kullanıcı");
+        String followerName = userRepository.findDisplayNameById(followerId).orElse("Bir kullanıcı");
         
         notificationService.createNotification(
             followedId,
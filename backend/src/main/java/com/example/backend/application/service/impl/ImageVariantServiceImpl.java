@@ -0,0 +1,253 @@
+package com.example.backend.application.service.impl;
+
+import com.example.backend.application.service.ImageVariantService;
+import com.example.backend.domain.repository.MediaBlobRepository;
+import com.example.backend.infrastructure.storage.ContentAddressedStore;
+import com.example.backend.infrastructure.storage.ImageResizer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Resim varyantlarını sınırlı bir worker havuzunda üretir. Aynı varyant için eşzamanlı istekler tek bir
+ * üretimi bekler; üretilemeyeceği anlaşılan varyantlar (çözülemeyen ya da zaten dar resim) hatırlanır ve
+ * her istekte yeniden denenmez. Varyant dosyası orijinalin yanına dosya_w{genişlik}.uzantı olarak yazılır.
+ */
+@Service
+public class ImageVariantServiceImpl implements ImageVariantService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImageVariantServiceImpl.class);
+
+    private static final int MAX_UNAVAILABLE_ENTRIES = 10_000;
+
+    @Autowired
+    private ContentAddressedStore contentStore;
+
+    @Autowired
+    private MediaBlobRepository mediaBlobRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${media.image.variant-widths:320,640,1024}")
+    private int[] variantWidths;
+
+    @Value("${media.image.workers:2}")
+    private int workers;
+
+    @Value("${media.image.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${media.image.on-demand-timeout-ms:10000}")
+    private long onDemandTimeoutMs;
+
+    // Çözme öncesi başlıktan okunur; daha büyük resimler (sıkıştırma bombası) hiç açılmaz
+    @Value("${media.image.max-pixels:50000000}")
+    private long maxPixels;
+
+    private ThreadPoolExecutor executor;
+
+    private final ConcurrentHashMap<String, CompletableFuture<Boolean>> inFlight = new ConcurrentHashMap<>();
+
+    private final Set<String> unavailable = ConcurrentHashMap.newKeySet();
+
+    private Counter generatedCounter;
+
+    private Counter skippedCounter;
+
+    @PostConstruct
+    void start() {
+        variantWidths = Arrays.stream(variantWidths).filter(width -> width > 0).sorted().distinct().toArray();
+        executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("resim-varyant-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        generatedCounter = Counter.builder("media.image.variants.generated")
+                .description("Üretilen resim varyantı sayısı")
+                .register(meterRegistry);
+        skippedCounter = Counter.builder("media.image.variants.skipped")
+                .description("Kuyruk dolu olduğu için ertelenen varyant üretimi")
+                .register(meterRegistry);
+        Gauge.builder("media.image.queue.size", executor, e -> e.getQueue().size())
+                .description("Varyant kuyruğunda bekleyen iş sayısı")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public void scheduleVariants(String storagePath) {
+        if (ImageResizer.formatFor(storagePath) == null) {
+            return;
+        }
+        for (int width : variantWidths) {
+            if (submit(storagePath, width) == null) {
+                skippedCounter.increment();
+            }
+        }
+    }
+
+    @Override
+    public int normalizeWidth(int requestedWidth) {
+        for (int width : variantWidths) {
+            if (width >= requestedWidth) {
+                return width;
+            }
+        }
+        return variantWidths[variantWidths.length - 1];
+    }
+
+    @Override
+    public String variantPath(String storagePath, int width) {
+        if (ImageResizer.formatFor(storagePath) == null) {
+            return null;
+        }
+        int dot = storagePath.lastIndexOf('.');
+        return storagePath.substring(0, dot) + "_w" + width + storagePath.substring(dot);
+    }
+
+    @Override
+    public boolean ensureVariant(String storagePath, int width) {
+        String variant = variantPath(storagePath, width);
+        if (variant == null || unavailable.contains(variant)) {
+            return false;
+        }
+        if (Files.exists(contentStore.resolve(variant))) {
+            return true;
+        }
+        CompletableFuture<Boolean> generation = submit(storagePath, width);
+        if (generation == null) {
+            skippedCounter.increment();
+            return false;
+        }
+        try {
+            return generation.get(onDemandTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Üretim arka planda sürer; bu istek orijinali alır
+            return false;
+        } catch (ExecutionException e) {
+            logger.warn("Resim varyantı üretilemedi: {} ({}px)", storagePath, width, e.getCause());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public void deleteVariants(String storagePath) {
+        if (ImageResizer.formatFor(storagePath) == null) {
+            return;
+        }
+        Path original = contentStore.resolve(storagePath);
+        String fileName = original.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        String glob = fileName.substring(0, dot) + "_w*" + fileName.substring(dot);
+        try (DirectoryStream<Path> variants = Files.newDirectoryStream(original.getParent(), glob)) {
+            for (Path variant : variants) {
+                Files.deleteIfExists(variant);
+            }
+        } catch (IOException e) {
+            logger.warn("Resim varyantları silinemedi: {}", storagePath, e);
+        }
+        unavailable.removeIf(key -> key.startsWith(storagePath.substring(0, storagePath.lastIndexOf('.')) + "_w"));
+    }
+
+    /**
+     * Varyant üretimini kuyruğa alır ya da süren üretime katılır; kuyruk doluysa null.
+     */
+    private CompletableFuture<Boolean> submit(String storagePath, int width) {
+        String variant = variantPath(storagePath, width);
+        CompletableFuture<Boolean> created = new CompletableFuture<>();
+        CompletableFuture<Boolean> existing = inFlight.putIfAbsent(variant, created);
+        if (existing != null) {
+            return existing;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    created.complete(generate(storagePath, variant, width));
+                } catch (Throwable t) {
+                    created.completeExceptionally(t);
+                } finally {
+                    inFlight.remove(variant, created);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(variant, created);
+            return null;
+        }
+        return created;
+    }
+
+    private boolean generate(String storagePath, String variant, int width) throws IOException {
+        if (Files.exists(contentStore.resolve(variant))) {
+            return true;
+        }
+        Path temp = contentStore.stagingFile();
+        try {
+            boolean written;
+            try {
+                written = ImageResizer.resize(contentStore.resolve(storagePath), temp, width,
+                        ImageResizer.formatFor(storagePath), maxPixels);
+            } catch (IOException | RuntimeException e) {
+                // Çözülemeyen resim (ör. CMYK JPEG) her istekte yeniden denenmez
+                markUnavailable(variant);
+                throw e;
+            }
+            if (!written) {
+                markUnavailable(variant);
+                return false;
+            }
+            contentStore.place(temp, variant);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+        // Eski UUID yollu dosyaların içerik satırı yoktur; varyant yine de diskte kullanılır
+        transactionTemplate.executeWithoutResult(status ->
+                mediaBlobRepository.recordVariant(storagePath, String.valueOf(width), LocalDateTime.now()));
+        generatedCounter.increment();
+        logger.debug("Resim varyantı üretildi: {}", variant);
+        return true;
+    }
+
+    private void markUnavailable(String variant) {
+        if (unavailable.size() >= MAX_UNAVAILABLE_ENTRIES) {
+            unavailable.clear();
+        }
+        unavailable.add(variant);
+    }
+}
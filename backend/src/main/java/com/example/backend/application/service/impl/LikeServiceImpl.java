@@ -4,10 +4,9 @@ import com.example.backend.application.service.LikeService;
 import com.example.backend.application.exception.BadRequestException;
 import com.example.backend.application.exception.ResourceNotFoundException;
 import com.example.backend.application.service.NotificationService;
-import com.example.backend.domain.entity.Like;
-import com.example.backend.domain.entity.User;
-import com.example.backend.domain.entity.Story;
+import com.example.backend.application.service.StoryCounterService;
 import com.example.backend.domain.entity.Notification;
+import com.example.backend.domain.projection.StoryOwnerView;
 import com.example.backend.domain.repository.LikeRepository;
 import com.example.backend.domain.repository.UserRepository;
 import com.example.backend.domain.repository.StoryRepository;
@@ -15,6 +14,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 @Service
 @Transactional
 public class LikeServiceImpl implements LikeService {
@@ -31,34 +32,31 @@ public class LikeServiceImpl implements LikeService {
     @Autowired
     private NotificationService notificationService;
 
+    @Autowired
+    private StoryCounterService storyCounterService;
+
     @Override
     public void like(Long storyId, Long userId) {
-        if (likeRepository.existsByUserIdAndStoryId(userId, storyId)) {
+        // Var mı kontrolü ile ekleme arasındaki yarış penceresi yok: çift tıklamada ikinci istek 0 döner
+        if (likeRepository.insertIfAbsent(userId, storyId, LocalDateTime.now()) == 0) {
+            if (!storyRepository.existsById(storyId)) {
+                throw new ResourceNotFoundException("Story bulunamadı");
+            }
+            if (!userRepository.existsById(userId)) {
+                throw new ResourceNotFoundException("Kullanıcı bulunamadı");
+            }
             throw new BadRequestException("Bu haberi zaten beğendiniz");
         }
 
-        Story story = storyRepository.findById(storyId)
-                .orElseThrow(() -> new ResourceNotFoundException("Story bulunamadı"));
-
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("Kullanıcı bulunamadı"));
-
-        Like like = new Like();
-        like.setStory(story);
-        like.setUser(user);
-        like.setIsActive(true); // Beğeniyi aktif olarak işaretle
-        likeRepository.save(like);
-
         // Haber beğeni sayısını artır
-        story.setLikeCount(story.getLikeCount() + 1);
-        storyRepository.save(story);
+        storyCounterService.adjustLikeCount(storyId, 1);
 
         // Story sahibine bildirim gönder (kendi yazısını beğenmediyse)
-        Long storyOwnerId = story.getUser().getId();
+        StoryOwnerView story = storyRepository.findOwnerViewById(storyId)
+                .orElseThrow(() -> new ResourceNotFoundException("Story bulunamadı"));
+        Long storyOwnerId = story.getUserId();
         if (!storyOwnerId.equals(userId)) {
-            String likerName = user.getUsername() != null 
-                ? user.getUsername() 
-                : (user.getFirstName() != null ? user.getFirstName() : "Bir kullanıcı");
+            String likerName = userRepository.findDisplayNameById(userId).orElse("Bir kullanıcı");
             
             notificationService.createNotification(
                 storyOwnerId,
@@ -76,15 +74,12 @@ public class LikeServiceImpl implements LikeService {
 
     @Override
     public void unlike(Long storyId, Long userId) {
-        Like like = likeRepository.findByUserIdAndStoryId(userId, storyId)
-                .orElseThrow(() -> new ResourceNotFoundException("Beğeni bulunamadı"));
-
-        Story story = like.getStory();
-        likeRepository.delete(like);
+        if (likeRepository.deleteByUserIdAndStoryId(userId, storyId) == 0) {
+            throw new ResourceNotFoundException("Beğeni bulunamadı");
+        }
 
         // Haber beğeni sayısını azalt
-        story.setLikeCount(Math.max(0, story.getLikeCount() - 1));
-        storyRepository.save(story);
+        storyCounterService.adjustLikeCount(storyId, -1);
     }
 
     @Override
@@ -2,6 +2,7 @@ package com.example.backend.application.service.impl;
 
 import com.example.backend.application.dto.request.ListCreateRequest;
 import com.example.backend.application.dto.response.ListResponse;
+import com.example.backend.application.dto.response.ResourceVersion;
 import com.example.backend.application.exception.BadRequestException;
 import com.example.backend.application.exception.ResourceNotFoundException;
 import com.example.backend.application.dto.response.StoryResponse;
@@ -9,6 +10,8 @@ import com.example.backend.application.service.ListService;
 import com.example.backend.domain.entity.User;
 import com.example.backend.domain.entity.ListEntity;
 import com.example.backend.domain.entity.Story;
+import com.example.backend.domain.projection.ListStoryCardView;
+import com.example.backend.domain.projection.ListVersionView;
 import com.example.backend.domain.repository.StoryRepository;
 import com.example.backend.domain.repository.UserRepository;
 import com.example.backend.domain.repository.ListRepository;
@@ -19,6 +22,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -55,10 +62,6 @@ public class ListServiceImpl implements ListService {
     public ListResponse findById(Long id) {
         ListEntity list = listRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Liste bulunamadı"));
-        // Stories'leri initialize et (lazy loading için)
-        if (list.getStories() != null) {
-            list.getStories().size(); // Initialize lazy collection
-        }
         return toResponse(list);
     }
 
@@ -67,24 +70,29 @@ public class ListServiceImpl implements ListService {
     public ListResponse findBySlug(String slug) {
         ListEntity list = listRepository.findBySlug(slug)
                 .orElseThrow(() -> new ResourceNotFoundException("Liste bulunamadı"));
-        // Stories'leri initialize et (lazy loading için)
-        if (list.getStories() != null) {
-            list.getStories().size(); // Initialize lazy collection
-        }
         return toResponse(list);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion findVersionById(Long id) {
+        return listRepository.findVersionById(id).map(this::toVersion).orElse(null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion findVersionBySlug(String slug) {
+        return listRepository.findVersionBySlug(slug).map(this::toVersion).orElse(null);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<ListResponse> findByKullaniciId(Long kullaniciId, Pageable pageable) {
         Page<ListEntity> lists = listRepository.findByUserIdAndIsActiveTrue(kullaniciId, pageable);
-        // Stories'leri initialize et (lazy loading için)
-        lists.getContent().forEach(list -> {
-            if (list.getStories() != null) {
-                list.getStories().size(); // Initialize lazy collection
-            }
-        });
-        return lists.map(this::toResponse);
+        // Sayfadaki listelerin story'leri tek sorguda, liste başına ayrı sorgu atılmaz
+        Map<Long, List<StoryResponse>> storiesByList = findStoryCards(
+                lists.getContent().stream().map(ListEntity::getId).collect(Collectors.toList()));
+        return lists.map(list -> toResponse(list, storiesByList));
     }
 
     @Override
@@ -166,7 +174,26 @@ public class ListServiceImpl implements ListService {
         return slug;
     }
 
+    // Last-Modified sadece listenin kendisi; story değişiklikleri ETag'e yansır
+    private ResourceVersion toVersion(ListVersionView view) {
+        return ResourceVersion.of(view.getUpdatedAt(), view.getId(), view.getUpdatedAt(), view.getUsername(),
+                view.getStoriesHash());
+    }
+
     private ListResponse toResponse(ListEntity list) {
+        return toResponse(list, list.getId() != null ? findStoryCards(List.of(list.getId())) : Map.of());
+    }
+
+    private Map<Long, List<StoryResponse>> findStoryCards(Collection<Long> listIds) {
+        if (listIds.isEmpty()) {
+            return Map.of();
+        }
+        return listRepository.findStoryCardsByListIdIn(listIds).stream()
+                .collect(Collectors.groupingBy(ListStoryCardView::getListId,
+                        Collectors.mapping(this::storyToResponse, Collectors.toList())));
+    }
+
+    private ListResponse toResponse(ListEntity list, Map<Long, List<StoryResponse>> storiesByList) {
         ListResponse response = new ListResponse();
         response.setId(list.getId());
         response.setName(list.getName());
@@ -179,44 +206,27 @@ public class ListServiceImpl implements ListService {
                 : list.getUser().getEmail());
         response.setCreatedAt(list.getCreatedAt());
         response.setUpdatedAt(list.getUpdatedAt());
-        
-        if (list.getStories() != null) {
-            response.setStories(list.getStories().stream()
-                    .map(this::storyToResponse)
-                    .collect(Collectors.toList()));
-        }
-        
+        response.setStories(new ArrayList<>(storiesByList.getOrDefault(list.getId(), List.of())));
         return response;
     }
 
-    private StoryResponse storyToResponse(Story story) {
+    private StoryResponse storyToResponse(ListStoryCardView card) {
         StoryResponse response = new StoryResponse();
-        response.setId(story.getId());
-        response.setBaslik(story.getTitle());
-        response.setSlug(story.getSlug());
-        response.setOzet(story.getSummary());
-        response.setContent(story.getContent()); // İçerik eklendi
-        response.setIcerik(story.getContent()); // Backward compatibility için
-        String coverImageUrl = story.getCoverImageUrl();
-        response.setKapakResmiUrl(coverImageUrl);
-        // Debug: coverImageUrl null kontrolü
-        if (coverImageUrl == null) {
-            System.out.println("⚠️ WARNING: Story ID " + story.getId() + " coverImageUrl is NULL");
-        }
-        response.setOkunmaSayisi(story.getViewCount());
-        response.setBegeniSayisi(story.getLikeCount());
-        response.setYorumSayisi(story.getCommentCount());
-        response.setKullaniciId(story.getUser().getId());
-        response.setKullaniciAdi(story.getUser().getUsername() != null
-                ? story.getUser().getUsername()
-                : story.getUser().getEmail());
-        // Yazarın rollerini ekle
-        response.setKullaniciRolleri(story.getUser().getRoles().stream()
-                .map(role -> role.getName())
-                .collect(java.util.stream.Collectors.toSet()));
-        response.setCreatedAt(story.getCreatedAt());
-        response.setUpdatedAt(story.getUpdatedAt());
+        response.setId(card.getId());
+        response.setBaslik(card.getTitle());
+        response.setSlug(card.getSlug());
+        response.setOzet(card.getSummary());
+        response.setKapakResmiUrl(card.getCoverImageUrl());
+        response.setOkunmaSayisi(card.getViewCount());
+        response.setBegeniSayisi(card.getLikeCount());
+        response.setYorumSayisi(card.getCommentCount());
+        response.setKullaniciId(card.getUserId());
+        response.setKullaniciAdi(card.getUsername() != null
+                ? card.getUsername()
+                : card.getUserEmail());
+        response.setCreatedAt(card.getCreatedAt());
+        response.setUpdatedAt(card.getUpdatedAt());
+        response.setOkumaSuresi(card.getReadTime());
         return response;
     }
 }
-
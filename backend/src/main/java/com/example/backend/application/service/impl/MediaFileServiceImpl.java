@@ -4,24 +4,39 @@ import com.example.backend.application.dto.response.MediaFileResponse;
 import com.example.backend.application.exception.BadRequestException;
 import com.example.backend.application.exception.ForbiddenException;
 import com.example.backend.application.exception.ResourceNotFoundException;
+import com.example.backend.application.service.ImageVariantService;
 import com.example.backend.application.service.MediaFileService;
 import com.example.backend.domain.entity.MediaFile;
+import com.example.backend.domain.repository.MediaBlobRepository;
 import com.example.backend.domain.repository.MediaFileRepository;
+import com.example.backend.infrastructure.cache.MediaFileHandleCache;
+import com.example.backend.infrastructure.storage.ContentAddressedStore;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.time.LocalDateTime;
-import java.util.UUID;
+import java.util.Locale;
+import java.util.regex.Pattern;
 
 @Service
 @Transactional
@@ -29,16 +44,38 @@ public class MediaFileServiceImpl implements MediaFileService {
 
     private static final Logger logger = LoggerFactory.getLogger(MediaFileServiceImpl.class);
 
+    private static final Pattern SAFE_EXTENSION = Pattern.compile("\\.[a-z0-9]{1,10}");
+
     @Autowired
     private MediaFileRepository mediaFileRepository;
 
+    @Autowired
+    private MediaBlobRepository mediaBlobRepository;
+
+    @Autowired
+    private ContentAddressedStore contentStore;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MediaFileHandleCache handleCache;
+
+    @Autowired
+    private ImageVariantService imageVariantService;
+
     @Value("${file.upload-dir:uploads}")
     private String uploadDir;
 
     @Value("${server.port:8080}")
     private String serverPort;
 
+    // Yazma ve özetleme transaction dışında yapılır; veritabanı bağlantısı sadece kayıt adımında tutulur
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public MediaFileResponse uploadFile(Long userId, MultipartFile file) {
         logger.info("📤 MediaFileService.uploadFile çağrıldı - UserId: {}, File: {}", 
                    userId, file != null ? file.getOriginalFilename() : "NULL");
@@ -52,85 +89,124 @@ public class MediaFileServiceImpl implements MediaFileService {
         logger.info("📄 Dosya bilgileri: Name={}, Size={}, ContentType={}", 
                    file.getOriginalFilename(), file.getSize(), file.getContentType());
         
+        try (InputStream in = file.getInputStream()) {
+            return store(userId, in, file.getOriginalFilename(), file.getContentType());
+        } catch (IOException e) {
+            logger.error("❌ IO hatası: {}", e.getMessage(), e);
+            throw new BadRequestException("Dosya yüklenirken hata oluştu: " + e.getMessage());
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public MediaFileResponse uploadStream(Long userId, InputStream in, String originalFilename, String contentType) {
+        try {
+            return store(userId, in, originalFilename, contentType);
+        } catch (IOException e) {
+            logger.error("❌ IO hatası: {}", e.getMessage(), e);
+            throw new BadRequestException("Dosya yüklenirken hata oluştu: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Akış tek geçişte geçici dosyaya yazılıp SHA-256 ile özetlenir. Aynı içerik depoda varsa sadece
+     * referans sayısı artar ve geçici dosya silinir; yoksa dosya içerik yoluna atomik taşınır.
+     * Taşıma kayıt commit edildikten sonra yapılır: geri alınan kayıt depoda sahipsiz dosya bırakmaz.
+     * Referans alma ve taşıma, son silmeyle aynı özet kilidi altında yapılır; silme dosyayı ancak
+     * kilit altında içerik kaydının gittiğini görünce siler.
+     */
+    private MediaFileResponse store(Long userId, InputStream in, String originalFilename, String contentType)
+            throws IOException {
+        ContentAddressedStore.StagedBlob staged;
+        try {
+            staged = contentStore.stage(in);
+        } catch (ContentAddressedStore.UploadTooLargeException e) {
+            throw new BadRequestException(e.getMessage());
+        }
+
         try {
-            // Dosya adını oluştur
-            String originalFilename = file.getOriginalFilename();
-            String extension = "";
-            if (originalFilename != null && originalFilename.contains(".")) {
-                extension = originalFilename.substring(originalFilename.lastIndexOf("."));
+            if (staged.size() == 0) {
+                throw new BadRequestException("Dosya boş veya bulunamadı");
             }
-            String uniqueFileName = UUID.randomUUID().toString() + extension;
-            
-            // Klasör yapısını oluştur (yıl/ay)
-            LocalDateTime now = LocalDateTime.now();
-            String yearMonth = now.getYear() + "/" + String.format("%02d", now.getMonthValue());
-            Path uploadPath = Paths.get(uploadDir, yearMonth);
-            
-            // Klasör yoksa oluştur - hata durumunda detaylı log
-            if (!Files.exists(uploadPath)) {
-                try {
-                    Files.createDirectories(uploadPath);
-                    logger.info("✅ Upload klasörü oluşturuldu: {}", uploadPath.toAbsolutePath());
-                } catch (IOException e) {
-                    logger.error("❌ Upload klasörü oluşturulamadı: {}", uploadPath.toAbsolutePath(), e);
-                    // Alternatif olarak temp dizin kullan
-                    Path tempUploadPath = Paths.get(System.getProperty("java.io.tmpdir"), "uploads", yearMonth);
+            String extension = extensionOf(originalFilename);
+            String mimeType = contentType != null && !contentType.isBlank()
+                    ? contentType
+                    : MediaTypeFactory.getMediaType("dosya" + extension)
+                            .orElse(MediaType.APPLICATION_OCTET_STREAM).toString();
+
+            MediaFile mediaFile = transactionTemplate.execute(status -> {
+                mediaBlobRepository.lockContent(staged.hash());
+                mediaBlobRepository.acquire(staged.hash(), contentStore.pathFor(staged.hash(), extension),
+                        mimeType, staged.size(), LocalDateTime.now());
+                String storagePath = mediaBlobRepository.findStoragePathByHash(staged.hash())
+                        .orElseThrow(() -> new IllegalStateException("İçerik kaydı bulunamadı: " + staged.hash()));
+
+                MediaFile file = new MediaFile();
+                file.setFileName(storagePath.substring(storagePath.lastIndexOf('/') + 1));
+                file.setOriginalFileName(originalFilename);
+                file.setFilePath(storagePath);
+                file.setMimeType(mimeType);
+                file.setFileSize(staged.size());
+                file.setUploaderUserId(userId);
+                file.setFileType(fileTypeOf(mimeType));
+                return mediaFileRepository.save(file);
+            });
+
+            try {
+                withContentLock(staged.hash(), () -> {
                     try {
-                        Files.createDirectories(tempUploadPath);
-                        logger.info("✅ Temp upload klasörü kullanılıyor: {}", tempUploadPath.toAbsolutePath());
-                        uploadPath = tempUploadPath;
-                    } catch (IOException e2) {
-                        logger.error("❌ Temp upload klasörü de oluşturulamadı: {}", tempUploadPath.toAbsolutePath(), e2);
-                        throw new BadRequestException("Upload klasörü oluşturulamadı: " + e.getMessage());
+                        contentStore.commit(staged, mediaFile.getFilePath());
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
                     }
-                }
-            }
-            
-            // Dosyayı kaydet
-            Path filePath = uploadPath.resolve(uniqueFileName);
-            Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
-            
-            // Dosya tipini belirle
-            MediaFile.FileType fileType = MediaFile.FileType.DIGER;
-            String contentType = file.getContentType();
-            if (contentType != null) {
-                if (contentType.startsWith("image/")) {
-                    fileType = MediaFile.FileType.RESIM;
-                } else if (contentType.startsWith("video/")) {
-                    fileType = MediaFile.FileType.VIDEO;
-                } else if (contentType.contains("pdf") || contentType.contains("word") || 
-                          contentType.contains("excel") || contentType.contains("powerpoint")) {
-                    fileType = MediaFile.FileType.DOKUMAN;
-                }
+                });
+            } catch (UncheckedIOException e) {
+                // Dosyası olmayan kayıt bırakılmaz; alınan referans geri verilir
+                transactionTemplate.executeWithoutResult(status -> {
+                    mediaFileRepository.delete(mediaFile);
+                    releaseContent(mediaFile.getFilePath());
+                });
+                throw e.getCause();
             }
-            
-            // Veritabanına kaydet
-            MediaFile mediaFile = new MediaFile();
-            mediaFile.setFileName(uniqueFileName);
-            mediaFile.setOriginalFileName(originalFilename);
-            mediaFile.setFilePath(yearMonth + "/" + uniqueFileName);
-            mediaFile.setMimeType(contentType);
-            mediaFile.setFileSize(file.getSize());
-            mediaFile.setUploaderUserId(userId);
-            mediaFile.setFileType(fileType);
-            
-            mediaFile = mediaFileRepository.save(mediaFile);
-            
+
             logger.info("✅ Dosya başarıyla kaydedildi: ID={}, Path={}", mediaFile.getId(), mediaFile.getFilePath());
-            
-            MediaFileResponse response = toResponse(mediaFile);
-            logger.info("✅ Response URL: {}", response.getUrl());
-            
-            return response;
-        } catch (IOException e) {
-            logger.error("❌ IO hatası: {}", e.getMessage(), e);
-            throw new BadRequestException("Dosya yüklenirken hata oluştu: " + e.getMessage());
-        } catch (Exception e) {
-            logger.error("❌ Beklenmeyen hata: {}", e.getMessage(), e);
-            throw new BadRequestException("Dosya yüklenirken hata oluştu: " + e.getMessage());
+            // Boyutlar arka planda üretilir; yanıt beklemez
+            if (mediaFile.getFileType() == MediaFile.FileType.RESIM) {
+                imageVariantService.scheduleVariants(mediaFile.getFilePath());
+            }
+            return toResponse(mediaFile);
+        } finally {
+            // Taşındıysa geçici dosya zaten yoktur
+            contentStore.discard(staged);
         }
     }
 
+    // Uzantı sadece harf ve rakamdan oluşuyorsa korunur; yol karakterleri dosya adına taşınmaz
+    private String extensionOf(String originalFilename) {
+        if (originalFilename == null || !originalFilename.contains(".")) {
+            return "";
+        }
+        String extension = originalFilename.substring(originalFilename.lastIndexOf('.')).toLowerCase(Locale.ROOT);
+        return SAFE_EXTENSION.matcher(extension).matches() ? extension : "";
+    }
+
+    private MediaFile.FileType fileTypeOf(String contentType) {
+        if (contentType == null) {
+            return MediaFile.FileType.DIGER;
+        }
+        if (contentType.startsWith("image/")) {
+            return MediaFile.FileType.RESIM;
+        }
+        if (contentType.startsWith("video/")) {
+            return MediaFile.FileType.VIDEO;
+        }
+        if (contentType.contains("pdf") || contentType.contains("word") ||
+                contentType.contains("excel") || contentType.contains("powerpoint")) {
+            return MediaFile.FileType.DOKUMAN;
+        }
+        return MediaFile.FileType.DIGER;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public MediaFileResponse findById(Long id) {
@@ -149,16 +225,142 @@ public class MediaFileServiceImpl implements MediaFileService {
             throw new ForbiddenException("Bu dosyayı silme yetkiniz yok");
         }
         
-        // Dosyayı diskten sil
+        // Veritabanından sil; diskteki dosya sadece silme commit edilirse gider
+        mediaFileRepository.delete(mediaFile);
+        releaseContent(mediaFile.getFilePath());
+    }
+
+    /**
+     * Kaydın içerik referansını bırakır. Paylaşılan içerik son referans gidince silinir; depoda olmayan
+     * eski UUID yollu dosya doğrudan silinir. Disk işlemleri commit'ten sonra yapılır; geri alınan
+     * transaction hâlâ referans verilen bir dosyayı silmiş olmaz. İçerik dosyası özet kilidi altında,
+     * kaydın hâlâ yok olduğu yeniden görülerek silinir; arada aynı içeriği yükleyen istek dosyasını
+     * kilidi bekledikten sonra yerleştirir.
+     */
+    private void releaseContent(String filePath) {
+        if (mediaBlobRepository.release(filePath) > 0) {
+            if (mediaBlobRepository.deleteIfUnreferenced(filePath) > 0) {
+                afterCommit(() -> {
+                    try {
+                        withContentLock(contentStore.hashOf(filePath), () -> {
+                            // Arada aynı içerik yeniden yüklendiyse dosya yeni kayda aittir
+                            if (!mediaBlobRepository.existsByStoragePath(filePath)) {
+                                contentStore.delete(filePath);
+                                imageVariantService.deleteVariants(filePath);
+                            }
+                        });
+                    } catch (RuntimeException e) {
+                        // Kayıt silinmiş kalır; dosya diskte sahipsiz kalır
+                        logger.warn("Ortam dosyası silinemedi: {}", filePath, e);
+                    }
+                    handleCache.invalidate(filePath);
+                });
+            }
+        } else {
+            afterCommit(() -> {
+                try {
+                    Files.deleteIfExists(Paths.get(uploadDir, filePath));
+                } catch (IOException e) {
+                    // Dosya silinemediyse kayıt yine de silinmiş kalır
+                    logger.warn("Dosya diskten silinemedi: {}", filePath);
+                }
+                imageVariantService.deleteVariants(filePath);
+                handleCache.invalidate(filePath);
+            });
+        }
+    }
+
+    /**
+     * İşlemi içerik özetinin kilidi altında, yeni bir transaction'da çalıştırır. Commit sonrası
+     * çağrıldığında da biten transaction'a katılmaz; kilit commit'e kadar tutulur.
+     */
+    private void withContentLock(String hash, Runnable action) {
+        TransactionTemplate locked = new TransactionTemplate(transactionManager);
+        locked.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        locked.executeWithoutResult(status -> {
+            mediaBlobRepository.lockContent(hash);
+            action.run();
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // Önbellek isabetinde transaction açılmaz; kayıt sadece ıskada okunur
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public MediaFileHandleCache.Handle findHandle(String year, String month, String filename) {
+        String relativePath = year + "/" + month + "/" + filename;
+        MediaFileHandleCache.Handle handle = handleCache.get(relativePath, () -> loadHandle(relativePath));
+        if (handle == null) {
+            throw new ResourceNotFoundException("Dosya bulunamadı");
+        }
+        return handle;
+    }
+
+    // Varyant yoksa istek sırasında üretilir; üretilemiyorsa orijinal sunulur
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public MediaFileHandleCache.Handle findHandle(String year, String month, String filename, int width) {
+        String relativePath = year + "/" + month + "/" + filename;
+        String variantPath = imageVariantService.variantPath(relativePath,
+                imageVariantService.normalizeWidth(width));
+        if (variantPath == null) {
+            return findHandle(year, month, filename);
+        }
+        MediaFileHandleCache.Handle variant = handleCache.get(variantPath, () -> loadHandle(variantPath));
+        if (variant != null) {
+            return variant;
+        }
+
+        MediaFileHandleCache.Handle original = findHandle(year, month, filename);
+        if (imageVariantService.ensureVariant(relativePath, imageVariantService.normalizeWidth(width))) {
+            variant = handleCache.get(variantPath, () -> loadHandle(variantPath));
+        }
+        return variant != null ? variant : original.asFallback();
+    }
+
+    @Override
+    public void evictHandle(String year, String month, String filename) {
+        handleCache.invalidate(year + "/" + month + "/" + filename);
+    }
+
+    private MediaFileHandleCache.Handle loadHandle(String relativePath) {
+        Path root = Paths.get(uploadDir).toAbsolutePath().normalize();
+        Path filePath = root.resolve(relativePath).normalize();
+        if (!filePath.startsWith(root)) {
+            return null;
+        }
+
+        BasicFileAttributes attributes;
         try {
-            Path filePath = Paths.get(uploadDir, mediaFile.getFilePath());
-            Files.deleteIfExists(filePath);
+            attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
         } catch (IOException e) {
-            // Dosya silinemediyse devam et, veritabanından sil
+            return null;
         }
-        
-        // Veritabanından sil
-        mediaFileRepository.delete(mediaFile);
+        if (!attributes.isRegularFile()) {
+            return null;
+        }
+
+        // Kayıt yoksa veya tip boşsa uzantıdan tahmin edilir; dosya içeriği okunmaz
+        String contentType = mediaBlobRepository.findMimeTypeByStoragePath(relativePath)
+                .or(() -> mediaFileRepository.findMimeTypeByFilePath(relativePath))
+                .filter(type -> !type.isBlank())
+                .orElseGet(() -> MediaTypeFactory.getMediaType(filePath.getFileName().toString())
+                        .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                        .toString());
+        return MediaFileHandleCache.Handle.of(filePath, attributes.size(),
+                attributes.lastModifiedTime().toMillis(), contentType);
     }
 
     private MediaFileResponse toResponse(MediaFile mediaFile) {
@@ -0,0 +1,167 @@
+package com.example.backend.application.service.impl;
+
+import com.example.backend.application.service.NotificationCounterService;
+import com.example.backend.domain.repository.NotificationRepository;
+import com.example.backend.infrastructure.cache.UnreadNotificationCountCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Okunmamış bildirim sayısını kullanıcı başına bir satırda tutar; zil her sayfada COUNT yerine tek
+ * satırlık birincil anahtar okuması yapar. Bellekteki sıcak katman UnreadNotificationCountCache'tir.
+ * Değişiklik önce var olan satıra delta olarak uygulanır; sayım sadece satırı olmayan kullanıcı için,
+ * satır ilk kez bildirimler tablosundan sayılarak oluşturulurken yapılır (fanout'ta takipçi başına değil). Artış kayan bir yol olursa gece uzlaştırması düzeltir ve metrik olarak raporlar.
+ */
+@Service
+public class NotificationCounterServiceImpl implements NotificationCounterService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationCounterServiceImpl.class);
+
+    private static final String COUNT_UNREAD =
+            "(SELECT COUNT(*) FROM bildirimler WHERE kullanici_id = ? AND okundu = false AND is_active = true)";
+
+    private static final String ADJUST_SQL =
+            "UPDATE bildirim_sayaclari SET okunmamis_sayisi = GREATEST(okunmamis_sayisi + ?, 0), updated_at = ? " +
+            "WHERE kullanici_id = ?";
+
+    // Satır yoksa sayım, bu transaction'ın kendi yazdığı bildirimleri de gördüğü için delta eklenmez.
+    // Araya başka bir transaction satırı eklediyse çakışmada delta uygulanır
+    private static final String SEED_SQL =
+            "INSERT INTO bildirim_sayaclari (kullanici_id, okunmamis_sayisi, is_active, created_at, updated_at) " +
+            "VALUES (?, " + COUNT_UNREAD + ", true, ?, ?) " +
+            "ON CONFLICT (kullanici_id) DO UPDATE SET " +
+            "okunmamis_sayisi = GREATEST(bildirim_sayaclari.okunmamis_sayisi + ?, 0), updated_at = EXCLUDED.updated_at";
+
+    private static final String SELECT_SQL =
+            "SELECT okunmamis_sayisi FROM bildirim_sayaclari WHERE kullanici_id = ?";
+
+    // Sayacı tablodaki okunmamış satır sayısından farklı olan ya da satırı eksik kullanıcılar; kilit almaz
+    private static final String DRIFTED_USERS_SQL =
+            "SELECT COALESCE(c.kullanici_id, n.kullanici_id) FROM bildirim_sayaclari c " +
+            "FULL OUTER JOIN (SELECT kullanici_id, COUNT(*) AS adet FROM bildirimler " +
+            "WHERE okundu = false AND is_active = true GROUP BY kullanici_id) n " +
+            "ON n.kullanici_id = c.kullanici_id " +
+            "WHERE COALESCE(c.okunmamis_sayisi, -1) <> COALESCE(n.adet, 0) " +
+            "ORDER BY 1";
+
+    private static final String ENSURE_ROW_SQL =
+            "INSERT INTO bildirim_sayaclari (kullanici_id, okunmamis_sayisi, is_active, created_at, updated_at) " +
+            "VALUES (?, 0, true, ?, ?) ON CONFLICT (kullanici_id) DO NOTHING";
+
+    private static final String LOCK_ROW_SQL =
+            "SELECT kullanici_id FROM bildirim_sayaclari WHERE kullanici_id = ? FOR UPDATE";
+
+    private static final String RECOMPUTE_SQL =
+            "UPDATE bildirim_sayaclari SET okunmamis_sayisi = " + COUNT_UNREAD + ", updated_at = ? " +
+            "WHERE kullanici_id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UnreadNotificationCountCache unreadCountCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Counter reconciledCounter;
+
+    @PostConstruct
+    void registerMetrics() {
+        reconciledCounter = Counter.builder("notification.counters.reconciled")
+                .description("Uzlaştırmada sayacı düzeltilen kullanıcı sayısı; sıfırdan farklıysa bir yolda sayaç kayıyor")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void adjustUnread(Long userId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (jdbcTemplate.update(ADJUST_SQL, delta, now, userId) == 0) {
+            jdbcTemplate.update(SEED_SQL, userId, userId, now, now, delta);
+        }
+    }
+
+    @Override
+    public void incrementUnread(List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[][] updated = jdbcTemplate.batchUpdate(ADJUST_SQL, userIds, userIds.size(), (ps, userId) -> {
+            ps.setLong(1, 1L);
+            ps.setTimestamp(2, now);
+            ps.setLong(3, userId);
+        });
+        // Sadece sayaç satırı olmayan takipçiler için sayım yapılır
+        List<Long> missing = new ArrayList<>();
+        for (int i = 0; i < userIds.size(); i++) {
+            if (updated[0][i] == 0) {
+                missing.add(userIds.get(i));
+            }
+        }
+        if (!missing.isEmpty()) {
+            jdbcTemplate.batchUpdate(SEED_SQL, missing, missing.size(), (ps, userId) -> {
+                ps.setLong(1, userId);
+                ps.setLong(2, userId);
+                ps.setTimestamp(3, now);
+                ps.setTimestamp(4, now);
+                ps.setLong(5, 1L);
+            });
+        }
+    }
+
+    @Override
+    public long getUnread(Long userId) {
+        List<Long> stored = jdbcTemplate.queryForList(SELECT_SQL, Long.class, userId);
+        if (!stored.isEmpty()) {
+            return stored.get(0);
+        }
+        // Sayaç henüz oluşmamış (hiç değişiklik olmamış) kullanıcı; uzlaştırma satırı oluşturur
+        Long counted = notificationRepository.countUnreadByUserId(userId);
+        return counted != null ? counted : 0L;
+    }
+
+    @Override
+    @Scheduled(cron = "${notification.counters.reconcile-cron:0 45 3 * * *}")
+    public int reconcile() {
+        List<Long> drifted = jdbcTemplate.queryForList(DRIFTED_USERS_SQL, Long.class);
+        for (Long userId : drifted) {
+            // Satır kilitlenir, sayım kilitten sonra başlayan yeni bir snapshot ile yapılır; o sırada bildirim
+            // yazan transaction'lar sayaç güncellemesinde bekler ve kendi deltalarını uzlaştırmadan sonra uygular
+            transactionTemplate.executeWithoutResult(status -> {
+                Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                jdbcTemplate.update(ENSURE_ROW_SQL, userId, now, now);
+                jdbcTemplate.queryForList(LOCK_ROW_SQL, Long.class, userId);
+                jdbcTemplate.update(RECOMPUTE_SQL, userId, now, userId);
+                unreadCountCache.invalidateAfterCompletion(userId);
+            });
+        }
+        if (!drifted.isEmpty()) {
+            reconciledCounter.increment(drifted.size());
+            logger.warn("Bildirim sayacı uzlaştırması {} kullanıcının okunmamış sayısını düzeltti", drifted.size());
+        }
+        return drifted.size();
+    }
+}
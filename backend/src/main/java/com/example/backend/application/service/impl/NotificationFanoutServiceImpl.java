@@ -0,0 +1,328 @@
+package com.example.backend.application.service.impl;
+
+import com.example.backend.application.service.NotificationCounterService;
+import com.example.backend.application.service.NotificationFanoutService;
+import com.example.backend.application.service.NotificationStreamService;
+import com.example.backend.domain.entity.Notification;
+import com.example.backend.domain.entity.NotificationFanoutJob;
+import com.example.backend.domain.entity.NotificationFanoutJob.FanoutStatus;
+import com.example.backend.domain.repository.FollowRepository;
+import com.example.backend.domain.repository.NotificationFanoutJobRepository;
+import com.example.backend.infrastructure.cache.UnreadNotificationCountCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Takipçi bildirimlerini onay transaction'ının dışında, sınırlı bir worker havuzunda dağıtır.
+ * Takipçiler keyset sayfalama ile parça parça okunur ve her parça tek bir JDBC batch insert
+ * ile yazılır. İmleç aynı transaction'da ilerletildiği için çökme sonrası tekrar gönderim olmaz.
+ */
+@Service
+public class NotificationFanoutServiceImpl implements NotificationFanoutService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationFanoutServiceImpl.class);
+
+    private static final String INSERT_SQL =
+            "INSERT INTO bildirimler (kullanici_id, baslik, mesaj, tip, okundu, ilgili_story_id, ilgili_yorum_id, " +
+            "is_active, created_at, updated_at) VALUES (?, ?, ?, ?, false, ?, NULL, true, ?, ?)";
+
+    private static final List<FanoutStatus> UNFINISHED = List.of(FanoutStatus.BEKLIYOR, FanoutStatus.ISLENIYOR);
+
+    private static final int MAX_ATTEMPTS = 5;
+
+    @Autowired
+    private NotificationFanoutJobRepository jobRepository;
+
+    @Autowired
+    private FollowRepository followRepository;
+
+    @Autowired
+    private UnreadNotificationCountCache unreadCountCache;
+
+    @Autowired
+    private NotificationCounterService counterService;
+
+    @Autowired
+    private NotificationStreamService streamService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${notification.fanout.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${notification.fanout.workers:2}")
+    private int workers;
+
+    @Value("${notification.fanout.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${notification.fanout.stale-after-ms:300000}")
+    private long staleAfterMs;
+
+    private ThreadPoolExecutor executor;
+
+    private volatile boolean shuttingDown;
+
+    // Kuyrukta ya da işlenmekte olan işler; aynı işin zamanlayıcı tarafından tekrar kuyruğa girmesini önler
+    private final Set<Long> queuedJobIds = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong unfinishedJobs = new AtomicLong();
+
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    private Counter deliveredCounter;
+
+    private Timer chunkTimer;
+
+    @PostConstruct
+    void start() {
+        executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("bildirim-dagitim-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        deliveredCounter = Counter.builder("notification.fanout.delivered")
+                .description("Takipçilere yazılan bildirim sayısı")
+                .register(meterRegistry);
+        chunkTimer = Timer.builder("notification.fanout.chunk")
+                .description("Bir takipçi parçasının okunup batch insert ile yazılma süresi")
+                .register(meterRegistry);
+        Gauge.builder("notification.fanout.jobs.unfinished", unfinishedJobs, AtomicLong::get)
+                .description("Tamamlanmamış dağıtım işi sayısı")
+                .register(meterRegistry);
+        Gauge.builder("notification.fanout.lag.seconds", lagSeconds, AtomicLong::get)
+                .description("En eski tamamlanmamış dağıtım işinin yaşı")
+                .register(meterRegistry);
+        Gauge.builder("notification.fanout.queue.size", executor, e -> e.getQueue().size())
+                .description("Worker kuyruğunda bekleyen iş sayısı")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stop() {
+        // Devam eden işler mevcut parçayı bitirip bekleyen duruma döner
+        shuttingDown = true;
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    @Transactional
+    public void enqueueForFollowers(Long authorId, String title, String message,
+                                    Notification.NotificationType type, Long relatedStoryId) {
+        NotificationFanoutJob job = new NotificationFanoutJob();
+        job.setAuthorId(authorId);
+        job.setTitle(title);
+        job.setMessage(message);
+        job.setType(type);
+        job.setRelatedStoryId(relatedStoryId);
+        job.setStatus(FanoutStatus.BEKLIYOR);
+        job.setLastFollowerId(0L);
+        job.setDeliveredCount(0L);
+        job.setAttempts(0);
+        job = jobRepository.save(job);
+
+        Long jobId = job.getId();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Worker, iş kaydı commit edilmeden başlarsa kaydı göremez
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(jobId);
+                }
+            });
+        } else {
+            submit(jobId);
+        }
+    }
+
+    @Override
+    public void processJob(Long jobId) {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            Integer claimed = transactionTemplate.execute(status -> jobRepository.claim(
+                    jobId, now, now.minus(Duration.ofMillis(staleAfterMs)),
+                    FanoutStatus.BEKLIYOR, FanoutStatus.ISLENIYOR));
+            if (claimed == null || claimed == 0) {
+                return;
+            }
+
+            NotificationFanoutJob job = jobRepository.findById(jobId).orElse(null);
+            if (job == null) {
+                return;
+            }
+            runClaimedJob(job);
+        } finally {
+            queuedJobIds.remove(jobId);
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${notification.fanout.poll-interval-ms:30000}")
+    public int resumePendingJobs() {
+        LocalDateTime staleBefore = LocalDateTime.now().minus(Duration.ofMillis(staleAfterMs));
+        List<Long> jobIds = jobRepository.findResumableJobIds(
+                staleBefore, FanoutStatus.BEKLIYOR, FanoutStatus.ISLENIYOR, PageRequest.of(0, queueCapacity));
+
+        int submitted = 0;
+        for (Long jobId : jobIds) {
+            if (submit(jobId)) {
+                submitted++;
+            }
+        }
+
+        unfinishedJobs.set(jobRepository.countByStatusIn(UNFINISHED));
+        LocalDateTime oldest = jobRepository.findOldestCreatedAtByStatusIn(UNFINISHED);
+        lagSeconds.set(oldest != null ? Duration.between(oldest, LocalDateTime.now()).getSeconds() : 0L);
+
+        if (submitted > 0) {
+            logger.info("{} bekleyen bildirim dağıtım işi kuyruğa alındı", submitted);
+        }
+        return submitted;
+    }
+
+    private boolean submit(Long jobId) {
+        if (shuttingDown || !queuedJobIds.add(jobId)) {
+            return false;
+        }
+        try {
+            executor.execute(() -> processJob(jobId));
+            return true;
+        } catch (RejectedExecutionException e) {
+            queuedJobIds.remove(jobId);
+            logger.warn("Bildirim dağıtım kuyruğu dolu, iş {} zamanlayıcı tarafından tekrar denenecek", jobId);
+            return false;
+        }
+    }
+
+    private void runClaimedJob(NotificationFanoutJob job) {
+        long cursor = job.getLastFollowerId();
+        try {
+            while (!shuttingDown) {
+                long afterFollowerId = cursor;
+                Timer.Sample sample = Timer.start(meterRegistry);
+                ChunkResult result = transactionTemplate.execute(status -> deliverChunk(job, afterFollowerId));
+                sample.stop(chunkTimer);
+
+                deliveredCounter.increment(result.delivered());
+                if (result.finished()) {
+                    logger.debug("Bildirim dağıtım işi {} tamamlandı", job.getId());
+                    return;
+                }
+                cursor = result.lastFollowerId();
+            }
+            // Kapanış sırasında iş bekleyen duruma döner, sonraki açılışta imleçten devam eder
+            release(job, false);
+        } catch (ClaimLostException e) {
+            // Son parça geri alındı; iş yeni sahibinin imlecinden devam eder
+            logger.warn("Bildirim dağıtım işi {} bayat sayılıp başka bir worker'a geçti, bırakılıyor", job.getId());
+        } catch (RuntimeException e) {
+            logger.error("Bildirim dağıtım işi {} başarısız oldu (deneme {})", job.getId(), job.getAttempts(), e);
+            release(job, true);
+        }
+    }
+
+    private ChunkResult deliverChunk(NotificationFanoutJob job, long afterFollowerId) {
+        List<Long> followerIds = followRepository.findFollowerIdsAfter(
+                job.getAuthorId(), afterFollowerId, PageRequest.of(0, chunkSize));
+
+        // İmleç önce ilerletilir: iş satırı commit'e kadar kilitlenir, bayat sayılan iş bu sırada
+        // başka worker'a geçemez. Sahiplenme kaybedildiyse hiçbir bildirim yazılmadan parça geri alınır
+        long lastFollowerId = followerIds.isEmpty() ? afterFollowerId : followerIds.get(followerIds.size() - 1);
+        int advanced = jobRepository.advanceCursor(job.getId(), job.getAttempts(), afterFollowerId, lastFollowerId,
+                followerIds.size(), LocalDateTime.now(), FanoutStatus.ISLENIYOR);
+        if (advanced == 0) {
+            throw new ClaimLostException();
+        }
+
+        if (!followerIds.isEmpty()) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            jdbcTemplate.batchUpdate(INSERT_SQL, followerIds, followerIds.size(), (ps, followerId) -> {
+                ps.setLong(1, followerId);
+                ps.setString(2, job.getTitle());
+                ps.setString(3, job.getMessage());
+                ps.setString(4, job.getType().name());
+                if (job.getRelatedStoryId() != null) {
+                    ps.setLong(5, job.getRelatedStoryId());
+                } else {
+                    ps.setNull(5, Types.BIGINT);
+                }
+                ps.setTimestamp(6, now);
+                ps.setTimestamp(7, now);
+            });
+            counterService.incrementUnread(followerIds);
+            unreadCountCache.invalidateAfterCompletion(followerIds);
+            streamService.publishUnreadCountAfterCommit(followerIds);
+        }
+
+        // Eksik dolan parça son parçadır; ayrıca boş bir sorgu atmadan işi kapat
+        boolean finished = followerIds.size() < chunkSize;
+        if (finished) {
+            jobRepository.updateStatus(job.getId(), FanoutStatus.TAMAMLANDI, LocalDateTime.now());
+        }
+        return new ChunkResult(lastFollowerId, followerIds.size(), finished);
+    }
+
+    private void release(NotificationFanoutJob job, boolean failed) {
+        FanoutStatus status = failed && job.getAttempts() >= MAX_ATTEMPTS
+                ? FanoutStatus.BASARISIZ
+                : FanoutStatus.BEKLIYOR;
+        try {
+            transactionTemplate.executeWithoutResult(tx -> jobRepository.releaseClaim(
+                    job.getId(), job.getAttempts(), status, FanoutStatus.ISLENIYOR));
+        } catch (RuntimeException e) {
+            // Durum yazılamazsa iş bayat sayıldığında zamanlayıcı tarafından yeniden alınır
+            logger.error("Bildirim dağıtım işi {} serbest bırakılamadı", job.getId(), e);
+        }
+    }
+
+    private record ChunkResult(long lastFollowerId, int delivered, boolean finished) {
+    }
+
+    private static final class ClaimLostException extends RuntimeException {
+    }
+}
@@ -1,25 +1,44 @@
 package com.example.backend.application.service.impl;
 
+import com.example.backend.application.dto.response.CursorPageResponse;
 import com.example.backend.application.dto.response.NotificationResponse;
+import com.example.backend.application.exception.BadRequestException;
 import com.example.backend.application.exception.ForbiddenException;
 import com.example.backend.application.exception.ResourceNotFoundException;
+import com.example.backend.application.service.NotificationCounterService;
 import com.example.backend.application.service.NotificationService;
+import com.example.backend.application.service.NotificationStreamService;
 import com.example.backend.domain.entity.Notification;
 import com.example.backend.domain.entity.User;
-import com.example.backend.domain.entity.Story;
+import com.example.backend.domain.projection.StorySlugView;
 import com.example.backend.domain.repository.NotificationRepository;
 import com.example.backend.domain.repository.UserRepository;
 import com.example.backend.domain.repository.StoryRepository;
+import com.example.backend.infrastructure.cache.UnreadNotificationCountCache;
+import com.example.backend.infrastructure.util.CursorUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class NotificationServiceImpl implements NotificationService {
 
+    private static final int REPLAY_LIMIT = 50;
+
     @Autowired
     private NotificationRepository notificationRepository;
 
@@ -29,6 +48,18 @@ public class NotificationServiceImpl implements NotificationService {
     @Autowired
     private StoryRepository storyRepository;
 
+    @Autowired
+    private UnreadNotificationCountCache unreadCountCache;
+
+    @Autowired
+    private NotificationCounterService counterService;
+
+    @Autowired
+    private NotificationStreamService streamService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     @Override
     public void createNotification(Long userId, String title, String message, 
                                 Notification.NotificationType type, Long relatedStoryId, Long relatedCommentId) {
@@ -45,20 +76,44 @@ public class NotificationServiceImpl implements NotificationService {
         notification.setRelatedCommentId(relatedCommentId);
 
         notificationRepository.save(notification);
+        counterService.adjustUnread(userId, 1);
+        unreadCountCache.invalidateAfterCompletion(userId);
+        // Bağlı değilse slug sorgusu da yapılmaz
+        if (streamService.hasSubscribers(userId)) {
+            streamService.publishAfterCommit(userId, toResponse(notification, findSlugs(List.of(notification))));
+            streamService.publishUnreadCountAfterCommit(List.of(userId));
+        }
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<NotificationResponse> findByUserId(Long userId, Pageable pageable) {
-        return notificationRepository.findByUserId(userId, pageable)
-                .map(this::toResponse);
+        return toResponsePage(notificationRepository.findByUserId(userId, pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<NotificationResponse> findUnreadByUserId(Long userId, Pageable pageable) {
-        return notificationRepository.findByUserIdAndIsRead(userId, false, pageable)
-                .map(this::toResponse);
+        return toResponsePage(notificationRepository.findByUserIdAndIsRead(userId, false, pageable));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<NotificationResponse> findFeedByUserId(Long userId, String cursor, int size, boolean unreadOnly) {
+        Long cursorId = decodeCursor(cursor);
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<Notification> rows = unreadOnly
+                ? notificationRepository.findUnreadFeedByUserId(userId, cursorId, limit)
+                : notificationRepository.findFeedByUserId(userId, cursorId, limit);
+
+        boolean hasMore = rows.size() > size;
+        List<Notification> page = hasMore ? rows.subList(0, size) : rows;
+        String nextCursor = hasMore ? CursorUtil.encode(page.get(page.size() - 1).getId()) : null;
+        Map<Long, String> slugs = findSlugs(page);
+        List<NotificationResponse> content = page.stream()
+                .map(notification -> toResponse(notification, slugs))
+                .toList();
+        return new CursorPageResponse<>(content, nextCursor, hasMore);
     }
 
     @Override
@@ -70,27 +125,102 @@ public class NotificationServiceImpl implements NotificationService {
             throw new ForbiddenException("Bu bildirime erişim yetkiniz yok");
         }
 
-        notification.setIsRead(true);
-        notificationRepository.save(notification);
+        // Yüklenen varlığın durumuna değil, gerçekten değişen satıra göre düşülür; çift tıklama iki kez düşmez
+        int updated = notificationRepository.markAsReadById(id, userId, LocalDateTime.now());
+        if (updated > 0) {
+            counterService.adjustUnread(userId, -updated);
+            unreadCountCache.invalidateAfterCompletion(userId);
+            streamService.publishUnreadCountAfterCommit(List.of(userId));
+        }
     }
 
     @Override
     public void markAllAsRead(Long userId) {
-        org.springframework.data.domain.Pageable pageable = org.springframework.data.domain.Pageable.unpaged();
-        notificationRepository.findByUserIdAndIsRead(userId, false, pageable)
-                .forEach(notification -> {
-                    notification.setIsRead(true);
-                    notificationRepository.save(notification);
-                });
+        int updated = notificationRepository.markAllAsReadByUserId(userId, LocalDateTime.now());
+        if (updated > 0) {
+            // Sıfırlamak yerine güncellenen kadar düşülür; eşzamanlı yeni bildirimin artışı kaybolmaz
+            counterService.adjustUnread(userId, -updated);
+            unreadCountCache.invalidateAfterCompletion(userId);
+            streamService.publishUnreadCountAfterCommit(List.of(userId));
+        }
+    }
+
+    @Override
+    public int markAsReadUpTo(Long userId, Long maxId) {
+        if (maxId == null) {
+            throw new BadRequestException("Bildirim id'si gerekli");
+        }
+        int updated = notificationRepository.markAsReadUpToId(userId, maxId, LocalDateTime.now());
+        if (updated > 0) {
+            counterService.adjustUnread(userId, -updated);
+            unreadCountCache.invalidateAfterCompletion(userId);
+            streamService.publishUnreadCountAfterCommit(List.of(userId));
+        }
+        return updated;
     }
 
     @Override
     @Transactional(readOnly = true)
     public Long countUnread(Long userId) {
-        return notificationRepository.countUnreadByUserId(userId);
+        return unreadCountCache.get(userId, () -> counterService.getUnread(userId));
+    }
+
+    // Kayıt önce yapılır, replay sonra okunur; aradaki bildirimler kaybolmaz, tekrarları akış ayıklar.
+    // Akış dakikalarca açık kalır: replay kendi kısa transaction'ında okunur, bağlantı havuza hemen döner
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SseEmitter subscribe(Long userId, Long lastEventId) {
+        return streamService.subscribe(userId, () -> transactionTemplate.execute(status -> {
+            List<NotificationResponse> missed = List.of();
+            boolean truncated = false;
+            if (lastEventId != null) {
+                List<Notification> rows = notificationRepository.findNewerByUserId(
+                        userId, lastEventId, PageRequest.of(0, REPLAY_LIMIT + 1));
+                // Sığmayan boşlukta parça göndermek yerine istemci listeyi baştan yükler
+                truncated = rows.size() > REPLAY_LIMIT;
+                if (!truncated) {
+                    Map<Long, String> slugs = findSlugs(rows);
+                    missed = rows.stream().map(notification -> toResponse(notification, slugs)).toList();
+                }
+            }
+            return new NotificationStreamService.Replay(missed, truncated, countUnread(userId));
+        }));
+    }
+
+    private Page<NotificationResponse> toResponsePage(Page<Notification> notifications) {
+        Map<Long, String> slugs = findSlugs(notifications.getContent());
+        return notifications.map(notification -> toResponse(notification, slugs));
     }
 
-    private NotificationResponse toResponse(Notification notification) {
+    private Long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            return CursorUtil.decodeId(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Geçersiz sayfa imleci");
+        }
+    }
+
+    /**
+     * Sayfadaki bildirimlerin story slug'larını tek bir projeksiyon sorgusuyla çözer.
+     */
+    private Map<Long, String> findSlugs(List<Notification> notifications) {
+        Set<Long> storyIds = notifications.stream()
+                .map(Notification::getRelatedStoryId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        // Story bulunamazsa slug null kalır
+        return storyIds.isEmpty()
+                ? Map.of()
+                : storyRepository.findSlugsByIdIn(storyIds).stream()
+                        .filter(view -> view.getSlug() != null)
+                        .collect(Collectors.toMap(StorySlugView::getId, StorySlugView::getSlug));
+    }
+
+    private NotificationResponse toResponse(Notification notification, Map<Long, String> slugs) {
         NotificationResponse response = new NotificationResponse();
         response.setId(notification.getId());
         response.setTitle(notification.getTitle());
@@ -100,20 +230,9 @@ public class NotificationServiceImpl implements NotificationService {
         response.setRelatedStoryId(notification.getRelatedStoryId());
         response.setRelatedCommentId(notification.getRelatedCommentId());
         response.setCreatedAt(notification.getCreatedAt());
-        
-        // Story slug'ı ekle
         if (notification.getRelatedStoryId() != null) {
-            try {
-                Story story = storyRepository.findById(notification.getRelatedStoryId()).orElse(null);
-                if (story != null) {
-                    response.setRelatedStorySlug(story.getSlug());
-                }
-            } catch (Exception e) {
-                // Story bulunamazsa slug null kalır
-            }
+            response.setRelatedStorySlug(slugs.get(notification.getRelatedStoryId()));
         }
-        
         return response;
     }
 }
-
@@ -0,0 +1,403 @@
+package com.example.backend.application.service.impl;
+
+import com.example.backend.application.dto.response.NotificationResponse;
+import com.example.backend.application.service.NotificationCounterService;
+import com.example.backend.application.service.NotificationStreamService;
+import com.example.backend.infrastructure.cache.UnreadNotificationCountCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Bildirimleri açık SSE bağlantılarına iter. Boştaki bağlantı async servlet isteğidir ve thread tutmaz;
+ * yazmalar sınırlı bir worker havuzunda, bağlantı başına tek yazar olacak şekilde yapılır. Her bağlantının
+ * bekleyen olay kuyruğu sınırlıdır: dolan (okumayan) istemci düşürülür ve Last-Event-ID ile yeniden
+ * bağlandığında kaçırdıklarını alır. Heartbeat ara sunucuların boş bağlantıyı kapatmasını önler.
+ * Emitter sadece yazar thread'inde kapatılır: complete() send() ile aynı kilidi alır, takılı bir soketi
+ * bekleyen yazma heartbeat'i veya commit eden istek thread'ini kilitlememelidir. Tek bir yazmanın süresi
+ * Tomcat'in yazma zaman aşımıyla (server.tomcat.connection-timeout) sınırlıdır.
+ */
+@Service
+public class NotificationStreamServiceImpl implements NotificationStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationStreamServiceImpl.class);
+
+    static final String EVENT_NOTIFICATION = "bildirim";
+    static final String EVENT_UNREAD_COUNT = "okunmamis";
+    static final String EVENT_RELOAD = "yenile";
+
+    @Autowired
+    private NotificationCounterService counterService;
+
+    @Autowired
+    private UnreadNotificationCountCache unreadCountCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${notification.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${notification.stream.reconnect-ms:5000}")
+    private long reconnectMs;
+
+    @Value("${notification.stream.max-connections-per-user:5}")
+    private int maxConnectionsPerUser;
+
+    @Value("${notification.stream.max-pending-events:32}")
+    private int maxPendingEvents;
+
+    @Value("${notification.stream.workers:4}")
+    private int workers;
+
+    @Value("${notification.stream.queue-capacity:10000}")
+    private int queueCapacity;
+
+    private final ConcurrentHashMap<Long, List<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    private ThreadPoolExecutor executor;
+
+    private Counter droppedCounter;
+
+    @PostConstruct
+    void start() {
+        executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("bildirim-akis-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        droppedCounter = Counter.builder("notification.stream.dropped")
+                .description("Kuyruğu dolduğu için düşürülen yavaş bağlantı sayısı")
+                .register(meterRegistry);
+        Gauge.builder("notification.stream.connections", subscribers,
+                        map -> map.values().stream().mapToInt(List::size).sum())
+                .description("Açık bildirim akışı bağlantısı sayısı")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+        subscribers.values().forEach(list -> list.forEach(subscriber -> subscriber.emitter.complete()));
+        subscribers.clear();
+    }
+
+    @Override
+    public SseEmitter subscribe(Long userId, Supplier<Replay> replay) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(userId, emitter);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> {
+            remove(subscriber);
+            emitter.complete();
+        });
+        emitter.onError(error -> remove(subscriber));
+
+        // Ekleme haritanın içinde yapılır; son bağlantının eşzamanlı silinmesi listeyi haritadan koparamaz
+        List<Subscriber> connections = subscribers.compute(userId, (id, existing) -> {
+            List<Subscriber> list = existing != null ? existing : new CopyOnWriteArrayList<>();
+            list.add(subscriber);
+            return list;
+        });
+        // Sınırı aşan kullanıcıda en eski bağlantı kapatılır (unutulmuş sekmeler)
+        while (connections.size() > maxConnectionsPerUser) {
+            drop(connections.get(0));
+        }
+
+        Replay initial;
+        try {
+            initial = replay.get();
+        } catch (RuntimeException e) {
+            // Replay bitmeden yazar başlamaz; emitter burada kapatılabilir
+            subscriber.close(true);
+            remove(subscriber);
+            emitter.complete();
+            throw e;
+        }
+        long lastReplayedId = 0L;
+        for (NotificationResponse missed : initial.missed()) {
+            subscriber.offerReplay(new Event(missed.getId(), EVENT_NOTIFICATION, missed));
+            lastReplayedId = Math.max(lastReplayedId, missed.getId());
+        }
+        if (initial.truncated()) {
+            subscriber.offerReplay(new Event(null, EVENT_RELOAD, Boolean.TRUE));
+        }
+        subscriber.offerReplay(new Event(null, EVENT_UNREAD_COUNT, initial.unreadCount()));
+        if (subscriber.release(lastReplayedId)) {
+            schedule(subscriber);
+        }
+        return emitter;
+    }
+
+    @Override
+    public boolean hasSubscribers(Long userId) {
+        return subscribers.containsKey(userId);
+    }
+
+    @Override
+    public void publishAfterCommit(Long userId, NotificationResponse notification) {
+        if (!hasSubscribers(userId)) {
+            return;
+        }
+        afterCommit(() -> deliver(userId, new Event(notification.getId(), EVENT_NOTIFICATION, notification)));
+    }
+
+    @Override
+    public void publishUnreadCountAfterCommit(Collection<Long> userIds) {
+        List<Long> connected = userIds.stream().filter(this::hasSubscribers).toList();
+        if (connected.isEmpty()) {
+            return;
+        }
+        // Sayı okunurken veritabanına gidilebilir; istek thread'i yerine havuzda okunur
+        afterCommit(() -> {
+            try {
+                executor.execute(() -> connected.forEach(userId -> {
+                    if (hasSubscribers(userId)) {
+                        Long count = unreadCountCache.get(userId, () -> counterService.getUnread(userId));
+                        deliver(userId, new Event(null, EVENT_UNREAD_COUNT, count));
+                    }
+                }));
+            } catch (RejectedExecutionException e) {
+                // Sayı bir sonraki değişiklikte ya da yeniden bağlanınca gönderilir
+                logger.debug("Okunmamış sayısı gönderimi kuyruk dolu olduğu için atlandı");
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${notification.stream.heartbeat-ms:25000}")
+    public void heartbeat() {
+        Event ping = new Event(null, null, null);
+        subscribers.values().forEach(list -> list.forEach(subscriber -> offer(subscriber, ping)));
+    }
+
+    private void deliver(Long userId, Event event) {
+        List<Subscriber> connections = subscribers.get(userId);
+        if (connections != null) {
+            connections.forEach(subscriber -> offer(subscriber, event));
+        }
+    }
+
+    private void offer(Subscriber subscriber, Event event) {
+        switch (subscriber.offer(event, maxPendingEvents)) {
+            case SCHEDULE -> schedule(subscriber);
+            case FULL -> {
+                droppedCounter.increment();
+                drop(subscriber);
+            }
+            case QUEUED -> {
+            }
+        }
+    }
+
+    private void schedule(Subscriber subscriber) {
+        try {
+            executor.execute(() -> drain(subscriber));
+        } catch (RejectedExecutionException e) {
+            // Kapatacak görev de kuyruğa giremez; emitter zaman aşımında kapanır
+            droppedCounter.increment();
+            subscriber.close(true);
+            remove(subscriber);
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        Event event;
+        while ((event = subscriber.next()) != null) {
+            if (event == FINISH) {
+                complete(subscriber);
+                continue;
+            }
+            try {
+                subscriber.emitter.send(toSse(event));
+            } catch (IOException | IllegalStateException e) {
+                // Kopan bağlantı; kapanışı servlet konteyneri bildirir
+                subscriber.close(true);
+                remove(subscriber);
+            }
+        }
+    }
+
+    private void complete(Subscriber subscriber) {
+        try {
+            subscriber.emitter.complete();
+        } catch (RuntimeException e) {
+            logger.debug("Bildirim akışı kapatılırken hata: {}", e.getMessage());
+        }
+    }
+
+    private SseEmitter.SseEventBuilder toSse(Event event) {
+        if (event.name() == null) {
+            return SseEmitter.event().comment("ping");
+        }
+        SseEmitter.SseEventBuilder builder = SseEmitter.event()
+                .name(event.name())
+                .data(event.data(), MediaType.APPLICATION_JSON);
+        if (event.id() != null) {
+            builder.id(String.valueOf(event.id()));
+        }
+        if (EVENT_UNREAD_COUNT.equals(event.name())) {
+            builder.reconnectTime(reconnectMs);
+        }
+        return builder;
+    }
+
+    /**
+     * Bağlantıyı kapalı işaretler ve kayıttan çıkarır; emitter'ı yazar thread'i kapatır. Çalışan bir
+     * drain varsa kapanışı o yapar, yoksa kapatmak için yeni bir drain kuyruğa alınır.
+     */
+    private void drop(Subscriber subscriber) {
+        boolean needsWriter = subscriber.close(false);
+        remove(subscriber);
+        if (needsWriter) {
+            schedule(subscriber);
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.userId, (id, list) -> {
+            list.remove(subscriber);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    action.run();
+                }
+            }
+        });
+    }
+
+    /**
+     * name null ise heartbeat yorumudur.
+     */
+    private record Event(Long id, String name, Object data) {
+    }
+
+    // Drain'e emitter'ı kapatmasını söyler; gönderilmez
+    private static final Event FINISH = new Event(null, null, null);
+
+    private enum Offer { QUEUED, SCHEDULE, FULL }
+
+    /**
+     * Tek bağlantının bekleyen olayları. Açılışta replay bitene kadar tutulur (held); en fazla bir
+     * drain görevi çalışır (draining), böylece emitter'a aynı anda tek thread yazar ve onu tek thread kapatır.
+     */
+    private static final class Subscriber {
+
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final ArrayDeque<Event> pending = new ArrayDeque<>();
+        private final ArrayDeque<Event> live = new ArrayDeque<>();
+        private boolean held = true;
+        private boolean draining;
+        private boolean closed;
+        private boolean finished;
+
+        private Subscriber(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        synchronized void offerReplay(Event event) {
+            pending.add(event);
+        }
+
+        synchronized Offer offer(Event event, int maxPending) {
+            if (closed) {
+                return Offer.QUEUED;
+            }
+            ArrayDeque<Event> queue = held ? live : pending;
+            if (queue.size() >= maxPending) {
+                return Offer.FULL;
+            }
+            queue.add(event);
+            if (held || draining) {
+                return Offer.QUEUED;
+            }
+            draining = true;
+            return Offer.SCHEDULE;
+        }
+
+        /**
+         * Replay sırasında bekleyen canlı olayları kuyruğa ekler; replay'de gönderilmiş bildirimler atlanır.
+         */
+        synchronized boolean release(long lastReplayedId) {
+            for (Event event : live) {
+                if (event.id() == null || event.id() > lastReplayedId) {
+                    pending.add(event);
+                }
+            }
+            live.clear();
+            held = false;
+            if (closed ? finished : pending.isEmpty()) {
+                return false;
+            }
+            draining = true;
+            return true;
+        }
+
+        synchronized Event next() {
+            if (closed && !finished) {
+                finished = true;
+                return FINISH;
+            }
+            Event event = closed ? null : pending.poll();
+            if (event == null) {
+                draining = false;
+            }
+            return event;
+        }
+
+        /**
+         * Bağlantıyı kapalı işaretler. finished ise emitter zaten kapanmıştır (kopan bağlantı) ya da
+         * kapatılamayacaktır. Emitter'ı kapatacak bir drain başlatılması gerekiyorsa true döner.
+         */
+        synchronized boolean close(boolean finished) {
+            if (closed) {
+                return false;
+            }
+            closed = true;
+            this.finished = finished;
+            pending.clear();
+            live.clear();
+            if (finished || draining || held) {
+                return false;
+            }
+            draining = true;
+            return true;
+        }
+    }
+}
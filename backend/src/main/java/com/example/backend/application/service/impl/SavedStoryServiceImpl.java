@@ -1,20 +1,27 @@
 package com.example.backend.application.service.impl;
 
+import com.example.backend.application.dto.response.CursorPageResponse;
 import com.example.backend.application.dto.response.StoryResponse;
+import com.example.backend.application.exception.BadRequestException;
 import com.example.backend.application.exception.ResourceNotFoundException;
 import com.example.backend.application.service.SavedStoryService;
 import com.example.backend.domain.entity.SavedStory;
-import com.example.backend.domain.entity.Story;
-import com.example.backend.domain.entity.User;
+import com.example.backend.domain.projection.SavedStoryCardView;
+import com.example.backend.domain.projection.StoryCardView;
 import com.example.backend.domain.repository.SavedStoryRepository;
 import com.example.backend.domain.repository.StoryRepository;
 import com.example.backend.domain.repository.UserRepository;
+import com.example.backend.infrastructure.util.CursorUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Service
 @Transactional
 public class SavedStoryServiceImpl implements SavedStoryService {
@@ -30,22 +37,18 @@ public class SavedStoryServiceImpl implements SavedStoryService {
 
     @Override
     public void saveStory(Long userId, Long storyId) {
-        if (savedStoryRepository.existsByUserIdAndStoryId(userId, storyId)) {
-            return; // Zaten kayıtlı
+        // Tek ifadede ekler ya da kaldırılmış kaydı yeniden açar; 0 ise zaten kayıtlı veya kayıt eksik
+        if (savedStoryRepository.upsertActive(userId, storyId, LocalDateTime.now()) > 0) {
+            return;
         }
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("Kullanıcı bulunamadı"));
-
-        Story story = storyRepository.findById(storyId)
-                .orElseThrow(() -> new ResourceNotFoundException("Story bulunamadı"));
-
-        SavedStory savedStory = new SavedStory();
-        savedStory.setUser(user);
-        savedStory.setStory(story);
-        savedStory.setIsActive(true);
-
-        savedStoryRepository.save(savedStory);
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("Kullanıcı bulunamadı");
+        }
+        if (!storyRepository.existsById(storyId)) {
+            throw new ResourceNotFoundException("Story bulunamadı");
+        }
+        // Zaten kayıtlı
     }
 
     @Override
@@ -66,38 +69,48 @@ public class SavedStoryServiceImpl implements SavedStoryService {
     @Override
     @Transactional(readOnly = true)
     public Page<StoryResponse> findByUserId(Long userId, Pageable pageable) {
-        return savedStoryRepository.findByUserId(userId, pageable)
-                .map(savedStory -> toStoryResponse(savedStory.getStory()));
+        return savedStoryRepository.findStoryCardsByUserId(userId, pageable)
+                .map(this::toStoryResponse);
     }
 
-    private StoryResponse toStoryResponse(Story story) {
-        StoryResponse response = new StoryResponse();
-        response.setId(story.getId());
-        response.setBaslik(story.getTitle());
-        response.setSlug(story.getSlug());
-        response.setOzet(story.getSummary());
-        response.setContent(story.getContent()); // İçerik eklendi
-        response.setIcerik(story.getContent()); // Backward compatibility için
-        response.setKapakResmiUrl(story.getCoverImageUrl());
-        response.setDurum(story.getStatus());
-        response.setYayinlanmaTarihi(story.getPublishedAt());
-        response.setOkunmaSayisi(story.getViewCount());
-        response.setBegeniSayisi(story.getLikeCount());
-        response.setYorumSayisi(story.getCommentCount());
-        response.setMetaDescription(story.getMetaDescription());
-        response.setKullaniciId(story.getUser().getId());
-        response.setKullaniciAdi(story.getUser().getUsername());
-        // Yazarın rollerini ekle
-        response.setKullaniciRolleri(story.getUser().getRoles().stream()
-                .map(role -> role.getName())
-                .collect(java.util.stream.Collectors.toSet()));
-        if (story.getCategory() != null) {
-            response.setKategoriId(story.getCategory().getId());
-            response.setKategoriAdi(story.getCategory().getName());
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<StoryResponse> findFeedByUserId(Long userId, String cursor, int size) {
+        Long cursorId;
+        try {
+            cursorId = cursor == null || cursor.isBlank() ? Long.MAX_VALUE : CursorUtil.decodeId(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Geçersiz sayfa imleci");
         }
-        response.setCreatedAt(story.getCreatedAt());
-        response.setUpdatedAt(story.getUpdatedAt());
+
+        List<SavedStoryCardView> rows = savedStoryRepository.findStoryCardFeedByUserId(
+                userId, cursorId, PageRequest.of(0, size + 1));
+        boolean hasMore = rows.size() > size;
+        List<SavedStoryCardView> page = hasMore ? rows.subList(0, size) : rows;
+        String nextCursor = hasMore ? CursorUtil.encode(page.get(page.size() - 1).getSavedId()) : null;
+        return new CursorPageResponse<>(page.stream().map(this::toStoryResponse).toList(), nextCursor, hasMore);
+    }
+
+    private StoryResponse toStoryResponse(StoryCardView card) {
+        StoryResponse response = new StoryResponse();
+        response.setId(card.getId());
+        response.setBaslik(card.getTitle());
+        response.setSlug(card.getSlug());
+        response.setOzet(card.getSummary());
+        response.setKapakResmiUrl(card.getCoverImageUrl());
+        response.setDurum(card.getStatus());
+        response.setYayinlanmaTarihi(card.getPublishedAt());
+        response.setOkunmaSayisi(card.getViewCount());
+        response.setBegeniSayisi(card.getLikeCount());
+        response.setYorumSayisi(card.getCommentCount());
+        response.setMetaDescription(card.getMetaDescription());
+        response.setKullaniciId(card.getUserId());
+        response.setKullaniciAdi(card.getUsername());
+        response.setKategoriId(card.getCategoryId());
+        response.setKategoriAdi(card.getCategoryName());
+        response.setCreatedAt(card.getCreatedAt());
+        response.setUpdatedAt(card.getUpdatedAt());
+        response.setOkumaSuresi(card.getReadTime());
         return response;
     }
 }
-
@@ -0,0 +1,130 @@
+package com.example.backend.application.service.impl;
+
+import com.example.backend.application.service.StoryCounterService;
+import com.example.backend.domain.entity.Story;
+import com.example.backend.domain.repository.StoryRepository;
+import com.example.backend.infrastructure.cache.StoryResponseCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.hibernate.Hibernate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Story beğeni ve yorum sayaçlarını entity üzerinden oku-değiştir-yaz yerine tek satırlık
+ * "kolon = kolon + delta" UPDATE'leriyle değiştirir. Eşzamanlı beğenilerde artış kaybolmaz ve
+ * her beğeni story satırının tamamını (icerik dahil) yeniden yazmaz. Sayaç kolonları entity'de
+ * updatable = false olduğu için Story kaydı sayaçların üzerine eski değer yazamaz.
+ * Güncelleme çağıranın transaction'ına katılır.
+ */
+@Service
+public class StoryCounterServiceImpl implements StoryCounterService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StoryCounterServiceImpl.class);
+
+    private static final String ADJUST_LIKES_SQL =
+            "UPDATE stories SET begeni_sayisi = GREATEST(COALESCE(begeni_sayisi, 0) + ?, 0) WHERE id = ? RETURNING begeni_sayisi";
+
+    private static final String ADJUST_COMMENTS_SQL =
+            "UPDATE stories SET yorum_sayisi = GREATEST(COALESCE(yorum_sayisi, 0) + ?, 0) WHERE id = ? RETURNING yorum_sayisi";
+
+    // Sayacı tablodaki satır sayısından farklı olan story'ler; sadece okuma yapar, kilit almaz
+    private static final String DRIFTED_STORIES_SQL =
+            "SELECT s.id FROM stories s " +
+            "LEFT JOIN (SELECT story_id, COUNT(*) AS adet FROM likes WHERE is_active = true GROUP BY story_id) b " +
+            "ON b.story_id = s.id " +
+            "LEFT JOIN (SELECT story_id, COUNT(*) AS adet FROM yorumlar WHERE is_active = true GROUP BY story_id) y " +
+            "ON y.story_id = s.id " +
+            "WHERE COALESCE(s.begeni_sayisi, 0) <> COALESCE(b.adet, 0) " +
+            "OR COALESCE(s.yorum_sayisi, 0) <> COALESCE(y.adet, 0) " +
+            "ORDER BY s.id";
+
+    private static final String LOCK_STORY_SQL = "SELECT id FROM stories WHERE id = ? FOR UPDATE";
+
+    private static final String RECOMPUTE_SQL =
+            "UPDATE stories SET " +
+            "begeni_sayisi = (SELECT COUNT(*) FROM likes WHERE story_id = ? AND is_active = true), " +
+            "yorum_sayisi = (SELECT COUNT(*) FROM yorumlar WHERE story_id = ? AND is_active = true) " +
+            "WHERE id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private StoryRepository storyRepository;
+
+    @Autowired
+    private StoryResponseCache storyResponseCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Counter reconciledCounter;
+
+    @PostConstruct
+    void registerMetrics() {
+        reconciledCounter = Counter.builder("story.counters.reconciled")
+                .description("Uzlaştırmada sayacı düzeltilen story sayısı; sıfırdan farklıysa bir yolda sayaç kayıyor")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public long adjustLikeCount(Long storyId, long delta) {
+        long likeCount = jdbcTemplate.queryForObject(ADJUST_LIKES_SQL, Long.class, delta, storyId);
+        syncLoadedStory(storyId, likeCount, Story::setLikeCount);
+        storyResponseCache.invalidateAfterCommit(storyId);
+        return likeCount;
+    }
+
+    @Override
+    public long adjustCommentCount(Long storyId, long delta) {
+        long commentCount = jdbcTemplate.queryForObject(ADJUST_COMMENTS_SQL, Long.class, delta, storyId);
+        syncLoadedStory(storyId, commentCount, Story::setCommentCount);
+        storyResponseCache.invalidateAfterCommit(storyId);
+        return commentCount;
+    }
+
+    /**
+     * Story aynı persistence context'te zaten yüklüyse yeni değeri ona da yazar, böylece transaction'ın
+     * geri kalanı eski sayacı görmez. Yüklü değilse referans sadece proxy'dir; sorgu atılmaz.
+     */
+    private void syncLoadedStory(Long storyId, long value, BiConsumer<Story, Long> setter) {
+        Story story = storyRepository.getReferenceById(storyId);
+        if (story != null && Hibernate.isInitialized(story)) {
+            setter.accept(story, value);
+        }
+    }
+
+    @Override
+    @Scheduled(cron = "${story.counters.reconcile-cron:0 30 3 * * *}")
+    public int reconcile() {
+        List<Long> drifted = jdbcTemplate.queryForList(DRIFTED_STORIES_SQL, Long.class);
+        for (Long storyId : drifted) {
+            // Önce satır kilitlenir: o an beğeni/yorum yazan transaction'lar commit edene kadar beklenir ve
+            // sayım, kilit alındıktan sonra başlayan yeni bir snapshot ile yapılır. Kilit tutulurken gelen
+            // yeni beğeniler sayaç UPDATE'inde bekler ve kendi artışlarını uzlaştırmadan sonra uygular.
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.queryForList(LOCK_STORY_SQL, Long.class, storyId);
+                jdbcTemplate.update(RECOMPUTE_SQL, storyId, storyId, storyId);
+                storyResponseCache.invalidateAfterCommit(storyId);
+            });
+        }
+        if (!drifted.isEmpty()) {
+            reconciledCounter.increment(drifted.size());
+            logger.warn("Sayaç uzlaştırması {} story'nin beğeni/yorum sayısını düzeltti", drifted.size());
+        }
+        return drifted.size();
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.backend.application.service.impl;
+
+import com.example.backend.application.dto.response.StoryResponse;
+import com.example.backend.application.service.StorySearchService;
+import com.example.backend.domain.entity.Story;
+import com.example.backend.domain.projection.StoryCardView;
+import com.example.backend.domain.projection.StorySearchView;
+import com.example.backend.domain.repository.StoryRepository;
+import com.example.backend.infrastructure.search.StorySearchIndex;
+import com.example.backend.infrastructure.util.SearchHighlightUtil;
+import com.example.backend.infrastructure.util.TurkishCharacterUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * stories.arama_vektoru üzerinde PostgreSQL tam metin araması. Sorgu, vektörle aynı kurallarla
+ * katlanır; her terim önek olarak aranır ki Türkçe ekli kelimeler de eşleşsin
+ * ("haber" -> "haberler"). Sıralama ts_rank ile, başlık eşleşmeleri önce gelecek şekilde yapılır.
+ * story.search.engine=memory iken aynı terimler bellek içi indekste BM25 ile aranır ve veritabanından
+ * sadece bulunan sayfanın kartları okunur.
+ */
+@Service
+@Transactional(readOnly = true)
+public class StorySearchServiceImpl implements StorySearchService {
+
+    // Çok terimli sorgular GIN indeksinde her terim için ayrı liste birleştirir; üst sınır maliyeti sınırlar
+    static final int MAX_TERMS = 8;
+
+    @Autowired
+    private StoryRepository storyRepository;
+
+    @Autowired
+    private StorySearchIndex storySearchIndex;
+
+    @Value("${story.search.engine:fulltext}")
+    private String searchEngine;
+
+    @Override
+    public Page<StoryResponse> search(String query, Pageable pageable) {
+        // Native sorgu kendi ORDER BY'ını kullanır; istekteki Sort eklenirse SQL bozulur
+        Pageable page = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+
+        List<String> terms = TurkishCharacterUtil.searchTerms(query);
+        if (terms.isEmpty()) {
+            return Page.empty(page);
+        }
+        if (terms.size() > MAX_TERMS) {
+            terms = terms.subList(0, MAX_TERMS);
+        }
+
+        if ("memory".equals(searchEngine)) {
+            return searchInMemory(terms, page);
+        }
+
+        String tsquery = terms.stream()
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
+
+        List<String> highlightTerms = terms;
+        return storyRepository.fullTextSearch(tsquery, terms.get(0), Story.StoryStatus.YAYINLANDI.name(), page)
+                .map(view -> toResponse(view, view.getSnippet(), highlightTerms));
+    }
+
+    private Page<StoryResponse> searchInMemory(List<String> terms, Pageable page) {
+        StorySearchIndex.SearchResult result = storySearchIndex.search(terms, (int) page.getOffset(), page.getPageSize());
+        if (result.storyIds().isEmpty()) {
+            return new PageImpl<>(List.of(), page, result.total());
+        }
+
+        Map<Long, StoryCardView> cards = storyRepository.findCardsByIdIn(result.storyIds()).stream()
+                .collect(Collectors.toMap(StoryCardView::getId, Function.identity()));
+        List<StoryResponse> responses = new ArrayList<>(result.storyIds().size());
+        for (Long id : result.storyIds()) {
+            StoryCardView card = cards.get(id);
+            // İndeks commit sonrası güncellenir; arada silinen story atlanır
+            if (card != null) {
+                responses.add(toResponse(card, card.getSummary(), terms));
+            }
+        }
+        return new PageImpl<>(responses, page, result.total());
+    }
+
+    private StoryResponse toResponse(StoryCardView view, String snippet, List<String> terms) {
+        StoryResponse response = new StoryResponse();
+        response.setId(view.getId());
+        response.setBaslik(view.getTitle());
+        response.setSlug(view.getSlug());
+        response.setOzet(view.getSummary());
+        response.setKapakResmiUrl(view.getCoverImageUrl());
+        response.setDurum(view.getStatus());
+        response.setYayinlanmaTarihi(view.getPublishedAt());
+        response.setOkunmaSayisi(view.getViewCount());
+        response.setBegeniSayisi(view.getLikeCount());
+        response.setYorumSayisi(view.getCommentCount());
+        response.setIsEditorPick(view.getIsEditorPick());
+        response.setMetaDescription(view.getMetaDescription());
+        response.setKullaniciId(view.getUserId());
+        response.setKullaniciAdi(view.getUsername());
+        response.setKategoriId(view.getCategoryId());
+        response.setKategoriAdi(view.getCategoryName());
+        response.setCreatedAt(view.getCreatedAt());
+        response.setUpdatedAt(view.getUpdatedAt());
+        response.setOkumaSuresi(view.getReadTime());
+        response.setVurguluBaslik(SearchHighlightUtil.highlight(view.getTitle(), terms));
+        response.setVurguluParca(SearchHighlightUtil.highlight(snippet, terms));
+        return response;
+    }
+}
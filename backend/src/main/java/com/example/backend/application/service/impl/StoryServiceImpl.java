@@ -2,18 +2,30 @@ package com.example.backend.application.service.impl;
 
 import com.example.backend.application.dto.request.StoryCreateRequest;
 import com.example.backend.application.dto.request.StoryUpdateRequest;
+import com.example.backend.application.dto.request.TagCreateRequest;
+import com.example.backend.application.dto.response.CursorPageResponse;
 import com.example.backend.application.dto.response.StoryResponse;
 import com.example.backend.application.exception.BadRequestException;
 import com.example.backend.application.exception.ResourceNotFoundException;
-import com.example.backend.application.service.NotificationService;
+import com.example.backend.application.service.NotificationFanoutService;
+import com.example.backend.application.service.StorySearchService;
 import com.example.backend.application.service.StoryService;
+import com.example.backend.application.service.TagService;
+import com.example.backend.application.service.ViewCountService;
 import com.example.backend.domain.entity.*;
+import com.example.backend.domain.projection.StoryCardView;
 import com.example.backend.domain.repository.*;
+import com.example.backend.infrastructure.cache.StoryResponseCache;
+import com.example.backend.infrastructure.search.StorySearchIndex;
+import com.example.backend.infrastructure.util.CursorUtil;
 import com.example.backend.infrastructure.util.SlugUtil;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -39,10 +51,28 @@ public class StoryServiceImpl implements StoryService {
     private TagRepository tagRepository;
 
     @Autowired
-    private FollowRepository followRepository;
+    private TagService tagService;
 
     @Autowired
-    private NotificationService notificationService;
+    private NotificationFanoutService notificationFanoutService;
+
+    @Autowired
+    private ViewCountService viewCountService;
+
+    @Autowired
+    private StorySearchService storySearchService;
+
+    @Autowired
+    private StorySearchIndex storySearchIndex;
+
+    @Autowired
+    private StoryResponseCache storyResponseCache;
+
+    private static final LocalDateTime FEED_START = LocalDateTime.of(9999, 12, 31, 23, 59);
+
+    // fulltext: tsvector + GIN indeksi, memory: bellek içi ters indeks, like: eski REPLACE/LIKE taraması
+    @Value("${story.search.engine:fulltext}")
+    private String searchEngine;
 
     @Override
     public StoryResponse create(Long userId, StoryCreateRequest request) {
@@ -75,101 +105,112 @@ public class StoryServiceImpl implements StoryService {
 
         // Etiketleri ekle
         if (request.getEtiketler() != null && !request.getEtiketler().isEmpty()) {
-            Set<Tag> tags = new HashSet<>();
-            for (String tagName : request.getEtiketler()) {
-                Tag tag = tagRepository.findByName(tagName)
-                        .orElseGet(() -> {
-                            Tag newTag = new Tag();
-                            newTag.setName(tagName);
-                            newTag.setSlug(generateUniqueTagSlug(tagName));
-                            return tagRepository.save(newTag);
-                        });
-                tags.add(tag);
-            }
-            story.setTags(tags);
+            story.setTags(resolveTags(request.getEtiketler()));
         }
 
         story = storyRepository.save(story);
+        storySearchIndex.updateAfterCommit(story);
         return toResponse(story);
     }
 
+    // Detay uçları önbellekten okunur; transaction (ve bağlantı) sadece ıskalamada repository çağrısıyla açılır.
+    // Entity graph yanıt için gereken her şeyi yüklediği için toResponse lazy yükleme yapmaz.
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public StoryResponse findById(Long id) {
-        Story story = storyRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Story bulunamadı"));
-        return toResponse(story);
+        return storyResponseCache.getById(id, () -> toResponse(storyRepository.findDetailById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Story bulunamadı"))));
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public StoryResponse findBySlug(String slug) {
-        Story story = storyRepository.findBySlug(slug)
-                .orElseThrow(() -> new ResourceNotFoundException("Story bulunamadı"));
-        return toResponse(story);
+        StoryResponse response = storyResponseCache.getBySlug(slug, () -> toResponse(storyRepository.findBySlug(slug)
+                .orElseThrow(() -> new ResourceNotFoundException("Story bulunamadı"))));
+        // Okunma sayısı tamponlanır, periyodik flush ile veritabanına yazılır
+        if (response.getDurum() == Story.StoryStatus.YAYINLANDI) {
+            viewCountService.recordView(response.getId());
+        }
+        return response;
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<StoryResponse> findAll(Pageable pageable) {
-        return storyRepository.findAll(pageable)
-                .map(this::toResponse);
+        return storyRepository.findAllCards(pageable)
+                .map(this::toCardResponse);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<StoryResponse> findByUserId(Long userId, Pageable pageable) {
         return storyRepository.findByUserId(userId, pageable)
-                .map(this::toResponse);
+                .map(this::toCardResponse);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<StoryResponse> findByCategoryId(Long categoryId, Pageable pageable) {
         return storyRepository.findByCategoryId(categoryId, pageable)
-                .map(this::toResponse);
+                .map(this::toCardResponse);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<StoryResponse> findByStatus(Story.StoryStatus status, Pageable pageable) {
         // Repository'den veriyi al
-        Page<Story> storyPage = storyRepository.findByStatus(status, pageable);
+        Page<StoryCardView> storyPage = storyRepository.findByStatus(status, pageable);
         
         // İçeriği ID'ye göre DESC sırala (ekstra güvenlik için)
-        java.util.List<Story> sortedStories = storyPage.getContent().stream()
+        java.util.List<StoryCardView> sortedStories = storyPage.getContent().stream()
             .sorted((s1, s2) -> Long.compare(s2.getId(), s1.getId()))
             .collect(java.util.stream.Collectors.toList());
         
         // Yeni Page oluştur
-        Page<Story> sortedStoryPage = new org.springframework.data.domain.PageImpl<>(
+        Page<StoryCardView> sortedStoryPage = new org.springframework.data.domain.PageImpl<>(
             sortedStories, 
             pageable, 
             storyPage.getTotalElements()
         );
         
-        return sortedStoryPage.map(this::toResponse);
+        return sortedStoryPage.map(this::toCardResponse);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<StoryResponse> findPublishedStories(Pageable pageable) {
         return storyRepository.findPublishedStories(Story.StoryStatus.YAYINLANDI, pageable)
-                .map(this::toResponse);
+                .map(this::toCardResponse);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<StoryResponse> findPublishedFeed(String cursor, int size) {
+        CursorUtil.TimeKey key = decodeFeedCursor(cursor);
+        return toFeedPage(storyRepository.findPublishedFeed(Story.StoryStatus.YAYINLANDI,
+                key.timestamp(), key.id(), PageRequest.of(0, size + 1)), size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<StoryResponse> findCategoryFeed(Long categoryId, String cursor, int size) {
+        CursorUtil.TimeKey key = decodeFeedCursor(cursor);
+        return toFeedPage(storyRepository.findCategoryFeed(categoryId, Story.StoryStatus.YAYINLANDI,
+                key.timestamp(), key.id(), PageRequest.of(0, size + 1)), size);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<StoryResponse> findPopularStories(Pageable pageable) {
         return storyRepository.findPopularStories(Story.StoryStatus.YAYINLANDI, pageable)
-                .map(this::toResponse);
+                .map(this::toCardResponse);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<StoryResponse> findEditorPicks(Pageable pageable) {
         return storyRepository.findEditorPicks(Story.StoryStatus.YAYINLANDI, pageable)
-                .map(this::toResponse);
+                .map(this::toCardResponse);
     }
 
     @Override
@@ -185,20 +226,24 @@ public class StoryServiceImpl implements StoryService {
         
         story.setIsEditorPick(!story.getIsEditorPick());
         storyRepository.save(story);
+        storyResponseCache.invalidateAfterCommit(story.getId());
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<StoryResponse> search(String query, Pageable pageable) {
+        if (!"like".equals(searchEngine)) {
+            return storySearchService.search(query, pageable);
+        }
         return storyRepository.searchStories(query, Story.StoryStatus.YAYINLANDI, pageable)
-                .map(this::toResponse);
+                .map(this::toCardResponse);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<StoryResponse> findByTagId(Long tagId, Pageable pageable) {
         return storyRepository.findByTagId(tagId, Story.StoryStatus.YAYINLANDI, pageable)
-                .map(this::toResponse);
+                .map(this::toCardResponse);
     }
 
     @Override
@@ -241,21 +286,12 @@ public class StoryServiceImpl implements StoryService {
 
         // Etiketleri güncelle
         if (request.getEtiketler() != null) {
-            Set<Tag> tags = new HashSet<>();
-            for (String tagName : request.getEtiketler()) {
-                Tag tag = tagRepository.findByName(tagName)
-                        .orElseGet(() -> {
-                            Tag newTag = new Tag();
-                            newTag.setName(tagName);
-                            newTag.setSlug(generateUniqueTagSlug(tagName));
-                            return tagRepository.save(newTag);
-                        });
-                tags.add(tag);
-            }
-            story.setTags(tags);
+            story.setTags(resolveTags(request.getEtiketler()));
         }
 
         story = storyRepository.save(story);
+        storySearchIndex.updateAfterCommit(story);
+        storyResponseCache.invalidateAfterCommit(story.getId());
         return toResponse(story);
     }
 
@@ -270,6 +306,8 @@ public class StoryServiceImpl implements StoryService {
 
         story.setIsActive(false);
         storyRepository.save(story);
+        storySearchIndex.updateAfterCommit(story);
+        storyResponseCache.invalidateAfterCommit(story.getId());
     }
 
     @Override
@@ -283,6 +321,8 @@ public class StoryServiceImpl implements StoryService {
 
         story.setStatus(Story.StoryStatus.YAYIN_BEKLIYOR);
         storyRepository.save(story);
+        storySearchIndex.updateAfterCommit(story);
+        storyResponseCache.invalidateAfterCommit(story.getId());
     }
 
     @Override
@@ -293,25 +333,23 @@ public class StoryServiceImpl implements StoryService {
         story.setStatus(Story.StoryStatus.YAYINLANDI);
         story.setPublishedAt(LocalDateTime.now());
         storyRepository.save(story);
+        storySearchIndex.updateAfterCommit(story);
+        storyResponseCache.invalidateAfterCommit(story.getId());
 
-        // Takip eden kullanıcılara bildirim gönder
+        // Takip eden kullanıcılara bildirim - sadece kuyruğa alınır, gönderim commit sonrası arka planda yapılır
         Long authorId = story.getUser().getId();
-        List<User> followers = followRepository.findFollowersByFollowedId(authorId);
         
         String authorName = story.getUser().getUsername() != null 
             ? story.getUser().getUsername() 
             : (story.getUser().getFirstName() != null ? story.getUser().getFirstName() : "Bir yazar");
         
-        for (User follower : followers) {
-            notificationService.createNotification(
-                follower.getId(),
-                "Yeni İçerik",
-                authorName + " yeni bir içerik yayınladı: " + story.getTitle(),
-                Notification.NotificationType.HABER_YAYINLANDI,
-                story.getId(),
-                null
-            );
-        }
+        notificationFanoutService.enqueueForFollowers(
+            authorId,
+            "Yeni İçerik",
+            authorName + " yeni bir içerik yayınladı: " + story.getTitle(),
+            Notification.NotificationType.HABER_YAYINLANDI,
+            story.getId()
+        );
     }
 
     @Override
@@ -321,6 +359,8 @@ public class StoryServiceImpl implements StoryService {
 
         story.setStatus(Story.StoryStatus.REDDEDILDI);
         storyRepository.save(story);
+        storySearchIndex.updateAfterCommit(story);
+        storyResponseCache.invalidateAfterCommit(story.getId());
     }
 
     private String generateUniqueSlug(String baslik) {
@@ -336,17 +376,20 @@ public class StoryServiceImpl implements StoryService {
         return slug;
     }
 
-    private String generateUniqueTagSlug(String tagName) {
-        String baseSlug = SlugUtil.toSlug(tagName);
-        String slug = baseSlug;
-        int counter = 1;
-
-        while (tagRepository.existsBySlug(slug)) {
-            slug = baseSlug + "-" + counter;
-            counter++;
+    /**
+     * Etiket id'leri önbellekten çözülür ve ilişki sadece referansla kurulur; mevcut etiketler için
+     * sorgu atılmaz. Olmayan etiket TagService ile oluşturulur ki etiket önbellekleri de temizlensin.
+     */
+    private Set<Tag> resolveTags(List<String> tagNames) {
+        Set<Tag> tags = new HashSet<>();
+        for (String tagName : tagNames) {
+            Long tagId = tagService.findIdByName(tagName);
+            if (tagId == null) {
+                tagId = tagService.create(new TagCreateRequest(tagName)).getId();
+            }
+            tags.add(tagRepository.getReferenceById(tagId));
         }
-
-        return slug;
+        return tags;
     }
 
     private StoryResponse toResponse(Story story) {
@@ -379,5 +422,57 @@ public class StoryServiceImpl implements StoryService {
         response.setUpdatedAt(story.getUpdatedAt());
         return response;
     }
-}
 
+    // İlk sayfada imleç yok; her yayın tarihinden büyük anahtar tüm satırları kapsar
+    private CursorUtil.TimeKey decodeFeedCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return new CursorUtil.TimeKey(FEED_START, Long.MAX_VALUE);
+        }
+        try {
+            return CursorUtil.decodeTimeKey(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Geçersiz sayfa imleci");
+        }
+    }
+
+    /**
+     * size + 1 satır okunur; fazladan satır varsa sonraki sayfa vardır ve imleç sayfanın son kartından üretilir.
+     */
+    private CursorPageResponse<StoryResponse> toFeedPage(List<StoryCardView> cards, int size) {
+        boolean hasMore = cards.size() > size;
+        List<StoryCardView> page = hasMore ? cards.subList(0, size) : cards;
+        String nextCursor = null;
+        if (hasMore) {
+            StoryCardView last = page.get(page.size() - 1);
+            nextCursor = CursorUtil.encode(last.getPublishedAt(), last.getId());
+        }
+        return new CursorPageResponse<>(page.stream().map(this::toCardResponse).toList(), nextCursor, hasMore);
+    }
+
+    /**
+     * Akış kartları için yanıt; içerik ve yazar rolleri sadece detay uçlarında (findById/findBySlug) döner.
+     */
+    private StoryResponse toCardResponse(StoryCardView card) {
+        StoryResponse response = new StoryResponse();
+        response.setId(card.getId());
+        response.setBaslik(card.getTitle());
+        response.setSlug(card.getSlug());
+        response.setOzet(card.getSummary());
+        response.setKapakResmiUrl(card.getCoverImageUrl());
+        response.setDurum(card.getStatus());
+        response.setYayinlanmaTarihi(card.getPublishedAt());
+        response.setOkunmaSayisi(card.getViewCount());
+        response.setBegeniSayisi(card.getLikeCount());
+        response.setYorumSayisi(card.getCommentCount());
+        response.setIsEditorPick(card.getIsEditorPick());
+        response.setMetaDescription(card.getMetaDescription());
+        response.setKullaniciId(card.getUserId());
+        response.setKullaniciAdi(card.getUsername());
+        response.setKategoriId(card.getCategoryId());
+        response.setKategoriAdi(card.getCategoryName());
+        response.setCreatedAt(card.getCreatedAt());
+        response.setUpdatedAt(card.getUpdatedAt());
+        response.setOkumaSuresi(card.getReadTime());
+        return response;
+    }
+}
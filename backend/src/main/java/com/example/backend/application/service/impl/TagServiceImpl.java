@@ -7,8 +7,11 @@ import com.example.backend.application.exception.ResourceNotFoundException;
 import com.example.backend.application.service.TagService;
 import com.example.backend.domain.entity.Tag;
 import com.example.backend.domain.repository.TagRepository;
+import com.example.backend.infrastructure.cache.CacheNames;
 import com.example.backend.infrastructure.util.SlugUtil;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -25,6 +28,7 @@ public class TagServiceImpl implements TagService {
     private TagRepository tagRepository;
 
     @Override
+    @CacheEvict(cacheNames = {CacheNames.TAGS, CacheNames.TAG_BY_SLUG, CacheNames.TAG_ID_BY_NAME}, allEntries = true)
     public TagResponse create(TagCreateRequest request) {
         if (tagRepository.existsByName(request.getName())) {
             throw new BadRequestException("Bu etiket adı zaten kullanılıyor");
@@ -48,6 +52,7 @@ public class TagServiceImpl implements TagService {
     }
 
     @Override
+    @Cacheable(cacheNames = CacheNames.TAG_BY_SLUG, key = "#slug")
     @Transactional(readOnly = true)
     public TagResponse findBySlug(String slug) {
         Tag tag = tagRepository.findBySlug(slug)
@@ -56,6 +61,7 @@ public class TagServiceImpl implements TagService {
     }
 
     @Override
+    @Cacheable(cacheNames = CacheNames.TAGS, key = "'active'")
     @Transactional(readOnly = true)
     public List<TagResponse> findAll() {
         return tagRepository.findByIsActiveTrue().stream()
@@ -63,6 +69,13 @@ public class TagServiceImpl implements TagService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Cacheable(cacheNames = CacheNames.TAG_ID_BY_NAME, key = "#name", unless = "#result == null")
+    @Transactional(readOnly = true)
+    public Long findIdByName(String name) {
+        return tagRepository.findIdByName(name).orElse(null);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<TagResponse> findAll(Pageable pageable) {
@@ -71,6 +84,7 @@ public class TagServiceImpl implements TagService {
     }
 
     @Override
+    @CacheEvict(cacheNames = {CacheNames.TAGS, CacheNames.TAG_BY_SLUG, CacheNames.TAG_ID_BY_NAME}, allEntries = true)
     public TagResponse update(Long id, TagCreateRequest request) {
         Tag tag = tagRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Etiket bulunamadı"));
@@ -94,6 +108,7 @@ public class TagServiceImpl implements TagService {
     }
 
     @Override
+    @CacheEvict(cacheNames = {CacheNames.TAGS, CacheNames.TAG_BY_SLUG, CacheNames.TAG_ID_BY_NAME}, allEntries = true)
     public void delete(Long id) {
         Tag tag = tagRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Etiket bulunamadı"));
@@ -10,6 +10,7 @@ import com.example.backend.domain.entity.User;
 import com.example.backend.domain.entity.Role;
 import com.example.backend.domain.repository.UserRepository;
 import com.example.backend.domain.repository.RoleRepository;
+import com.example.backend.infrastructure.security.VerifiedTokenCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -35,6 +36,9 @@ public class UserServiceImpl implements UserService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private VerifiedTokenCache verifiedTokenCache;
+
     @Override
     public UserResponse register(UserRegistrationRequest request) {
         if (userRepository.existsByEmail(request.getEmail())) {
@@ -150,6 +154,7 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new ResourceNotFoundException("Kullanıcı bulunamadı"));
         user.setIsActive(false);
         userRepository.save(user);
+        verifiedTokenCache.invalidateUser(id);
     }
 
     @Override
@@ -158,6 +163,8 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new ResourceNotFoundException("Kullanıcı bulunamadı"));
         user.setIsActive(active);
         userRepository.save(user);
+        // Hesap durumu değişti; önbellekteki doğrulanmış token'lar bir sonraki istekte yeniden doğrulanır
+        verifiedTokenCache.invalidateUser(id);
     }
 
     private UserResponse toResponse(User user) {
@@ -0,0 +1,175 @@
+package com.example.backend.application.service.impl;
+
+import com.example.backend.application.service.ViewCountService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Story okunma sayılarını bellekte LongAdder sayaçlarında biriktirir ve periyodik olarak
+ * tek bir JDBC batch ile veritabanına yazar. Böylece popüler bir haberin her okunması
+ * ayrı bir satır kilidine dönüşmez.
+ */
+@Service
+public class ViewCountServiceImpl implements ViewCountService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ViewCountServiceImpl.class);
+
+    private static final String INCREMENT_SQL =
+            "UPDATE stories SET okunma_sayisi = COALESCE(okunma_sayisi, 0) + ? WHERE id = ?";
+
+    // Bu kadar flush boyunca hiç okunmayan sayaçlar haritadan çıkarılır
+    private static final int IDLE_FLUSHES_BEFORE_EVICTION = 3;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final ConcurrentHashMap<Long, ViewCounter> counters = new ConcurrentHashMap<>();
+
+    // Haritadan çıkarılan sayaçlar bir flush daha bekletilir; o sırada artıran thread'lerin
+    // kalan değerleri bir sonraki flush'ta toplanır
+    private List<Map.Entry<Long, ViewCounter>> retiredCounters = new ArrayList<>();
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private Timer flushTimer;
+
+    @PostConstruct
+    void registerMetrics() {
+        flushTimer = Timer.builder("story.views.flush")
+                .description("Okunma sayısı tamponunun veritabanına yazılma süresi")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("story.views.buffer.stories", counters, Map::size)
+                .description("Tamponda sayacı bulunan story sayısı")
+                .register(meterRegistry);
+        Gauge.builder("story.views.buffer.views", this, ViewCountServiceImpl::getPendingViewCount)
+                .description("Henüz veritabanına yazılmamış okunma sayısı")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void recordView(Long storyId) {
+        if (storyId == null) {
+            return;
+        }
+        counters.computeIfAbsent(storyId, id -> new ViewCounter()).views.increment();
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${story.view-count.flush-interval-ms:5000}")
+    public int flush() {
+        flushLock.lock();
+        try {
+            Map<Long, Long> deltas = collectDeltas();
+            if (deltas.isEmpty()) {
+                return 0;
+            }
+
+            List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+            deltas.forEach((storyId, delta) -> batchArgs.add(new Object[]{delta, storyId}));
+
+            Timer.Sample sample = Timer.start(meterRegistry);
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INCREMENT_SQL, batchArgs));
+            } catch (RuntimeException e) {
+                // Yazılamayan değerleri tampona geri koy, bir sonraki flush'ta tekrar denenir
+                deltas.forEach((storyId, delta) ->
+                        counters.computeIfAbsent(storyId, id -> new ViewCounter()).views.add(delta));
+                logger.error("Okunma sayıları veritabanına yazılamadı ({} story)", deltas.size(), e);
+                return 0;
+            } finally {
+                sample.stop(flushTimer);
+            }
+
+            // Detay önbelleği geçersiz kılınmaz: okunan her haber her flush'ta atılırdı. Önbellekteki
+            // okunma sayısı en fazla önbellek TTL'i kadar geride kalır
+            logger.debug("{} story için okunma sayısı flush edildi", deltas.size());
+            return deltas.size();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    void drain() {
+        int flushed = flush();
+        logger.info("Kapanışta okunma tamponu boşaltıldı ({} story)", flushed);
+    }
+
+    @Override
+    public long getPendingViewCount() {
+        long pending = 0;
+        for (ViewCounter counter : counters.values()) {
+            pending += counter.views.sum();
+        }
+        return pending;
+    }
+
+    private Map<Long, Long> collectDeltas() {
+        // Sıralı id'ler, birden fazla instance flush ederken satır kilitlerinin aynı sırada alınmasını sağlar
+        Map<Long, Long> deltas = new TreeMap<>();
+
+        for (Map.Entry<Long, ViewCounter> retired : retiredCounters) {
+            long residual = drainCounter(retired.getValue());
+            if (residual > 0) {
+                deltas.merge(retired.getKey(), residual, Long::sum);
+            }
+        }
+        retiredCounters = new ArrayList<>();
+
+        for (Map.Entry<Long, ViewCounter> entry : counters.entrySet()) {
+            ViewCounter counter = entry.getValue();
+            long delta = drainCounter(counter);
+            if (delta > 0) {
+                deltas.merge(entry.getKey(), delta, Long::sum);
+                counter.idleFlushes = 0;
+            } else if (++counter.idleFlushes >= IDLE_FLUSHES_BEFORE_EVICTION
+                    && counters.remove(entry.getKey(), counter)) {
+                retiredCounters.add(Map.entry(entry.getKey(), counter));
+            }
+        }
+        return deltas;
+    }
+
+    /**
+     * Sayacın o anki değerini okuyup aynı miktarı düşer. sumThenReset'in aksine
+     * okuma ile sıfırlama arasında gelen artışlar kaybolmaz.
+     */
+    private long drainCounter(ViewCounter counter) {
+        long delta = counter.views.sum();
+        if (delta > 0) {
+            counter.views.add(-delta);
+        }
+        return delta;
+    }
+
+    private static final class ViewCounter {
+        private final LongAdder views = new LongAdder();
+        // Sadece flushLock altında değiştirilir
+        private int idleFlushes;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.backend.application.service.impl;
+
+import com.example.backend.application.dto.response.ViewerStateResponse;
+import com.example.backend.application.exception.BadRequestException;
+import com.example.backend.application.service.ViewerStateService;
+import com.example.backend.domain.repository.LikeRepository;
+import com.example.backend.domain.repository.SavedStoryRepository;
+import com.example.backend.domain.repository.StoryRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Akış kartlarındaki beğeni/kayıt/takip işaretleri için haber başına üç ayrı istek yerine sayfa başına
+ * üç sorgu. Her sorgu (kullanıcı, story) veya (takipçi, takip edilen) tekil indeksinin önekini kullanır.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ViewerStateServiceImpl implements ViewerStateService {
+
+    // Bir sayfada en fazla bu kadar kart olur; daha büyük listeler IN sorgusunu gereksiz büyütür
+    static final int MAX_STORY_IDS = 100;
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private SavedStoryRepository savedStoryRepository;
+
+    @Autowired
+    private StoryRepository storyRepository;
+
+    @Override
+    public ViewerStateResponse getViewerState(Long userId, Collection<Long> storyIds) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (Long id : storyIds) {
+            if (id != null) {
+                ids.add(id);
+            }
+        }
+        if (ids.size() > MAX_STORY_IDS) {
+            throw new BadRequestException("En fazla " + MAX_STORY_IDS + " haber için durum sorgulanabilir");
+        }
+        if (ids.isEmpty()) {
+            return new ViewerStateResponse(Set.of(), Set.of(), Set.of());
+        }
+
+        return new ViewerStateResponse(
+                new HashSet<>(likeRepository.findLikedStoryIds(userId, ids)),
+                new HashSet<>(savedStoryRepository.findSavedStoryIds(userId, ids)),
+                new HashSet<>(storyRepository.findFollowedAuthorIds(userId, ids)));
+    }
+}
@@ -10,7 +10,10 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "yorumlar")
+@Table(name = "yorumlar", indexes = {
+        @Index(name = "idx_yorum_story_ust_yorum", columnList = "story_id, ust_yorum_id, id"),
+        @Index(name = "idx_yorum_ust_yorum", columnList = "ust_yorum_id, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -9,6 +9,8 @@ import lombok.Setter;
 @Entity
 @Table(name = "takip", uniqueConstraints = {
         @UniqueConstraint(columnNames = {"takipci_id", "takip_edilen_id"})
+}, indexes = {
+        @Index(name = "idx_takip_edilen_takipci", columnList = "takip_edilen_id, takipci_id")
 })
 @Getter
 @Setter
@@ -33,7 +33,8 @@ public class ListEntity extends BaseEntity {
     @JoinColumn(name = "kullanici_id", nullable = false)
     private User user;
 
-    @ManyToMany(fetch = FetchType.EAGER)
+    // Liste yanıtları story kartlarını projeksiyonla okur; koleksiyon sadece ekleme/çıkarma için yüklenir
+    @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
             name = "list_stories",
             joinColumns = @JoinColumn(name = "list_id"),
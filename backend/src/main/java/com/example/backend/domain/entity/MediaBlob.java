@@ -0,0 +1,39 @@
+package com.example.backend.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * İçerik adresli depodaki tek bir dosya. Aynı içerik (SHA-256) kaç kez yüklenirse yüklensin diskte
+ * bir kez durur; MediaFile satırları aynı dosya yolunu paylaşır, son referans silinince dosya da silinir.
+ */
+@Entity
+@Table(name = "ortam_icerikleri")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MediaBlob extends BaseEntity {
+
+    @Column(name = "icerik_ozeti", nullable = false, unique = true, length = 64)
+    private String contentHash;
+
+    @Column(name = "dosya_yolu", nullable = false, unique = true, length = 500)
+    private String storagePath;
+
+    @Column(name = "mime_type", length = 100)
+    private String mimeType;
+
+    @Column(name = "dosya_boyutu")
+    private Long fileSize;
+
+    @Column(name = "referans_sayisi", nullable = false)
+    private Long refCount = 0L;
+
+    // Üretilmiş resim genişlikleri, virgülle ayrılmış (ör. 320,640)
+    @Column(name = "varyant_genislikleri", length = 100)
+    private String variantWidths;
+}
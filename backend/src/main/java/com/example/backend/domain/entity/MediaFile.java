@@ -7,7 +7,9 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "ortam_dosyalari")
+@Table(name = "ortam_dosyalari", indexes = {
+        @Index(name = "idx_ortam_dosya_yolu", columnList = "dosya_yolu")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -7,7 +7,10 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "bildirimler")
+@Table(name = "bildirimler", indexes = {
+        @Index(name = "idx_bildirim_kullanici_id", columnList = "kullanici_id, id"),
+        @Index(name = "idx_bildirim_kullanici_okundu_id", columnList = "kullanici_id, okundu, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
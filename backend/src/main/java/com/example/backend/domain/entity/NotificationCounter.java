@@ -0,0 +1,26 @@
+package com.example.backend.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Kullanıcının okunmamış bildirim sayısı. Sadece NotificationCounterService'in atomik UPDATE'leriyle
+ * değişir; bildirimler tablosundan periyodik olarak uzlaştırılır.
+ */
+@Entity
+@Table(name = "bildirim_sayaclari")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationCounter extends BaseEntity {
+
+    @Column(name = "kullanici_id", nullable = false, unique = true)
+    private Long userId;
+
+    @Column(name = "okunmamis_sayisi", nullable = false)
+    private Long unreadCount = 0L;
+}
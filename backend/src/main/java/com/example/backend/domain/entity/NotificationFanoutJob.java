@@ -0,0 +1,67 @@
+package com.example.backend.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Bir yazarın takipçilerine gönderilecek toplu bildirim işi. İşlenen son takipçi id'si
+ * (keyset imleci) her parçayla birlikte kaydedildiği için uygulama çökse bile iş
+ * kaldığı yerden devam eder.
+ */
+@Entity
+@Table(name = "bildirim_dagitim_isleri", indexes = {
+        @Index(name = "idx_bildirim_dagitim_durum", columnList = "durum, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationFanoutJob extends BaseEntity {
+
+    @Column(name = "yazar_id", nullable = false)
+    private Long authorId;
+
+    @Column(name = "ilgili_story_id")
+    private Long relatedStoryId;
+
+    @Column(name = "baslik", nullable = false, length = 200)
+    private String title;
+
+    @Column(name = "mesaj", nullable = false, length = 500)
+    private String message;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "tip", nullable = false, length = 50)
+    private Notification.NotificationType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "durum", nullable = false, length = 20)
+    private FanoutStatus status = FanoutStatus.BEKLIYOR;
+
+    @Column(name = "son_takipci_id", nullable = false)
+    private Long lastFollowerId = 0L;
+
+    @Column(name = "gonderilen_sayisi", nullable = false)
+    private Long deliveredCount = 0L;
+
+    @Column(name = "deneme_sayisi", nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "alinma_zamani")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "tamamlanma_zamani")
+    private LocalDateTime completedAt;
+
+    public enum FanoutStatus {
+        BEKLIYOR,
+        ISLENIYOR,
+        TAMAMLANDI,
+        BASARISIZ
+    }
+}
@@ -9,6 +9,8 @@ import lombok.Setter;
 @Entity
 @Table(name = "saved_stories", uniqueConstraints = {
         @UniqueConstraint(columnNames = {"kullanici_id", "story_id"})
+}, indexes = {
+        @Index(name = "idx_saved_story_kullanici_id", columnList = "kullanici_id, id")
 })
 @Getter
 @Setter
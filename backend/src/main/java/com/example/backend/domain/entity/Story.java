@@ -11,7 +11,10 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "stories")
+@Table(name = "stories", indexes = {
+        @Index(name = "idx_story_durum_yayin", columnList = "durum, yayinlanma_tarihi, id"),
+        @Index(name = "idx_story_kategori_durum_yayin", columnList = "kategori_id, durum, yayinlanma_tarihi, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -40,13 +43,15 @@ public class Story extends BaseEntity {
     @Column(name = "yayinlanma_tarihi")
     private LocalDateTime publishedAt;
 
-    @Column(name = "okunma_sayisi")
+    // Sayaçlar sadece atomik UPDATE'lerle değişir (ViewCountService, StoryCounterService);
+    // Story kaydedilirken bellekteki eski değer veritabanındakinin üzerine yazılmaz
+    @Column(name = "okunma_sayisi", updatable = false)
     private Long viewCount = 0L;
 
-    @Column(name = "begeni_sayisi")
+    @Column(name = "begeni_sayisi", updatable = false)
     private Long likeCount = 0L;
 
-    @Column(name = "yorum_sayisi")
+    @Column(name = "yorum_sayisi", updatable = false)
     private Long commentCount = 0L;
 
     @Column(name = "editor_secimi", columnDefinition = "BOOLEAN DEFAULT FALSE")
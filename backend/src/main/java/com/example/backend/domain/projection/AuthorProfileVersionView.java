@@ -0,0 +1,19 @@
+package com.example.backend.domain.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Yazar profili yanıtının ETag'i için sürüm alanları; biyografi ve bağlantılar okunmaz.
+ */
+public interface AuthorProfileVersionView {
+
+    Long getId();
+
+    LocalDateTime getUpdatedAt();
+
+    String getUsername();
+
+    Long getTotalViewCount();
+
+    Long getTotalLikeCount();
+}
@@ -0,0 +1,32 @@
+package com.example.backend.domain.projection;
+
+import com.example.backend.domain.entity.Comment.CommentStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Yorum ağacı için yorum projeksiyonu. Yazar sadece id ve kullanıcı adıyla, story sadece id ile gelir;
+ * satır başına kullanıcı veya story entity'si yüklenmez.
+ */
+public interface CommentView {
+
+    Long getId();
+
+    String getContent();
+
+    CommentStatus getStatus();
+
+    Long getLikeCount();
+
+    Long getUserId();
+
+    String getUsername();
+
+    Long getStoryId();
+
+    Long getParentCommentId();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,11 @@
+package com.example.backend.domain.projection;
+
+/**
+ * Birden fazla listenin story kartlarını tek sorguda okurken satırın hangi listeye ait olduğunu taşır.
+ */
+public interface ListStoryCardView extends StoryCardView {
+
+    Long getListId();
+
+    String getUserEmail();
+}
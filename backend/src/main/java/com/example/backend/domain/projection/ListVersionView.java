@@ -0,0 +1,19 @@
+package com.example.backend.domain.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Liste yanıtının ETag'i için özet: listenin ve içindeki story'lerin değişip değişmediğini tek bir
+ * gruplu sorguyla verir; liste ve kartlar yüklenmez.
+ */
+public interface ListVersionView {
+
+    Long getId();
+
+    LocalDateTime getUpdatedAt();
+
+    String getUsername();
+
+    // Story kartlarının sıralı özeti; boş listede null
+    String getStoriesHash();
+}
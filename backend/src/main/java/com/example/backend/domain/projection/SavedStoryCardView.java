@@ -0,0 +1,9 @@
+package com.example.backend.domain.projection;
+
+/**
+ * Kayıtlı haberler akışının kartı; kayıt satırının id'si sonraki sayfanın imlecidir.
+ */
+public interface SavedStoryCardView extends StoryCardView {
+
+    Long getSavedId();
+}
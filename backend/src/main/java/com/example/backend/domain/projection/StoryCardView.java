@@ -0,0 +1,51 @@
+package com.example.backend.domain.projection;
+
+import com.example.backend.domain.entity.Story.StoryStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Akış ve liste kartları için story projeksiyonu. icerik kolonu seçilmez; özet boşsa
+ * sorgu içeriğin ilk 200 karakterini özet olarak döner.
+ */
+public interface StoryCardView {
+
+    Long getId();
+
+    String getTitle();
+
+    String getSlug();
+
+    String getSummary();
+
+    String getCoverImageUrl();
+
+    StoryStatus getStatus();
+
+    LocalDateTime getPublishedAt();
+
+    Long getViewCount();
+
+    Long getLikeCount();
+
+    Long getCommentCount();
+
+    Boolean getIsEditorPick();
+
+    String getMetaDescription();
+
+    Long getUserId();
+
+    String getUsername();
+
+    Long getCategoryId();
+
+    String getCategoryName();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    // İçeriğin byte uzunluğundan tahmini okuma süresi (dakika); içerik okunmaz
+    Integer getReadTime();
+}
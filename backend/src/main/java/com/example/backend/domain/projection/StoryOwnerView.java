@@ -0,0 +1,13 @@
+package com.example.backend.domain.projection;
+
+/**
+ * Bildirim metni için story başlığı ve sahibinin id'si; içerik ve ilişkiler yüklenmez.
+ */
+public interface StoryOwnerView {
+
+    Long getId();
+
+    String getTitle();
+
+    Long getUserId();
+}
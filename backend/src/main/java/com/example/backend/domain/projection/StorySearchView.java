@@ -0,0 +1,9 @@
+package com.example.backend.domain.projection;
+
+/**
+ * Tam metin arama sonucu; kart alanlarına ek olarak içeriğin ilk eşleşme etrafındaki parçasını taşır.
+ */
+public interface StorySearchView extends StoryCardView {
+
+    String getSnippet();
+}
@@ -0,0 +1,11 @@
+package com.example.backend.domain.projection;
+
+/**
+ * Sadece id ve slug kolonlarını okuyan hafif story projeksiyonu.
+ */
+public interface StorySlugView {
+
+    Long getId();
+
+    String getSlug();
+}
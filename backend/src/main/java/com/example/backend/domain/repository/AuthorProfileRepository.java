@@ -1,6 +1,7 @@
 package com.example.backend.domain.repository;
 
 import com.example.backend.domain.entity.AuthorProfile;
+import com.example.backend.domain.projection.AuthorProfileVersionView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -13,5 +14,10 @@ public interface AuthorProfileRepository extends JpaRepository<AuthorProfile, Lo
     
     @Query("SELECT a FROM AuthorProfile a WHERE a.user.id = :userId")
     Optional<AuthorProfile> findByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT a.id AS id, a.updatedAt AS updatedAt, u.username AS username, " +
+           "a.totalViewCount AS totalViewCount, a.totalLikeCount AS totalLikeCount " +
+           "FROM AuthorProfile a JOIN a.user u WHERE u.id = :userId")
+    Optional<AuthorProfileVersionView> findVersionByUserId(@Param("userId") Long userId);
 }
 
@@ -2,6 +2,7 @@ package com.example.backend.domain.repository;
 
 import com.example.backend.domain.entity.Comment;
 import com.example.backend.domain.entity.Comment.CommentStatus;
+import com.example.backend.domain.projection.CommentView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -17,11 +19,48 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("SELECT c FROM Comment c WHERE c.story.id = :storyId AND c.status = :status AND c.isActive = true ORDER BY c.id DESC")
     Page<Comment> findByStoryIdAndStatus(@Param("storyId") Long storyId, @Param("status") CommentStatus status, Pageable pageable);
     
-    @Query("SELECT c FROM Comment c WHERE c.story.id = :storyId AND c.parentComment IS NULL AND c.status = :status AND c.isActive = true")
-    List<Comment> findByStoryIdAndParentCommentIsNullAndStatus(@Param("storyId") Long storyId, @Param("status") CommentStatus status);
-    
-    @Query("SELECT c FROM Comment c WHERE c.parentComment.id = :parentCommentId AND c.isActive = true AND c.status = :status ORDER BY c.createdAt ASC")
-    List<Comment> findByParentCommentId(@Param("parentCommentId") Long parentCommentId, @Param("status") CommentStatus status);
+    // Yorum ağacı sorgularının ortak SELECT kısmı; yazardan sadece id ve kullanıcı adı okunur
+    String THREAD_SELECT = "SELECT c.id AS id, c.content AS content, c.status AS status, c.likeCount AS likeCount, " +
+            "u.id AS userId, u.username AS username, c.story.id AS storyId, c.parentComment.id AS parentCommentId, " +
+            "c.createdAt AS createdAt, c.updatedAt AS updatedAt FROM Comment c JOIN c.user u ";
+
+    // Kök yorumlar yeniden eskiye; "daha fazla" isteği son görülen id'den küçükleri ister
+    @Query(THREAD_SELECT + "WHERE c.story.id = :storyId AND c.parentComment IS NULL AND c.status = :status " +
+           "AND c.isActive = true AND c.id < :beforeId ORDER BY c.id DESC")
+    List<CommentView> findRootViews(@Param("storyId") Long storyId, @Param("status") CommentStatus status,
+                                    @Param("beforeId") Long beforeId, Pageable pageable);
+
+    // Yanıtlar eskiden yeniye; "daha fazla" isteği son görülen id'den büyükleri ister
+    @Query(THREAD_SELECT + "WHERE c.parentComment.id = :parentId AND c.status = :status " +
+           "AND c.isActive = true AND c.id > :afterId ORDER BY c.id ASC")
+    List<CommentView> findReplyViews(@Param("parentId") Long parentId, @Param("status") CommentStatus status,
+                                     @Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Verilen yorumların altındaki onaylı yanıtları tek sorguda, her derinlikte getirir.
+     * Her üst yorumun ilk perParent yanıtı döner; bir fazlası çağırana "daha fazla yanıt var" bilgisini verir.
+     * Sınır özyinelemenin içinde uygulanır: her adımda üst yorum başına idx_yorum_ust_yorum'dan en fazla
+     * perParent satır okunur, kesilen dalların altı hiç gezilmez.
+     * Sonuç id sırasındadır; yanıt her zaman üst yorumundan sonra oluştuğu için üst yorum önce gelir.
+     */
+    @Query(value = "WITH RECURSIVE agac AS (" +
+            "    SELECT y.id, 1 AS derinlik FROM yorumlar p CROSS JOIN LATERAL (" +
+            "        SELECT y.id FROM yorumlar y WHERE y.ust_yorum_id = p.id AND y.durum = :status AND y.is_active = true " +
+            "        ORDER BY y.id LIMIT :perParent) y " +
+            "    WHERE p.id IN (:parentIds) " +
+            "  UNION ALL " +
+            "    SELECT y.id, a.derinlik + 1 FROM agac a CROSS JOIN LATERAL (" +
+            "        SELECT y.id FROM yorumlar y WHERE y.ust_yorum_id = a.id AND y.durum = :status AND y.is_active = true " +
+            "        ORDER BY y.id LIMIT :perParent) y " +
+            "    WHERE a.derinlik < :maxDepth" +
+            ") " +
+            "SELECT y.id AS \"id\", y.icerik AS \"content\", y.durum AS \"status\", y.begeni_sayisi AS \"likeCount\", " +
+            "u.id AS \"userId\", u.kullanici_adi AS \"username\", y.story_id AS \"storyId\", " +
+            "y.ust_yorum_id AS \"parentCommentId\", y.created_at AS \"createdAt\", y.updated_at AS \"updatedAt\" " +
+            "FROM agac a JOIN yorumlar y ON y.id = a.id JOIN kullanicilar u ON u.id = y.kullanici_id ORDER BY y.id",
+           nativeQuery = true)
+    List<CommentView> findDescendantViews(@Param("parentIds") Collection<Long> parentIds, @Param("status") String status,
+                                          @Param("maxDepth") int maxDepth, @Param("perParent") long perParent);
     
     @Query("SELECT c FROM Comment c WHERE c.status = :status AND c.isActive = true ORDER BY c.id DESC")
     Page<Comment> findByStatus(@Param("status") CommentStatus status, Pageable pageable);
@@ -2,11 +2,14 @@ package com.example.backend.domain.repository;
 
 import com.example.backend.domain.entity.Follow;
 import com.example.backend.domain.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,7 +34,23 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
     @Query("SELECT f.follower FROM Follow f WHERE f.followed.id = :followedId AND f.isActive = true")
     List<User> findFollowersByFollowedId(@Param("followedId") Long followedId);
     
+    // Keyset sayfalama: OFFSET yerine son görülen takipçi id'sinden devam eder
+    @Query("SELECT f.follower.id FROM Follow f WHERE f.followed.id = :followedId AND f.isActive = true " +
+           "AND f.follower.id > :afterFollowerId ORDER BY f.follower.id ASC")
+    List<Long> findFollowerIdsAfter(@Param("followedId") Long followedId,
+                                    @Param("afterFollowerId") Long afterFollowerId,
+                                    Pageable pageable);
+    
     @Query("SELECT f.followed FROM Follow f WHERE f.follower.id = :followerId AND f.isActive = true")
     List<User> findFollowedByFollowerId(@Param("followerId") Long followerId);
-}
 
+    // Eşzamanlı iki takip isteğinde ikincisi tekil kısıta takılır ve 0 döner
+    @Modifying
+    @Query(value = "INSERT INTO takip (takipci_id, takip_edilen_id, is_active, created_at, updated_at) " +
+                   "SELECT f.id, t.id, true, :now, :now FROM kullanicilar f, kullanicilar t " +
+                   "WHERE f.id = :followerId AND t.id = :followedId " +
+                   "ON CONFLICT (takipci_id, takip_edilen_id) DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("followerId") Long followerId, @Param("followedId") Long followedId,
+                       @Param("now") LocalDateTime now);
+}
@@ -4,10 +4,14 @@ import com.example.backend.domain.entity.Like;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -24,5 +28,23 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
     
     @Query("SELECT COUNT(l) FROM Like l WHERE l.story.id = :storyId AND l.isActive = true")
     Long countActiveByStoryId(@Param("storyId") Long storyId);
+
+    // Akış sayfasındaki haberlerden kullanıcının beğendikleri; tekil (kullanıcı, story) indeksiyle okunur
+    @Query("SELECT l.story.id FROM Like l WHERE l.user.id = :userId AND l.story.id IN :storyIds AND l.isActive = true")
+    List<Long> findLikedStoryIds(@Param("userId") Long userId, @Param("storyIds") Collection<Long> storyIds);
+
+    // Kontrol-sonra-ekle yerine tek ifade: (kullanıcı, story) tekil kısıtı çakışırsa hiçbir şey yapmaz.
+    // Kullanıcı veya story yoksa SELECT boş döner; 0 sonucunda nedeni çağıran ayırt eder.
+    @Modifying
+    @Query(value = "INSERT INTO likes (kullanici_id, story_id, is_active, created_at, updated_at) " +
+                   "SELECT u.id, s.id, true, :now, :now FROM kullanicilar u, stories s " +
+                   "WHERE u.id = :userId AND s.id = :storyId " +
+                   "ON CONFLICT (kullanici_id, story_id) DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("storyId") Long storyId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM Like l WHERE l.user.id = :userId AND l.story.id = :storyId AND l.isActive = true")
+    int deleteByUserIdAndStoryId(@Param("userId") Long userId, @Param("storyId") Long storyId);
 }
 
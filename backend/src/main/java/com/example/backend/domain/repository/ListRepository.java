@@ -1,26 +1,60 @@
 package com.example.backend.domain.repository;
 
 import com.example.backend.domain.entity.ListEntity;
+import com.example.backend.domain.projection.ListStoryCardView;
+import com.example.backend.domain.projection.ListVersionView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ListRepository extends JpaRepository<ListEntity, Long> {
     
+    @Override
+    @EntityGraph(attributePaths = {"user", "user.roles", "user.authorProfile"})
+    Optional<ListEntity> findById(Long id);
+    
+    @EntityGraph(attributePaths = {"user", "user.roles", "user.authorProfile"})
     Optional<ListEntity> findBySlug(String slug);
     
     boolean existsBySlug(String slug);
     
+    // Sayfalı sorguda koleksiyon fetch edilmez (bellekte sayfalama olur), sadece tekil ilişkiler
+    @EntityGraph(attributePaths = {"user", "user.authorProfile"})
     @Query("SELECT l FROM ListEntity l WHERE l.user.id = :userId AND l.isActive = true ORDER BY l.id DESC")
     Page<ListEntity> findByUserIdAndIsActiveTrue(@Param("userId") Long userId, Pageable pageable);
     
     @Query("SELECT l FROM ListEntity l WHERE l.user.id = :userId AND l.isPrivate = false AND l.isActive = true ORDER BY l.id DESC")
     Page<ListEntity> findByUserIdAndIsPrivateFalseAndIsActiveTrue(@Param("userId") Long userId, Pageable pageable);
-}
+    
+    // Sayfadaki tüm listelerin story kartları tek sorguda; icerik kolonu okunmaz
+    @Query(StoryRepository.CARD_SELECT + ", l.id AS listId, u.email AS userEmail " +
+           "FROM ListEntity l JOIN l.stories s JOIN s.user u LEFT JOIN s.category c " +
+           "WHERE l.id IN :listIds ORDER BY l.id, s.id")
+    List<ListStoryCardView> findStoryCardsByListIdIn(@Param("listIds") Collection<Long> listIds);
 
+    // Kartlarda görünen her şeyin (story sürümü, sayaçlar, yazar ve kategori adı) story id sırasıyla özeti;
+    // toplam/sayı özetlerinin aksine farklı içerikler aynı değere çakışmaz. %L NULL'u ayırt eder
+    String VERSION_SELECT = "SELECT l.id AS \"id\", l.updated_at AS \"updatedAt\", u.kullanici_adi AS \"username\", " +
+            "(SELECT md5(string_agg(format('%L|%L|%L|%L|%L|%L|%L|%L|%L', s.id, s.updated_at, s.okunma_sayisi, " +
+            "s.begeni_sayisi, s.yorum_sayisi, su.kullanici_adi, su.email, c.id, c.kategori_adi), ',' ORDER BY s.id)) " +
+            "FROM list_stories ls JOIN stories s ON s.id = ls.story_id " +
+            "JOIN kullanicilar su ON su.id = s.kullanici_id LEFT JOIN kategoriler c ON c.id = s.kategori_id " +
+            "WHERE ls.list_id = l.id) AS \"storiesHash\" " +
+            "FROM listeler l JOIN kullanicilar u ON u.id = l.kullanici_id ";
+
+    // Koşullu GET için sürüm; ekleme/çıkarma, story güncellemesi, sayaç ve ad değişimi sonucu değiştirir
+    @Query(value = VERSION_SELECT + "WHERE l.id = :id", nativeQuery = true)
+    Optional<ListVersionView> findVersionById(@Param("id") Long id);
+
+    @Query(value = VERSION_SELECT + "WHERE l.slug = :slug", nativeQuery = true)
+    Optional<ListVersionView> findVersionBySlug(@Param("slug") String slug);
+}
@@ -0,0 +1,59 @@
+package com.example.backend.domain.repository;
+
+import com.example.backend.domain.entity.MediaBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface MediaBlobRepository extends JpaRepository<MediaBlob, Long> {
+
+    // İçerik ilk kez geliyorsa satır açılır, varsa referans artırılır; satır kilidi eşzamanlı silmeyle sıralar
+    @Modifying
+    @Query(value = "INSERT INTO ortam_icerikleri (icerik_ozeti, dosya_yolu, mime_type, dosya_boyutu, referans_sayisi, " +
+                   "is_active, created_at, updated_at) " +
+                   "VALUES (:hash, :path, :mimeType, :size, 1, true, :now, :now) " +
+                   "ON CONFLICT (icerik_ozeti) DO UPDATE SET referans_sayisi = ortam_icerikleri.referans_sayisi + 1, " +
+                   "updated_at = :now",
+           nativeQuery = true)
+    int acquire(@Param("hash") String hash, @Param("path") String path, @Param("mimeType") String mimeType,
+                @Param("size") Long size, @Param("now") LocalDateTime now);
+
+    // Aynı özet için yerleştirme ile son silmeyi sıralar; kilit transaction bitince bırakılır
+    @Query(value = "SELECT COUNT(*) FROM (SELECT pg_advisory_xact_lock(hashtextextended(:hash, 0))) kilit",
+           nativeQuery = true)
+    long lockContent(@Param("hash") String hash);
+
+    @Query("SELECT b.storagePath FROM MediaBlob b WHERE b.contentHash = :hash")
+    Optional<String> findStoragePathByHash(@Param("hash") String hash);
+
+    boolean existsByStoragePath(String storagePath);
+
+    @Query("SELECT b.mimeType FROM MediaBlob b WHERE b.storagePath = :path")
+    Optional<String> findMimeTypeByStoragePath(@Param("path") String path);
+
+    // Genişliği listede yoksa ekler; eşzamanlı üreticiler birbirinin kaydını ezmez
+    @Modifying
+    @Query(value = "UPDATE ortam_icerikleri SET varyant_genislikleri = CASE " +
+                   "WHEN varyant_genislikleri IS NULL OR varyant_genislikleri = '' THEN :width " +
+                   "WHEN (',' || varyant_genislikleri || ',') LIKE ('%,' || :width || ',%') THEN varyant_genislikleri " +
+                   "ELSE varyant_genislikleri || ',' || :width END, updated_at = :now " +
+                   "WHERE dosya_yolu = :path",
+           nativeQuery = true)
+    int recordVariant(@Param("path") String path, @Param("width") String width, @Param("now") LocalDateTime now);
+
+    // 0 dönerse yol içerik deposunda değildir (eski UUID yollu dosya)
+    @Modifying
+    @Query("UPDATE MediaBlob b SET b.refCount = b.refCount - 1 WHERE b.storagePath = :path")
+    int release(@Param("path") String path);
+
+    // Referansı kalmayan satırı siler; 1 dönerse diskteki dosya da silinmelidir
+    @Modifying
+    @Query("DELETE FROM MediaBlob b WHERE b.storagePath = :path AND b.refCount <= 0")
+    int deleteIfUnreferenced(@Param("path") String path);
+}
@@ -2,13 +2,20 @@ package com.example.backend.domain.repository;
 
 import com.example.backend.domain.entity.MediaFile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface MediaFileRepository extends JpaRepository<MediaFile, Long> {
     
     List<MediaFile> findByUploaderUserId(Long uploaderUserId);
+    
+    // Dosya teslimatı sadece kayıtlı içerik tipini okur; entity yüklenmez
+    @Query("SELECT m.mimeType FROM MediaFile m WHERE m.filePath = :filePath")
+    Optional<String> findMimeTypeByFilePath(@Param("filePath") String filePath);
 }
 
@@ -0,0 +1,75 @@
+package com.example.backend.domain.repository;
+
+import com.example.backend.domain.entity.NotificationFanoutJob;
+import com.example.backend.domain.entity.NotificationFanoutJob.FanoutStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface NotificationFanoutJobRepository extends JpaRepository<NotificationFanoutJob, Long> {
+
+    /**
+     * İşi atomik olarak sahiplenir. Bekleyen ya da sahibi çökmüş (claimedAt eski kalmış) işler alınabilir;
+     * aynı iş için iki worker yarışırsa sadece biri 1 döner.
+     */
+    @Modifying
+    @Query("UPDATE NotificationFanoutJob j SET j.status = :processing, j.claimedAt = :now, j.attempts = j.attempts + 1 " +
+           "WHERE j.id = :id AND (j.status = :pending OR (j.status = :processing AND j.claimedAt < :staleBefore))")
+    int claim(@Param("id") Long id,
+              @Param("now") LocalDateTime now,
+              @Param("staleBefore") LocalDateTime staleBefore,
+              @Param("pending") FanoutStatus pending,
+              @Param("processing") FanoutStatus processing);
+
+    /**
+     * İmleci ilerletir. Sahiplenme deneme sayısıyla tanınır: iş bayat sayılıp başka bir worker'a geçtiyse
+     * ya da imleç beklenen yerde değilse 0 döner ve parçanın transaction'ı geri alınmalıdır.
+     */
+    @Modifying
+    @Query("UPDATE NotificationFanoutJob j SET j.lastFollowerId = :lastFollowerId, " +
+           "j.deliveredCount = j.deliveredCount + :delivered, j.claimedAt = :now " +
+           "WHERE j.id = :id AND j.attempts = :attempt AND j.lastFollowerId = :expectedAfter " +
+           "AND j.status = :processing")
+    int advanceCursor(@Param("id") Long id,
+                      @Param("attempt") Integer attempt,
+                      @Param("expectedAfter") Long expectedAfter,
+                      @Param("lastFollowerId") Long lastFollowerId,
+                      @Param("delivered") long delivered,
+                      @Param("now") LocalDateTime now,
+                      @Param("processing") FanoutStatus processing);
+
+    @Modifying
+    @Query("UPDATE NotificationFanoutJob j SET j.status = :status, j.completedAt = :completedAt WHERE j.id = :id")
+    int updateStatus(@Param("id") Long id,
+                     @Param("status") FanoutStatus status,
+                     @Param("completedAt") LocalDateTime completedAt);
+
+    // Sadece iş hâlâ bu sahiplenmeye aitse durumu değiştirir; yeni sahibin işini bekleyene çevirmez
+    @Modifying
+    @Query("UPDATE NotificationFanoutJob j SET j.status = :status " +
+           "WHERE j.id = :id AND j.attempts = :attempt AND j.status = :processing")
+    int releaseClaim(@Param("id") Long id,
+                     @Param("attempt") Integer attempt,
+                     @Param("status") FanoutStatus status,
+                     @Param("processing") FanoutStatus processing);
+
+    @Query("SELECT j.id FROM NotificationFanoutJob j " +
+           "WHERE j.status = :pending OR (j.status = :processing AND j.claimedAt < :staleBefore) ORDER BY j.id ASC")
+    List<Long> findResumableJobIds(@Param("staleBefore") LocalDateTime staleBefore,
+                                   @Param("pending") FanoutStatus pending,
+                                   @Param("processing") FanoutStatus processing,
+                                   Pageable pageable);
+
+    @Query("SELECT COUNT(j) FROM NotificationFanoutJob j WHERE j.status IN :statuses")
+    long countByStatusIn(@Param("statuses") List<FanoutStatus> statuses);
+
+    @Query("SELECT MIN(j.createdAt) FROM NotificationFanoutJob j WHERE j.status IN :statuses")
+    LocalDateTime findOldestCreatedAtByStatusIn(@Param("statuses") List<FanoutStatus> statuses);
+}
@@ -4,10 +4,14 @@ import com.example.backend.domain.entity.Notification;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
     
@@ -19,5 +23,33 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     
     @Query("SELECT n FROM Notification n WHERE n.user.id = :userId AND n.isRead = :isRead AND n.isActive = true ORDER BY n.createdAt DESC")
     Page<Notification> findByUserIdAndIsRead(@Param("userId") Long userId, @Param("isRead") Boolean isRead, Pageable pageable);
+    
+    // Keyset akış: id imlecinden eskiler, (kullanici_id, id) indeksinden okunur
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId AND n.isActive = true AND n.id < :cursorId ORDER BY n.id DESC")
+    List<Notification> findFeedByUserId(@Param("userId") Long userId, @Param("cursorId") Long cursorId, Pageable pageable);
+    
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId AND n.isRead = false AND n.isActive = true " +
+           "AND n.id < :cursorId ORDER BY n.id DESC")
+    List<Notification> findUnreadFeedByUserId(@Param("userId") Long userId, @Param("cursorId") Long cursorId, Pageable pageable);
+    
+    // Yeniden bağlanan akışın kaçırdıkları: Last-Event-ID'den yeniler, eskiden yeniye
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId AND n.isActive = true AND n.id > :afterId ORDER BY n.id ASC")
+    List<Notification> findNewerByUserId(@Param("userId") Long userId, @Param("afterId") Long afterId, Pageable pageable);
+    
+    // Toplu güncelleme entity yüklemez; @UpdateTimestamp çalışmadığı için updatedAt elle verilir
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true, n.updatedAt = :now " +
+           "WHERE n.user.id = :userId AND n.isRead = false AND n.isActive = true")
+    int markAllAsReadByUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+    
+    // Koşullu güncelleme: aynı bildirimi iki kez okundu yapan istek sayacı ikinci kez düşürmez
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true, n.updatedAt = :now " +
+           "WHERE n.id = :id AND n.user.id = :userId AND n.isRead = false AND n.isActive = true")
+    int markAsReadById(@Param("id") Long id, @Param("userId") Long userId, @Param("now") LocalDateTime now);
+    
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true, n.updatedAt = :now " +
+           "WHERE n.user.id = :userId AND n.id <= :maxId AND n.isRead = false AND n.isActive = true")
+    int markAsReadUpToId(@Param("userId") Long userId, @Param("maxId") Long maxId, @Param("now") LocalDateTime now);
 }
-
@@ -1,13 +1,19 @@
 package com.example.backend.domain.repository;
 
 import com.example.backend.domain.entity.SavedStory;
+import com.example.backend.domain.projection.SavedStoryCardView;
+import com.example.backend.domain.projection.StoryCardView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -19,8 +25,34 @@ public interface SavedStoryRepository extends JpaRepository<SavedStory, Long> {
     
     @Query("SELECT COUNT(s) > 0 FROM SavedStory s WHERE s.user.id = :userId AND s.story.id = :storyId AND s.isActive = true")
     boolean existsByUserIdAndStoryId(@Param("userId") Long userId, @Param("storyId") Long storyId);
+
+    @Query("SELECT s.story.id FROM SavedStory s WHERE s.user.id = :userId AND s.story.id IN :storyIds AND s.isActive = true")
+    List<Long> findSavedStoryIds(@Param("userId") Long userId, @Param("storyIds") Collection<Long> storyIds);
     
     @Query("SELECT s FROM SavedStory s WHERE s.user.id = :userId AND s.isActive = true ORDER BY s.createdAt DESC")
     Page<SavedStory> findByUserId(@Param("userId") Long userId, Pageable pageable);
-}
+    
+    @Query(value = StoryRepository.CARD_SELECT +
+           "FROM SavedStory ss JOIN ss.story s JOIN s.user u LEFT JOIN s.category c " +
+           "WHERE ss.user.id = :userId AND ss.isActive = true ORDER BY ss.createdAt DESC",
+           countQuery = "SELECT COUNT(ss) FROM SavedStory ss WHERE ss.user.id = :userId AND ss.isActive = true")
+    Page<StoryCardView> findStoryCardsByUserId(@Param("userId") Long userId, Pageable pageable);
 
+    // Keyset akış: kayıt id'si imleçtir. Yeniden kaydetme satırı yeniden aktif eder, id ve created_at değişmez;
+    // hikâye ilk kaydedildiği konumda görünür, sayfalı liste (created_at sırası) ile aynı davranış
+    @Query(StoryRepository.CARD_SELECT + ", ss.id AS savedId " +
+           "FROM SavedStory ss JOIN ss.story s JOIN s.user u LEFT JOIN s.category c " +
+           "WHERE ss.user.id = :userId AND ss.isActive = true AND ss.id < :cursorId ORDER BY ss.id DESC")
+    List<SavedStoryCardView> findStoryCardFeedByUserId(@Param("userId") Long userId, @Param("cursorId") Long cursorId,
+                                                       Pageable pageable);
+
+    // Kaldırılan kayıtlar pasife çekildiği için çakışmada satır yeniden aktif edilir; zaten aktifse dokunulmaz
+    @Modifying
+    @Query(value = "INSERT INTO saved_stories (kullanici_id, story_id, is_active, created_at, updated_at) " +
+                   "SELECT u.id, s.id, true, :now, :now FROM kullanicilar u, stories s " +
+                   "WHERE u.id = :userId AND s.id = :storyId " +
+                   "ON CONFLICT (kullanici_id, story_id) DO UPDATE SET is_active = true, updated_at = :now " +
+                   "WHERE saved_stories.is_active = false",
+           nativeQuery = true)
+    int upsertActive(@Param("userId") Long userId, @Param("storyId") Long storyId, @Param("now") LocalDateTime now);
+}
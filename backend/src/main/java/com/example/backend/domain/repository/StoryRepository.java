@@ -2,48 +2,141 @@ package com.example.backend.domain.repository;
 
 import com.example.backend.domain.entity.Story;
 import com.example.backend.domain.entity.Story.StoryStatus;
+import com.example.backend.domain.projection.StoryCardView;
+import com.example.backend.domain.projection.StoryOwnerView;
+import com.example.backend.domain.projection.StorySearchView;
+import com.example.backend.domain.projection.StorySlugView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface StoryRepository extends JpaRepository<Story, Long> {
+    // Detay uçları yazarı, rollerini, profilini ve kategoriyi tek sorguda yükler
+    @EntityGraph(attributePaths = {"user", "user.roles", "user.authorProfile", "category"})
     Optional<Story> findBySlug(String slug);
 
-    @Query("SELECT s FROM Story s WHERE s.status = :status ORDER BY s.id DESC")
-    Page<Story> findByStatus(@Param("status") StoryStatus status, Pageable pageable);
+    @EntityGraph(attributePaths = {"user", "user.roles", "user.authorProfile", "category"})
+    Optional<Story> findDetailById(Long id);
 
-    @Query("SELECT s FROM Story s WHERE s.category.id = :categoryId AND s.isActive = true ORDER BY s.id DESC")
-    Page<Story> findByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
+    // Kart sorgularının ortak SELECT kısmı; icerik sadece özet boşsa ve ilk 200 karakteri okunur
+    // Dakikada ~200 kelime, kelime başına ~7,5 byte (Türkçe, boşluk ve biçimlendirme dahil). octet_length
+    // TOAST'lanmış içeriği açmadan boyutu okur; kartlar içerik kolonunu taşımadan süre gösterebilir
+    String READ_TIME = "CAST(CEILING(COALESCE(OCTET_LENGTH(s.content), 0) / 1500.0) AS Integer)";
 
-    @Query("SELECT s FROM Story s WHERE s.user.id = :userId AND s.isActive = true ORDER BY s.createdAt DESC")
-    Page<Story> findByUserId(@Param("userId") Long userId, Pageable pageable);
+    String CARD_SELECT = "SELECT s.id AS id, s.title AS title, s.slug AS slug, " +
+            "COALESCE(s.summary, SUBSTRING(s.content, 1, 200)) AS summary, s.coverImageUrl AS coverImageUrl, " +
+            "s.status AS status, s.publishedAt AS publishedAt, s.viewCount AS viewCount, s.likeCount AS likeCount, " +
+            "s.commentCount AS commentCount, s.isEditorPick AS isEditorPick, s.metaDescription AS metaDescription, " +
+            "u.id AS userId, u.username AS username, c.id AS categoryId, c.name AS categoryName, " +
+            "s.createdAt AS createdAt, s.updatedAt AS updatedAt, " + READ_TIME + " AS readTime ";
 
-    @Query("SELECT s FROM Story s WHERE s.status = :status AND s.isActive = true ORDER BY s.publishedAt DESC")
-    Page<Story> findPublishedStories(@Param("status") StoryStatus status, Pageable pageable);
+    String CARD_FROM = "FROM Story s JOIN s.user u LEFT JOIN s.category c ";
 
-    @Query("SELECT s FROM Story s WHERE s.status = :status AND s.isActive = true ORDER BY s.viewCount DESC")
-    Page<Story> findPopularStories(@Param("status") StoryStatus status, Pageable pageable);
+    @Query(value = CARD_SELECT + CARD_FROM,
+           countQuery = "SELECT COUNT(s) FROM Story s")
+    Page<StoryCardView> findAllCards(Pageable pageable);
 
-    @Query("SELECT s FROM Story s JOIN s.tags t WHERE t.id = :tagId AND s.status = :status AND s.isActive = true")
-    Page<Story> findByTagId(@Param("tagId") Long tagId, @Param("status") StoryStatus status, Pageable pageable);
+    @Query(value = CARD_SELECT + CARD_FROM + "WHERE s.status = :status ORDER BY s.id DESC",
+           countQuery = "SELECT COUNT(s) FROM Story s WHERE s.status = :status")
+    Page<StoryCardView> findByStatus(@Param("status") StoryStatus status, Pageable pageable);
 
-    @Query("SELECT s FROM Story s WHERE " +
+    @Query(value = CARD_SELECT + CARD_FROM + "WHERE c.id = :categoryId AND s.isActive = true ORDER BY s.id DESC",
+           countQuery = "SELECT COUNT(s) FROM Story s WHERE s.category.id = :categoryId AND s.isActive = true")
+    Page<StoryCardView> findByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
+
+    @Query(value = CARD_SELECT + CARD_FROM + "WHERE u.id = :userId AND s.isActive = true ORDER BY s.createdAt DESC",
+           countQuery = "SELECT COUNT(s) FROM Story s WHERE s.user.id = :userId AND s.isActive = true")
+    Page<StoryCardView> findByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(value = CARD_SELECT + CARD_FROM + "WHERE s.status = :status AND s.isActive = true ORDER BY s.publishedAt DESC",
+           countQuery = "SELECT COUNT(s) FROM Story s WHERE s.status = :status AND s.isActive = true")
+    Page<StoryCardView> findPublishedStories(@Param("status") StoryStatus status, Pageable pageable);
+
+    // Keyset akış: (yayınlanma zamanı, id) imlecinden sonraki satırlar; OFFSET ve COUNT yok.
+    // publishedAt <= :p koşulu indeks aralığını daraltır, satır karşılaştırması eşit zamanları id ile ayırır
+    String FEED_AFTER = "AND s.publishedAt IS NOT NULL AND s.publishedAt <= :publishedAt " +
+            "AND (s.publishedAt < :publishedAt OR s.id < :id) ORDER BY s.publishedAt DESC, s.id DESC";
+
+    @Query(CARD_SELECT + CARD_FROM + "WHERE s.status = :status AND s.isActive = true " + FEED_AFTER)
+    List<StoryCardView> findPublishedFeed(@Param("status") StoryStatus status, @Param("publishedAt") LocalDateTime publishedAt,
+                                          @Param("id") Long id, Pageable pageable);
+
+    @Query(CARD_SELECT + CARD_FROM + "WHERE c.id = :categoryId AND s.status = :status AND s.isActive = true " + FEED_AFTER)
+    List<StoryCardView> findCategoryFeed(@Param("categoryId") Long categoryId, @Param("status") StoryStatus status,
+                                         @Param("publishedAt") LocalDateTime publishedAt, @Param("id") Long id,
+                                         Pageable pageable);
+
+    @Query(value = CARD_SELECT + CARD_FROM + "WHERE s.status = :status AND s.isActive = true ORDER BY s.viewCount DESC",
+           countQuery = "SELECT COUNT(s) FROM Story s WHERE s.status = :status AND s.isActive = true")
+    Page<StoryCardView> findPopularStories(@Param("status") StoryStatus status, Pageable pageable);
+
+    @Query(value = CARD_SELECT + CARD_FROM + "JOIN s.tags t WHERE t.id = :tagId AND s.status = :status AND s.isActive = true",
+           countQuery = "SELECT COUNT(s) FROM Story s JOIN s.tags t WHERE t.id = :tagId AND s.status = :status AND s.isActive = true")
+    Page<StoryCardView> findByTagId(@Param("tagId") Long tagId, @Param("status") StoryStatus status, Pageable pageable);
+
+    String SEARCH_CONDITION =
            "(LOWER(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(s.title, 'ö', 'o'), 'Ö', 'O'), 'ş', 's'), 'Ş', 'S'), 'ı', 'i'), 'İ', 'I'), 'ü', 'u'), 'Ü', 'U')) LIKE LOWER(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(CONCAT('%', :search, '%'), 'ö', 'o'), 'Ö', 'O'), 'ş', 's'), 'Ş', 'S'), 'ı', 'i'), 'İ', 'I'), 'ü', 'u'), 'Ü', 'U')) OR " +
            "LOWER(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(s.content, 'ö', 'o'), 'Ö', 'O'), 'ş', 's'), 'Ş', 'S'), 'ı', 'i'), 'İ', 'I'), 'ü', 'u'), 'Ü', 'U')) LIKE LOWER(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(CONCAT('%', :search, '%'), 'ö', 'o'), 'Ö', 'O'), 'ş', 's'), 'Ş', 'S'), 'ı', 'i'), 'İ', 'I'), 'ü', 'u'), 'Ü', 'U')) OR " +
            "LOWER(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(s.summary, 'ö', 'o'), 'Ö', 'O'), 'ş', 's'), 'Ş', 'S'), 'ı', 'i'), 'İ', 'I'), 'ü', 'u'), 'Ü', 'U')) LIKE LOWER(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(CONCAT('%', :search, '%'), 'ö', 'o'), 'Ö', 'O'), 'ş', 's'), 'Ş', 'S'), 'ı', 'i'), 'İ', 'I'), 'ü', 'u'), 'Ü', 'U')))" +
-           "AND s.status = :status AND s.isActive = true ORDER BY s.id DESC")
-    Page<Story> searchStories(@Param("search") String search, @Param("status") StoryStatus status, Pageable pageable);
+           "AND s.status = :status AND s.isActive = true ";
 
-    @Query("SELECT s FROM Story s WHERE s.isEditorPick = true AND s.status = :status AND s.isActive = true ORDER BY s.publishedAt DESC")
-    Page<Story> findEditorPicks(@Param("status") StoryStatus status, Pageable pageable);
+    @Query(value = CARD_SELECT + CARD_FROM + "WHERE " + SEARCH_CONDITION + "ORDER BY s.id DESC",
+           countQuery = "SELECT COUNT(s) FROM Story s WHERE " + SEARCH_CONDITION)
+    Page<StoryCardView> searchStories(@Param("search") String search, @Param("status") StoryStatus status, Pageable pageable);
+
+    // Bellek içi arama indeksinin bulduğu sayfanın kartları; sıralama çağıranda yapılır
+    @Query(CARD_SELECT + CARD_FROM + "WHERE s.id IN :ids")
+    List<StoryCardView> findCardsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // arama_vektoru kolonu, tetikleyicisi ve GIN indeksi db/migration/V3__story_full_text_search.sql ile kurulur
+    String FULL_TEXT_CONDITION = "s.arama_vektoru @@ to_tsquery('simple', :tsquery) " +
+            "AND s.durum = :status AND s.is_active = true ";
+
+    @Query(value = "SELECT s.id AS \"id\", s.baslik AS \"title\", s.slug AS \"slug\", " +
+            "COALESCE(s.ozet, SUBSTRING(s.icerik, 1, 200)) AS \"summary\", s.kapak_resmi_url AS \"coverImageUrl\", " +
+            "s.durum AS \"status\", s.yayinlanma_tarihi AS \"publishedAt\", s.okunma_sayisi AS \"viewCount\", " +
+            "s.begeni_sayisi AS \"likeCount\", s.yorum_sayisi AS \"commentCount\", s.editor_secimi AS \"isEditorPick\", " +
+            "s.meta_description AS \"metaDescription\", u.id AS \"userId\", u.kullanici_adi AS \"username\", " +
+            "c.id AS \"categoryId\", c.kategori_adi AS \"categoryName\", s.created_at AS \"createdAt\", " +
+            "s.updated_at AS \"updatedAt\", CAST(CEIL(COALESCE(octet_length(s.icerik), 0) / 1500.0) AS integer) AS \"readTime\", " +
+            // İçerikten sadece ilk terimin etrafındaki 240 karakter okunur; vurgulama serviste yapılır
+            "SUBSTRING(s.icerik FROM GREATEST(1, strpos(turkce_katla(s.icerik), :firstTerm) - 80) FOR 240) AS \"snippet\" " +
+            "FROM stories s JOIN kullanicilar u ON u.id = s.kullanici_id LEFT JOIN kategoriler c ON c.id = s.kategori_id " +
+            "WHERE " + FULL_TEXT_CONDITION +
+            "ORDER BY ts_rank(s.arama_vektoru, to_tsquery('simple', :tsquery)) DESC, s.id DESC",
+           countQuery = "SELECT COUNT(*) FROM stories s WHERE " + FULL_TEXT_CONDITION,
+           nativeQuery = true)
+    Page<StorySearchView> fullTextSearch(@Param("tsquery") String tsquery, @Param("firstTerm") String firstTerm,
+                                         @Param("status") String status, Pageable pageable);
+
+    @Query(value = CARD_SELECT + CARD_FROM + "WHERE s.isEditorPick = true AND s.status = :status AND s.isActive = true ORDER BY s.publishedAt DESC",
+           countQuery = "SELECT COUNT(s) FROM Story s WHERE s.isEditorPick = true AND s.status = :status AND s.isActive = true")
+    Page<StoryCardView> findEditorPicks(@Param("status") StoryStatus status, Pageable pageable);
 
     boolean existsBySlug(String slug);
+
+    // Bildirim listesinde sayfa başına tek sorgu; icerik kolonu okunmaz
+    @Query("SELECT s.id AS id, s.slug AS slug FROM Story s WHERE s.id IN :ids")
+    List<StorySlugView> findSlugsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Beğeni bildirimi için sadece başlık ve sahip; entity yüklenmez
+    @Query("SELECT s.id AS id, s.title AS title, s.user.id AS userId FROM Story s WHERE s.id = :id")
+    Optional<StoryOwnerView> findOwnerViewById(@Param("id") Long id);
+
+    // Verilen haberlerin yazarlarından kullanıcının takip ettikleri; yazar başına bir id döner
+    @Query("SELECT DISTINCT s.user.id FROM Story s WHERE s.id IN :storyIds AND EXISTS " +
+           "(SELECT 1 FROM Follow f WHERE f.follower.id = :userId AND f.followed.id = s.user.id AND f.isActive = true)")
+    List<Long> findFollowedAuthorIds(@Param("userId") Long userId, @Param("storyIds") Collection<Long> storyIds);
 }
 
 
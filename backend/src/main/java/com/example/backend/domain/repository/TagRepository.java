@@ -5,6 +5,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -16,6 +17,9 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
     Optional<Tag> findBySlug(String slug);
     
     Optional<Tag> findByName(String name);
+
+    @Query("SELECT t.id FROM Tag t WHERE t.name = :name")
+    Optional<Long> findIdByName(@Param("name") String name);
     
     boolean existsBySlug(String slug);
     
@@ -23,6 +23,13 @@ public interface UserRepository extends JpaRepository<User, Long> {
     
     @Query("SELECT u FROM User u WHERE u.email = :email AND u.isActive = true")
     Optional<User> findActiveByEmail(@Param("email") String email);
+
+    // Bildirim metnindeki ad; kullanıcı adı yoksa ad kullanılır
+    @Query("SELECT COALESCE(u.username, u.firstName) FROM User u WHERE u.id = :id")
+    Optional<String> findDisplayNameById(@Param("id") Long id);
+
+    @Query("SELECT COUNT(u) > 0 FROM User u JOIN u.roles r WHERE u.id = :id AND r.name = :roleName")
+    boolean hasRole(@Param("id") Long id, @Param("roleName") String roleName);
     
     @Query(value = "SELECT * FROM kullanicilar ORDER BY id DESC", 
            nativeQuery = true,
@@ -0,0 +1,17 @@
+package com.example.backend.infrastructure.cache;
+
+/**
+ * Spring Cache isimleri. Kategori ve etiket katalogları günde birkaç kez değişir; her sayfa
+ * yüklemesinde veritabanına gitmek yerine bu önbelleklerden okunur.
+ */
+public final class CacheNames {
+
+    public static final String CATEGORIES = "categories";
+    public static final String CATEGORY_BY_SLUG = "categoryBySlug";
+    public static final String TAGS = "tags";
+    public static final String TAG_BY_SLUG = "tagBySlug";
+    public static final String TAG_ID_BY_NAME = "tagIdByName";
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.backend.infrastructure.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Sık istenen medya dosyalarının teslimat bilgisini (disk yolu, boyut, değişme zamanı, içerik tipi)
+ * bellekte tutar; isabette ne veritabanına ne dosya sistemine gidilir. Dosya adları içeriğin SHA-256
+ * özeti (eski dosyalarda UUID) olduğu için bir yolun içeriği değişmez, tek değişiklik silmedir: silme
+ * kaydı düşürür, başka bir sunucuda silinen dosya en fazla TTL kadar bilinmeye devam eder ve açılamayınca
+ * kayıt düşürülür.
+ * Dosya kanalları önbelleğe alınmaz; tahliyede kapatılan bir kanal devam eden bir aktarımı keserdi.
+ */
+@Component
+public class MediaFileHandleCache {
+
+    private final ConcurrentHashMap<String, Handle> entries = new ConcurrentHashMap<>();
+
+    @Value("${media.handle-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${media.handle-cache.max-entries:5000}")
+    private int maxEntries;
+
+    @Value("${media.handle-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    /**
+     * Göreli yol (yıl/ay/dosya) için kaydı döner; yoksa loader çalışır. Loader null dönerse
+     * (dosya yok) sonuç önbelleğe alınmaz.
+     */
+    public Handle get(String relativePath, Supplier<Handle> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        long now = System.currentTimeMillis();
+        Handle cached = entries.get(relativePath);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached;
+        }
+
+        Handle loaded = loader.get();
+        if (loaded == null) {
+            entries.remove(relativePath);
+            return null;
+        }
+        if (entries.size() >= maxEntries) {
+            evict(now);
+        }
+        Handle stored = loaded.withExpiresAt(now + ttlSeconds * 1000);
+        entries.put(relativePath, stored);
+        return stored;
+    }
+
+    public void invalidate(String relativePath) {
+        if (relativePath != null) {
+            entries.remove(relativePath);
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // Önce süresi dolanlar atılır; yetmezse sınırın onda biri kadar kayıt sırasız bırakılır
+    private void evict(long now) {
+        entries.values().removeIf(handle -> handle.expiresAt() <= now);
+        int toRemove = entries.size() - maxEntries + Math.max(1, maxEntries / 10);
+        Iterator<String> keys = entries.keySet().iterator();
+        while (toRemove-- > 0 && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    /**
+     * Teslimat için gereken her şey. ETag UUID dosya adından üretilir ve güçlüdür, If-Range ile kullanılabilir.
+     * fallback, istenen varyant yerine orijinalin sunulduğunu belirtir; aynı URL ileride varyantı döneceği
+     * için bu yanıt uzun süre önbelleğe alınmamalıdır.
+     */
+    public record Handle(Path path, long size, long lastModified, String contentType, String etag, long expiresAt,
+                         boolean fallback) {
+
+        public static Handle of(Path path, long size, long lastModified, String contentType) {
+            return new Handle(path, size, lastModified, contentType, "\"" + path.getFileName() + "\"", 0L, false);
+        }
+
+        Handle withExpiresAt(long expiresAt) {
+            return new Handle(path, size, lastModified, contentType, etag, expiresAt, fallback);
+        }
+
+        public Handle asFallback() {
+            return new Handle(path, size, lastModified, contentType, etag, expiresAt, true);
+        }
+    }
+}
@@ -0,0 +1,341 @@
+package com.example.backend.infrastructure.cache;
+
+import com.example.backend.application.dto.response.StoryResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Haber detay yanıtlarını (StoryResponse) id ile, slug -> id eşlemesiyle birlikte bellekte tutar.
+ * Boyut sınırı kayıt sayısı değil ağırlıktır: her kayıt içerik uzunluğu kadar yer kaplar, sınır
+ * aşılınca en uzun süredir okunmayanlar atılır.
+ * Aynı anahtar için eşzamanlı gelen ıskalamalarda veritabanına sadece ilk istek gider, diğerleri
+ * onun sonucunu bekler. Geçersiz kılma, kaydın yerine daha yüksek nesilli bir işaret koyar; bu
+ * işaretten önce başlamış bir yüklemenin getirdiği eski yanıt önbelleğe yazılmaz. İşaret, ondan önce
+ * başlamış yükleme kalmayınca kaldırılır.
+ * Dönen nesne istekler arasında paylaşılır, çağıran değiştirmemelidir.
+ */
+@Component
+public class StoryResponseCache {
+
+    // İçeriğe eklenen sabit pay; başlık, özet ve diğer alanların yaklaşık karakter karşılığı
+    private static final int BASE_WEIGHT = 1024;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${story.response-cache.enabled:true}")
+    private boolean enabled;
+
+    // Karakter cinsinden toplam ağırlık üst sınırı
+    @Value("${story.response-cache.max-weight:20000000}")
+    private long maxWeight;
+
+    // Okunma sayısı, yazar adı, rol ve kategori değişiklikleri geçersiz kılma tetiklemez; en fazla bu süre kadar eski kalır
+    @Value("${story.response-cache.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    private final ConcurrentHashMap<String, Long> idsBySlug = new ConcurrentHashMap<>();
+
+    // Anahtar slug (String) ya da id (Long); devam eden yükleme
+    private final ConcurrentHashMap<Object, Load> loads = new ConcurrentHashMap<>();
+
+    // Geçersiz kılma işaretleri oluşturulma sırasıyla; artık hiçbir yüklemeyi engellemeyenler baştan temizlenir
+    private final ConcurrentLinkedQueue<Tombstone> tombstones = new ConcurrentLinkedQueue<>();
+
+    private final AtomicLong generation = new AtomicLong();
+
+    private final AtomicLong totalWeight = new AtomicLong();
+
+    // Sınır aşıldığında tek bir thread temizlik yapar, diğerleri beklemeden devam eder
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final ReentrantLock sweepLock = new ReentrantLock();
+
+    private Counter hitCounter;
+    private Counter missCounter;
+    private Counter coalescedCounter;
+
+    @PostConstruct
+    void registerMetrics() {
+        hitCounter = Counter.builder("story.response_cache.requests")
+                .tag("result", "hit")
+                .description("Önbellekten karşılanan haber detay istekleri")
+                .register(meterRegistry);
+        missCounter = Counter.builder("story.response_cache.requests")
+                .tag("result", "miss")
+                .description("Veritabanından yüklenen haber detay istekleri")
+                .register(meterRegistry);
+        coalescedCounter = Counter.builder("story.response_cache.requests")
+                .tag("result", "coalesced")
+                .description("Devam eden bir yüklemenin sonucunu bekleyen istekler")
+                .register(meterRegistry);
+        Gauge.builder("story.response_cache.size", entries, ConcurrentHashMap::size)
+                .description("Önbellekteki haber sayısı (geçersiz kılma işaretleri dahil)")
+                .register(meterRegistry);
+        Gauge.builder("story.response_cache.weight", totalWeight, AtomicLong::get)
+                .description("Önbellekteki içeriklerin toplam karakter ağırlığı")
+                .register(meterRegistry);
+    }
+
+    public StoryResponse getBySlug(String slug, Supplier<StoryResponse> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        Long id = idsBySlug.get(slug);
+        if (id != null) {
+            StoryResponse cached = lookup(id);
+            // Başlığı değişen haberin eski slug'ı başka bir habere geçmiş olabilir
+            if (cached != null && slug.equals(cached.getSlug())) {
+                hitCounter.increment();
+                return cached;
+            }
+        }
+        return load(slug, loader);
+    }
+
+    public StoryResponse getById(Long id, Supplier<StoryResponse> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        StoryResponse cached = lookup(id);
+        if (cached != null) {
+            hitCounter.increment();
+            return cached;
+        }
+        return load(id, loader);
+    }
+
+    public void invalidate(Long storyId) {
+        if (storyId == null) {
+            return;
+        }
+        Entry tombstone = new Entry(null, 0, generation.incrementAndGet(), Long.MAX_VALUE);
+        Entry previous = entries.put(storyId, tombstone);
+        if (previous != null) {
+            totalWeight.addAndGet(-previous.weight());
+        }
+        tombstones.add(new Tombstone(storyId, tombstone));
+        sweepTombstones();
+    }
+
+    public void invalidate(Collection<Long> storyIds) {
+        storyIds.forEach(this::invalidate);
+    }
+
+    /**
+     * Transaction varsa geçersiz kılmayı commit sonrasına erteler; commit'ten önce okuyan bir istek
+     * eski yanıtı önbelleğe yazarsa da nesil kontrolü onu reddeder. Geri alınan değişiklik önbelleğe dokunmaz.
+     */
+    public void invalidateAfterCommit(Long storyId) {
+        if (!enabled || storyId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(storyId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(storyId);
+            }
+        });
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long weight() {
+        return totalWeight.get();
+    }
+
+    private StoryResponse lookup(Long id) {
+        Entry entry = entries.get(id);
+        if (entry == null || entry.response() == null) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        if (entry.expiresAt() <= now) {
+            if (entries.remove(id, entry)) {
+                totalWeight.addAndGet(-entry.weight());
+            }
+            return null;
+        }
+        entry.lastAccess = now;
+        return entry.response();
+    }
+
+    private StoryResponse load(Object key, Supplier<StoryResponse> loader) {
+        Load pending = new Load();
+        Load inFlight = loads.putIfAbsent(key, pending);
+        if (inFlight != null) {
+            coalescedCounter.increment();
+            try {
+                return inFlight.result.join();
+            } catch (CompletionException e) {
+                // Yükleyicinin hatası (ör. ResourceNotFoundException) bekleyenlere de aynen iletilir
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        missCounter.increment();
+        // Nesil, yükleme kaydedildikten sonra okunur; temizlik bu yüklemeyi ya görür ya da onu engellemeyen işareti siler
+        long loadGeneration = generation.get();
+        pending.generation = loadGeneration;
+        try {
+            StoryResponse response = loader.get();
+            if (response != null && response.getId() != null) {
+                store(response, loadGeneration);
+            }
+            pending.result.complete(response);
+            return response;
+        } catch (RuntimeException | Error e) {
+            pending.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            loads.remove(key, pending);
+            sweepTombstones();
+        }
+    }
+
+    /**
+     * Kuyruğun başından, en eski süren yüklemeden daha yeni olmayan işaretleri siler; bu işaretlerin
+     * reddedeceği bir yükleme kalmamıştır. Kuyruk nesil sırasına yakındır, daha yeni bir işarette durulur.
+     */
+    private void sweepTombstones() {
+        if (tombstones.isEmpty() || !sweepLock.tryLock()) {
+            return;
+        }
+        try {
+            long oldestLoad = Long.MAX_VALUE;
+            for (Load load : loads.values()) {
+                oldestLoad = Math.min(oldestLoad, load.generation);
+            }
+            Tombstone head;
+            while ((head = tombstones.peek()) != null && head.entry().generation() <= oldestLoad) {
+                tombstones.poll();
+                entries.remove(head.storyId(), head.entry());
+            }
+        } finally {
+            sweepLock.unlock();
+        }
+    }
+
+    private void store(StoryResponse response, long loadGeneration) {
+        long now = System.currentTimeMillis();
+        Entry fresh = new Entry(response, weightOf(response), loadGeneration, now + ttlSeconds * 1000);
+        fresh.lastAccess = now;
+        Entry stored = entries.compute(response.getId(), (id, existing) -> {
+            // Yükleme başladıktan sonra geçersiz kılındıysa okunan değer eskidir
+            if (existing != null && existing.generation() > loadGeneration) {
+                return existing;
+            }
+            if (existing != null) {
+                totalWeight.addAndGet(-existing.weight());
+            }
+            totalWeight.addAndGet(fresh.weight());
+            return fresh;
+        });
+        if (stored == fresh) {
+            idsBySlug.put(response.getSlug(), response.getId());
+            evictIfNeeded(now);
+        }
+    }
+
+    private void evictIfNeeded(long now) {
+        if (totalWeight.get() <= maxWeight || !evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            List<Map.Entry<Long, Entry>> candidates = new ArrayList<>(entries.entrySet());
+            candidates.sort(Comparator.comparingLong(candidate -> candidate.getValue().lastAccess));
+            // %10 boşluk açılır ki her yeni kayıtta tekrar sıralama gerekmesin
+            long target = maxWeight - maxWeight / 10;
+            for (Map.Entry<Long, Entry> candidate : candidates) {
+                if (totalWeight.get() <= target) {
+                    break;
+                }
+                Entry entry = candidate.getValue();
+                // İşaretler de atılır; işaretsiz kalan eski bir yükleme en fazla TTL kadar yaşar
+                if (entries.remove(candidate.getKey(), entry)) {
+                    totalWeight.addAndGet(-entry.weight());
+                }
+            }
+            idsBySlug.values().removeIf(id -> !entries.containsKey(id));
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private static long weightOf(StoryResponse response) {
+        String content = response.getContent();
+        return BASE_WEIGHT + (content != null ? content.length() : 0);
+    }
+
+    private static final class Load {
+        private final CompletableFuture<StoryResponse> result = new CompletableFuture<>();
+        // Nesil okunana kadar hiçbir işaret silinmez
+        private volatile long generation = Long.MIN_VALUE;
+    }
+
+    private record Tombstone(Long storyId, Entry entry) {
+    }
+
+    private static final class Entry {
+        private final StoryResponse response;
+        private final long weight;
+        private final long generation;
+        private final long expiresAt;
+        // Yarışta kaybolan bir güncelleme sadece tahliye sırasını etkiler
+        private volatile long lastAccess;
+
+        private Entry(StoryResponse response, long weight, long generation, long expiresAt) {
+            this.response = response;
+            this.weight = weight;
+            this.generation = generation;
+            this.expiresAt = expiresAt;
+        }
+
+        StoryResponse response() {
+            return response;
+        }
+
+        long weight() {
+            return weight;
+        }
+
+        long generation() {
+            return generation;
+        }
+
+        long expiresAt() {
+            return expiresAt;
+        }
+    }
+}
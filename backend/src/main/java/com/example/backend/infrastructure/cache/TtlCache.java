@@ -0,0 +1,196 @@
+package com.example.backend.infrastructure.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Kayıtları sabit bir süre tutan ConcurrentHashMap tabanlı Spring Cache. Süresi dolan kayıt okunurken
+ * silinir; boyut sınırı aşılınca önce süresi dolanlar, yetmezse rastgele kayıtlar atılır. Null değer
+ * saklanmaz, bulunamayan kayıtlar her seferinde yeniden sorgulanır. Transaction içinden yapılan
+ * silmeler commit'e ertelenir, geri alınan bir değişiklik önbelleği boşaltmaz. Commit sırasında eski
+ * değeri okuyan bir isteğin yazdığı kayıt en fazla TTL süresi kadar yaşar.
+ */
+public class TtlCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final long ttlMillis;
+    private final int maxSize;
+
+    private final ConcurrentHashMap<Object, Entry> store = new ConcurrentHashMap<>();
+
+    // Sınır aşıldığında tek bir thread temizlik yapar, diğerleri beklemeden devam eder
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public TtlCache(String name, Duration ttl, int maxSize) {
+        super(false);
+        this.name = name;
+        this.ttlMillis = ttl.toMillis();
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return store;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Entry entry = store.get(key);
+        if (entry != null && entry.expiresAt() <= System.currentTimeMillis()) {
+            if (store.remove(key, entry)) {
+                evictions.increment();
+            }
+            entry = null;
+        }
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object stored = lookup(key);
+        if (stored != null) {
+            return (T) fromStoreValue(stored);
+        }
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        if (value != null) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        long now = System.currentTimeMillis();
+        store.put(key, new Entry(toStoreValue(value), now + ttlMillis));
+        puts.increment();
+        evictIfNeeded(now);
+    }
+
+    @Override
+    public void evict(Object key) {
+        afterCommit(() -> store.remove(key));
+    }
+
+    @Override
+    public void clear() {
+        afterCommit(store::clear);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    public int size() {
+        return store.size();
+    }
+
+    private void evictIfNeeded(long now) {
+        if (store.size() <= maxSize || !evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            store.entrySet().removeIf(entry -> {
+                boolean expired = entry.getValue().expiresAt() <= now;
+                if (expired) {
+                    evictions.increment();
+                }
+                return expired;
+            });
+            Iterator<Object> iterator = store.keySet().iterator();
+            while (store.size() > maxSize && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                evictions.increment();
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * cache.gets, cache.puts, cache.evictions ve cache.size metriklerini cache etiketiyle kaydeder.
+     */
+    public void bindTo(MeterRegistry registry) {
+        new Metrics(this).bindTo(registry);
+    }
+
+    private record Entry(Object value, long expiresAt) {
+    }
+
+    private static final class Metrics extends CacheMeterBinder<TtlCache> {
+
+        Metrics(TtlCache cache) {
+            super(cache, cache.getName(), List.of());
+        }
+
+        @Override
+        protected Long size() {
+            return (long) getCache().size();
+        }
+
+        @Override
+        protected long hitCount() {
+            return getCache().hits.sum();
+        }
+
+        @Override
+        protected Long missCount() {
+            return getCache().misses.sum();
+        }
+
+        @Override
+        protected Long evictionCount() {
+            return getCache().evictions.sum();
+        }
+
+        @Override
+        protected long putCount() {
+            return getCache().puts.sum();
+        }
+
+        @Override
+        protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+        }
+    }
+}
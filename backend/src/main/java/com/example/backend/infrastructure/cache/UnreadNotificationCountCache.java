@@ -0,0 +1,114 @@
+package com.example.backend.infrastructure.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Kullanıcı başına okunmamış bildirim sayısını bellekte tutar. Bildirim zili her sayfada
+ * bu sayıyı sorduğu için sayaç satırı (bildirim_sayaclari) sadece değer geçersizken okunur.
+ * Kayıt sadece sayıyı soran kullanıcı için açılır; geçersiz kılma var olan kaydın sürümünü artırır,
+ * kaydı olmayan kullanıcı için yer ayırmaz. Yükleme başlamadan kaydın sürümü alınır; sürüm
+ * değiştiyse veritabanından okunan eski değer önbelleğe yazılmaz.
+ * Geçersiz kılma yereldir: başka bir sunucuda yazılan bildirim bu sunucuda en fazla TTL kadar
+ * görünmez. Kayıt sayısı sınırlıdır; aşılınca önce süresi dolanlar, yetmezse sırasız kayıtlar atılır.
+ */
+@Component
+public class UnreadNotificationCountCache {
+
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    // Her yükleme ve geçersiz kılma yeni bir sürüm alır; silinip yeniden açılan kayıt eski sürüme dönmez
+    private final AtomicLong versions = new AtomicLong();
+
+    @Value("${notification.unread-cache.max-entries:50000}")
+    private int maxEntries;
+
+    @Value("${notification.unread-cache.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    public Long get(Long userId, Supplier<Long> loader) {
+        long now = System.currentTimeMillis();
+        Entry current = entries.get(userId);
+        if (current != null && current.count() != null && current.expiresAt() > now) {
+            return current.count();
+        }
+
+        // Okuma sırasında commit edilen bir yazma bu sürümü değiştirir, okunan değer önbelleğe alınmaz
+        long version = versions.incrementAndGet();
+        entries.put(userId, new Entry(version, null, now + ttlSeconds * 1000));
+        Long loaded;
+        try {
+            loaded = loader.get();
+        } catch (RuntimeException e) {
+            entries.computeIfPresent(userId, (id, existing) -> existing.version() == version ? null : existing);
+            throw e;
+        }
+        entries.computeIfPresent(userId, (id, existing) -> {
+            if (existing.version() != version) {
+                return existing;
+            }
+            return loaded != null ? new Entry(version, loaded, now + ttlSeconds * 1000) : null;
+        });
+        if (entries.size() > maxEntries) {
+            evict(now);
+        }
+        return loaded;
+    }
+
+    public void invalidate(Long userId) {
+        entries.computeIfPresent(userId, (id, existing) ->
+                new Entry(versions.incrementAndGet(), null, existing.expiresAt()));
+    }
+
+    /**
+     * Transaction varsa geçersiz kılmayı transaction bitişine erteler; commit öncesi okuyan
+     * bir istek eski sayıyı önbelleğe yazamasın diye sürüm commit'ten sonra artırılır.
+     */
+    public void invalidateAfterCompletion(Long userId) {
+        invalidateAfterCompletion(List.of(userId));
+    }
+
+    public void invalidateAfterCompletion(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            userIds.forEach(this::invalidate);
+            return;
+        }
+        List<Long> ids = List.copyOf(userIds);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                ids.forEach(UnreadNotificationCountCache.this::invalidate);
+            }
+        });
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // Önce süresi dolanlar atılır; yetmezse sınırın onda biri kadar kayıt sırasız bırakılır
+    private void evict(long now) {
+        entries.values().removeIf(entry -> entry.expiresAt() <= now);
+        int toRemove = entries.size() - maxEntries + Math.max(1, maxEntries / 10);
+        Iterator<Long> keys = entries.keySet().iterator();
+        while (toRemove-- > 0 && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private record Entry(long version, Long count, long expiresAt) {
+    }
+}
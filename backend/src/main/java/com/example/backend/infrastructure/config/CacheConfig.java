@@ -0,0 +1,56 @@
+package com.example.backend.infrastructure.config;
+
+import com.example.backend.infrastructure.cache.CacheNames;
+import com.example.backend.infrastructure.cache.TtlCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Kategori ve etiket katalogları için uygulama içi önbellek. Servisler sadece Spring Cache
+ * anotasyonlarını kullanır; başka bir sağlayıcıya geçmek için bu sınıftaki CacheManager değiştirilir.
+ * Önbellek katmanı transaction'ın dışında çalışır: isabetli okuma veritabanı bağlantısı açmaz.
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    @Value("${catalog.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${catalog.cache.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    @Value("${catalog.cache.max-size:1000}")
+    private int maxSize;
+
+    @Bean
+    public CacheManager cacheManager(MeterRegistry meterRegistry) {
+        if (!enabled) {
+            return new NoOpCacheManager();
+        }
+
+        List<Cache> caches = new ArrayList<>();
+        for (String name : List.of(CacheNames.CATEGORIES, CacheNames.CATEGORY_BY_SLUG,
+                CacheNames.TAGS, CacheNames.TAG_BY_SLUG, CacheNames.TAG_ID_BY_NAME)) {
+            TtlCache cache = new TtlCache(name, Duration.ofSeconds(ttlSeconds), maxSize);
+            cache.bindTo(meterRegistry);
+            caches.add(cache);
+        }
+
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(caches);
+        return cacheManager;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.backend.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Periyodik arka plan işleri (sayaç flush, uzlaştırma vb.) için zamanlayıcıyı etkinleştirir.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
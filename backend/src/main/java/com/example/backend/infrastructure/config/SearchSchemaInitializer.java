@@ -0,0 +1,62 @@
+package com.example.backend.infrastructure.config;
+
+import com.example.backend.infrastructure.util.TurkishCharacterUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Tam metin aramanın ihtiyaç duyduğu kolon, tetikleyici ve indeksi kurar. Şema Hibernate
+ * ddl-auto ile yönetildiği ve migration aracı olmadığı için betik her açılışta çalışır;
+ * betik idempotent yazılmıştır.
+ */
+@Component
+public class SearchSchemaInitializer implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchSchemaInitializer.class);
+
+    static final String SCRIPT = "db/migration/V3__story_full_text_search.sql";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${story.search.engine:fulltext}")
+    private String searchEngine;
+
+    @Override
+    public void run(String... args) throws Exception {
+        if (!"fulltext".equals(searchEngine)) {
+            return;
+        }
+        // Fonksiyon gövdeleri ';' içerdiği için betik bölünmeden tek seferde gönderilir
+        jdbcTemplate.execute(loadScript());
+        logger.info("Tam metin arama şeması hazır");
+    }
+
+    /**
+     * Betiği okur ve turkce_katla'nın translate tablosunu TurkishCharacterUtil'den doldurur;
+     * katlamanın tek tanımı Java tablosudur. Sürüm, tablo değişince vektörlerin yeniden hesaplanmasını sağlar.
+     */
+    static String loadScript() throws IOException {
+        String script = StreamUtils.copyToString(new ClassPathResource(SCRIPT).getInputStream(), StandardCharsets.UTF_8);
+        String source = TurkishCharacterUtil.sqlFoldSource();
+        String target = TurkishCharacterUtil.sqlFoldTarget();
+        String version = Integer.toHexString((source + target).hashCode());
+        return script.replace("@KATLA_KAYNAK@", sqlLiteral(source))
+                .replace("@KATLA_HEDEF@", sqlLiteral(target))
+                .replace("@KATLA_SURUM@", version);
+    }
+
+    private static String sqlLiteral(String value) {
+        return value.replace("'", "''");
+    }
+}
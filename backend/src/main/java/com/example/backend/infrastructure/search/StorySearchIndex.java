@@ -0,0 +1,495 @@
+package com.example.backend.infrastructure.search;
+
+import com.example.backend.domain.entity.Story;
+import com.example.backend.infrastructure.util.TurkishCharacterUtil;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Yayınlanmış story'ler için bellekte tutulan ters indeks. story.search.engine=memory iken
+ * arama kutusunun her tuşu veritabanına gitmez.
+ * <p>
+ * Kelimeler TurkishCharacterUtil ile katlanır, her terimin posting listesi doküman sırasına göre
+ * dizili ilkel int dizilerinde tutulur. Terimler sıralı haritada durduğu için önek (otomatik
+ * tamamlama) sorguları bir alt harita taramasıdır. Skorlama BM25'tir; başlık ve özetteki
+ * kelimeler terim frekansına ağırlıklı eklenir.
+ * <p>
+ * Açılışta veritabanından kurulur, StoryServiceImpl'deki değişiklikler commit sonrası artımlı uygulanır.
+ */
+@Component
+public class StorySearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(StorySearchIndex.class);
+
+    static final float K1 = 1.2f;
+    static final float B = 0.75f;
+
+    static final int TITLE_WEIGHT = 3;
+    static final int SUMMARY_WEIGHT = 2;
+    static final int CONTENT_WEIGHT = 1;
+
+    // Kısa bir önek binlerce terime açılabilir; en sık geçen bu kadar terim skorlanır
+    static final int MAX_PREFIX_EXPANSIONS = 64;
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private static final String REBUILD_BATCH_SQL =
+            "SELECT id, baslik, ozet, icerik FROM stories " +
+            "WHERE durum = 'YAYINLANDI' AND is_active = true AND id > ? ORDER BY id LIMIT ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${story.search.engine:fulltext}")
+    private String searchEngine;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // lock ile korunur
+    private IndexData data = new IndexData();
+    private boolean rebuilding;
+    private final List<Consumer<IndexData>> changesDuringRebuild = new ArrayList<>();
+
+    private Timer rebuildTimer;
+
+    @PostConstruct
+    void registerMetrics() {
+        rebuildTimer = Timer.builder("story.search.index.rebuild")
+                .description("Bellek içi arama indeksinin veritabanından kurulma süresi")
+                .register(meterRegistry);
+        Gauge.builder("story.search.index.documents", this, StorySearchIndex::documentCount)
+                .description("Bellek içi arama indeksindeki yayınlanmış story sayısı")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return "memory".equals(searchEngine);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            // Uygulama ayağa kalkar; indeks artımlı güncellemelerle dolmaya devam eder
+            logger.error("Bellek içi arama indeksi kurulamadı", e);
+        }
+    }
+
+    /**
+     * İndeksi veritabanından baştan kurar. Kurulum sürerken gelen değişiklikler eski indekse
+     * uygulanır ve kaydedilir; yeni indeks devreye alınmadan önce aynı sırayla tekrar oynatılır.
+     */
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+            changesDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        IndexData fresh = new IndexData();
+        boolean built = false;
+        try {
+            rebuildTimer.record(() -> load(fresh));
+            built = true;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                // Yarım kalan kurulum devreye alınmaz; eski indeks kullanılmaya devam eder
+                if (built) {
+                    changesDuringRebuild.forEach(change -> change.accept(fresh));
+                    data = fresh;
+                }
+                rebuilding = false;
+                changesDuringRebuild.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        logger.info("Bellek içi arama indeksi kuruldu: {} story, {} terim", fresh.liveDocuments, fresh.postings.size());
+    }
+
+    // Yayınlanmış story'ler id sırasıyla, keyset parçalarıyla okunur
+    private void load(IndexData target) {
+        long lastId = 0L;
+        while (true) {
+            List<Object[]> rows = jdbcTemplate.query(REBUILD_BATCH_SQL,
+                    (rs, rowNum) -> new Object[]{rs.getLong("id"), rs.getString("baslik"),
+                            rs.getString("ozet"), rs.getString("icerik")},
+                    lastId, REBUILD_BATCH_SIZE);
+            for (Object[] row : rows) {
+                target.add((Long) row[0], (String) row[1], (String) row[2], (String) row[3]);
+            }
+            if (rows.size() < REBUILD_BATCH_SIZE) {
+                return;
+            }
+            lastId = (Long) rows.get(rows.size() - 1)[0];
+        }
+    }
+
+    /**
+     * Story'nin güncel hâlini transaction commit edildikten sonra indekse yansıtır. Yayınlanmış ve
+     * aktif story eklenir ya da güncellenir, diğer her durumda indeksten çıkarılır.
+     */
+    public void updateAfterCommit(Story story) {
+        if (!isEnabled() || story.getId() == null) {
+            return;
+        }
+        Long id = story.getId();
+        Consumer<IndexData> change;
+        if (story.getStatus() == Story.StoryStatus.YAYINLANDI && Boolean.TRUE.equals(story.getIsActive())) {
+            String title = story.getTitle();
+            String summary = story.getSummary();
+            String content = story.getContent();
+            change = index -> index.add(id, title, summary, content);
+        } else {
+            change = index -> index.remove(id);
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(change);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(change);
+            }
+        });
+    }
+
+    /**
+     * Terimlerin hepsini (her biri önek olarak) içeren story'leri BM25 skoruna göre sıralar.
+     *
+     * @param terms katlanmış sorgu terimleri
+     * @return istenen sayfadaki story id'leri ve toplam eşleşme sayısı
+     */
+    public SearchResult search(List<String> terms, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            return data.search(terms, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int documentCount() {
+        lock.readLock().lock();
+        try {
+            return data.liveDocuments;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(Consumer<IndexData> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(data);
+            if (rebuilding) {
+                changesDuringRebuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public record SearchResult(List<Long> storyIds, long total) {
+    }
+
+    /**
+     * Bir terimin posting listesi: doküman numarasına göre artan sıralı docs ve aynı sıradaki ağırlıklı frekanslar.
+     */
+    static final class Postings {
+
+        int[] docs = new int[4];
+        int[] freqs = new int[4];
+        int size;
+
+        void put(int doc, int freq) {
+            int index = Arrays.binarySearch(docs, 0, size, doc);
+            if (index >= 0) {
+                freqs[index] = freq;
+                return;
+            }
+            int insertAt = -index - 1;
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            System.arraycopy(docs, insertAt, docs, insertAt + 1, size - insertAt);
+            System.arraycopy(freqs, insertAt, freqs, insertAt + 1, size - insertAt);
+            docs[insertAt] = doc;
+            freqs[insertAt] = freq;
+            size++;
+        }
+
+        void remove(int doc) {
+            int index = Arrays.binarySearch(docs, 0, size, doc);
+            if (index < 0) {
+                return;
+            }
+            System.arraycopy(docs, index + 1, docs, index, size - index - 1);
+            System.arraycopy(freqs, index + 1, freqs, index, size - index - 1);
+            size--;
+        }
+
+        int freq(int doc) {
+            int index = Arrays.binarySearch(docs, 0, size, doc);
+            return index >= 0 ? freqs[index] : 0;
+        }
+    }
+
+    /**
+     * İndeksin kendisi. Story id'leri yoğun doküman numaralarına eşlenir; bir story numarasını
+     * silinse de korur, yeniden yayınlandığında aynı numarayı kullanır.
+     */
+    static final class IndexData {
+
+        final TreeMap<String, Postings> postings = new TreeMap<>();
+        final Map<Long, Integer> docByStoryId = new HashMap<>();
+        long[] storyIds = new long[16];
+        int[] lengths = new int[16];
+        String[][] docTerms = new String[16][];
+        int docCount;
+        int liveDocuments;
+        long totalLength;
+
+        void add(Long storyId, String title, String summary, String content) {
+            remove(storyId);
+
+            Map<String, Integer> freqs = new HashMap<>();
+            int length = countTerms(freqs, title, TITLE_WEIGHT)
+                    + countTerms(freqs, summary, SUMMARY_WEIGHT)
+                    + countTerms(freqs, content, CONTENT_WEIGHT);
+
+            int doc = docByStoryId.computeIfAbsent(storyId, id -> nextDoc(id));
+            for (Map.Entry<String, Integer> entry : freqs.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), term -> new Postings()).put(doc, entry.getValue());
+            }
+            docTerms[doc] = freqs.keySet().toArray(new String[0]);
+            lengths[doc] = length;
+            totalLength += length;
+            liveDocuments++;
+        }
+
+        void remove(Long storyId) {
+            Integer doc = docByStoryId.get(storyId);
+            if (doc == null || docTerms[doc] == null) {
+                return;
+            }
+            for (String term : docTerms[doc]) {
+                Postings list = postings.get(term);
+                list.remove(doc);
+                if (list.size == 0) {
+                    postings.remove(term);
+                }
+            }
+            docTerms[doc] = null;
+            totalLength -= lengths[doc];
+            lengths[doc] = 0;
+            liveDocuments--;
+        }
+
+        SearchResult search(List<String> terms, int offset, int limit) {
+            if (terms.isEmpty() || liveDocuments == 0) {
+                return new SearchResult(List.of(), 0);
+            }
+
+            List<List<Postings>> expansions = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                List<Postings> expanded = expand(term);
+                if (expanded.isEmpty()) {
+                    return new SearchResult(List.of(), 0);
+                }
+                expansions.add(expanded);
+            }
+            // En seçici terimden başlanır; aday kümesi küçük kalır
+            expansions.sort(Comparator.comparingLong(IndexData::documentFrequency));
+
+            float avgLength = (float) totalLength / liveDocuments;
+            Candidates candidates = firstTermCandidates(expansions.get(0), avgLength);
+            for (int i = 1; i < expansions.size() && candidates.size > 0; i++) {
+                candidates.intersect(this, expansions.get(i), avgLength);
+            }
+
+            return topPage(candidates, offset, limit);
+        }
+
+        private List<Postings> expand(String term) {
+            NavigableMap<String, Postings> matches = postings.subMap(term, true, term + Character.MAX_VALUE, false);
+            if (matches.size() <= MAX_PREFIX_EXPANSIONS) {
+                return new ArrayList<>(matches.values());
+            }
+            List<Postings> frequent = new ArrayList<>(matches.values());
+            frequent.sort(Comparator.comparingInt((Postings p) -> p.size).reversed());
+            return new ArrayList<>(frequent.subList(0, MAX_PREFIX_EXPANSIONS));
+        }
+
+        private static long documentFrequency(List<Postings> expanded) {
+            long df = 0;
+            for (Postings list : expanded) {
+                df += list.size;
+            }
+            return df;
+        }
+
+        private Candidates firstTermCandidates(List<Postings> expanded, float avgLength) {
+            // (doc << 32 | skor bitleri) paketlenip sıralanır; aynı dokümanın farklı açılımları yan yana gelir
+            int total = (int) documentFrequency(expanded);
+            long[] packed = new long[total];
+            int n = 0;
+            for (Postings list : expanded) {
+                float idf = idf(list.size);
+                for (int i = 0; i < list.size; i++) {
+                    float score = bm25(idf, list.freqs[i], lengths[list.docs[i]], avgLength);
+                    packed[n++] = ((long) list.docs[i] << 32) | (Float.floatToIntBits(score) & 0xFFFFFFFFL);
+                }
+            }
+            Arrays.sort(packed);
+
+            Candidates candidates = new Candidates(total);
+            for (long entry : packed) {
+                int doc = (int) (entry >>> 32);
+                float score = Float.intBitsToFloat((int) entry);
+                if (candidates.size > 0 && candidates.docs[candidates.size - 1] == doc) {
+                    candidates.scores[candidates.size - 1] += score;
+                } else {
+                    candidates.docs[candidates.size] = doc;
+                    candidates.scores[candidates.size] = score;
+                    candidates.size++;
+                }
+            }
+            return candidates;
+        }
+
+        private SearchResult topPage(Candidates candidates, int offset, int limit) {
+            int wanted = offset + limit;
+            if (offset >= candidates.size || limit <= 0) {
+                return new SearchResult(List.of(), candidates.size);
+            }
+            // Pozitif float bitleri sayısal sırayı korur: (skor bitleri << 32 | doc) tek long olarak karşılaştırılır
+            PriorityQueue<Long> top = new PriorityQueue<>(Math.min(wanted, candidates.size) + 1);
+            for (int i = 0; i < candidates.size; i++) {
+                long key = ((long) Float.floatToIntBits(candidates.scores[i]) << 32) | candidates.docs[i];
+                if (top.size() < wanted) {
+                    top.add(key);
+                } else if (key > top.peek()) {
+                    top.poll();
+                    top.add(key);
+                }
+            }
+            long[] ordered = new long[top.size()];
+            for (int i = ordered.length - 1; i >= 0; i--) {
+                ordered[i] = top.poll();
+            }
+
+            List<Long> ids = new ArrayList<>(Math.min(limit, ordered.length - offset));
+            for (int i = offset; i < ordered.length; i++) {
+                ids.add(storyIds[(int) ordered[i]]);
+            }
+            return new SearchResult(ids, candidates.size);
+        }
+
+        private float idf(int df) {
+            return (float) Math.log(1 + (liveDocuments - df + 0.5) / (df + 0.5));
+        }
+
+        private static float bm25(float idf, int freq, int length, float avgLength) {
+            return idf * freq * (K1 + 1) / (freq + K1 * (1 - B + B * length / avgLength));
+        }
+
+        private int nextDoc(Long storyId) {
+            if (docCount == storyIds.length) {
+                int capacity = docCount * 2;
+                storyIds = Arrays.copyOf(storyIds, capacity);
+                lengths = Arrays.copyOf(lengths, capacity);
+                docTerms = Arrays.copyOf(docTerms, capacity);
+            }
+            storyIds[docCount] = storyId;
+            return docCount++;
+        }
+
+        private static int countTerms(Map<String, Integer> freqs, String text, int weight) {
+            List<String> tokens = TurkishCharacterUtil.tokenize(text);
+            for (String token : tokens) {
+                freqs.merge(token, weight, Integer::sum);
+            }
+            return tokens.size() * weight;
+        }
+    }
+
+    /**
+     * Doküman numarasına göre sıralı aday listesi ve birikmiş skorları.
+     */
+    static final class Candidates {
+
+        final int[] docs;
+        final float[] scores;
+        int size;
+
+        Candidates(int capacity) {
+            docs = new int[capacity];
+            scores = new float[capacity];
+        }
+
+        // Terimin hiçbir açılımında geçmeyen adaylar elenir, kalanların skoruna terimin katkısı eklenir
+        void intersect(IndexData index, List<Postings> expanded, float avgLength) {
+            float[] idfs = new float[expanded.size()];
+            for (int j = 0; j < idfs.length; j++) {
+                idfs[j] = index.idf(expanded.get(j).size);
+            }
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int doc = docs[i];
+                float termScore = 0f;
+                boolean matched = false;
+                for (int j = 0; j < idfs.length; j++) {
+                    int freq = expanded.get(j).freq(doc);
+                    if (freq > 0) {
+                        matched = true;
+                        termScore += IndexData.bm25(idfs[j], freq, index.lengths[doc], avgLength);
+                    }
+                }
+                if (matched) {
+                    docs[kept] = doc;
+                    scores[kept] = scores[i] + termScore;
+                    kept++;
+                }
+            }
+            size = kept;
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.example.backend.infrastructure.security;
 
+import com.example.backend.infrastructure.security.VerifiedTokenCache.VerifiedPrincipal;
 import com.example.backend.infrastructure.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -23,6 +26,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private VerifiedTokenCache verifiedTokenCache;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
@@ -34,37 +40,34 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
+        if (SecurityContextHolder.getContext().getAuthentication() != null) {
+            logger.debug("Authentication already exists in SecurityContext");
+            filterChain.doFilter(request, response);
+            return;
+        }
+
         try {
             final String token = authHeader.substring(7);
-            final String email = jwtUtil.extractEmail(token);
+            // Aynı token daha önce doğrulandıysa imza kontrolü atlanır; değilse bir kez parse edilir
+            final VerifiedPrincipal principal = verifiedTokenCache.get(token, this::verify);
 
-            if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                if (jwtUtil.validateToken(token, email)) {
-                    Long userId = jwtUtil.extractUserId(token);
-                    
-                    // Rolleri token'dan çıkar
-                    List<SimpleGrantedAuthority> authorities = extractAuthoritiesFromToken(token);
-                    logger.debug("Setting authentication for user: " + email + " with authorities: " + authorities);
-                    
-                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            email,
-                            null,
-                            authorities
-                    );
-                    authToken.setDetails(userId); // User ID'yi details'e ekle
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
-                    logger.debug("Authentication set in SecurityContext");
-                } else {
-                    logger.warn("Token validation failed for email: " + email);
-                }
-            } else {
-                if (email == null) {
-                    logger.warn("Email is null in token");
-                }
-                if (SecurityContextHolder.getContext().getAuthentication() != null) {
-                    logger.debug("Authentication already exists in SecurityContext");
-                }
+            if (principal != null) {
+                // Rolleri token'dan çıkar
+                List<SimpleGrantedAuthority> authorities = toAuthorities(principal.roles());
+                logger.debug("Setting authentication for user: " + principal.email() + " with authorities: " + authorities);
+
+                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                        principal.email(),
+                        null,
+                        authorities
+                );
+                authToken.setDetails(principal.userId()); // User ID'yi details'e ekle
+                SecurityContextHolder.getContext().setAuthentication(authToken);
+                logger.debug("Authentication set in SecurityContext");
             }
+        } catch (JwtException | IllegalArgumentException e) {
+            // Süresi dolmuş veya bozuk token istemci hatasıdır; istek anonim olarak devam eder
+            logger.warn("Token validation failed: " + e.getMessage());
         } catch (Exception e) {
             logger.error("JWT token validation failed", e);
         }
@@ -72,9 +75,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private List<SimpleGrantedAuthority> extractAuthoritiesFromToken(String token) {
+    /**
+     * Token'ı doğrular ve e-posta, kullanıcı ID'si ve rolleri aynı claim'lerden okur.
+     */
+    private VerifiedPrincipal verify(String token) {
+        final Claims claims = jwtUtil.parseVerifiedClaims(token);
+        final String email = claims.getSubject();
+        if (email == null) {
+            logger.warn("Email is null in token");
+            return null;
+        }
+        long expiresAt = claims.getExpiration() != null ? claims.getExpiration().getTime() : Long.MAX_VALUE;
+        // Kayıt istekler arasında paylaşıldığı için roller değiştirilemez listeye kopyalanır
+        return new VerifiedPrincipal(email, jwtUtil.extractUserId(claims), List.copyOf(jwtUtil.extractRoles(claims)), expiresAt);
+    }
+
+    private List<SimpleGrantedAuthority> toAuthorities(List<String> roller) {
         try {
-            List<String> roller = jwtUtil.extractRoles(token);
             logger.debug("Extracted roles from token: " + roller);
             if (roller != null && !roller.isEmpty()) {
                 List<SimpleGrantedAuthority> authorities = roller.stream()
@@ -0,0 +1,165 @@
+package com.example.backend.infrastructure.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * İmzası doğrulanmış token'ların çözülmüş kimliğini bellekte tutar. SPA aynı token'ı oturum boyunca
+ * yüzlerce kez gönderir; tekrar eden isteklerde HMAC doğrulaması ve JSON çözümü yerine SHA-256 özeti
+ * ile tek bir map okuması yapılır. Kayıt token'ın kendi süresinden uzun yaşamaz. Token'ın kendisi
+ * saklanmaz, sadece özeti anahtar olarak kullanılır.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${jwt.verified-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${jwt.verified-cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${jwt.verified-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private final ConcurrentHashMap<TokenKey, Entry> entries = new ConcurrentHashMap<>();
+
+    // Sınır aşıldığında tek bir thread temizlik yapar, diğerleri beklemeden devam eder
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private Counter hitCounter;
+    private Counter missCounter;
+
+    @PostConstruct
+    void registerMetrics() {
+        hitCounter = Counter.builder("jwt.verified_cache.requests")
+                .tag("result", "hit")
+                .description("Doğrulanmış token önbelleğinden karşılanan istekler")
+                .register(meterRegistry);
+        missCounter = Counter.builder("jwt.verified_cache.requests")
+                .tag("result", "miss")
+                .description("Token imzasının yeniden doğrulandığı istekler")
+                .register(meterRegistry);
+        Gauge.builder("jwt.verified_cache.size", entries, ConcurrentHashMap::size)
+                .description("Önbellekteki doğrulanmış token sayısı")
+                .register(meterRegistry);
+        Gauge.builder("jwt.verified_cache.hit_ratio", this, VerifiedTokenCache::hitRatio)
+                .description("Önbellek isabet oranı")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Token önbellekte ve süresi dolmamışsa kaydı döner; yoksa verifier ile doğrulayıp saklar.
+     * Verifier'ın fırlattığı hata olduğu gibi yukarı iletilir, null dönerse hiçbir şey saklanmaz.
+     */
+    public VerifiedPrincipal get(String token, Function<String, VerifiedPrincipal> verifier) {
+        if (!enabled) {
+            return verifier.apply(token);
+        }
+
+        TokenKey key = TokenKey.of(token);
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            if (entry.expiresAt() > now) {
+                hitCounter.increment();
+                return entry.principal();
+            }
+            entries.remove(key, entry);
+        }
+
+        missCounter.increment();
+        VerifiedPrincipal principal = verifier.apply(token);
+        if (principal != null) {
+            long expiresAt = Math.min(principal.expiresAt(), now + ttlSeconds * 1000);
+            if (expiresAt > now) {
+                entries.put(key, new Entry(principal, expiresAt));
+                evictIfNeeded(now);
+            }
+        }
+        return principal;
+    }
+
+    /**
+     * Kullanıcıya ait bütün kayıtları siler. Çıkış ve yetki değişikliklerinde çağrılır; sonraki istekte
+     * token yeniden doğrulanır. Nadir bir işlem olduğu için kullanıcı başına ayrı bir indeks tutulmaz.
+     */
+    public void invalidateUser(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        entries.values().removeIf(entry -> userId.equals(entry.principal().userId()));
+    }
+
+    public void invalidate(String token) {
+        entries.remove(TokenKey.of(token));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    double hitRatio() {
+        double hits = hitCounter.count();
+        double total = hits + missCounter.count();
+        return total == 0 ? 0 : hits / total;
+    }
+
+    private void evictIfNeeded(long now) {
+        if (entries.size() <= maxSize || !evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            entries.values().removeIf(entry -> entry.expiresAt() <= now);
+            // Süresi dolan yetmezse %10 boşluk açılır ki her yeni token'da tekrar temizlik gerekmesin
+            int target = maxSize - maxSize / 10;
+            Iterator<TokenKey> iterator = entries.keySet().iterator();
+            while (entries.size() > target && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Token'dan çözülen kimlik. expiresAt token'ın exp değeridir (epoch milisaniye).
+     */
+    public record VerifiedPrincipal(String email, Long userId, List<String> roles, long expiresAt) {
+    }
+
+    private record Entry(VerifiedPrincipal principal, long expiresAt) {
+    }
+
+    // SHA-256 özetinin ilk 128 biti; çakışma olasılığı ihmal edilebilir, String anahtardan daha az yer tutar
+    private record TokenKey(long high, long low) {
+
+        static TokenKey of(String token) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+                ByteBuffer buffer = ByteBuffer.wrap(digest);
+                return new TokenKey(buffer.getLong(), buffer.getLong());
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 desteklenmiyor", e);
+            }
+        }
+    }
+}
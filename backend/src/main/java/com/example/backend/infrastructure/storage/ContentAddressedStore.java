@@ -0,0 +1,180 @@
+package com.example.backend.infrastructure.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Yüklenen içeriği SHA-256 özetiyle adreslenen dosyalarda tutar. Akış tek geçişte hem geçici dosyaya
+ * yazılır hem özetlenir; yerleştirme aynı dosya sistemindeki atomik taşımadır. Yol ab/cd/özet[.uzantı]
+ * biçimindedir, böylece mevcut /api/dosyalar/{a}/{b}/{dosya} ucu dosyayı olduğu gibi sunar.
+ */
+@Component
+public class ContentAddressedStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContentAddressedStore.class);
+
+    private static final String STAGING_DIR = ".staging";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @Value("${file.upload-dir:uploads}")
+    private String uploadDir;
+
+    @Value("${spring.servlet.multipart.max-file-size:10MB}")
+    private DataSize maxUploadSize;
+
+    /**
+     * Akışı geçici dosyaya yazarken özetler. Boyut sınırı aşılırsa geçici dosya silinir ve
+     * UploadTooLargeException fırlatılır.
+     */
+    public StagedBlob stage(InputStream in) throws IOException {
+        Path tempFile = stagingFile();
+
+        MessageDigest digest = sha256();
+        long limit = maxUploadSize.toBytes();
+        long size = 0;
+        try (OutputStream out = new DigestOutputStream(Files.newOutputStream(tempFile), digest)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                size += read;
+                if (size > limit) {
+                    throw new UploadTooLargeException(limit);
+                }
+                out.write(buffer, 0, read);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        return new StagedBlob(tempFile, HexFormat.of().formatHex(digest.digest()), size);
+    }
+
+    /**
+     * Özet ve uzantıdan deponun göreli yolunu üretir; aynı içerik ilk yüklendiği yolu korur.
+     */
+    public String pathFor(String hash, String extension) {
+        return hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash + extension;
+    }
+
+    /**
+     * Göreli yoldaki içerik özeti; dosya adı özet ve varsa uzantıdan oluşur.
+     */
+    public String hashOf(String relativePath) {
+        String fileName = relativePath.substring(relativePath.lastIndexOf('/') + 1);
+        int dot = fileName.indexOf('.');
+        return dot < 0 ? fileName : fileName.substring(0, dot);
+    }
+
+    /**
+     * Geçici dosyayı göreli yola taşır. Aynı içerik zaten diskteyse geçici dosya silinir; bu yüzden
+     * tekrar eden yüklemeler ikinci kez yazılmaz.
+     */
+    public void commit(StagedBlob staged, String relativePath) throws IOException {
+        place(staged.tempFile(), relativePath);
+    }
+
+    /**
+     * Hazırlık dizinindeki dosyayı göreli yola atomik taşır; hedef zaten varsa geçici dosyayı siler.
+     * Türetilmiş dosyalar (resim boyutları) da aynı yoldan yerleştirilir.
+     */
+    public void place(Path tempFile, String relativePath) throws IOException {
+        Path target = resolve(relativePath);
+        if (Files.exists(target)) {
+            Files.deleteIfExists(tempFile);
+            return;
+        }
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            try {
+                Files.move(tempFile, target);
+            } catch (FileAlreadyExistsException alreadyStored) {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (FileAlreadyExistsException e) {
+            // Aynı içeriği eşzamanlı yazan istek önce yerleştirdi
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Yükleme dizini altında, sunulmayan hazırlık dizininde yeni bir geçici dosya yolu.
+     */
+    public Path stagingFile() throws IOException {
+        Path stagingDir = root().resolve(STAGING_DIR);
+        Files.createDirectories(stagingDir);
+        return stagingDir.resolve(UUID.randomUUID() + ".tmp");
+    }
+
+    public void discard(StagedBlob staged) {
+        try {
+            Files.deleteIfExists(staged.tempFile());
+        } catch (IOException e) {
+            logger.warn("Geçici yükleme dosyası silinemedi: {}", staged.tempFile(), e);
+        }
+    }
+
+    public void delete(String relativePath) {
+        try {
+            Files.deleteIfExists(resolve(relativePath));
+        } catch (IOException e) {
+            logger.warn("Ortam dosyası silinemedi: {}", relativePath, e);
+        }
+    }
+
+    /**
+     * Göreli yolun diskteki karşılığı; yükleme dizininin dışına çıkan yollar reddedilir.
+     */
+    public Path resolve(String relativePath) {
+        Path root = root();
+        Path resolved = root.resolve(relativePath).normalize();
+        if (!resolved.startsWith(root)) {
+            throw new IllegalArgumentException("Yükleme dizini dışında yol: " + relativePath);
+        }
+        return resolved;
+    }
+
+    private Path root() {
+        return Paths.get(uploadDir).toAbsolutePath().normalize();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Özetlenmiş ama henüz yerleştirilmemiş yükleme.
+     */
+    public record StagedBlob(Path tempFile, String hash, long size) {
+    }
+
+    public static class UploadTooLargeException extends IOException {
+
+        public UploadTooLargeException(long limit) {
+            super("Dosya boyutu sınırı aşıldı: " + limit + " bayt");
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.backend.infrastructure.storage;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * JDK ImageIO ile sabit genişlikte küçültme. Büyük kaynaklar okunurken alt örneklenir, böylece
+ * 24 MP bir fotoğraf 320 piksellik kart için tam çözünürlükte belleğe açılmaz. Son adım kaliteyi
+ * korumak için yarıya inerek bilinear ölçeklemedir.
+ */
+public final class ImageResizer {
+
+    // Uzantı -> ImageIO biçimi; GIF animasyonu korunamayacağı ve WebP'nin JDK yazıcısı olmadığı için dışarıda
+    private static final Map<String, String> FORMATS = Map.of(
+            ".jpg", "jpeg",
+            ".jpeg", "jpeg",
+            ".png", "png",
+            ".bmp", "bmp");
+
+    private static final float JPEG_QUALITY = 0.85f;
+
+    private ImageResizer() {
+    }
+
+    /**
+     * Uzantının ImageIO biçimi; boyutlandırılamayan dosyalar için null.
+     */
+    public static String formatFor(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        return dot < 0 ? null : FORMATS.get(fileName.substring(dot).toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Kaynağı verilen genişliğe küçültüp hedefe yazar. Kaynak çözülemiyorsa, piksel sınırını
+     * aşıyorsa ya da zaten bu genişlikte veya daha darsa hiçbir şey yazmadan false döner.
+     */
+    public static boolean resize(Path source, Path target, int width, String format, long maxPixels) throws IOException {
+        BufferedImage image = read(source, width, maxPixels);
+        if (image == null || image.getWidth() <= width) {
+            return false;
+        }
+        int height = Math.max(1, (int) Math.round((double) image.getHeight() * width / image.getWidth()));
+        boolean keepAlpha = image.getColorModel().hasAlpha() && !"jpeg".equals(format);
+        return write(scale(image, width, height, keepAlpha), target, format);
+    }
+
+    private static BufferedImage read(Path source, int width, long maxPixels) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int sourceWidth = reader.getWidth(0);
+                int sourceHeight = reader.getHeight(0);
+                if ((long) sourceWidth * sourceHeight > maxPixels || sourceWidth <= width) {
+                    return null;
+                }
+                // Hedefin iki katına kadar alt örnekleme; kalan küçültmeyi ölçekleme yapar
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, sourceWidth / (width * 2));
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage scale(BufferedImage image, int width, int height, boolean keepAlpha) {
+        BufferedImage current = image;
+        int currentWidth = image.getWidth();
+        int currentHeight = image.getHeight();
+        do {
+            currentWidth = Math.max(width, currentWidth / 2);
+            currentHeight = currentWidth == width ? height : Math.max(height, currentHeight / 2);
+            BufferedImage next = new BufferedImage(currentWidth, currentHeight,
+                    keepAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                if (!keepAlpha) {
+                    // JPEG saydamlık taşımaz; saydam alanlar beyaz olur
+                    graphics.setColor(Color.WHITE);
+                    graphics.fillRect(0, 0, currentWidth, currentHeight);
+                }
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (currentWidth > width);
+        return current;
+    }
+
+    private static boolean write(BufferedImage image, Path target, String format) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(format);
+        if (!writers.hasNext()) {
+            return false;
+        }
+        ImageWriter writer = writers.next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if ("jpeg".equals(format)) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(JPEG_QUALITY);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+            return true;
+        } finally {
+            writer.dispose();
+        }
+    }
+}
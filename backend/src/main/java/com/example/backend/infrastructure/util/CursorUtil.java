@@ -0,0 +1,70 @@
+package com.example.backend.infrastructure.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset sayfalama imleçlerini URL güvenli Base64 metne çevirir. İmleç son satırın sıralama
+ * anahtarıdır: (yayınlanma zamanı, id) ya da sadece id. Çözülemeyen imleç IllegalArgumentException fırlatır.
+ */
+public final class CursorUtil {
+
+    // İmleçli uçların tek istekte dönebileceği en fazla satır; istemci büyütemez
+    public static final int MAX_PAGE_SIZE = 50;
+
+    private static final String SEPARATOR = "|";
+
+    private CursorUtil() {
+    }
+
+    /**
+     * İstemcinin istediği sayfa boyutunu 1 ile MAX_PAGE_SIZE arasına çeker.
+     */
+    public static int pageSize(int requested) {
+        return Math.max(1, Math.min(requested, MAX_PAGE_SIZE));
+    }
+
+    public static String encode(LocalDateTime timestamp, Long id) {
+        return encodeText(timestamp + SEPARATOR + id);
+    }
+
+    public static String encode(Long id) {
+        return encodeText(String.valueOf(id));
+    }
+
+    public static TimeKey decodeTimeKey(String cursor) {
+        String text = decodeText(cursor);
+        int separator = text.lastIndexOf(SEPARATOR);
+        if (separator < 0) {
+            throw new IllegalArgumentException("Geçersiz imleç");
+        }
+        try {
+            return new TimeKey(LocalDateTime.parse(text.substring(0, separator)),
+                    Long.parseLong(text.substring(separator + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Geçersiz imleç", e);
+        }
+    }
+
+    public static Long decodeId(String cursor) {
+        try {
+            return Long.parseLong(decodeText(cursor));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Geçersiz imleç", e);
+        }
+    }
+
+    private static String encodeText(String text) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeText(String cursor) {
+        // Geçersiz Base64 de IllegalArgumentException fırlatır
+        return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    }
+
+    public record TimeKey(LocalDateTime timestamp, Long id) {
+    }
+}
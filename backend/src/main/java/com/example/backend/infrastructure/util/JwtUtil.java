@@ -1,6 +1,8 @@
 package com.example.backend.infrastructure.util;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.security.Keys;
@@ -27,8 +29,33 @@ public class JwtUtil {
     @Value("${jwt.expiration}")
     private Long expiration;
 
+    // Anahtar ve parser her token için yeniden kurulmaz; secret değişirse bir sonraki çağrıda yenilenir
+    private volatile SigningContext signingContext;
+
+    private record SigningContext(String secret, SecretKey key, JwtParser parser) {
+    }
+
+    private SigningContext signingContext() {
+        SigningContext context = signingContext;
+        if (context == null || !context.secret().equals(secret)) {
+            SecretKey key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+            context = new SigningContext(secret, key, Jwts.parser().verifyWith(key).build());
+            signingContext = context;
+        }
+        return context;
+    }
+
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        return signingContext().key();
+    }
+
+    /**
+     * Token'ı tek seferde doğrular ve claim'lerini döner. İmza, format ve süre kontrolü parser
+     * tarafından yapılır; geçersiz veya süresi dolmuş token için {@link JwtException} fırlatır.
+     * Aynı istekte birden fazla claim gerekiyorsa token'ı tekrar parse etmek yerine bu sonuç kullanılır.
+     */
+    public Claims parseVerifiedClaims(String token) {
+        return signingContext().parser().parseSignedClaims(token).getPayload();
     }
 
     public String generateToken(String email, Long userId, java.util.Set<String> roller) {
@@ -63,9 +90,13 @@ public class JwtUtil {
         }
     }
 
+    public Long extractUserId(Claims claims) {
+        return claims.get("userId", Long.class);
+    }
+
     public Long extractUserId(String token) {
         try {
-            return extractClaim(token, claims -> claims.get("userId", Long.class));
+            return extractClaim(token, this::extractUserId);
         } catch (MalformedJwtException e) {
             logger.debug("Invalid JWT format while extracting user ID (expected in tests): {}", e.getMessage());
             return null;
@@ -102,11 +133,7 @@ public class JwtUtil {
 
     private Claims extractAllClaims(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return parseVerifiedClaims(token);
         } catch (MalformedJwtException e) {
             logger.debug("Invalid JWT format while parsing claims (expected in tests): {}", e.getMessage());
             throw new RuntimeException("Token parse edilemedi", e);
@@ -153,36 +180,7 @@ public class JwtUtil {
 
     public List<String> extractRoles(String token) {
         try {
-            Claims claims = extractAllClaims(token);
-            Object rollerObj = claims.get("roller");
-            logger.debug("Extracting roles from token, rollerObj type: {}", rollerObj != null ? rollerObj.getClass().getName() : "null");
-            
-            if (rollerObj != null) {
-                if (rollerObj instanceof List) {
-                    List<?> rollerList = (List<?>) rollerObj;
-                    List<String> roles = rollerList.stream()
-                            .map(obj -> {
-                                if (obj == null) return null;
-                                // Handle both String and other types
-                                if (obj instanceof String) {
-                                    return (String) obj;
-                                }
-                                return obj.toString();
-                            })
-                            .filter(role -> role != null && !role.isEmpty())
-                            .collect(java.util.stream.Collectors.toList());
-                    logger.debug("Extracted roles from token: {}", roles);
-                    return roles;
-                } else if (rollerObj instanceof String) {
-                    // Handle single role as string
-                    logger.debug("Single role found: {}", rollerObj);
-                    return Collections.singletonList((String) rollerObj);
-                } else {
-                    logger.warn("Unexpected role object type: {}", rollerObj.getClass().getName());
-                }
-            } else {
-                logger.warn("No roles found in token claims");
-            }
+            return extractRoles(extractAllClaims(token));
         } catch (MalformedJwtException e) {
             logger.debug("Invalid JWT format while extracting roles (expected in tests): {}", e.getMessage());
         } catch (Exception e) {
@@ -190,4 +188,37 @@ public class JwtUtil {
         }
         return Collections.emptyList();
     }
+
+    public List<String> extractRoles(Claims claims) {
+        Object rollerObj = claims.get("roller");
+        logger.debug("Extracting roles from token, rollerObj type: {}", rollerObj != null ? rollerObj.getClass().getName() : "null");
+
+        if (rollerObj != null) {
+            if (rollerObj instanceof List) {
+                List<?> rollerList = (List<?>) rollerObj;
+                List<String> roles = rollerList.stream()
+                        .map(obj -> {
+                            if (obj == null) return null;
+                            // Handle both String and other types
+                            if (obj instanceof String) {
+                                return (String) obj;
+                            }
+                            return obj.toString();
+                        })
+                        .filter(role -> role != null && !role.isEmpty())
+                        .collect(java.util.stream.Collectors.toList());
+                logger.debug("Extracted roles from token: {}", roles);
+                return roles;
+            } else if (rollerObj instanceof String) {
+                // Handle single role as string
+                logger.debug("Single role found: {}", rollerObj);
+                return Collections.singletonList((String) rollerObj);
+            } else {
+                logger.warn("Unexpected role object type: {}", rollerObj.getClass().getName());
+            }
+        } else {
+            logger.warn("No roles found in token claims");
+        }
+        return Collections.emptyList();
+    }
 }
@@ -0,0 +1,68 @@
+package com.example.backend.infrastructure.util;
+
+import java.util.List;
+
+public class SearchHighlightUtil {
+
+    private static final String MARK_OPEN = "<mark>";
+    private static final String MARK_CLOSE = "</mark>";
+
+    /**
+     * Metni HTML için kaçışlar ve arama terimleriyle başlayan kelimeleri &lt;mark&gt; ile sarar.
+     * Eşleşme katlanmış metin üzerinde aranır; foldForSearch uzunluğu koruduğu için konumlar
+     * orijinal metinde de geçerlidir ve vurgu Türkçe karakterleri bozmaz.
+     */
+    public static String highlight(String text, List<String> terms) {
+        if (text == null || text.isEmpty()) {
+            return text;
+        }
+
+        String folded = TurkishCharacterUtil.foldForSearch(text);
+        StringBuilder result = new StringBuilder(text.length() + 16);
+        int i = 0;
+        while (i < text.length()) {
+            if (isWordStart(text, i) && startsWithAnyTerm(folded, i, terms)) {
+                int end = i;
+                while (end < text.length() && Character.isLetterOrDigit(text.charAt(end))) {
+                    end++;
+                }
+                result.append(MARK_OPEN);
+                appendEscaped(result, text, i, end);
+                result.append(MARK_CLOSE);
+                i = end;
+            } else {
+                appendEscaped(result, text, i, i + 1);
+                i++;
+            }
+        }
+        return result.toString();
+    }
+
+    private static boolean isWordStart(String text, int index) {
+        return Character.isLetterOrDigit(text.charAt(index))
+                && (index == 0 || !Character.isLetterOrDigit(text.charAt(index - 1)));
+    }
+
+    private static boolean startsWithAnyTerm(String folded, int index, List<String> terms) {
+        for (String term : terms) {
+            if (folded.startsWith(term, index)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void appendEscaped(StringBuilder result, String text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '<' -> result.append("&lt;");
+                case '>' -> result.append("&gt;");
+                case '&' -> result.append("&amp;");
+                case '"' -> result.append("&quot;");
+                case '\'' -> result.append("&#39;");
+                default -> result.append(c);
+            }
+        }
+    }
+}
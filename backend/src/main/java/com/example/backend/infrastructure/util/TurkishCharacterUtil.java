@@ -1,10 +1,37 @@
 package com.example.backend.infrastructure.util;
 
 import java.text.Normalizer;
-import java.util.regex.Pattern;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
 
 public class TurkishCharacterUtil {
-    
+
+    // normalizeTurkish tablosunun kapsadığı aralık: Latin, Yunan, Kiril ve noktalama blokları
+    private static final int FOLD_TABLE_SIZE = 0x3000;
+    // Tabloda karakterin tamamen atılacağını (birleşik aksan) gösterir
+    private static final char DROP = '\uFFFF';
+    // Tek karaktere inmeyen nadir karakterler; bunlar için Normalizer yoluna düşülür
+    private static final char SLOW_PATH = '\uFFFE';
+    private static final char[] FOLD_TABLE = buildFoldTable();
+    // turkce_katla'nın translate argümanları; tablodan üretilir, SQL ve Java aynı katlamayı yapar
+    private static final String SQL_FOLD_SOURCE;
+    private static final String SQL_FOLD_TARGET;
+
+    static {
+        StringBuilder source = new StringBuilder();
+        StringBuilder target = new StringBuilder();
+        for (char c = 0; c < FOLD_TABLE_SIZE; c++) {
+            char folded = FOLD_TABLE[c];
+            if (folded != c && folded != DROP && folded != SLOW_PATH) {
+                source.append(c);
+                target.append(folded);
+            }
+        }
+        SQL_FOLD_SOURCE = source.toString();
+        SQL_FOLD_TARGET = target.toString();
+    }
+
     /**
      * Türkçe karakterleri İngilizce karşılıklarına çevirir
      * ö -> o, ş -> s, ı -> i, ü -> u, ğ -> g, ç -> c
@@ -13,31 +40,83 @@ public class TurkishCharacterUtil {
         if (text == null) {
             return null;
         }
-        
-        // Unicode normalizasyonu
-        String normalized = Normalizer.normalize(text, Normalizer.Form.NFD);
-        
-        // Türkçe karakterleri değiştir
-        normalized = normalized.replaceAll("ö", "o")
-                              .replaceAll("Ö", "O")
-                              .replaceAll("ş", "s")
-                              .replaceAll("Ş", "S")
-                              .replaceAll("ı", "i")
-                              .replaceAll("İ", "I")
-                              .replaceAll("ü", "u")
-                              .replaceAll("Ü", "U")
-                              .replaceAll("ğ", "g")
-                              .replaceAll("Ğ", "G")
-                              .replaceAll("ç", "c")
-                              .replaceAll("Ç", "C");
-        
-        // Diğer özel karakterleri kaldır
-        Pattern pattern = Pattern.compile("\\p{InCombiningDiacriticalMarks}+");
-        normalized = pattern.matcher(normalized).replaceAll("");
-        
-        return normalized.toLowerCase();
+        StringBuilder target = new StringBuilder(text.length());
+        normalizeTurkish(text, target);
+        return target.toString();
     }
-    
+
+    /**
+     * normalizeTurkish'in ara string üretmeyen hâli; sonucu verilen builder'ın sonuna ekler.
+     * Builder çağıran tarafından temizlenip tekrar kullanılabilir.
+     */
+    public static void normalizeTurkish(CharSequence text, StringBuilder target) {
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c < FOLD_TABLE_SIZE && FOLD_TABLE[c] != SLOW_PATH) {
+                appendFolded(FOLD_TABLE[c], target);
+            } else {
+                i += foldSlowly(Character.codePointAt(text, i), target) - 1;
+            }
+        }
+    }
+
+    /**
+     * char dizisinin bir bölümünü katlar; tokenizer gibi kendi tamponunu yöneten çağıranlar içindir.
+     */
+    public static void normalizeTurkish(char[] source, int offset, int length, StringBuilder target) {
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            char c = source[i];
+            if (c < FOLD_TABLE_SIZE && FOLD_TABLE[c] != SLOW_PATH) {
+                appendFolded(FOLD_TABLE[c], target);
+            } else {
+                i += foldSlowly(Character.codePointAt(source, i, end), target) - 1;
+            }
+        }
+    }
+
+    private static void appendFolded(char folded, StringBuilder target) {
+        if (folded != DROP) {
+            target.append(folded);
+        }
+    }
+
+    // Tablo dışı karakterler için eski davranış: NFD, aksanları at, küçük harfe çevir. Okunan char sayısını döner
+    private static int foldSlowly(int codePoint, StringBuilder target) {
+        String decomposed = Normalizer.normalize(new String(Character.toChars(codePoint)), Normalizer.Form.NFD);
+        for (int j = 0; j < decomposed.length(); ) {
+            int cp = decomposed.codePointAt(j);
+            if (!isCombiningDiacritical(cp)) {
+                target.appendCodePoint(cp == 'ı' ? 'i' : Character.toLowerCase(cp));
+            }
+            j += Character.charCount(cp);
+        }
+        return Character.charCount(codePoint);
+    }
+
+    // Her karakterin NFD + aksan silme + küçük harf sonucu sınıf yüklenirken bir kez hesaplanır
+    private static char[] buildFoldTable() {
+        char[] table = new char[FOLD_TABLE_SIZE];
+        StringBuilder folded = new StringBuilder(4);
+        for (int c = 0; c < FOLD_TABLE_SIZE; c++) {
+            folded.setLength(0);
+            foldSlowly(c, folded);
+            if (folded.length() == 0) {
+                table[c] = DROP;
+            } else if (folded.length() == 1 && folded.charAt(0) != DROP && folded.charAt(0) != SLOW_PATH) {
+                table[c] = folded.charAt(0);
+            } else {
+                table[c] = SLOW_PATH;
+            }
+        }
+        return table;
+    }
+
+    private static boolean isCombiningDiacritical(int codePoint) {
+        return codePoint >= 0x0300 && codePoint <= 0x036F;
+    }
+
     /**
      * Arama için normalize edilmiş string döndürür
      * Hem orijinal hem normalize edilmiş versiyonu içerir
@@ -53,5 +132,74 @@ public class TurkishCharacterUtil {
         // Hem orijinal hem normalize edilmiş karakterleri içeren pattern
         return "%" + original + "%|%" + normalized + "%";
     }
-}
 
+    /**
+     * turkce_katla'daki translate'in kaynak karakterleri: tablonun değiştirdiği her karakter.
+     */
+    public static String sqlFoldSource() {
+        return SQL_FOLD_SOURCE;
+    }
+
+    /**
+     * sqlFoldSource ile aynı sırada katlanmış karşılıklar.
+     */
+    public static String sqlFoldTarget() {
+        return SQL_FOLD_TARGET;
+    }
+
+    /**
+     * Tam metin araması için karakter karakter katlama yapar. normalizeTurkish ile aynı tabloyu
+     * kullanır ama metnin uzunluğunu değiştirmez: atılacak birleşik aksanlar ve tek karaktere
+     * inmeyenler yerinde (küçük harfle) kalır. Böylece katlanmış metinde bulunan konumlar
+     * orijinal metinde vurgulama için kullanılabilir.
+     */
+    public static String foldForSearch(String text) {
+        if (text == null) {
+            return null;
+        }
+        char[] folded = new char[text.length()];
+        for (int i = 0; i < folded.length; i++) {
+            char c = text.charAt(i);
+            char mapped = c < FOLD_TABLE_SIZE ? FOLD_TABLE[c] : SLOW_PATH;
+            folded[i] = mapped == DROP || mapped == SLOW_PATH ? Character.toLowerCase(c) : mapped;
+        }
+        return new String(folded);
+    }
+
+    /**
+     * Arama ifadesini katlanmış, tekrarsız terimlere böler. Harf ve rakam dışındaki her şey ayraçtır.
+     */
+    public static List<String> searchTerms(String query) {
+        return new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+    }
+
+    /**
+     * Metni katlanmış kelimelere böler; tekrarlar korunur, böylece terim frekansı sayılabilir.
+     * Katlama foldForSearch ile (veritabanındaki turkce_katla ile aynı) yapılır, harf ve rakam
+     * dışındaki her kod noktası ayraçtır.
+     */
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String folded = foldForSearch(text);
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i < folded.length(); ) {
+            int codePoint = folded.codePointAt(i);
+            if (Character.isLetterOrDigit(codePoint)) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                tokens.add(folded.substring(start, i));
+                start = -1;
+            }
+            i += Character.charCount(codePoint);
+        }
+        if (start >= 0) {
+            tokens.add(folded.substring(start));
+        }
+        return tokens;
+    }
+}
@@ -7,6 +7,7 @@ import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/yazar-profilleri")
@@ -17,11 +18,11 @@ public class AuthorProfileController {
     private AuthorProfileService authorProfileService;
 
     @GetMapping("/kullanici/{kullaniciId}")
-    public ResponseEntity<AuthorProfileResponse> findByKullaniciId(@PathVariable Long kullaniciId) {
-        AuthorProfileResponse response = authorProfileService.findByUserId(kullaniciId);
+    public ResponseEntity<AuthorProfileResponse> findByKullaniciId(@PathVariable Long kullaniciId, WebRequest request) {
         // Profil yoksa 200 OK ile null döndür (frontend'de handle edilecek)
         // Bu şekilde 404 hatası console'da görünmez
-        return ResponseEntity.ok(response);
+        return ConditionalGet.respond(request, authorProfileService.findVersionByUserId(kullaniciId),
+                () -> authorProfileService.findByUserId(kullaniciId));
     }
 
     @PostMapping("/kullanici/{kullaniciId}")
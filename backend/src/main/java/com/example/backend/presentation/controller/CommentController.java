@@ -3,9 +3,11 @@ package com.example.backend.presentation.controller;
 import com.example.backend.application.dto.request.CommentCreateRequest;
 import com.example.backend.application.dto.response.PageResponse;
 import com.example.backend.application.dto.response.CommentResponse;
+import com.example.backend.application.dto.response.CommentThreadResponse;
 import com.example.backend.application.service.CommentService;
 import com.example.backend.domain.entity.Comment.CommentStatus;
 import com.example.backend.application.exception.UnauthorizedException;
+import com.example.backend.infrastructure.util.CursorUtil;
 import com.example.backend.infrastructure.util.JwtUtil;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -64,6 +66,28 @@ public class CommentController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/haber/{haberId}/agac")
+    public ResponseEntity<CommentThreadResponse> findThread(
+            @PathVariable Long haberId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "3") int yanitLimiti) {
+        CommentThreadResponse response = commentService.findThread(
+                haberId, cursor, CursorUtil.pageSize(size), CursorUtil.pageSize(yanitLimiti));
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{id}/yanitlar")
+    public ResponseEntity<CommentThreadResponse> findReplies(
+            @PathVariable Long id,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "3") int yanitLimiti) {
+        CommentThreadResponse response = commentService.findReplies(
+                id, cursor, CursorUtil.pageSize(size), CursorUtil.pageSize(yanitLimiti));
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/durum/{durum}")
     public ResponseEntity<PageResponse<CommentResponse>> findByDurum(
             @PathVariable CommentStatus durum,
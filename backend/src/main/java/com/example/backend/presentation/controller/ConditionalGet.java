@@ -0,0 +1,37 @@
+package com.example.backend.presentation.controller;
+
+import com.example.backend.application.dto.response.ResourceVersion;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.ZoneId;
+import java.util.function.Supplier;
+
+/**
+ * If-None-Match / If-Modified-Since kontrolü. Sürüm eşleşirse gövde hiç yüklenmez ve 304 döner;
+ * ETag ve Last-Modified başlıklarını checkNotModified yazar. no-cache ile tarayıcı kopyayı saklar ama
+ * her kullanımda yeniden doğrular; sayaçlar Last-Modified'ı değiştirmediği için sezgisel tazelik
+ * kullanılmamalı. İkisi birlikte gönderilirse ETag önceliklidir.
+ */
+final class ConditionalGet {
+
+    private ConditionalGet() {
+    }
+
+    static <T> ResponseEntity<T> respond(WebRequest request, ResourceVersion version, Supplier<T> body) {
+        CacheControl cacheControl = CacheControl.noCache();
+        if (version != null && request.checkNotModified(version.getEtag(), lastModifiedMillis(version))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok().cacheControl(cacheControl).body(body.get());
+    }
+
+    private static long lastModifiedMillis(ResourceVersion version) {
+        // Sıfır ve altı Last-Modified'ın olmadığı anlamına gelir, sadece ETag kullanılır
+        return version.getLastModified() != null
+                ? version.getLastModified().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : -1;
+    }
+}
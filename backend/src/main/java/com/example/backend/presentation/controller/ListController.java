@@ -14,6 +14,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/listeler")
@@ -36,16 +37,15 @@ public class ListController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    // Sürüm tek bir gruplu sorguyla okunur; değişmediyse liste ve kartlar yüklenmeden 304 döner
     @GetMapping("/{id}")
-    public ResponseEntity<ListResponse> findById(@PathVariable Long id) {
-        ListResponse response = listService.findById(id);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<ListResponse> findById(@PathVariable Long id, WebRequest request) {
+        return ConditionalGet.respond(request, listService.findVersionById(id), () -> listService.findById(id));
     }
 
     @GetMapping("/slug/{slug}")
-    public ResponseEntity<ListResponse> findBySlug(@PathVariable String slug) {
-        ListResponse response = listService.findBySlug(slug);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<ListResponse> findBySlug(@PathVariable String slug, WebRequest request) {
+        return ConditionalGet.respond(request, listService.findVersionBySlug(slug), () -> listService.findBySlug(slug));
     }
 
     @GetMapping
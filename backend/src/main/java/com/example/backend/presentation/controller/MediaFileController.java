@@ -3,22 +3,22 @@ package com.example.backend.presentation.controller;
 import com.example.backend.application.dto.response.MediaFileResponse;
 import com.example.backend.application.service.MediaFileService;
 import com.example.backend.application.exception.UnauthorizedException;
+import com.example.backend.infrastructure.cache.MediaFileHandleCache;
 import com.example.backend.infrastructure.util.JwtUtil;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
 
 @RestController
 @RequestMapping("/api/dosyalar")
@@ -33,9 +33,6 @@ public class MediaFileController {
     @Autowired
     private JwtUtil jwtUtil;
 
-    @Value("${file.upload-dir:uploads}")
-    private String uploadDir;
-
     @PostMapping("/yukle")
     public ResponseEntity<MediaFileResponse> dosyaYukle(
             @RequestHeader(value = "Authorization", required = false) String token,
@@ -81,32 +78,48 @@ public class MediaFileController {
         }
     }
 
+    // Gövde multipart ayrıştırması ve ara kopya olmadan doğrudan içerik deposuna akar.
+    // Content-Type dosyanın tipidir; X-Dosya-Adi URL kodlu özgün dosya adıdır (uzantı için)
+    @PostMapping("/yukle/akis")
+    public ResponseEntity<MediaFileResponse> dosyaAkisYukle(
+            @RequestHeader(value = "Authorization", required = false) String token,
+            @RequestHeader(value = "X-Dosya-Adi", required = false) String dosyaAdi,
+            HttpServletRequest request) throws IOException {
+        if (token == null || token.trim().isEmpty()) {
+            throw new UnauthorizedException("Authorization token eksik");
+        }
+        Long kullaniciId = getKullaniciIdFromToken(token);
+        String originalFilename = dosyaAdi != null ? URLDecoder.decode(dosyaAdi, StandardCharsets.UTF_8) : null;
+
+        MediaFileResponse response = mediaFileService.uploadStream(
+                kullaniciId, request.getInputStream(), originalFilename, request.getContentType());
+        logger.info("✅ Dosya akışla yüklendi: {}", response.getUrl());
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    // İçerik tipi kayıtlı mime tipinden gelir; tek aralık istekleri 206 ile, gövde sendfile/transferTo ile yazılır.
+    // boyut verilirse resmin o genişliğe en yakın varyantı döner (kart kapağı için ?boyut=320 gibi)
     @GetMapping("/{year}/{month}/{filename:.+}")
-    public ResponseEntity<Resource> dosyaGetir(
+    public void dosyaGetir(
             @PathVariable String year,
             @PathVariable String month,
-            @PathVariable String filename) {
+            @PathVariable String filename,
+            @RequestParam(required = false) Integer boyut,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        MediaFileHandleCache.Handle handle = boyut != null && boyut > 0
+                ? mediaFileService.findHandle(year, month, filename, boyut)
+                : mediaFileService.findHandle(year, month, filename);
+        String servedName = handle.path().getFileName().toString();
         try {
-            Path filePath = Paths.get(uploadDir, year, month, filename).normalize();
-            Resource resource = new UrlResource(filePath.toUri());
-            
-            if (resource.exists() && resource.isReadable()) {
-                String contentType = "application/octet-stream";
-                try {
-                    contentType = resource.getURL().openConnection().getContentType();
-                } catch (Exception e) {
-                    // Default content type
-                }
-                
-                return ResponseEntity.ok()
-                        .contentType(MediaType.parseMediaType(contentType))
-                        .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + filename + "\"")
-                        .body(resource);
-            } else {
-                return ResponseEntity.notFound().build();
+            MediaRangeResponder.respond(request, response, handle, servedName);
+        } catch (NoSuchFileException e) {
+            // Dosya başka bir sunucuda silinmiş olabilir; kayıt düşürülür ve gövde yazılmadıysa 404 döner
+            mediaFileService.evictHandle(year, month, servedName);
+            if (!response.isCommitted()) {
+                response.reset();
+                response.sendError(HttpServletResponse.SC_NOT_FOUND);
             }
-        } catch (Exception e) {
-            return ResponseEntity.notFound().build();
         }
     }
 
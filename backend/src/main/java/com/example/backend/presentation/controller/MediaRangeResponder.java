@@ -0,0 +1,156 @@
+package com.example.backend.presentation.controller;
+
+import com.example.backend.infrastructure.cache.MediaFileHandleCache;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Medya dosyasını tamamen (200) ya da tek bir bayt aralığı olarak (206) yazar. Tomcat sendfile
+ * destekliyorsa gövde çekirdek tarafından kopyalanır; desteklemiyorsa FileChannel.transferTo kullanılır.
+ * Birden fazla aralık istenirse Range yok sayılır ve dosyanın tamamı döner (RFC 9110 buna izin verir).
+ * UUID adlı dosyalar değişmediği için yanıt bir yıl immutable olarak önbelleğe alınabilir.
+ * Tip yükleyenin bildirdiği değerdir: sadece listedeki resim ve video tipleri inline sunulur, diğerleri
+ * (html, svg vb.) ek olarak indirilir; aksi hâlde site kökeninde betik çalıştırılabilirdi.
+ */
+final class MediaRangeResponder {
+
+    static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    // Varyant yerine sunulan orijinal: aynı URL varyant üretilince değişir, her seferinde doğrulanır
+    static final String FALLBACK_CACHE_CONTROL = "public, no-cache";
+
+    // Tarayıcının betik çalıştıramadığı tipler; svg bilerek yoktur
+    private static final Set<String> INLINE_TYPES = Set.of(
+            "image/jpeg", "image/png", "image/gif", "image/webp", "image/avif", "image/bmp",
+            "video/mp4", "video/webm", "video/ogg", "video/quicktime");
+
+    // Tomcat'in sendfile istek öznitelikleri (org.apache.catalina.Globals)
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private MediaRangeResponder() {
+    }
+
+    static void respond(HttpServletRequest request, HttpServletResponse response,
+                        MediaFileHandleCache.Handle handle, String filename) throws IOException {
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, handle.fallback() ? FALLBACK_CACHE_CONTROL : CACHE_CONTROL);
+        // ETag ve Last-Modified başlıklarını checkNotModified yazar; eşleşirse 304 döner
+        if (new ServletWebRequest(request, response).checkNotModified(handle.etag(), handle.lastModified())) {
+            return;
+        }
+
+        response.setContentType(handle.contentType());
+        String disposition = isInlineSafe(handle.contentType()) ? "inline" : "attachment";
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, disposition + "; filename=\"" + filename + "\"");
+
+        long size = handle.size();
+        long start = 0;
+        long end = size - 1;
+        HttpRange range = singleRange(request, handle);
+        if (range != null) {
+            start = range.getRangeStart(size);
+            end = Math.min(range.getRangeEnd(size), size - 1);
+            if (size == 0 || start >= size || start > end) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+        }
+
+        long length = end - start + 1;
+        response.setContentLengthLong(length);
+        if ("HEAD".equalsIgnoreCase(request.getMethod()) || length == 0) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // Gövde servlet döndükten sonra Tomcat tarafından yazılır; silinmiş dosya orada bağlantıyı keserdi
+            if (!Files.isRegularFile(handle.path())) {
+                throw new NoSuchFileException(handle.path().toString());
+            }
+            request.setAttribute(SENDFILE_FILENAME, handle.path().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        transfer(handle, start, length, response);
+    }
+
+    private static boolean isInlineSafe(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        int parameters = contentType.indexOf(';');
+        String type = (parameters >= 0 ? contentType.substring(0, parameters) : contentType).trim();
+        return INLINE_TYPES.contains(type.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Geçerli tek aralık; Range yoksa, bozuksa, birden fazlaysa veya If-Range eşleşmiyorsa null.
+     */
+    private static HttpRange singleRange(HttpServletRequest request, MediaFileHandleCache.Handle handle) {
+        String header = request.getHeader(HttpHeaders.RANGE);
+        if (header == null || !ifRangeMatches(request, handle)) {
+            return null;
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(header);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static boolean ifRangeMatches(HttpServletRequest request, MediaFileHandleCache.Handle handle) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            // If-Range güçlü karşılaştırma ister; zayıf ETag hiçbir zaman eşleşmez
+            return ifRange.equals(handle.etag());
+        }
+        try {
+            return request.getDateHeader(HttpHeaders.IF_RANGE) / 1000 == handle.lastModified() / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static void transfer(MediaFileHandleCache.Handle handle, long start, long length,
+                                 HttpServletResponse response) throws IOException {
+        try (FileChannel channel = FileChannel.open(handle.path(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long written = channel.transferTo(position, remaining, out);
+                if (written <= 0) {
+                    break;
+                }
+                position += written;
+                remaining -= written;
+            }
+        }
+    }
+}
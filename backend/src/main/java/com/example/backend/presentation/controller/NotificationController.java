@@ -1,16 +1,20 @@
 package com.example.backend.presentation.controller;
 
+import com.example.backend.application.dto.response.CursorPageResponse;
 import com.example.backend.application.dto.response.NotificationResponse;
 import com.example.backend.application.dto.response.PageResponse;
 import com.example.backend.application.service.NotificationService;
 import com.example.backend.application.exception.UnauthorizedException;
+import com.example.backend.infrastructure.util.CursorUtil;
 import com.example.backend.infrastructure.util.JwtUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/bildirimler")
@@ -49,6 +53,17 @@ public class NotificationController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/akis")
+    public ResponseEntity<CursorPageResponse<NotificationResponse>> akis(
+            @RequestHeader("Authorization") String token,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean sadeceOkunmamis) {
+        Long kullaniciId = getKullaniciIdFromToken(token);
+        return ResponseEntity.ok(notificationService.findFeedByUserId(
+                kullaniciId, cursor, CursorUtil.pageSize(size), sadeceOkunmamis));
+    }
+
     @GetMapping("/okunmamis-sayi")
     public ResponseEntity<Long> okunmamisSayisi(@RequestHeader("Authorization") String token) {
         Long kullaniciId = getKullaniciIdFromToken(token);
@@ -56,6 +71,15 @@ public class NotificationController {
         return ResponseEntity.ok(sayi);
     }
 
+    // Okunmamış sayısı ve yeni bildirimler sunucudan itilir; Last-Event-ID ile kaçırılanlar tekrar gönderilir
+    @GetMapping(value = "/canli", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter canli(
+            @RequestHeader("Authorization") String token,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        Long kullaniciId = getKullaniciIdFromToken(token);
+        return notificationService.subscribe(kullaniciId, lastEventId);
+    }
+
     @PatchMapping("/{id}/okundu")
     public ResponseEntity<Void> okunduIsaretle(
             @RequestHeader("Authorization") String token,
@@ -72,6 +96,15 @@ public class NotificationController {
         return ResponseEntity.ok().build();
     }
 
+    @PatchMapping("/okundu-kadar/{sonId}")
+    public ResponseEntity<Integer> okunduIsaretleKadar(
+            @RequestHeader("Authorization") String token,
+            @PathVariable Long sonId) {
+        Long kullaniciId = getKullaniciIdFromToken(token);
+        int guncellenen = notificationService.markAsReadUpTo(kullaniciId, sonId);
+        return ResponseEntity.ok(guncellenen);
+    }
+
     private Long getKullaniciIdFromToken(String token) {
         if (token != null && token.startsWith("Bearer ")) {
             String jwtToken = token.substring(7);
@@ -1,9 +1,11 @@
 package com.example.backend.presentation.controller;
 
+import com.example.backend.application.dto.response.CursorPageResponse;
 import com.example.backend.application.dto.response.PageResponse;
 import com.example.backend.application.dto.response.StoryResponse;
 import com.example.backend.application.service.SavedStoryService;
 import com.example.backend.application.exception.UnauthorizedException;
+import com.example.backend.infrastructure.util.CursorUtil;
 import com.example.backend.infrastructure.util.JwtUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -38,6 +40,16 @@ public class SavedStoryController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/akis")
+    @PreAuthorize("hasAnyRole('ADMIN', 'WRITER', 'USER')")
+    public ResponseEntity<CursorPageResponse<StoryResponse>> akis(
+            @RequestHeader("Authorization") String token,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        Long userId = getUserIdFromToken(token);
+        return ResponseEntity.ok(savedStoryService.findFeedByUserId(userId, cursor, CursorUtil.pageSize(size)));
+    }
+
     @PostMapping("/haber/{haberId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'WRITER', 'USER')")
     public ResponseEntity<Void> kaydet(
@@ -2,11 +2,16 @@ package com.example.backend.presentation.controller;
 
 import com.example.backend.application.dto.request.StoryCreateRequest;
 import com.example.backend.application.dto.request.StoryUpdateRequest;
+import com.example.backend.application.dto.response.CursorPageResponse;
 import com.example.backend.application.dto.response.PageResponse;
+import com.example.backend.application.dto.response.ResourceVersion;
 import com.example.backend.application.dto.response.StoryResponse;
+import com.example.backend.application.dto.response.ViewerStateResponse;
 import com.example.backend.application.service.StoryService;
+import com.example.backend.application.service.ViewerStateService;
 import com.example.backend.domain.entity.Story.StoryStatus;
 import com.example.backend.application.exception.UnauthorizedException;
+import com.example.backend.infrastructure.util.CursorUtil;
 import com.example.backend.infrastructure.util.JwtUtil;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,6 +22,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/haberler")
@@ -26,6 +34,9 @@ public class StoryController {
     @Autowired
     private StoryService storyService;
 
+    @Autowired
+    private ViewerStateService viewerStateService;
+
     @Autowired
     private JwtUtil jwtUtil;
 
@@ -39,16 +50,27 @@ public class StoryController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    // Detay yanıtı önbellekten gelir; sürümü yanıtın kendisinden türetilir, eşleşirse gövde serileştirilmez
     @GetMapping("/{id}")
-    public ResponseEntity<StoryResponse> findById(@PathVariable Long id) {
+    public ResponseEntity<StoryResponse> findById(@PathVariable Long id, WebRequest request) {
         StoryResponse response = storyService.findById(id);
-        return ResponseEntity.ok(response);
+        return ConditionalGet.respond(request, versionOf(response), () -> response);
+    }
+
+    // Akış sayfasındaki kartların beğeni/kayıt/yazar takip durumu tek istekte: ?ids=1,2,3
+    @GetMapping("/izleyici-durumu")
+    @PreAuthorize("hasAnyRole('ADMIN', 'WRITER', 'USER')")
+    public ResponseEntity<ViewerStateResponse> izleyiciDurumu(
+            @RequestHeader("Authorization") String token,
+            @RequestParam List<Long> ids) {
+        Long userId = getUserIdFromToken(token);
+        return ResponseEntity.ok(viewerStateService.getViewerState(userId, ids));
     }
 
     @GetMapping("/slug/{slug}")
-    public ResponseEntity<StoryResponse> findBySlug(@PathVariable String slug) {
+    public ResponseEntity<StoryResponse> findBySlug(@PathVariable String slug, WebRequest request) {
         StoryResponse response = storyService.findBySlug(slug);
-        return ResponseEntity.ok(response);
+        return ConditionalGet.respond(request, versionOf(response), () -> response);
     }
 
     @GetMapping
@@ -61,6 +83,14 @@ public class StoryController {
         return ResponseEntity.ok(response);
     }
 
+    // İmleçli akış: OFFSET ve toplam sayı yok, derin sayfalar da indeks aralığından okunur
+    @GetMapping("/akis")
+    public ResponseEntity<CursorPageResponse<StoryResponse>> akis(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(storyService.findPublishedFeed(cursor, CursorUtil.pageSize(size)));
+    }
+
     @GetMapping("/kullanici/{kullaniciId}")
     public ResponseEntity<PageResponse<StoryResponse>> findByKullanici(
             @PathVariable Long kullaniciId,
@@ -83,6 +113,14 @@ public class StoryController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/kategori/{kategoriId}/akis")
+    public ResponseEntity<CursorPageResponse<StoryResponse>> kategoriAkisi(
+            @PathVariable Long kategoriId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(storyService.findCategoryFeed(kategoriId, cursor, CursorUtil.pageSize(size)));
+    }
+
     @GetMapping("/populer")
     public ResponseEntity<PageResponse<StoryResponse>> getPopular(
             @RequestParam(defaultValue = "0") int page,
@@ -210,5 +248,12 @@ public class StoryController {
         response.setLast(page.isLast());
         return response;
     }
-}
 
+    // Beğeni ve yorum sayıları sayfada görünür ve updatedAt'i değiştirmez, bu yüzden ETag'e ayrıca girer.
+    // Okunma sayısı girmez: her okuma onu artırdığı için okunan her hikâyenin ETag'i sürekli değişirdi
+    private ResourceVersion versionOf(StoryResponse response) {
+        return ResourceVersion.of(response.getUpdatedAt(), response.getId(), response.getSlug(), response.getUpdatedAt(),
+                response.getBegeniSayisi(), response.getYorumSayisi(),
+                response.getKullaniciAdi(), response.getKategoriAdi());
+    }
+}
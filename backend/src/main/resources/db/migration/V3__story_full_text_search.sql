@@ -0,0 +1,45 @@
+-- Story tam metin araması: Türkçe katlanmış tsvector kolonu, tetikleyici ve GIN indeksi.
+-- Uygulama açılışında SearchSchemaInitializer tarafından çalıştırılır; tekrar çalıştırılması güvenlidir.
+-- @KATLA_KAYNAK@, @KATLA_HEDEF@ ve @KATLA_SURUM@ çalıştırılmadan önce TurkishCharacterUtil'in tablosundan doldurulur.
+
+-- TurkishCharacterUtil.foldForSearch ile aynı katlama: NFD + aksan silme + küçük harf, karakter karakter
+-- (uzunluk korunur; snippet konumu katlanmış metinden bulunur). Tablo dışı karakterler sadece küçük harfe iner
+CREATE OR REPLACE FUNCTION turkce_katla(metin text) RETURNS text AS $$
+    SELECT lower(translate(metin, '@KATLA_KAYNAK@', '@KATLA_HEDEF@'));
+$$ LANGUAGE sql IMMUTABLE PARALLEL SAFE;
+
+-- Başlık > özet > içerik ağırlıklarıyla; 'simple' sözlüğü kök bulmaz, Türkçe ekler sorguda önek eşleşmesiyle yakalanır
+CREATE OR REPLACE FUNCTION stories_arama_vektoru(baslik text, ozet text, icerik text) RETURNS tsvector AS $$
+    SELECT setweight(to_tsvector('simple', turkce_katla(coalesce(baslik, ''))), 'A')
+        || setweight(to_tsvector('simple', turkce_katla(coalesce(ozet, ''))), 'B')
+        || setweight(to_tsvector('simple', turkce_katla(coalesce(icerik, ''))), 'C');
+$$ LANGUAGE sql IMMUTABLE PARALLEL SAFE;
+
+CREATE OR REPLACE FUNCTION stories_arama_vektoru_guncelle() RETURNS trigger AS $$
+BEGIN
+    NEW.arama_vektoru := stories_arama_vektoru(NEW.baslik, NEW.ozet, NEW.icerik);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Satırlar kolon ilk eklendiğinde ya da katlama tablosu değiştiğinde doldurulur; sonraki açılışlarda tablo taranmaz
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM information_schema.columns
+                   WHERE table_name = 'stories' AND column_name = 'arama_vektoru') THEN
+        ALTER TABLE stories ADD COLUMN arama_vektoru tsvector;
+    END IF;
+    IF obj_description('turkce_katla(text)'::regprocedure, 'pg_proc') IS DISTINCT FROM '@KATLA_SURUM@' THEN
+        UPDATE stories SET arama_vektoru = stories_arama_vektoru(baslik, ozet, icerik);
+        COMMENT ON FUNCTION turkce_katla(text) IS '@KATLA_SURUM@';
+    END IF;
+END;
+$$;
+
+-- Sadece metin kolonlarına yazan UPDATE tetikler; toplu okunma sayısı güncellemesi vektörü yeniden hesaplatmaz
+DROP TRIGGER IF EXISTS stories_arama_vektoru_trg ON stories;
+CREATE TRIGGER stories_arama_vektoru_trg
+    BEFORE INSERT OR UPDATE OF baslik, ozet, icerik ON stories
+    FOR EACH ROW EXECUTE FUNCTION stories_arama_vektoru_guncelle();
+
+CREATE INDEX IF NOT EXISTS idx_stories_arama_vektoru ON stories USING GIN (arama_vektoru);
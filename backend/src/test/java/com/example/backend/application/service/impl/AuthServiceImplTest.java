@@ -6,12 +6,15 @@ import com.example.backend.application.exception.UnauthorizedException;
 import com.example.backend.domain.entity.User;
 import com.example.backend.domain.entity.Role;
 import com.example.backend.domain.repository.UserRepository;
+import com.example.backend.infrastructure.security.VerifiedTokenCache;
 import com.example.backend.infrastructure.util.JwtUtil;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
@@ -33,6 +36,9 @@ class AuthServiceImplTest {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private VerifiedTokenCache verifiedTokenCache;
+
     @InjectMocks
     private AuthServiceImpl authService;
 
@@ -168,8 +174,24 @@ class AuthServiceImplTest {
 
     @Test
     void logout_shouldCompleteWithoutException() {
-        // logout is a no-op, just verify it doesn't throw
+        // logout without an authenticated user is a no-op, just verify it doesn't throw
         assertDoesNotThrow(() -> authService.logout());
+        verifyNoInteractions(verifiedTokenCache);
+    }
+
+    @Test
+    void logout_shouldInvalidateCachedTokensOfCurrentUser() {
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken("test@example.com", null, java.util.List.of());
+        authentication.setDetails(1L);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        try {
+            authService.logout();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+
+        verify(verifiedTokenCache).invalidateUser(1L);
     }
 }
 
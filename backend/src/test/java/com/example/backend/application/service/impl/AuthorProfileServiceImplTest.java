@@ -2,9 +2,11 @@ package com.example.backend.application.service.impl;
 
 import com.example.backend.application.dto.request.AuthorProfileUpdateRequest;
 import com.example.backend.application.dto.response.AuthorProfileResponse;
+import com.example.backend.application.dto.response.ResourceVersion;
 import com.example.backend.application.exception.ResourceNotFoundException;
 import com.example.backend.domain.entity.AuthorProfile;
 import com.example.backend.domain.entity.User;
+import com.example.backend.domain.projection.AuthorProfileVersionView;
 import com.example.backend.domain.repository.AuthorProfileRepository;
 import com.example.backend.domain.repository.UserRepository;
 import org.junit.jupiter.api.Test;
@@ -12,7 +14,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
+import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -228,5 +233,21 @@ class AuthorProfileServiceImplTest {
         assertNotNull(response);
         assertEquals("Test bio", response.getBio());
     }
-}
 
+    @Test
+    void findVersionByUserId_shouldDeriveEtagWithoutLoadingProfile() {
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 3, 14, 9, 30);
+        AuthorProfileVersionView view = new SpelAwareProxyProjectionFactory().createProjection(AuthorProfileVersionView.class,
+                Map.of("id", 10L, "updatedAt", updatedAt, "username", "author", "totalViewCount", 5L, "totalLikeCount", 2L));
+        when(authorProfileRepository.findVersionByUserId(1L)).thenReturn(Optional.of(view));
+        when(authorProfileRepository.findVersionByUserId(2L)).thenReturn(Optional.empty());
+
+        ResourceVersion version = authorProfileService.findVersionByUserId(1L);
+
+        assertTrue(version.getEtag().startsWith("W/\""));
+        assertEquals(updatedAt, version.getLastModified());
+        assertEquals(version.getEtag(), authorProfileService.findVersionByUserId(1L).getEtag());
+        assertNull(authorProfileService.findVersionByUserId(2L));
+        verify(authorProfileRepository, never()).findByUserId(any());
+    }
+}
@@ -2,14 +2,17 @@ package com.example.backend.application.service.impl;
 
 import com.example.backend.application.dto.request.CommentCreateRequest;
 import com.example.backend.application.dto.response.CommentResponse;
+import com.example.backend.application.dto.response.CommentThreadResponse;
 import com.example.backend.application.exception.BadRequestException;
 import com.example.backend.application.exception.ResourceNotFoundException;
 import com.example.backend.application.service.NotificationService;
+import com.example.backend.application.service.StoryCounterService;
 import com.example.backend.domain.entity.Comment;
 import com.example.backend.domain.entity.Story;
 import com.example.backend.domain.entity.User;
 import com.example.backend.domain.entity.Notification;
 import com.example.backend.domain.entity.Role;
+import com.example.backend.domain.projection.CommentView;
 import com.example.backend.domain.repository.CommentRepository;
 import com.example.backend.domain.repository.StoryRepository;
 import com.example.backend.domain.repository.UserRepository;
@@ -17,6 +20,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,7 +28,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -47,6 +53,9 @@ class CommentServiceImplTest {
     @Mock
     private NotificationService notificationService;
 
+    @Mock
+    private StoryCounterService storyCounterService;
+
     @InjectMocks
     private CommentServiceImpl commentService;
 
@@ -83,6 +92,7 @@ class CommentServiceImplTest {
         savedComment.setStory(story);
         savedComment.setUser(user);
         when(commentRepository.save(any(Comment.class))).thenReturn(savedComment);
+        when(storyCounterService.adjustCommentCount(10L, 1)).thenReturn(1L);
 
         CommentResponse response = commentService.olustur(10L, 2L, request);
 
@@ -90,7 +100,8 @@ class CommentServiceImplTest {
         assertEquals(100L, response.getId());
         assertEquals("Merhaba dünya", response.getContent());
         assertEquals(1L, story.getCommentCount());
-        verify(storyRepository).save(story);
+        verify(storyCounterService).adjustCommentCount(10L, 1);
+        verify(storyRepository, never()).save(any(Story.class));
 
         // Yeni yorum olduğu için YENI_YORUM bildirimi beklenir
         verify(notificationService, times(1)).createNotification(
@@ -126,6 +137,7 @@ class CommentServiceImplTest {
         savedReply.setUser(user);
         savedReply.setParentComment(parent);
         when(commentRepository.save(any(Comment.class))).thenReturn(savedReply);
+        when(storyCounterService.adjustCommentCount(10L, 1)).thenReturn(1L);
 
         CommentResponse response = commentService.olustur(10L, 2L, request);
 
@@ -155,13 +167,14 @@ class CommentServiceImplTest {
 
         when(commentRepository.findById(300L)).thenReturn(Optional.of(comment));
         when(userRepository.findById(2L)).thenReturn(Optional.of(user));
+        when(storyCounterService.adjustCommentCount(10L, -1)).thenReturn(4L);
 
         commentService.sil(300L, 2L);
 
         assertFalse(comment.getIsActive()); // should be marked inactive
         assertEquals(4L, story.getCommentCount());
         verify(commentRepository).save(comment);
-        verify(storyRepository).save(story);
+        verify(storyRepository, never()).save(any(Story.class));
     }
 
     @Test
@@ -220,24 +233,77 @@ class CommentServiceImplTest {
 
     @Test
     void findByStoryId_shouldReturnListOfComments() {
-        Comment comment = new Comment();
-        comment.setId(1L);
-        comment.setContent("Test comment");
-        comment.setUser(user);
-        comment.setStory(story);
-        comment.setStatus(Comment.CommentStatus.ONAYLANDI);
-
-        when(commentRepository.findByStoryIdAndParentCommentIsNullAndStatus(
-                10L, Comment.CommentStatus.ONAYLANDI)).thenReturn(List.of(comment));
-        when(commentRepository.findByParentCommentId(1L, Comment.CommentStatus.ONAYLANDI))
-                .thenReturn(List.of());
+        when(commentRepository.findRootViews(10L, Comment.CommentStatus.ONAYLANDI, Long.MAX_VALUE, Pageable.unpaged()))
+                .thenReturn(List.of(commentView(1L, null)));
+        when(commentRepository.findDescendantViews(Set.of(1L), "ONAYLANDI",
+                CommentServiceImpl.MAX_THREAD_DEPTH, (long) Integer.MAX_VALUE + 1))
+                .thenReturn(List.of(commentView(2L, 1L)));
 
         List<CommentResponse> responses = commentService.findByStoryId(10L);
 
         assertNotNull(responses);
         assertEquals(1, responses.size());
-        verify(commentRepository, times(1)).findByStoryIdAndParentCommentIsNullAndStatus(
-                10L, Comment.CommentStatus.ONAYLANDI);
+        assertEquals(2L, responses.get(0).getReplies().get(0).getId());
+    }
+
+    @Test
+    void findThread_shouldAssembleNestedRepliesAndReturnCursor() {
+        when(commentRepository.findRootViews(10L, Comment.CommentStatus.ONAYLANDI, Long.MAX_VALUE, PageRequest.of(0, 3)))
+                .thenReturn(List.of(commentView(9L, null), commentView(7L, null), commentView(4L, null)));
+        when(commentRepository.findDescendantViews(Set.of(9L, 7L), "ONAYLANDI", CommentServiceImpl.MAX_THREAD_DEPTH, 3L))
+                .thenReturn(List.of(commentView(10L, 7L), commentView(11L, 10L), commentView(12L, 9L)));
+
+        CommentThreadResponse response = commentService.findThread(10L, null, 2, 2);
+
+        assertTrue(response.isHasMore());
+        assertEquals(7L, response.getNextCursor());
+        assertEquals(List.of(9L, 7L), response.getComments().stream().map(CommentResponse::getId).toList());
+        CommentResponse second = response.getComments().get(1);
+        assertEquals(10L, second.getReplies().get(0).getId());
+        assertEquals(11L, second.getReplies().get(0).getReplies().get(0).getId());
+        assertEquals(12L, response.getComments().get(0).getReplies().get(0).getId());
+    }
+
+    @Test
+    void findThread_shouldFlagParentsWithMoreRepliesThanLimit() {
+        when(commentRepository.findRootViews(10L, Comment.CommentStatus.ONAYLANDI, 50L, PageRequest.of(0, 11)))
+                .thenReturn(List.of(commentView(1L, null)));
+        // Sınır 1: ikinci yanıt sadece "daha fazla var" işaretidir, altındaki yanıt da ağaca girmez
+        when(commentRepository.findDescendantViews(Set.of(1L), "ONAYLANDI", CommentServiceImpl.MAX_THREAD_DEPTH, 2L))
+                .thenReturn(List.of(commentView(2L, 1L), commentView(3L, 1L), commentView(4L, 3L)));
+
+        CommentThreadResponse response = commentService.findThread(10L, 50L, 10, 1);
+
+        CommentResponse root = response.getComments().get(0);
+        assertFalse(response.isHasMore());
+        assertNull(response.getNextCursor());
+        assertEquals(1, root.getReplies().size());
+        assertTrue(root.getHasMoreReplies());
+        assertFalse(root.getReplies().get(0).getHasMoreReplies());
+    }
+
+    @Test
+    void findReplies_shouldPageChildrenAfterCursor() {
+        when(commentRepository.findReplyViews(1L, Comment.CommentStatus.ONAYLANDI, 0L, PageRequest.of(0, 21)))
+                .thenReturn(List.of());
+
+        CommentThreadResponse response = commentService.findReplies(1L, null, 20, 3);
+
+        assertTrue(response.getComments().isEmpty());
+        verify(commentRepository, never()).findDescendantViews(any(), anyString(), anyInt(), anyLong());
+    }
+
+    private CommentView commentView(Long id, Long parentId) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("id", id);
+        values.put("content", "Yorum " + id);
+        values.put("status", Comment.CommentStatus.ONAYLANDI);
+        values.put("likeCount", 0L);
+        values.put("userId", 2L);
+        values.put("username", "yorumcu");
+        values.put("storyId", 10L);
+        values.put("parentCommentId", parentId);
+        return new SpelAwareProxyProjectionFactory().createProjection(CommentView.class, values);
     }
 
     @Test
@@ -400,13 +466,14 @@ class CommentServiceImplTest {
 
         when(commentRepository.findById(commentId)).thenReturn(Optional.of(comment));
         when(userRepository.findById(adminId)).thenReturn(Optional.of(admin));
+        when(storyCounterService.adjustCommentCount(10L, -1)).thenReturn(4L);
 
         commentService.sil(commentId, adminId);
 
         assertFalse(comment.getIsActive());
         assertEquals(4L, story.getCommentCount());
         verify(commentRepository, times(1)).save(comment);
-        verify(storyRepository, times(1)).save(story);
+        verify(storyCounterService).adjustCommentCount(10L, -1);
     }
 
     @Test
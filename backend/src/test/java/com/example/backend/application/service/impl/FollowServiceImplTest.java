@@ -6,7 +6,6 @@ import com.example.backend.application.exception.ForbiddenException;
 import com.example.backend.application.exception.ResourceNotFoundException;
 import com.example.backend.application.service.NotificationService;
 import com.example.backend.domain.entity.Follow;
-import com.example.backend.domain.entity.Role;
 import com.example.backend.domain.entity.User;
 import com.example.backend.domain.entity.Notification;
 import com.example.backend.domain.repository.FollowRepository;
@@ -17,10 +16,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -46,24 +45,14 @@ class FollowServiceImplTest {
         Long followerId = 1L;
         Long followedId = 2L;
 
-        when(followRepository.existsByFollowerIdAndFollowedId(followerId, followedId)).thenReturn(false);
-
-        User follower = new User();
-        follower.setId(followerId);
-        follower.setUsername("takipci");
-
-        User followed = new User();
-        followed.setId(followedId);
-        Role userRole = new Role();
-        userRole.setName("USER");
-        followed.setRoles(Set.of(userRole));
-
-        when(userRepository.findById(followerId)).thenReturn(Optional.of(follower));
-        when(userRepository.findById(followedId)).thenReturn(Optional.of(followed));
+        when(userRepository.hasRole(followedId, "ADMIN")).thenReturn(false);
+        when(followRepository.insertIfAbsent(eq(followerId), eq(followedId), any(LocalDateTime.class))).thenReturn(1);
+        when(userRepository.findDisplayNameById(followerId)).thenReturn(Optional.of("takipci"));
 
         followService.follow(followerId, followedId);
 
-        verify(followRepository, times(1)).save(any(Follow.class));
+        verify(followRepository, never()).save(any(Follow.class));
+        verify(userRepository, never()).findById(anyLong());
         verify(notificationService, times(1)).createNotification(
                 eq(followedId),
                 eq("Yeni Takipçi"),
@@ -111,7 +100,7 @@ class FollowServiceImplTest {
         Long userId = 1L;
 
         assertThrows(BadRequestException.class, () -> followService.follow(userId, userId));
-        verify(followRepository, never()).save(any(Follow.class));
+        verify(followRepository, never()).insertIfAbsent(anyLong(), anyLong(), any());
     }
 
     @Test
@@ -119,10 +108,13 @@ class FollowServiceImplTest {
         Long followerId = 1L;
         Long followedId = 2L;
 
-        when(followRepository.existsByFollowerIdAndFollowedId(followerId, followedId)).thenReturn(true);
+        when(userRepository.hasRole(followedId, "ADMIN")).thenReturn(false);
+        when(followRepository.insertIfAbsent(eq(followerId), eq(followedId), any(LocalDateTime.class))).thenReturn(0);
+        when(userRepository.existsById(followerId)).thenReturn(true);
+        when(userRepository.existsById(followedId)).thenReturn(true);
 
         assertThrows(BadRequestException.class, () -> followService.follow(followerId, followedId));
-        verify(followRepository, never()).save(any(Follow.class));
+        verifyNoInteractions(notificationService);
     }
 
     @Test
@@ -130,11 +122,12 @@ class FollowServiceImplTest {
         Long followerId = 999L;
         Long followedId = 2L;
 
-        when(followRepository.existsByFollowerIdAndFollowedId(followerId, followedId)).thenReturn(false);
-        when(userRepository.findById(followerId)).thenReturn(Optional.empty());
+        when(userRepository.hasRole(followedId, "ADMIN")).thenReturn(false);
+        when(followRepository.insertIfAbsent(eq(followerId), eq(followedId), any(LocalDateTime.class))).thenReturn(0);
+        when(userRepository.existsById(followerId)).thenReturn(false);
 
         assertThrows(ResourceNotFoundException.class, () -> followService.follow(followerId, followedId));
-        verify(followRepository, never()).save(any(Follow.class));
+        verifyNoInteractions(notificationService);
     }
 
     @Test
@@ -142,15 +135,15 @@ class FollowServiceImplTest {
         Long followerId = 1L;
         Long followedId = 999L;
 
-        User follower = new User();
-        follower.setId(followerId);
-
-        when(followRepository.existsByFollowerIdAndFollowedId(followerId, followedId)).thenReturn(false);
-        when(userRepository.findById(followerId)).thenReturn(Optional.of(follower));
-        when(userRepository.findById(followedId)).thenReturn(Optional.empty());
+        when(userRepository.hasRole(followedId, "ADMIN")).thenReturn(false);
+        when(followRepository.insertIfAbsent(eq(followerId), eq(followedId), any(LocalDateTime.class))).thenReturn(0);
+        when(userRepository.existsById(followerId)).thenReturn(true);
+        when(userRepository.existsById(followedId)).thenReturn(false);
 
-        assertThrows(ResourceNotFoundException.class, () -> followService.follow(followerId, followedId));
-        verify(followRepository, never()).save(any(Follow.class));
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
+                () -> followService.follow(followerId, followedId));
+        assertEquals("Takip edilecek kullanıcı bulunamadı", exception.getMessage());
+        verifyNoInteractions(notificationService);
     }
 
     @Test
@@ -158,21 +151,10 @@ class FollowServiceImplTest {
         Long followerId = 1L;
         Long followedId = 2L;
 
-        User follower = new User();
-        follower.setId(followerId);
-
-        User admin = new User();
-        admin.setId(followedId);
-        Role adminRole = new Role();
-        adminRole.setName("ADMIN");
-        admin.setRoles(Set.of(adminRole));
-
-        when(followRepository.existsByFollowerIdAndFollowedId(followerId, followedId)).thenReturn(false);
-        when(userRepository.findById(followerId)).thenReturn(Optional.of(follower));
-        when(userRepository.findById(followedId)).thenReturn(Optional.of(admin));
+        when(userRepository.hasRole(followedId, "ADMIN")).thenReturn(true);
 
         assertThrows(ForbiddenException.class, () -> followService.follow(followerId, followedId));
-        verify(followRepository, never()).save(any(Follow.class));
+        verify(followRepository, never()).insertIfAbsent(anyLong(), anyLong(), any());
     }
 
     @Test
@@ -180,24 +162,9 @@ class FollowServiceImplTest {
         Long followerId = 1L;
         Long followedId = 2L;
 
-        User follower = new User();
-        follower.setId(followerId);
-        follower.setUsername(null);
-        follower.setFirstName("John");
-
-        User followed = new User();
-        followed.setId(followedId);
-        Role userRole = new Role();
-        userRole.setName("USER");
-        followed.setRoles(Set.of(userRole));
-
-        when(followRepository.existsByFollowerIdAndFollowedId(followerId, followedId)).thenReturn(false);
-        when(userRepository.findById(followerId)).thenReturn(Optional.of(follower));
-        when(userRepository.findById(followedId)).thenReturn(Optional.of(followed));
-
-        Follow savedFollow = new Follow();
-        savedFollow.setId(1L);
-        when(followRepository.save(any(Follow.class))).thenReturn(savedFollow);
+        when(userRepository.hasRole(followedId, "ADMIN")).thenReturn(false);
+        when(followRepository.insertIfAbsent(eq(followerId), eq(followedId), any(LocalDateTime.class))).thenReturn(1);
+        when(userRepository.findDisplayNameById(followerId)).thenReturn(Optional.of("John"));
 
         followService.follow(followerId, followedId);
 
@@ -216,24 +183,9 @@ class FollowServiceImplTest {
         Long followerId = 1L;
         Long followedId = 2L;
 
-        User follower = new User();
-        follower.setId(followerId);
-        follower.setUsername(null);
-        follower.setFirstName(null);
-
-        User followed = new User();
-        followed.setId(followedId);
-        Role userRole = new Role();
-        userRole.setName("USER");
-        followed.setRoles(Set.of(userRole));
-
-        when(followRepository.existsByFollowerIdAndFollowedId(followerId, followedId)).thenReturn(false);
-        when(userRepository.findById(followerId)).thenReturn(Optional.of(follower));
-        when(userRepository.findById(followedId)).thenReturn(Optional.of(followed));
-
-        Follow savedFollow = new Follow();
-        savedFollow.setId(1L);
-        when(followRepository.save(any(Follow.class))).thenReturn(savedFollow);
+        when(userRepository.hasRole(followedId, "ADMIN")).thenReturn(false);
+        when(followRepository.insertIfAbsent(eq(followerId), eq(followedId), any(LocalDateTime.class))).thenReturn(1);
+        when(userRepository.findDisplayNameById(followerId)).thenReturn(Optional.empty());
 
         followService.follow(followerId, followedId);
 
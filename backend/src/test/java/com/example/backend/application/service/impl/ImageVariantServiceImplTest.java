@@ -0,0 +1,154 @@
+package com.example.backend.application.service.impl;
+
+import com.example.backend.domain.repository.MediaBlobRepository;
+import com.example.backend.infrastructure.storage.ContentAddressedStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImageVariantServiceImplTest {
+
+    @TempDir
+    Path uploadDir;
+
+    @Spy
+    private ContentAddressedStore contentStore = new ContentAddressedStore();
+
+    @Mock
+    private MediaBlobRepository mediaBlobRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private ImageVariantServiceImpl imageVariantService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(contentStore, "uploadDir", uploadDir.toString());
+        ReflectionTestUtils.setField(imageVariantService, "variantWidths", new int[]{1024, 320, 640});
+        ReflectionTestUtils.setField(imageVariantService, "workers", 1);
+        ReflectionTestUtils.setField(imageVariantService, "queueCapacity", 10);
+        ReflectionTestUtils.setField(imageVariantService, "onDemandTimeoutMs", 10000L);
+        ReflectionTestUtils.setField(imageVariantService, "maxPixels", 10_000_000L);
+        imageVariantService.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        imageVariantService.stop();
+    }
+
+    @Test
+    void normalizeWidth_shouldPickSmallestConfiguredWidthThatFits() {
+        assertEquals(320, imageVariantService.normalizeWidth(100));
+        assertEquals(640, imageVariantService.normalizeWidth(321));
+        assertEquals(1024, imageVariantService.normalizeWidth(5000));
+    }
+
+    @Test
+    void variantPath_shouldSitNextToOriginalAndSkipUnsupportedFormats() {
+        assertEquals("ab/cd/abcd_w320.jpg", imageVariantService.variantPath("ab/cd/abcd.jpg", 320));
+        assertNull(imageVariantService.variantPath("ab/cd/abcd.gif", 320));
+    }
+
+    @Test
+    void ensureVariant_shouldGenerateAndRecordWidth() throws IOException {
+        writeImage("ab/cd/abcd.jpg", 1200, 600);
+        runTransactionCallbacks();
+
+        assertTrue(imageVariantService.ensureVariant("ab/cd/abcd.jpg", 320));
+
+        BufferedImage variant = ImageIO.read(uploadDir.resolve("ab/cd/abcd_w320.jpg").toFile());
+        assertEquals(320, variant.getWidth());
+        assertEquals(160, variant.getHeight());
+        verify(mediaBlobRepository).recordVariant(eq("ab/cd/abcd.jpg"), eq("320"), any());
+        assertEquals(1.0, meterRegistry.get("media.image.variants.generated").counter().count());
+    }
+
+    @Test
+    void ensureVariant_shouldReturnFalseWithoutWritingForNarrowImages() throws IOException {
+        writeImage("ab/cd/kucuk.png", 200, 100);
+
+        assertFalse(imageVariantService.ensureVariant("ab/cd/kucuk.png", 320));
+        assertFalse(imageVariantService.ensureVariant("ab/cd/kucuk.png", 320));
+
+        assertFalse(Files.exists(uploadDir.resolve("ab/cd/kucuk_w320.png")));
+        // İkinci istek üretilemeyen varyantı yeniden denemez
+        verify(contentStore, times(1)).stagingFile();
+        verifyNoInteractions(mediaBlobRepository);
+    }
+
+    @Test
+    void ensureVariant_shouldRememberImagesThatCannotBeDecoded() throws IOException {
+        writeImage("ab/cd/bozuk.png", 1200, 600);
+        Path original = uploadDir.resolve("ab/cd/bozuk.png");
+        // Başlık okunur, piksel verisi bozuk: çözücü istisna fırlatır
+        byte[] bytes = Files.readAllBytes(original);
+        Files.write(original, Arrays.copyOf(bytes, 60));
+
+        assertFalse(imageVariantService.ensureVariant("ab/cd/bozuk.png", 320));
+        assertFalse(imageVariantService.ensureVariant("ab/cd/bozuk.png", 320));
+
+        assertFalse(Files.exists(uploadDir.resolve("ab/cd/bozuk_w320.png")));
+        verify(contentStore, times(1)).stagingFile();
+        verifyNoInteractions(mediaBlobRepository);
+    }
+
+    @Test
+    void deleteVariants_shouldRemoveDerivedFilesOnly() throws IOException {
+        writeImage("ab/cd/abcd.jpg", 10, 10);
+        Files.write(uploadDir.resolve("ab/cd/abcd_w320.jpg"), new byte[]{1});
+        Files.write(uploadDir.resolve("ab/cd/abcd_w480.jpg"), new byte[]{1});
+        Files.write(uploadDir.resolve("ab/cd/baska_w320.jpg"), new byte[]{1});
+
+        imageVariantService.deleteVariants("ab/cd/abcd.jpg");
+
+        assertTrue(Files.exists(uploadDir.resolve("ab/cd/abcd.jpg")));
+        assertFalse(Files.exists(uploadDir.resolve("ab/cd/abcd_w320.jpg")));
+        assertFalse(Files.exists(uploadDir.resolve("ab/cd/abcd_w480.jpg")));
+        assertTrue(Files.exists(uploadDir.resolve("ab/cd/baska_w320.jpg")));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runTransactionCallbacks() {
+        doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    private void writeImage(String relativePath, int width, int height) throws IOException {
+        Path path = uploadDir.resolve(relativePath);
+        Files.createDirectories(path.getParent());
+        String format = relativePath.endsWith(".png") ? "png" : "jpeg";
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), format, path.toFile());
+    }
+}
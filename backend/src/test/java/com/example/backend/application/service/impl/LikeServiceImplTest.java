@@ -2,10 +2,10 @@ package com.example.backend.application.service.impl;
 
 import com.example.backend.application.exception.BadRequestException;
 import com.example.backend.application.exception.ResourceNotFoundException;
+import com.example.backend.application.service.StoryCounterService;
 import com.example.backend.domain.entity.Like;
-import com.example.backend.domain.entity.Story;
-import com.example.backend.domain.entity.User;
 import com.example.backend.domain.entity.Notification;
+import com.example.backend.domain.projection.StoryOwnerView;
 import com.example.backend.domain.repository.LikeRepository;
 import com.example.backend.domain.repository.StoryRepository;
 import com.example.backend.domain.repository.UserRepository;
@@ -15,7 +15,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -37,36 +41,41 @@ class LikeServiceImplTest {
     @Mock
     private NotificationService notificationService;
 
+    @Mock
+    private StoryCounterService storyCounterService;
+
     @InjectMocks
     private LikeServiceImpl likeService;
 
+    private final SpelAwareProxyProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+    private StoryOwnerView storyOwner(Long storyId, String title, Long ownerId) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("id", storyId);
+        values.put("title", title);
+        values.put("userId", ownerId);
+        return projectionFactory.createProjection(StoryOwnerView.class, values);
+    }
+
+    private void givenLikeCreated(Long storyId, Long userId, String title, Long ownerId) {
+        when(likeRepository.insertIfAbsent(eq(userId), eq(storyId), any(LocalDateTime.class))).thenReturn(1);
+        when(storyRepository.findOwnerViewById(storyId)).thenReturn(Optional.of(storyOwner(storyId, title, ownerId)));
+    }
+
     @Test
     void like_shouldIncreaseLikeCountAndSendNotification() {
         Long storyId = 1L;
         Long userId = 2L;
 
-        when(likeRepository.existsByUserIdAndStoryId(userId, storyId)).thenReturn(false);
-
-        Story story = new Story();
-        story.setId(storyId);
-        story.setLikeCount(0L);
-        story.setTitle("Test Story");
-        User storyOwner = new User();
-        storyOwner.setId(3L);
-        story.setUser(storyOwner);
-
-        User user = new User();
-        user.setId(userId);
-        user.setUsername("liker");
-
-        when(storyRepository.findById(storyId)).thenReturn(Optional.of(story));
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        givenLikeCreated(storyId, userId, "Test Story", 3L);
+        when(userRepository.findDisplayNameById(userId)).thenReturn(Optional.of("liker"));
 
         likeService.like(storyId, userId);
 
-        assertEquals(1L, story.getLikeCount());
-        verify(likeRepository, times(1)).save(any(Like.class));
-        verify(storyRepository, times(1)).save(story);
+        verify(storyCounterService).adjustLikeCount(storyId, 1);
+        verify(likeRepository, never()).save(any(Like.class));
+        verify(storyRepository, never()).findById(anyLong());
+        verify(userRepository, never()).findById(anyLong());
         verify(notificationService, times(1)).createNotification(
                 eq(3L),
                 eq("Yazınız Beğenildi"),
@@ -82,20 +91,12 @@ class LikeServiceImplTest {
         Long storyId = 1L;
         Long userId = 2L;
 
-        Story story = new Story();
-        story.setId(storyId);
-        story.setLikeCount(5L);
-
-        Like like = new Like();
-        like.setStory(story);
-
-        when(likeRepository.findByUserIdAndStoryId(userId, storyId)).thenReturn(Optional.of(like));
+        when(likeRepository.deleteByUserIdAndStoryId(userId, storyId)).thenReturn(1);
 
         likeService.unlike(storyId, userId);
 
-        verify(likeRepository, times(1)).delete(like);
-        assertEquals(4L, story.getLikeCount());
-        verify(storyRepository, times(1)).save(story);
+        verify(storyCounterService).adjustLikeCount(storyId, -1);
+        verify(storyRepository, never()).save(any());
     }
 
     @Test
@@ -103,10 +104,13 @@ class LikeServiceImplTest {
         Long storyId = 1L;
         Long userId = 2L;
 
-        when(likeRepository.existsByUserIdAndStoryId(userId, storyId)).thenReturn(true);
+        when(likeRepository.insertIfAbsent(eq(userId), eq(storyId), any(LocalDateTime.class))).thenReturn(0);
+        when(storyRepository.existsById(storyId)).thenReturn(true);
+        when(userRepository.existsById(userId)).thenReturn(true);
 
         assertThrows(BadRequestException.class, () -> likeService.like(storyId, userId));
-        verify(likeRepository, never()).save(any(Like.class));
+        verify(storyCounterService, never()).adjustLikeCount(anyLong(), anyLong());
+        verifyNoInteractions(notificationService);
     }
 
     @Test
@@ -114,27 +118,12 @@ class LikeServiceImplTest {
         Long storyId = 1L;
         Long userId = 2L;
 
-        when(likeRepository.existsByUserIdAndStoryId(userId, storyId)).thenReturn(false);
-
-        Story story = new Story();
-        story.setId(storyId);
-        story.setLikeCount(0L);
-        story.setTitle("Test Story");
-        User storyOwner = new User();
-        storyOwner.setId(userId); // Same user
-        story.setUser(storyOwner);
-
-        User user = new User();
-        user.setId(userId);
-        user.setUsername("owner");
-
-        when(storyRepository.findById(storyId)).thenReturn(Optional.of(story));
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        givenLikeCreated(storyId, userId, "Test Story", userId);
 
         likeService.like(storyId, userId);
 
-        assertEquals(1L, story.getLikeCount());
-        verify(likeRepository, times(1)).save(any(Like.class));
+        verify(storyCounterService).adjustLikeCount(storyId, 1);
+        verify(userRepository, never()).findDisplayNameById(anyLong());
         verify(notificationService, never()).createNotification(anyLong(), anyString(), anyString(), any(), anyLong(), any());
     }
 
@@ -143,10 +132,10 @@ class LikeServiceImplTest {
         Long storyId = 1L;
         Long userId = 2L;
 
-        when(likeRepository.findByUserIdAndStoryId(userId, storyId)).thenReturn(Optional.empty());
+        when(likeRepository.deleteByUserIdAndStoryId(userId, storyId)).thenReturn(0);
 
         assertThrows(ResourceNotFoundException.class, () -> likeService.unlike(storyId, userId));
-        verify(likeRepository, never()).delete(any(Like.class));
+        verify(storyCounterService, never()).adjustLikeCount(anyLong(), anyLong());
     }
 
     @Test
@@ -193,11 +182,11 @@ class LikeServiceImplTest {
         Long storyId = 999L;
         Long userId = 2L;
 
-        when(likeRepository.existsByUserIdAndStoryId(userId, storyId)).thenReturn(false);
-        when(storyRepository.findById(storyId)).thenReturn(Optional.empty());
+        when(likeRepository.insertIfAbsent(eq(userId), eq(storyId), any(LocalDateTime.class))).thenReturn(0);
+        when(storyRepository.existsById(storyId)).thenReturn(false);
 
         assertThrows(ResourceNotFoundException.class, () -> likeService.like(storyId, userId));
-        verify(likeRepository, never()).save(any(Like.class));
+        verify(storyCounterService, never()).adjustLikeCount(anyLong(), anyLong());
     }
 
     @Test
@@ -205,15 +194,12 @@ class LikeServiceImplTest {
         Long storyId = 1L;
         Long userId = 999L;
 
-        Story story = new Story();
-        story.setId(storyId);
-
-        when(likeRepository.existsByUserIdAndStoryId(userId, storyId)).thenReturn(false);
-        when(storyRepository.findById(storyId)).thenReturn(Optional.of(story));
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        when(likeRepository.insertIfAbsent(eq(userId), eq(storyId), any(LocalDateTime.class))).thenReturn(0);
+        when(storyRepository.existsById(storyId)).thenReturn(true);
+        when(userRepository.existsById(userId)).thenReturn(false);
 
         assertThrows(ResourceNotFoundException.class, () -> likeService.like(storyId, userId));
-        verify(likeRepository, never()).save(any(Like.class));
+        verify(storyCounterService, never()).adjustLikeCount(anyLong(), anyLong());
     }
 
     @Test
@@ -221,27 +207,9 @@ class LikeServiceImplTest {
         Long storyId = 1L;
         Long userId = 2L;
 
-        when(likeRepository.existsByUserIdAndStoryId(userId, storyId)).thenReturn(false);
-
-        Story story = new Story();
-        story.setId(storyId);
-        story.setLikeCount(0L);
-        story.setTitle("Test Story");
-        User storyOwner = new User();
-        storyOwner.setId(3L);
-        story.setUser(storyOwner);
-
-        User user = new User();
-        user.setId(userId);
-        user.setUsername(null);
-        user.setFirstName("John");
-
-        when(storyRepository.findById(storyId)).thenReturn(Optional.of(story));
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-
-        Like savedLike = new Like();
-        savedLike.setId(1L);
-        when(likeRepository.save(any(Like.class))).thenReturn(savedLike);
+        givenLikeCreated(storyId, userId, "Test Story", 3L);
+        // Kullanıcı adı yoksa sorgudaki COALESCE adı döner
+        when(userRepository.findDisplayNameById(userId)).thenReturn(Optional.of("John"));
 
         likeService.like(storyId, userId);
 
@@ -260,27 +228,8 @@ class LikeServiceImplTest {
         Long storyId = 1L;
         Long userId = 2L;
 
-        when(likeRepository.existsByUserIdAndStoryId(userId, storyId)).thenReturn(false);
-
-        Story story = new Story();
-        story.setId(storyId);
-        story.setLikeCount(0L);
-        story.setTitle("Test Story");
-        User storyOwner = new User();
-        storyOwner.setId(3L);
-        story.setUser(storyOwner);
-
-        User user = new User();
-        user.setId(userId);
-        user.setUsername(null);
-        user.setFirstName(null);
-
-        when(storyRepository.findById(storyId)).thenReturn(Optional.of(story));
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-
-        Like savedLike = new Like();
-        savedLike.setId(1L);
-        when(likeRepository.save(any(Like.class))).thenReturn(savedLike);
+        givenLikeCreated(storyId, userId, "Test Story", 3L);
+        when(userRepository.findDisplayNameById(userId)).thenReturn(Optional.empty());
 
         likeService.like(storyId, userId);
 
@@ -298,28 +247,10 @@ class LikeServiceImplTest {
     void like_shouldTruncateLongTitle() {
         Long storyId = 1L;
         Long userId = 2L;
-
-        when(likeRepository.existsByUserIdAndStoryId(userId, storyId)).thenReturn(false);
-
-        Story story = new Story();
-        story.setId(storyId);
-        story.setLikeCount(0L);
         String longTitle = "a".repeat(100);
-        story.setTitle(longTitle);
-        User storyOwner = new User();
-        storyOwner.setId(3L);
-        story.setUser(storyOwner);
 
-        User user = new User();
-        user.setId(userId);
-        user.setUsername("liker");
-
-        when(storyRepository.findById(storyId)).thenReturn(Optional.of(story));
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-
-        Like savedLike = new Like();
-        savedLike.setId(1L);
-        when(likeRepository.save(any(Like.class))).thenReturn(savedLike);
+        givenLikeCreated(storyId, userId, longTitle, 3L);
+        when(userRepository.findDisplayNameById(userId)).thenReturn(Optional.of("liker"));
 
         likeService.like(storyId, userId);
 
@@ -334,23 +265,16 @@ class LikeServiceImplTest {
     }
 
     @Test
-    void unlike_shouldNotDecreaseBelowZero() {
+    void unlike_shouldNotLoadLikeOrStory() {
         Long storyId = 1L;
         Long userId = 2L;
 
-        Story story = new Story();
-        story.setId(storyId);
-        story.setLikeCount(0L); // Already at zero
-
-        Like like = new Like();
-        like.setStory(story);
-
-        when(likeRepository.findByUserIdAndStoryId(userId, storyId)).thenReturn(Optional.of(like));
+        // Sıfırın altına inmemeyi UPDATE'teki GREATEST sağlar; servis entity yüklemeden tek DELETE çalıştırır
+        when(likeRepository.deleteByUserIdAndStoryId(userId, storyId)).thenReturn(1);
 
         likeService.unlike(storyId, userId);
 
-        assertEquals(0L, story.getLikeCount()); // Should stay at 0, not go negative
-        verify(storyRepository, times(1)).save(story);
+        verify(likeRepository, never()).findByUserIdAndStoryId(anyLong(), anyLong());
+        verifyNoInteractions(storyRepository);
     }
 }
-
@@ -2,11 +2,14 @@ package com.example.backend.application.service.impl;
 
 import com.example.backend.application.dto.request.ListCreateRequest;
 import com.example.backend.application.dto.response.ListResponse;
+import com.example.backend.application.dto.response.ResourceVersion;
 import com.example.backend.application.exception.BadRequestException;
 import com.example.backend.application.exception.ResourceNotFoundException;
 import com.example.backend.domain.entity.ListEntity;
 import com.example.backend.domain.entity.Story;
 import com.example.backend.domain.entity.User;
+import com.example.backend.domain.projection.ListStoryCardView;
+import com.example.backend.domain.projection.ListVersionView;
 import com.example.backend.domain.repository.ListRepository;
 import com.example.backend.domain.repository.StoryRepository;
 import com.example.backend.domain.repository.UserRepository;
@@ -14,14 +17,18 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.HashMap;
+import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -381,5 +388,79 @@ class ListServiceImplTest {
 
         assertThrows(ResourceNotFoundException.class, () -> listService.haberCikar(listId, storyId, userId));
     }
-}
 
+    @Test
+    void findByKullaniciId_shouldLoadStoriesOfAllListsInSingleQuery() {
+        Long userId = 1L;
+        Pageable pageable = PageRequest.of(0, 10);
+
+        User user = new User();
+        user.setId(userId);
+        user.setUsername("testuser");
+
+        ListEntity first = new ListEntity();
+        first.setId(1L);
+        first.setName("Birinci");
+        first.setUser(user);
+        ListEntity second = new ListEntity();
+        second.setId(2L);
+        second.setName("İkinci");
+        second.setUser(user);
+
+        when(listRepository.findByUserIdAndIsActiveTrue(userId, pageable))
+                .thenReturn(new PageImpl<>(List.of(first, second)));
+        when(listRepository.findStoryCardsByListIdIn(List.of(1L, 2L)))
+                .thenReturn(List.of(card(1L, 10L, null, "yazar@example.com"), card(1L, 11L, "yazar", null)));
+
+        Page<ListResponse> response = listService.findByKullaniciId(userId, pageable);
+
+        assertEquals(2, response.getContent().get(0).getStories().size());
+        assertEquals("yazar@example.com", response.getContent().get(0).getStories().get(0).getKullaniciAdi());
+        assertNull(response.getContent().get(0).getStories().get(0).getIcerik());
+        assertTrue(response.getContent().get(1).getStories().isEmpty());
+        verify(listRepository, times(1)).findStoryCardsByListIdIn(any());
+    }
+
+    @Test
+    void findVersionById_shouldChangeWhenListStoriesChange() {
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 3, 14, 9, 30);
+        when(listRepository.findVersionById(1L))
+                .thenReturn(Optional.of(version(updatedAt, "0f3a")))
+                .thenReturn(Optional.of(version(updatedAt, "9c41")));
+
+        ResourceVersion before = listService.findVersionById(1L);
+        ResourceVersion after = listService.findVersionById(1L);
+
+        assertTrue(before.getEtag().startsWith("W/\""));
+        assertEquals(updatedAt, before.getLastModified());
+        assertNotEquals(before.getEtag(), after.getEtag());
+        verify(listRepository, never()).findById(any());
+    }
+
+    @Test
+    void findVersionBySlug_shouldReturnNullWhenListDoesNotExist() {
+        when(listRepository.findVersionBySlug("yok")).thenReturn(Optional.empty());
+
+        assertNull(listService.findVersionBySlug("yok"));
+    }
+
+    private ListVersionView version(LocalDateTime updatedAt, String storiesHash) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("id", 1L);
+        values.put("updatedAt", updatedAt);
+        values.put("username", "listuser");
+        values.put("storiesHash", storiesHash);
+        return new SpelAwareProxyProjectionFactory().createProjection(ListVersionView.class, values);
+    }
+
+    private ListStoryCardView card(Long listId, Long storyId, String username, String email) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("listId", listId);
+        values.put("id", storyId);
+        values.put("title", "Story " + storyId);
+        values.put("userId", 5L);
+        values.put("username", username);
+        values.put("userEmail", email);
+        return new SpelAwareProxyProjectionFactory().createProjection(ListStoryCardView.class, values);
+    }
+}
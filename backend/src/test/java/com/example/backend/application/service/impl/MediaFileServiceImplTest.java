@@ -4,19 +4,35 @@ import com.example.backend.application.dto.response.MediaFileResponse;
 import com.example.backend.application.exception.ForbiddenException;
 import com.example.backend.application.exception.ResourceNotFoundException;
 import com.example.backend.domain.entity.MediaFile;
+import com.example.backend.application.exception.BadRequestException;
+import com.example.backend.application.service.ImageVariantService;
+import com.example.backend.domain.repository.MediaBlobRepository;
 import com.example.backend.domain.repository.MediaFileRepository;
+import com.example.backend.infrastructure.cache.MediaFileHandleCache;
+import com.example.backend.infrastructure.storage.ContentAddressedStore;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -31,6 +47,24 @@ class MediaFileServiceImplTest {
     @Mock
     private MultipartFile multipartFile;
 
+    @Mock
+    private MediaFileHandleCache handleCache;
+
+    @Mock
+    private MediaBlobRepository mediaBlobRepository;
+
+    @Mock
+    private ContentAddressedStore contentStore;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ImageVariantService imageVariantService;
+
     @InjectMocks
     private MediaFileServiceImpl mediaFileService;
 
@@ -74,6 +108,7 @@ class MediaFileServiceImplTest {
         mediaFileService.deleteFile(fileId, userId);
 
         verify(mediaFileRepository, times(1)).delete(mediaFile);
+        verify(handleCache).invalidate("2024/01/test.jpg");
     }
 
     @Test
@@ -110,5 +145,307 @@ class MediaFileServiceImplTest {
         assertThrows(ResourceNotFoundException.class, () -> mediaFileService.deleteFile(fileId, userId));
         verify(mediaFileRepository, never()).delete(any(MediaFile.class));
     }
-}
 
+    @Test
+    void findHandle_shouldUseStoredMimeTypeWithoutProbingFile() throws IOException {
+        Path tempDir = Files.createTempDirectory("test-uploads");
+        Files.createDirectories(tempDir.resolve("2024/01"));
+        Files.write(tempDir.resolve("2024/01/video.bin"), new byte[]{1, 2, 3});
+        ReflectionTestUtils.setField(mediaFileService, "uploadDir", tempDir.toString());
+        loadThroughCache();
+        when(mediaFileRepository.findMimeTypeByFilePath("2024/01/video.bin")).thenReturn(Optional.of("video/mp4"));
+
+        MediaFileHandleCache.Handle handle = mediaFileService.findHandle("2024", "01", "video.bin");
+
+        assertEquals("video/mp4", handle.contentType());
+        assertEquals(3L, handle.size());
+        assertEquals("\"video.bin\"", handle.etag());
+    }
+
+    @Test
+    void findHandle_shouldFallBackToExtensionWhenNoRecordExists() throws IOException {
+        Path tempDir = Files.createTempDirectory("test-uploads");
+        Files.createDirectories(tempDir.resolve("2024/01"));
+        Files.write(tempDir.resolve("2024/01/resim.png"), new byte[]{1});
+        ReflectionTestUtils.setField(mediaFileService, "uploadDir", tempDir.toString());
+        loadThroughCache();
+        when(mediaFileRepository.findMimeTypeByFilePath("2024/01/resim.png")).thenReturn(Optional.empty());
+
+        assertEquals("image/png", mediaFileService.findHandle("2024", "01", "resim.png").contentType());
+    }
+
+    @Test
+    void findHandle_shouldRejectMissingFilesAndPathsOutsideUploadDir() throws IOException {
+        Path tempDir = Files.createTempDirectory("test-uploads");
+        Files.write(tempDir.resolveSibling("gizli.txt"), new byte[]{1});
+        ReflectionTestUtils.setField(mediaFileService, "uploadDir", tempDir.toString());
+        loadThroughCache();
+
+        assertThrows(ResourceNotFoundException.class, () -> mediaFileService.findHandle("2024", "01", "yok.jpg"));
+        assertThrows(ResourceNotFoundException.class, () -> mediaFileService.findHandle("..", ".", "gizli.txt"));
+        verifyNoInteractions(mediaFileRepository);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void loadThroughCache() {
+        when(handleCache.get(anyString(), any())).thenAnswer(invocation ->
+                ((Supplier<MediaFileHandleCache.Handle>) invocation.getArgument(1)).get());
+    }
+
+    @Test
+    void uploadStream_shouldReuseStoredBlobForDuplicateContent() throws IOException {
+        String hash = "ab".repeat(32);
+        InputStream body = new ByteArrayInputStream(new byte[]{1, 2, 3});
+        ContentAddressedStore.StagedBlob staged = new ContentAddressedStore.StagedBlob(Path.of("tmp"), hash, 3L);
+        when(contentStore.stage(body)).thenReturn(staged);
+        when(contentStore.pathFor(hash, ".png")).thenReturn("ab/ab/" + hash + ".png");
+        when(mediaBlobRepository.findStoragePathByHash(hash)).thenReturn(Optional.of("ab/ab/" + hash + ".jpg"));
+        runInTransaction();
+        when(mediaFileRepository.save(any(MediaFile.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        ReflectionTestUtils.setField(mediaFileService, "serverPort", "8080");
+
+        MediaFileResponse response = mediaFileService.uploadStream(2L, body, "kapak.PNG", "image/png");
+
+        verify(mediaBlobRepository).acquire(eq(hash), eq("ab/ab/" + hash + ".png"), eq("image/png"), eq(3L), any());
+        verify(contentStore).commit(staged, "ab/ab/" + hash + ".jpg");
+        verify(contentStore).discard(staged);
+        assertEquals("ab/ab/" + hash + ".jpg", response.getFilePath());
+        assertEquals(hash + ".jpg", response.getFileName());
+        assertEquals("kapak.PNG", response.getOriginalFileName());
+        assertEquals(MediaFile.FileType.RESIM, response.getFileType());
+        verify(imageVariantService).scheduleVariants("ab/ab/" + hash + ".jpg");
+    }
+
+    @Test
+    void uploadStream_shouldStoreDetectedMimeTypeAndMoveFileAfterCommit() throws IOException {
+        String hash = "cd".repeat(32);
+        InputStream body = new ByteArrayInputStream(new byte[]{1, 2, 3});
+        ContentAddressedStore.StagedBlob staged = new ContentAddressedStore.StagedBlob(Path.of("tmp"), hash, 3L);
+        when(contentStore.stage(body)).thenReturn(staged);
+        when(contentStore.pathFor(hash, ".png")).thenReturn("cd/cd/" + hash + ".png");
+        when(mediaBlobRepository.findStoragePathByHash(hash)).thenReturn(Optional.of("cd/cd/" + hash + ".png"));
+        runInTransaction();
+        when(mediaFileRepository.save(any(MediaFile.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        ReflectionTestUtils.setField(mediaFileService, "serverPort", "8080");
+
+        MediaFileResponse response = mediaFileService.uploadStream(2L, body, "ekran.png", null);
+
+        // Başlık yoksa uzantıdan bulunan tip saklanır
+        assertEquals("image/png", response.getMimeType());
+        assertEquals(MediaFile.FileType.RESIM, response.getFileType());
+        InOrder inOrder = inOrder(mediaBlobRepository, transactionTemplate, contentStore);
+        inOrder.verify(transactionTemplate).execute(any());
+        // Taşıma, son silmeyle aynı özet kilidi altında ayrı bir transaction'da yapılır
+        inOrder.verify(mediaBlobRepository).lockContent(hash);
+        inOrder.verify(contentStore).commit(staged, "cd/cd/" + hash + ".png");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void uploadStream_shouldReleaseReferenceWhenFileCannotBeMoved() throws IOException {
+        String hash = "ef".repeat(32);
+        InputStream body = new ByteArrayInputStream(new byte[]{1});
+        ContentAddressedStore.StagedBlob staged = new ContentAddressedStore.StagedBlob(Path.of("tmp"), hash, 1L);
+        when(contentStore.stage(body)).thenReturn(staged);
+        when(contentStore.pathFor(hash, ".txt")).thenReturn("ef/ef/" + hash + ".txt");
+        when(mediaBlobRepository.findStoragePathByHash(hash)).thenReturn(Optional.of("ef/ef/" + hash + ".txt"));
+        runInTransaction();
+        doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(mediaFileRepository.save(any(MediaFile.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        doThrow(new IOException("disk dolu")).when(contentStore).commit(staged, "ef/ef/" + hash + ".txt");
+        when(mediaBlobRepository.release("ef/ef/" + hash + ".txt")).thenReturn(1);
+
+        assertThrows(BadRequestException.class, () -> mediaFileService.uploadStream(2L, body, "not.txt", "text/plain"));
+
+        verify(mediaFileRepository).delete(any(MediaFile.class));
+        verify(mediaBlobRepository).release("ef/ef/" + hash + ".txt");
+        verify(contentStore).discard(staged);
+    }
+
+    @Test
+    void uploadStream_shouldRejectEmptyBodyWithoutTouchingDatabase() throws IOException {
+        InputStream body = new ByteArrayInputStream(new byte[0]);
+        ContentAddressedStore.StagedBlob staged = new ContentAddressedStore.StagedBlob(Path.of("tmp"), "00".repeat(32), 0L);
+        when(contentStore.stage(body)).thenReturn(staged);
+
+        assertThrows(BadRequestException.class, () -> mediaFileService.uploadStream(2L, body, "bos.txt", "text/plain"));
+        verify(contentStore).discard(staged);
+        verifyNoInteractions(mediaBlobRepository, transactionTemplate);
+    }
+
+    @Test
+    void uploadStream_shouldTranslateSizeLimitToBadRequest() throws IOException {
+        InputStream body = new ByteArrayInputStream(new byte[]{1});
+        when(contentStore.stage(body)).thenThrow(new ContentAddressedStore.UploadTooLargeException(10L));
+
+        assertThrows(BadRequestException.class, () -> mediaFileService.uploadStream(2L, body, "buyuk.mp4", "video/mp4"));
+        verifyNoInteractions(mediaBlobRepository, mediaFileRepository);
+    }
+
+    @Test
+    void deleteFile_shouldKeepSharedBlobWhileOtherReferencesRemain() {
+        MediaFile mediaFile = new MediaFile();
+        mediaFile.setId(1L);
+        mediaFile.setUploaderUserId(2L);
+        mediaFile.setFilePath("ab/cd/abcd.png");
+        when(mediaFileRepository.findById(1L)).thenReturn(Optional.of(mediaFile));
+        when(mediaBlobRepository.release("ab/cd/abcd.png")).thenReturn(1);
+        when(mediaBlobRepository.deleteIfUnreferenced("ab/cd/abcd.png")).thenReturn(0);
+
+        mediaFileService.deleteFile(1L, 2L);
+
+        verify(mediaFileRepository).delete(mediaFile);
+        verify(contentStore, never()).delete(any());
+        verify(handleCache, never()).invalidate(any());
+    }
+
+    @Test
+    void deleteFile_shouldRemoveBlobWithLastReference() {
+        MediaFile mediaFile = new MediaFile();
+        mediaFile.setId(1L);
+        mediaFile.setUploaderUserId(2L);
+        mediaFile.setFilePath("ab/cd/abcd.png");
+        when(mediaFileRepository.findById(1L)).thenReturn(Optional.of(mediaFile));
+        when(mediaBlobRepository.release("ab/cd/abcd.png")).thenReturn(1);
+        when(mediaBlobRepository.deleteIfUnreferenced("ab/cd/abcd.png")).thenReturn(1);
+
+        mediaFileService.deleteFile(1L, 2L);
+
+        verify(contentStore).delete("ab/cd/abcd.png");
+        verify(imageVariantService).deleteVariants("ab/cd/abcd.png");
+        verify(handleCache).invalidate("ab/cd/abcd.png");
+    }
+
+    @Test
+    void deleteFile_shouldTouchDiskOnlyAfterCommit() {
+        MediaFile mediaFile = new MediaFile();
+        mediaFile.setId(1L);
+        mediaFile.setUploaderUserId(2L);
+        mediaFile.setFilePath("ab/cd/abcd.png");
+        when(mediaFileRepository.findById(1L)).thenReturn(Optional.of(mediaFile));
+        when(mediaBlobRepository.release("ab/cd/abcd.png")).thenReturn(1);
+        when(mediaBlobRepository.deleteIfUnreferenced("ab/cd/abcd.png")).thenReturn(1);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            mediaFileService.deleteFile(1L, 2L);
+
+            verify(contentStore, never()).delete(any());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(contentStore).delete("ab/cd/abcd.png");
+        verify(handleCache).invalidate("ab/cd/abcd.png");
+    }
+
+    @Test
+    void deleteFile_shouldRecheckAndDeleteUnderContentLock() {
+        MediaFile mediaFile = new MediaFile();
+        mediaFile.setId(1L);
+        mediaFile.setUploaderUserId(2L);
+        mediaFile.setFilePath("ab/cd/abcd.png");
+        when(mediaFileRepository.findById(1L)).thenReturn(Optional.of(mediaFile));
+        when(mediaBlobRepository.release("ab/cd/abcd.png")).thenReturn(1);
+        when(mediaBlobRepository.deleteIfUnreferenced("ab/cd/abcd.png")).thenReturn(1);
+        when(contentStore.hashOf("ab/cd/abcd.png")).thenReturn("abcd");
+
+        mediaFileService.deleteFile(1L, 2L);
+
+        InOrder inOrder = inOrder(transactionManager, mediaBlobRepository, contentStore);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(mediaBlobRepository).lockContent("abcd");
+        inOrder.verify(mediaBlobRepository).existsByStoragePath("ab/cd/abcd.png");
+        inOrder.verify(contentStore).delete("ab/cd/abcd.png");
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void deleteFile_shouldKeepFileReuploadedBeforeCommitFinished() {
+        MediaFile mediaFile = new MediaFile();
+        mediaFile.setId(1L);
+        mediaFile.setUploaderUserId(2L);
+        mediaFile.setFilePath("ab/cd/abcd.png");
+        when(mediaFileRepository.findById(1L)).thenReturn(Optional.of(mediaFile));
+        when(mediaBlobRepository.release("ab/cd/abcd.png")).thenReturn(1);
+        when(mediaBlobRepository.deleteIfUnreferenced("ab/cd/abcd.png")).thenReturn(1);
+        when(mediaBlobRepository.existsByStoragePath("ab/cd/abcd.png")).thenReturn(true);
+
+        mediaFileService.deleteFile(1L, 2L);
+
+        verify(contentStore, never()).delete(any());
+        verify(imageVariantService, never()).deleteVariants(any());
+    }
+
+    @Test
+    void findHandle_shouldPreferBlobMimeTypeForContentAddressedPaths() throws IOException {
+        Path tempDir = Files.createTempDirectory("test-uploads");
+        Files.createDirectories(tempDir.resolve("ab/cd"));
+        Files.write(tempDir.resolve("ab/cd/abcd.bin"), new byte[]{1});
+        ReflectionTestUtils.setField(mediaFileService, "uploadDir", tempDir.toString());
+        loadThroughCache();
+        when(mediaBlobRepository.findMimeTypeByStoragePath("ab/cd/abcd.bin")).thenReturn(Optional.of("image/webp"));
+
+        assertEquals("image/webp", mediaFileService.findHandle("ab", "cd", "abcd.bin").contentType());
+        verify(mediaFileRepository, never()).findMimeTypeByFilePath(any());
+    }
+
+    @Test
+    void findHandleWithWidth_shouldServeExistingVariantWithoutGenerating() throws IOException {
+        Path tempDir = Files.createTempDirectory("test-uploads");
+        Files.createDirectories(tempDir.resolve("ab/cd"));
+        Files.write(tempDir.resolve("ab/cd/abcd_w320.jpg"), new byte[]{1, 2});
+        ReflectionTestUtils.setField(mediaFileService, "uploadDir", tempDir.toString());
+        loadThroughCache();
+        when(imageVariantService.normalizeWidth(300)).thenReturn(320);
+        when(imageVariantService.variantPath("ab/cd/abcd.jpg", 320)).thenReturn("ab/cd/abcd_w320.jpg");
+
+        MediaFileHandleCache.Handle handle = mediaFileService.findHandle("ab", "cd", "abcd.jpg", 300);
+
+        assertEquals(tempDir.resolve("ab/cd/abcd_w320.jpg").toAbsolutePath().normalize(), handle.path());
+        assertEquals("image/jpeg", handle.contentType());
+        verify(imageVariantService, never()).ensureVariant(any(), anyInt());
+    }
+
+    @Test
+    void findHandleWithWidth_shouldFallBackToOriginalWhenVariantCannotBeMade() throws IOException {
+        Path tempDir = Files.createTempDirectory("test-uploads");
+        Files.createDirectories(tempDir.resolve("ab/cd"));
+        Files.write(tempDir.resolve("ab/cd/abcd.jpg"), new byte[]{1, 2, 3});
+        ReflectionTestUtils.setField(mediaFileService, "uploadDir", tempDir.toString());
+        loadThroughCache();
+        when(imageVariantService.normalizeWidth(640)).thenReturn(640);
+        when(imageVariantService.variantPath("ab/cd/abcd.jpg", 640)).thenReturn("ab/cd/abcd_w640.jpg");
+        when(imageVariantService.ensureVariant("ab/cd/abcd.jpg", 640)).thenReturn(false);
+
+        MediaFileHandleCache.Handle handle = mediaFileService.findHandle("ab", "cd", "abcd.jpg", 640);
+
+        assertEquals(3L, handle.size());
+        assertEquals("abcd.jpg", handle.path().getFileName().toString());
+        assertTrue(handle.fallback());
+    }
+
+    @Test
+    void findHandleWithWidth_shouldServeOriginalForFormatsWithoutVariants() throws IOException {
+        Path tempDir = Files.createTempDirectory("test-uploads");
+        Files.createDirectories(tempDir.resolve("ab/cd"));
+        Files.write(tempDir.resolve("ab/cd/abcd.gif"), new byte[]{1});
+        ReflectionTestUtils.setField(mediaFileService, "uploadDir", tempDir.toString());
+        loadThroughCache();
+        when(imageVariantService.normalizeWidth(320)).thenReturn(320);
+
+        MediaFileHandleCache.Handle handle = mediaFileService.findHandle("ab", "cd", "abcd.gif", 320);
+
+        assertEquals("abcd.gif", handle.path().getFileName().toString());
+        verify(imageVariantService, never()).ensureVariant(any(), anyInt());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runInTransaction() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.backend.application.service.impl;
+
+import com.example.backend.domain.repository.NotificationRepository;
+import com.example.backend.infrastructure.cache.UnreadNotificationCountCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationCounterServiceImplTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private UnreadNotificationCountCache unreadCountCache;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private NotificationCounterServiceImpl counterService;
+
+    @BeforeEach
+    void setUp() {
+        counterService.registerMetrics();
+    }
+
+    @Test
+    void adjustUnread_shouldApplyDeltaToExistingRowWithoutCounting() {
+        when(jdbcTemplate.update(startsWith("UPDATE bildirim_sayaclari"), eq(-3L), any(), eq(4L))).thenReturn(1);
+
+        counterService.adjustUnread(4L, -3);
+
+        verify(jdbcTemplate).update(startsWith("UPDATE bildirim_sayaclari"), eq(-3L), any(), eq(4L));
+        verifyNoMoreInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void adjustUnread_shouldSeedRowFromTableWhenMissing() {
+        when(jdbcTemplate.update(startsWith("UPDATE bildirim_sayaclari"), eq(-3L), any(), eq(4L))).thenReturn(0);
+
+        counterService.adjustUnread(4L, -3);
+
+        verify(jdbcTemplate).update(
+                contains("DO UPDATE SET okunmamis_sayisi = GREATEST(bildirim_sayaclari.okunmamis_sayisi + ?, 0)"),
+                eq(4L), eq(4L), any(), any(), eq(-3L));
+    }
+
+    @Test
+    void adjustUnread_shouldSkipZeroDelta() {
+        counterService.adjustUnread(4L, 0);
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void incrementUnread_shouldSendSingleBatchWhenAllRowsExist() {
+        when(jdbcTemplate.batchUpdate(startsWith("UPDATE bildirim_sayaclari"), eq(List.of(10L, 11L, 12L)), eq(3),
+                any(ParameterizedPreparedStatementSetter.class))).thenReturn(new int[][]{{1, 1, 1}});
+
+        counterService.incrementUnread(List.of(10L, 11L, 12L));
+
+        verify(jdbcTemplate, never()).batchUpdate(contains("SELECT COUNT(*)"), anyList(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void incrementUnread_shouldSeedOnlyUsersWithoutCounterRow() {
+        when(jdbcTemplate.batchUpdate(startsWith("UPDATE bildirim_sayaclari"), eq(List.of(10L, 11L, 12L)), eq(3),
+                any(ParameterizedPreparedStatementSetter.class))).thenReturn(new int[][]{{1, 0, 1}});
+
+        counterService.incrementUnread(List.of(10L, 11L, 12L));
+
+        verify(jdbcTemplate).batchUpdate(contains("SELECT COUNT(*)"), eq(List.of(11L)), eq(1),
+                any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    void getUnread_shouldReadStoredCounterWithoutCounting() {
+        when(jdbcTemplate.queryForList(contains("SELECT okunmamis_sayisi"), eq(Long.class), eq(4L)))
+                .thenReturn(List.of(7L));
+
+        assertEquals(7L, counterService.getUnread(4L));
+        verifyNoInteractions(notificationRepository);
+    }
+
+    @Test
+    void getUnread_shouldCountWhenCounterRowIsMissing() {
+        when(jdbcTemplate.queryForList(contains("SELECT okunmamis_sayisi"), eq(Long.class), eq(4L)))
+                .thenReturn(List.of());
+        when(notificationRepository.countUnreadByUserId(4L)).thenReturn(2L);
+
+        assertEquals(2L, counterService.getUnread(4L));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void reconcile_shouldLockAndRecomputeEachDriftedUserInItsOwnTransaction() {
+        doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(jdbcTemplate.queryForList(contains("<>"), eq(Long.class))).thenReturn(List.of(3L, 8L));
+
+        int reconciled = counterService.reconcile();
+
+        assertEquals(2, reconciled);
+        verify(transactionTemplate, times(2)).executeWithoutResult(any());
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).update(contains("DO NOTHING"), eq(3L), any(), any());
+        inOrder.verify(jdbcTemplate).queryForList(contains("FOR UPDATE"), eq(Long.class), eq(3L));
+        inOrder.verify(jdbcTemplate).update(contains("SELECT COUNT(*) FROM bildirimler"), eq(3L), any(), eq(3L));
+        inOrder.verify(jdbcTemplate).queryForList(contains("FOR UPDATE"), eq(Long.class), eq(8L));
+        verify(unreadCountCache).invalidateAfterCompletion(3L);
+        verify(unreadCountCache).invalidateAfterCompletion(8L);
+        assertEquals(2.0, meterRegistry.get("notification.counters.reconciled").counter().count());
+    }
+
+    @Test
+    void reconcile_shouldDoNothingWhenCountersMatch() {
+        when(jdbcTemplate.queryForList(contains("<>"), eq(Long.class))).thenReturn(List.of());
+
+        assertEquals(0, counterService.reconcile());
+        verifyNoInteractions(transactionTemplate);
+    }
+}
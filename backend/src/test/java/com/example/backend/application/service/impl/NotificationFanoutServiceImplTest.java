@@ -0,0 +1,212 @@
+package com.example.backend.application.service.impl;
+
+import com.example.backend.application.service.NotificationCounterService;
+import com.example.backend.application.service.NotificationStreamService;
+import com.example.backend.domain.entity.Notification;
+import com.example.backend.domain.entity.NotificationFanoutJob;
+import com.example.backend.domain.entity.NotificationFanoutJob.FanoutStatus;
+import com.example.backend.domain.repository.FollowRepository;
+import com.example.backend.domain.repository.NotificationFanoutJobRepository;
+import com.example.backend.infrastructure.cache.UnreadNotificationCountCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationFanoutServiceImplTest {
+
+    @Mock
+    private NotificationFanoutJobRepository jobRepository;
+
+    @Mock
+    private FollowRepository followRepository;
+
+    @Mock
+    private UnreadNotificationCountCache unreadCountCache;
+
+    @Mock
+    private NotificationCounterService counterService;
+
+    @Mock
+    private NotificationStreamService streamService;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private NotificationFanoutServiceImpl fanoutService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(fanoutService, "chunkSize", 2);
+        ReflectionTestUtils.setField(fanoutService, "workers", 1);
+        ReflectionTestUtils.setField(fanoutService, "queueCapacity", 10);
+        ReflectionTestUtils.setField(fanoutService, "staleAfterMs", 300000L);
+        fanoutService.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        fanoutService.stop();
+    }
+
+    private void runTransactionCallbacks() {
+        doAnswer(invocation -> ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null))
+                .when(transactionTemplate).execute(any());
+    }
+
+    private NotificationFanoutJob createJob(Long id, Long authorId) {
+        NotificationFanoutJob job = new NotificationFanoutJob();
+        job.setId(id);
+        job.setAuthorId(authorId);
+        job.setTitle("Yeni İçerik");
+        job.setMessage("author yeni bir içerik yayınladı: Test");
+        job.setType(Notification.NotificationType.HABER_YAYINLANDI);
+        job.setRelatedStoryId(5L);
+        job.setStatus(FanoutStatus.ISLENIYOR);
+        job.setLastFollowerId(0L);
+        job.setDeliveredCount(0L);
+        job.setAttempts(1);
+        return job;
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void processJob_shouldDeliverFollowersInKeysetChunks() {
+        runTransactionCallbacks();
+        NotificationFanoutJob job = createJob(1L, 3L);
+
+        when(jobRepository.claim(eq(1L), any(), any(), eq(FanoutStatus.BEKLIYOR), eq(FanoutStatus.ISLENIYOR)))
+                .thenReturn(1);
+        when(jobRepository.findById(1L)).thenReturn(Optional.of(job));
+        when(followRepository.findFollowerIdsAfter(eq(3L), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(10L, 11L));
+        when(followRepository.findFollowerIdsAfter(eq(3L), eq(11L), any(Pageable.class)))
+                .thenReturn(List.of(12L));
+        when(jobRepository.advanceCursor(eq(1L), eq(1), anyLong(), anyLong(), anyLong(), any(),
+                eq(FanoutStatus.ISLENIYOR))).thenReturn(1);
+
+        fanoutService.processJob(1L);
+
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+        verify(jobRepository).advanceCursor(eq(1L), eq(1), eq(0L), eq(11L), eq(2L), any(), eq(FanoutStatus.ISLENIYOR));
+        verify(jobRepository).advanceCursor(eq(1L), eq(1), eq(11L), eq(12L), eq(1L), any(), eq(FanoutStatus.ISLENIYOR));
+        verify(jobRepository).updateStatus(eq(1L), eq(FanoutStatus.TAMAMLANDI), any());
+        verify(unreadCountCache).invalidateAfterCompletion(List.of(10L, 11L));
+        verify(unreadCountCache).invalidateAfterCompletion(List.of(12L));
+        verify(counterService).incrementUnread(List.of(10L, 11L));
+        verify(counterService).incrementUnread(List.of(12L));
+        verify(streamService).publishUnreadCountAfterCommit(List.of(10L, 11L));
+        verify(streamService).publishUnreadCountAfterCommit(List.of(12L));
+        assertEquals(3.0, meterRegistry.get("notification.fanout.delivered").counter().count());
+    }
+
+    @Test
+    void processJob_shouldResumeFromStoredCursor() {
+        runTransactionCallbacks();
+        NotificationFanoutJob job = createJob(1L, 3L);
+        job.setLastFollowerId(11L);
+
+        when(jobRepository.claim(eq(1L), any(), any(), any(), any())).thenReturn(1);
+        when(jobRepository.findById(1L)).thenReturn(Optional.of(job));
+        when(followRepository.findFollowerIdsAfter(eq(3L), eq(11L), any(Pageable.class)))
+                .thenReturn(List.of());
+        when(jobRepository.advanceCursor(eq(1L), eq(1), eq(11L), eq(11L), eq(0L), any(), any())).thenReturn(1);
+
+        fanoutService.processJob(1L);
+
+        verify(followRepository, never()).findFollowerIdsAfter(eq(3L), eq(0L), any(Pageable.class));
+        verifyNoInteractions(jdbcTemplate);
+        verify(jobRepository).updateStatus(eq(1L), eq(FanoutStatus.TAMAMLANDI), any());
+    }
+
+    @Test
+    void processJob_shouldSkipJobClaimedByAnotherWorker() {
+        runTransactionCallbacks();
+        when(jobRepository.claim(eq(1L), any(), any(), any(), any())).thenReturn(0);
+
+        fanoutService.processJob(1L);
+
+        verify(jobRepository, never()).findById(any());
+        verifyNoInteractions(followRepository);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void processJob_shouldReleaseJobWhenChunkFails() {
+        runTransactionCallbacks();
+        NotificationFanoutJob job = createJob(1L, 3L);
+
+        when(jobRepository.claim(eq(1L), any(), any(), any(), any())).thenReturn(1);
+        when(jobRepository.findById(1L)).thenReturn(Optional.of(job));
+        when(followRepository.findFollowerIdsAfter(anyLong(), anyLong(), any(Pageable.class)))
+                .thenThrow(new RuntimeException("db down"));
+
+        fanoutService.processJob(1L);
+
+        // release, executeWithoutResult ile çalışır; mock bu yüzden çağrıyı yakalar
+        verify(transactionTemplate).executeWithoutResult(any());
+        verify(jobRepository, never()).advanceCursor(any(), any(), any(), any(), anyLong(), any(), any());
+        verify(jobRepository, never()).updateStatus(any(), any(), any());
+    }
+
+    @Test
+    void processJob_shouldDropChunkWhenJobWasReclaimedByAnotherWorker() {
+        runTransactionCallbacks();
+        NotificationFanoutJob job = createJob(1L, 3L);
+
+        when(jobRepository.claim(eq(1L), any(), any(), any(), any())).thenReturn(1);
+        when(jobRepository.findById(1L)).thenReturn(Optional.of(job));
+        when(followRepository.findFollowerIdsAfter(eq(3L), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(10L, 11L));
+        // İş bayat sayılıp yeniden sahiplenildi; deneme sayısı artık bu worker'ınki değil
+        when(jobRepository.advanceCursor(eq(1L), eq(1), eq(0L), eq(11L), eq(2L), any(), any())).thenReturn(0);
+
+        fanoutService.processJob(1L);
+
+        verifyNoInteractions(jdbcTemplate, counterService, unreadCountCache, streamService);
+        verify(jobRepository, never()).updateStatus(any(), any(), any());
+        verify(transactionTemplate, never()).executeWithoutResult(any());
+    }
+
+    @Test
+    void resumePendingJobs_shouldRefreshBacklogMetrics() {
+        when(jobRepository.findResumableJobIds(any(), eq(FanoutStatus.BEKLIYOR), eq(FanoutStatus.ISLENIYOR),
+                any(Pageable.class))).thenReturn(List.of());
+        when(jobRepository.countByStatusIn(anyList())).thenReturn(4L);
+        when(jobRepository.findOldestCreatedAtByStatusIn(anyList())).thenReturn(null);
+
+        int submitted = fanoutService.resumePendingJobs();
+
+        assertEquals(0, submitted);
+        assertEquals(4.0, meterRegistry.get("notification.fanout.jobs.unfinished").gauge().value());
+        assertEquals(0.0, meterRegistry.get("notification.fanout.lag.seconds").gauge().value());
+    }
+}
@@ -1,26 +1,43 @@
 package com.example.backend.application.service.impl;
 
+import com.example.backend.application.dto.response.CursorPageResponse;
 import com.example.backend.application.dto.response.NotificationResponse;
+import com.example.backend.application.exception.BadRequestException;
 import com.example.backend.application.exception.ForbiddenException;
 import com.example.backend.application.exception.ResourceNotFoundException;
+import com.example.backend.application.service.NotificationCounterService;
+import com.example.backend.application.service.NotificationStreamService;
 import com.example.backend.domain.entity.Notification;
-import com.example.backend.domain.entity.Story;
+import com.example.backend.domain.projection.StorySlugView;
 import com.example.backend.domain.entity.User;
 import com.example.backend.domain.repository.NotificationRepository;
 import com.example.backend.domain.repository.StoryRepository;
 import com.example.backend.domain.repository.UserRepository;
+import com.example.backend.infrastructure.cache.UnreadNotificationCountCache;
+import com.example.backend.infrastructure.util.CursorUtil;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -38,9 +55,30 @@ class NotificationServiceImplTest {
     @Mock
     private StoryRepository storyRepository;
 
+    @Spy
+    private UnreadNotificationCountCache unreadCountCache = new UnreadNotificationCountCache();
+
+    @Mock
+    private NotificationCounterService counterService;
+
+    @Mock
+    private NotificationStreamService streamService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate();
+
     @InjectMocks
     private NotificationServiceImpl notificationService;
 
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(unreadCountCache, "maxEntries", 100);
+        ReflectionTestUtils.setField(unreadCountCache, "ttlSeconds", 30L);
+    }
+
     @Test
     void createNotification_shouldSaveNotification() {
         Long userId = 1L;
@@ -61,6 +99,101 @@ class NotificationServiceImplTest {
         );
 
         verify(notificationRepository, times(1)).save(any(Notification.class));
+        verify(counterService).adjustUnread(userId, 1);
+        verify(streamService, never()).publishAfterCommit(any(), any());
+        verifyNoInteractions(storyRepository);
+    }
+
+    @Test
+    void createNotification_shouldPublishToConnectedUser() {
+        User user = new User();
+        user.setId(1L);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(streamService.hasSubscribers(1L)).thenReturn(true);
+
+        notificationService.createNotification(
+                1L, "Yeni Takipçi", "Sizi takip etti", Notification.NotificationType.YENI_TAKIPCI, null, null);
+
+        ArgumentCaptor<NotificationResponse> pushed = ArgumentCaptor.forClass(NotificationResponse.class);
+        verify(streamService).publishAfterCommit(eq(1L), pushed.capture());
+        assertEquals("Yeni Takipçi", pushed.getValue().getTitle());
+        verify(streamService).publishUnreadCountAfterCommit(List.of(1L));
+    }
+
+    @Test
+    void subscribe_shouldReplayNotificationsAfterLastEventId() {
+        Notification missed = new Notification();
+        missed.setId(8L);
+        missed.setTitle("Kaçırılan");
+        when(notificationRepository.findNewerByUserId(1L, 7L, PageRequest.of(0, 51))).thenReturn(List.of(missed));
+        when(counterService.getUnread(1L)).thenReturn(3L);
+
+        NotificationStreamService.Replay replay = subscribeAndReplay(7L);
+
+        assertEquals(1, replay.missed().size());
+        assertEquals(8L, replay.missed().get(0).getId());
+        assertFalse(replay.truncated());
+        assertEquals(3L, replay.unreadCount());
+    }
+
+    @Test
+    void subscribe_shouldAskForReloadWhenGapIsTooLarge() {
+        List<Notification> rows = LongStream.rangeClosed(1, 51).mapToObj(id -> {
+            Notification notification = new Notification();
+            notification.setId(id);
+            return notification;
+        }).toList();
+        when(notificationRepository.findNewerByUserId(1L, 0L, PageRequest.of(0, 51))).thenReturn(rows);
+        when(counterService.getUnread(1L)).thenReturn(51L);
+
+        NotificationStreamService.Replay replay = subscribeAndReplay(0L);
+
+        assertTrue(replay.truncated());
+        assertTrue(replay.missed().isEmpty());
+        verifyNoInteractions(storyRepository);
+    }
+
+    @Test
+    void subscribe_shouldOnlySendUnreadCountOnFirstConnection() {
+        when(counterService.getUnread(1L)).thenReturn(2L);
+
+        NotificationStreamService.Replay replay = subscribeAndReplay(null);
+
+        assertTrue(replay.missed().isEmpty());
+        assertEquals(2L, replay.unreadCount());
+        verify(notificationRepository, never()).findNewerByUserId(any(), any(), any());
+    }
+
+    @Test
+    void subscribe_shouldReleaseConnectionBeforeStreamIdles() {
+        transactionTemplate.setTransactionManager(transactionManager);
+        SseEmitter emitter = new SseEmitter();
+        when(streamService.subscribe(eq(1L), any())).thenAnswer(invocation -> {
+            Supplier<NotificationStreamService.Replay> replay = invocation.getArgument(1);
+            replay.get();
+            return emitter;
+        });
+        when(notificationRepository.findNewerByUserId(1L, 7L, PageRequest.of(0, 51))).thenReturn(List.of());
+
+        assertSame(emitter, notificationService.subscribe(1L, 7L));
+
+        // Replay ve sayı kısa bir transaction'da okunur; akış dönmeden bağlantı havuza bırakılmıştır
+        InOrder order = inOrder(transactionManager, notificationRepository, counterService);
+        order.verify(transactionManager).getTransaction(any());
+        order.verify(notificationRepository).findNewerByUserId(1L, 7L, PageRequest.of(0, 51));
+        order.verify(counterService).getUnread(1L);
+        order.verify(transactionManager).commit(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private NotificationStreamService.Replay subscribeAndReplay(Long lastEventId) {
+        transactionTemplate.setTransactionManager(transactionManager);
+        notificationService.subscribe(1L, lastEventId);
+        ArgumentCaptor<Supplier<NotificationStreamService.Replay>> replay = ArgumentCaptor.forClass(Supplier.class);
+        verify(streamService).subscribe(eq(1L), replay.capture());
+        NotificationStreamService.Replay result = replay.getValue().get();
+        verify(transactionManager).commit(any());
+        return result;
     }
 
     @Test
@@ -77,31 +210,62 @@ class NotificationServiceImplTest {
         notification.setIsRead(false);
 
         when(notificationRepository.findById(notificationId)).thenReturn(Optional.of(notification));
+        when(notificationRepository.markAsReadById(eq(notificationId), eq(userId), any())).thenReturn(1);
 
         notificationService.markAsRead(notificationId, userId);
 
-        assertTrue(notification.getIsRead());
-        verify(notificationRepository, times(1)).save(notification);
+        verify(notificationRepository, never()).save(any(Notification.class));
+        verify(counterService).adjustUnread(userId, -1);
+        verify(streamService).publishUnreadCountAfterCommit(List.of(userId));
     }
 
     @Test
-    void markAllAsRead_shouldMarkAllUnreadNotificationsAsRead() {
-        Long userId = 1L;
+    void markAsRead_shouldNotDecrementCounterForAlreadyReadNotification() {
+        User user = new User();
+        user.setId(2L);
+        Notification notification = new Notification();
+        notification.setId(1L);
+        notification.setUser(user);
+        notification.setIsRead(true);
+        when(notificationRepository.findById(1L)).thenReturn(Optional.of(notification));
+        // Eşzamanlı ikinci istek: satır zaten okundu, koşullu güncelleme hiçbir satırı değiştirmez
+        when(notificationRepository.markAsReadById(eq(1L), eq(2L), any())).thenReturn(0);
 
-        Notification notif1 = new Notification();
-        notif1.setIsRead(false);
-        Notification notif2 = new Notification();
-        notif2.setIsRead(false);
+        notificationService.markAsRead(1L, 2L);
 
-        Page<Notification> page = new PageImpl<>(List.of(notif1, notif2));
-        when(notificationRepository.findByUserIdAndIsRead(eq(userId), eq(false), any(Pageable.class)))
-                .thenReturn(page);
+        verifyNoInteractions(counterService);
+    }
+
+    @Test
+    void markAllAsRead_shouldUseSingleBulkUpdate() {
+        Long userId = 1L;
+
+        when(notificationRepository.markAllAsReadByUserId(eq(userId), any())).thenReturn(2);
 
         notificationService.markAllAsRead(userId);
 
-        assertTrue(notif1.getIsRead());
-        assertTrue(notif2.getIsRead());
-        verify(notificationRepository, times(2)).save(any(Notification.class));
+        verify(notificationRepository, times(1)).markAllAsReadByUserId(eq(userId), any());
+        verify(notificationRepository, never()).findByUserIdAndIsRead(any(), any(), any());
+        verify(notificationRepository, never()).save(any(Notification.class));
+    }
+
+    @Test
+    void markAsReadUpTo_shouldReturnUpdatedCount() {
+        Long userId = 1L;
+
+        when(notificationRepository.markAsReadUpToId(eq(userId), eq(50L), any())).thenReturn(3);
+
+        int updated = notificationService.markAsReadUpTo(userId, 50L);
+
+        assertEquals(3, updated);
+        verify(counterService).adjustUnread(userId, -3);
+        verify(notificationRepository, never()).save(any(Notification.class));
+    }
+
+    @Test
+    void markAsReadUpTo_shouldThrowWhenIdMissing() {
+        assertThrows(BadRequestException.class, () -> notificationService.markAsReadUpTo(1L, null));
+        verifyNoInteractions(notificationRepository);
     }
 
     @Test
@@ -109,11 +273,30 @@ class NotificationServiceImplTest {
         Long userId = 1L;
         Long expectedCount = 5L;
 
-        when(notificationRepository.countUnreadByUserId(userId)).thenReturn(expectedCount);
+        when(counterService.getUnread(userId)).thenReturn(expectedCount);
 
         Long result = notificationService.countUnread(userId);
 
         assertEquals(expectedCount, result);
+        verify(notificationRepository, never()).countUnreadByUserId(any());
+    }
+
+    @Test
+    void countUnread_shouldServeCachedCountUntilNotificationsChange() {
+        Long userId = 1L;
+
+        when(counterService.getUnread(userId)).thenReturn(5L, 0L);
+        when(notificationRepository.markAllAsReadByUserId(eq(userId), any())).thenReturn(5);
+
+        assertEquals(5L, notificationService.countUnread(userId));
+        assertEquals(5L, notificationService.countUnread(userId));
+        verify(counterService, times(1)).getUnread(userId);
+
+        notificationService.markAllAsRead(userId);
+
+        verify(counterService).adjustUnread(userId, -5);
+        assertEquals(0L, notificationService.countUnread(userId));
+        verify(counterService, times(2)).getUnread(userId);
     }
 
     @Test
@@ -215,10 +398,6 @@ class NotificationServiceImplTest {
         User user = new User();
         user.setId(userId);
 
-        Story story = new Story();
-        story.setId(storyId);
-        story.setSlug("test-story");
-
         Notification notification = new Notification();
         notification.setId(1L);
         notification.setUser(user);
@@ -226,7 +405,7 @@ class NotificationServiceImplTest {
 
         Page<Notification> notificationPage = new PageImpl<>(List.of(notification));
         when(notificationRepository.findByUserId(userId, pageable)).thenReturn(notificationPage);
-        when(storyRepository.findById(storyId)).thenReturn(Optional.of(story));
+        when(storyRepository.findSlugsByIdIn(Set.of(storyId))).thenReturn(List.of(slugView(storyId, "test-story")));
 
         Page<NotificationResponse> response = notificationService.findByUserId(userId, pageable);
 
@@ -251,7 +430,7 @@ class NotificationServiceImplTest {
 
         Page<Notification> notificationPage = new PageImpl<>(List.of(notification));
         when(notificationRepository.findByUserId(userId, pageable)).thenReturn(notificationPage);
-        when(storyRepository.findById(storyId)).thenReturn(Optional.empty());
+        when(storyRepository.findSlugsByIdIn(Set.of(storyId))).thenReturn(List.of());
 
         Page<NotificationResponse> response = notificationService.findByUserId(userId, pageable);
 
@@ -259,5 +438,114 @@ class NotificationServiceImplTest {
         assertEquals(1, response.getContent().size());
         assertNull(response.getContent().get(0).getRelatedStorySlug());
     }
-}
 
+    @Test
+    void findByUserId_shouldResolveSlugsWithSingleBatchQuery() {
+        Long userId = 1L;
+        Pageable pageable = PageRequest.of(0, 10);
+
+        User user = new User();
+        user.setId(userId);
+
+        List<Notification> notifications = new java.util.ArrayList<>();
+        long[] storyIds = {10L, 11L, 10L, 12L};
+        for (int i = 0; i < storyIds.length; i++) {
+            Notification notification = new Notification();
+            notification.setId((long) i + 1);
+            notification.setUser(user);
+            notification.setRelatedStoryId(storyIds[i]);
+            notifications.add(notification);
+        }
+        Notification withoutStory = new Notification();
+        withoutStory.setId(5L);
+        withoutStory.setUser(user);
+        notifications.add(withoutStory);
+
+        when(notificationRepository.findByUserId(userId, pageable)).thenReturn(new PageImpl<>(notifications));
+        when(storyRepository.findSlugsByIdIn(Set.of(10L, 11L, 12L)))
+                .thenReturn(List.of(slugView(10L, "on"), slugView(11L, "on-bir"), slugView(12L, "on-iki")));
+
+        Page<NotificationResponse> response = notificationService.findByUserId(userId, pageable);
+
+        assertEquals(List.of("on", "on-bir", "on", "on-iki"), response.getContent().subList(0, 4).stream()
+                .map(NotificationResponse::getRelatedStorySlug).toList());
+        assertNull(response.getContent().get(4).getRelatedStorySlug());
+        verify(storyRepository, times(1)).findSlugsByIdIn(anyCollection());
+        verify(storyRepository, never()).findById(any());
+    }
+
+    @Test
+    void findFeedByUserId_shouldReadOneExtraRowAndReturnNextCursor() {
+        Long userId = 1L;
+        List<Notification> rows = new java.util.ArrayList<>();
+        for (long id = 9; id >= 7; id--) {
+            Notification notification = new Notification();
+            notification.setId(id);
+            notification.setRelatedStoryId(id == 9 ? 10L : null);
+            rows.add(notification);
+        }
+        when(notificationRepository.findFeedByUserId(userId, Long.MAX_VALUE, PageRequest.of(0, 3))).thenReturn(rows);
+        when(storyRepository.findSlugsByIdIn(Set.of(10L))).thenReturn(List.of(slugView(10L, "on")));
+
+        CursorPageResponse<NotificationResponse> response = notificationService.findFeedByUserId(userId, null, 2, false);
+
+        assertTrue(response.isHasMore());
+        assertEquals(List.of(9L, 8L), response.getContent().stream().map(NotificationResponse::getId).toList());
+        assertEquals("on", response.getContent().get(0).getRelatedStorySlug());
+        assertEquals(8L, CursorUtil.decodeId(response.getNextCursor()));
+        verify(notificationRepository, never()).findByUserId(any(), any());
+    }
+
+    @Test
+    void findFeedByUserId_shouldUseUnreadQueryAndCursor() {
+        Long userId = 1L;
+        Notification notification = new Notification();
+        notification.setId(3L);
+        when(notificationRepository.findUnreadFeedByUserId(userId, 8L, PageRequest.of(0, 11)))
+                .thenReturn(List.of(notification));
+
+        CursorPageResponse<NotificationResponse> response =
+                notificationService.findFeedByUserId(userId, CursorUtil.encode(8L), 10, true);
+
+        assertFalse(response.isHasMore());
+        assertNull(response.getNextCursor());
+        assertEquals(1, response.getContent().size());
+        verify(storyRepository, never()).findSlugsByIdIn(any());
+    }
+
+    @Test
+    void findFeedByUserId_shouldRejectInvalidCursor() {
+        assertThrows(BadRequestException.class, () -> notificationService.findFeedByUserId(1L, "xyz", 10, false));
+        verifyNoInteractions(notificationRepository);
+    }
+
+    @Test
+    void findUnreadByUserId_shouldSkipSlugQueryWhenNoStoryIsReferenced() {
+        Long userId = 1L;
+        Pageable pageable = PageRequest.of(0, 10);
+
+        Notification notification = new Notification();
+        notification.setId(1L);
+
+        when(notificationRepository.findByUserIdAndIsRead(userId, false, pageable))
+                .thenReturn(new PageImpl<>(List.of(notification)));
+
+        notificationService.findUnreadByUserId(userId, pageable);
+
+        verifyNoInteractions(storyRepository);
+    }
+
+    private StorySlugView slugView(Long id, String slug) {
+        return new StorySlugView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getSlug() {
+                return slug;
+            }
+        };
+    }
+}
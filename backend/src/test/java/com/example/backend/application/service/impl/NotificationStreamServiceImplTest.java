@@ -0,0 +1,169 @@
+package com.example.backend.application.service.impl;
+
+import com.example.backend.application.dto.response.NotificationResponse;
+import com.example.backend.application.service.NotificationCounterService;
+import com.example.backend.application.service.NotificationStreamService;
+import com.example.backend.infrastructure.cache.UnreadNotificationCountCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationStreamServiceImplTest {
+
+    @Mock
+    private NotificationCounterService counterService;
+
+    @Spy
+    private UnreadNotificationCountCache unreadCountCache = new UnreadNotificationCountCache();
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private NotificationStreamServiceImpl streamService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(streamService, "timeoutMs", 60000L);
+        ReflectionTestUtils.setField(streamService, "reconnectMs", 5000L);
+        ReflectionTestUtils.setField(streamService, "maxConnectionsPerUser", 2);
+        ReflectionTestUtils.setField(streamService, "maxPendingEvents", 4);
+        ReflectionTestUtils.setField(streamService, "workers", 1);
+        ReflectionTestUtils.setField(streamService, "queueCapacity", 10);
+        streamService.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        streamService.stop();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void subscribe_shouldRegisterConnectionAndRunReplay() {
+        AtomicBoolean replayed = new AtomicBoolean();
+
+        assertNotNull(streamService.subscribe(1L, () -> {
+            // Replay okunurken bağlantı zaten kayıtlıdır; aradaki bildirim kaçmaz
+            replayed.set(streamService.hasSubscribers(1L));
+            return emptyReplay();
+        }));
+
+        assertTrue(replayed.get());
+        assertEquals(1.0, meterRegistry.get("notification.stream.connections").gauge().value());
+    }
+
+    @Test
+    void subscribe_shouldCloseOldestConnectionOverPerUserLimit() {
+        streamService.subscribe(1L, this::emptyReplay);
+        streamService.subscribe(1L, this::emptyReplay);
+        streamService.subscribe(1L, this::emptyReplay);
+
+        assertEquals(2.0, meterRegistry.get("notification.stream.connections").gauge().value());
+    }
+
+    @Test
+    void subscribe_shouldUnregisterWhenReplayFails() {
+        assertThrows(IllegalStateException.class, () -> streamService.subscribe(1L, () -> {
+            throw new IllegalStateException("veritabanı yok");
+        }));
+
+        assertFalse(streamService.hasSubscribers(1L));
+    }
+
+    @Test
+    void heartbeat_shouldDropClientsThatStopReading() {
+        blockWorker();
+        streamService.subscribe(1L, this::emptyReplay);
+
+        for (int i = 0; i < 5; i++) {
+            streamService.heartbeat();
+        }
+
+        assertFalse(streamService.hasSubscribers(1L));
+        assertEquals(1.0, meterRegistry.get("notification.stream.dropped").counter().count());
+    }
+
+    @Test
+    void heartbeat_shouldLeaveClosingEmitterToWriterThread() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        blockWorker(release);
+        SseEmitter emitter = streamService.subscribe(1L, this::emptyReplay);
+
+        for (int i = 0; i < 5; i++) {
+            streamService.heartbeat();
+        }
+
+        // Düşürme çağıranı bekletmez; emitter'ı kuyruktaki yazar kapatır
+        assertFalse(streamService.hasSubscribers(1L));
+        assertFalse(isComplete(emitter));
+        release.countDown();
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) ReflectionTestUtils.getField(streamService, "executor");
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertTrue(isComplete(emitter));
+    }
+
+    @Test
+    void publishAfterCommit_shouldWaitForCommitAndSkipDisconnectedUsers() {
+        streamService.subscribe(1L, this::emptyReplay);
+        TransactionSynchronizationManager.initSynchronization();
+
+        NotificationResponse notification = new NotificationResponse();
+        notification.setId(5L);
+        streamService.publishAfterCommit(1L, notification);
+        streamService.publishAfterCommit(2L, notification);
+        streamService.publishUnreadCountAfterCommit(List.of(1L, 2L));
+
+        List<TransactionSynchronization> registered = TransactionSynchronizationManager.getSynchronizations();
+        assertEquals(2, registered.size());
+        verifyNoInteractions(counterService);
+    }
+
+    private NotificationStreamService.Replay emptyReplay() {
+        return new NotificationStreamService.Replay(List.of(), false, 0L);
+    }
+
+    // Tek worker'ı bitmeyen bir görevle meşgul eder; bağlantı kuyrukları boşaltılamaz
+    private void blockWorker() {
+        blockWorker(new CountDownLatch(1));
+    }
+
+    private void blockWorker(CountDownLatch release) {
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) ReflectionTestUtils.getField(streamService, "executor");
+        executor.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+    }
+
+    private boolean isComplete(SseEmitter emitter) {
+        return Boolean.TRUE.equals(ReflectionTestUtils.getField(emitter, "complete"));
+    }
+}
@@ -1,14 +1,16 @@
 package com.example.backend.application.service.impl;
 
+import com.example.backend.application.dto.response.CursorPageResponse;
 import com.example.backend.application.dto.response.StoryResponse;
+import com.example.backend.application.exception.BadRequestException;
 import com.example.backend.application.exception.ResourceNotFoundException;
 import com.example.backend.domain.entity.SavedStory;
-import com.example.backend.domain.entity.Story;
-import com.example.backend.domain.entity.User;
-import com.example.backend.domain.entity.Role;
+import com.example.backend.domain.projection.SavedStoryCardView;
+import com.example.backend.domain.projection.StoryCardView;
 import com.example.backend.domain.repository.SavedStoryRepository;
 import com.example.backend.domain.repository.StoryRepository;
 import com.example.backend.domain.repository.UserRepository;
+import com.example.backend.infrastructure.util.CursorUtil;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -18,10 +20,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -47,21 +52,12 @@ class SavedStoryServiceImplTest {
         Long userId = 1L;
         Long storyId = 2L;
 
-        when(savedStoryRepository.existsByUserIdAndStoryId(userId, storyId)).thenReturn(false);
-
-        User user = new User();
-        user.setId(userId);
-
-        Story story = new Story();
-        story.setId(storyId);
-        story.setTitle("Test Story");
-
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(storyRepository.findById(storyId)).thenReturn(Optional.of(story));
+        when(savedStoryRepository.upsertActive(eq(userId), eq(storyId), any(LocalDateTime.class))).thenReturn(1);
 
         savedStoryService.saveStory(userId, storyId);
 
-        verify(savedStoryRepository, times(1)).save(any(SavedStory.class));
+        verify(savedStoryRepository, never()).save(any(SavedStory.class));
+        verifyNoInteractions(userRepository, storyRepository);
     }
 
     @Test
@@ -69,10 +65,11 @@ class SavedStoryServiceImplTest {
         Long userId = 1L;
         Long storyId = 2L;
 
-        when(savedStoryRepository.existsByUserIdAndStoryId(userId, storyId)).thenReturn(true);
-
-        savedStoryService.saveStory(userId, storyId);
+        when(savedStoryRepository.upsertActive(eq(userId), eq(storyId), any(LocalDateTime.class))).thenReturn(0);
+        when(userRepository.existsById(userId)).thenReturn(true);
+        when(storyRepository.existsById(storyId)).thenReturn(true);
 
+        assertDoesNotThrow(() -> savedStoryService.saveStory(userId, storyId));
         verify(savedStoryRepository, never()).save(any(SavedStory.class));
     }
 
@@ -122,8 +119,8 @@ class SavedStoryServiceImplTest {
         Long userId = 999L;
         Long storyId = 2L;
 
-        when(savedStoryRepository.existsByUserIdAndStoryId(userId, storyId)).thenReturn(false);
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        when(savedStoryRepository.upsertActive(eq(userId), eq(storyId), any(LocalDateTime.class))).thenReturn(0);
+        when(userRepository.existsById(userId)).thenReturn(false);
 
         assertThrows(ResourceNotFoundException.class, () -> savedStoryService.saveStory(userId, storyId));
         verify(savedStoryRepository, never()).save(any(SavedStory.class));
@@ -134,12 +131,9 @@ class SavedStoryServiceImplTest {
         Long userId = 1L;
         Long storyId = 999L;
 
-        User user = new User();
-        user.setId(userId);
-
-        when(savedStoryRepository.existsByUserIdAndStoryId(userId, storyId)).thenReturn(false);
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(storyRepository.findById(storyId)).thenReturn(Optional.empty());
+        when(savedStoryRepository.upsertActive(eq(userId), eq(storyId), any(LocalDateTime.class))).thenReturn(0);
+        when(userRepository.existsById(userId)).thenReturn(true);
+        when(storyRepository.existsById(storyId)).thenReturn(false);
 
         assertThrows(ResourceNotFoundException.class, () -> savedStoryService.saveStory(userId, storyId));
         verify(savedStoryRepository, never()).save(any(SavedStory.class));
@@ -162,33 +156,67 @@ class SavedStoryServiceImplTest {
         Long userId = 1L;
         Pageable pageable = PageRequest.of(0, 10);
 
-        User user = new User();
-        user.setId(userId);
-        user.setUsername("testuser");
-        Role role = new Role();
-        role.setName("USER");
-        user.setRoles(Set.of(role));
-
-        Story story = new Story();
-        story.setId(1L);
-        story.setTitle("Test Story");
-        story.setUser(user);
-
-        SavedStory savedStory = new SavedStory();
-        savedStory.setId(1L);
-        savedStory.setUser(user);
-        savedStory.setStory(story);
-        savedStory.setIsActive(true);
+        Map<String, Object> values = new HashMap<>();
+        values.put("id", 1L);
+        values.put("title", "Test Story");
+        values.put("summary", "Özet");
+        values.put("userId", 2L);
+        values.put("username", "testuser");
+        StoryCardView card = new SpelAwareProxyProjectionFactory().createProjection(StoryCardView.class, values);
 
-        Page<SavedStory> savedStoryPage = new PageImpl<>(List.of(savedStory));
-        when(savedStoryRepository.findByUserId(userId, pageable)).thenReturn(savedStoryPage);
+        Page<StoryCardView> cardPage = new PageImpl<>(List.of(card));
+        when(savedStoryRepository.findStoryCardsByUserId(userId, pageable)).thenReturn(cardPage);
 
         Page<StoryResponse> response = savedStoryService.findByUserId(userId, pageable);
 
         assertNotNull(response);
         assertEquals(1, response.getContent().size());
         assertEquals(1L, response.getContent().get(0).getId());
-        verify(savedStoryRepository, times(1)).findByUserId(userId, pageable);
+        assertEquals("Özet", response.getContent().get(0).getOzet());
+        assertEquals("testuser", response.getContent().get(0).getKullaniciAdi());
+        assertNull(response.getContent().get(0).getIcerik());
+        verify(savedStoryRepository, times(1)).findStoryCardsByUserId(userId, pageable);
+        verify(savedStoryRepository, never()).findByUserId(any(), any());
     }
-}
 
+    @Test
+    void findFeedByUserId_shouldReturnCursorOfLastSavedRowWhenMoreRowsExist() {
+        Long userId = 1L;
+        List<SavedStoryCardView> rows = List.of(savedCard(30L, 100L), savedCard(20L, 101L), savedCard(10L, 102L));
+        when(savedStoryRepository.findStoryCardFeedByUserId(userId, Long.MAX_VALUE, PageRequest.of(0, 3)))
+                .thenReturn(rows);
+
+        CursorPageResponse<StoryResponse> response = savedStoryService.findFeedByUserId(userId, null, 2);
+
+        assertTrue(response.isHasMore());
+        assertEquals(List.of(100L, 101L), response.getContent().stream().map(StoryResponse::getId).toList());
+        assertEquals(20L, CursorUtil.decodeId(response.getNextCursor()));
+    }
+
+    @Test
+    void findFeedByUserId_shouldContinueFromCursor() {
+        Long userId = 1L;
+        when(savedStoryRepository.findStoryCardFeedByUserId(userId, 20L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(savedCard(10L, 102L)));
+
+        CursorPageResponse<StoryResponse> response = savedStoryService.findFeedByUserId(userId, CursorUtil.encode(20L), 2);
+
+        assertFalse(response.isHasMore());
+        assertNull(response.getNextCursor());
+        assertEquals(1, response.getContent().size());
+    }
+
+    @Test
+    void findFeedByUserId_shouldRejectInvalidCursor() {
+        assertThrows(BadRequestException.class, () -> savedStoryService.findFeedByUserId(1L, "bozuk!", 10));
+        verifyNoInteractions(savedStoryRepository);
+    }
+
+    private SavedStoryCardView savedCard(Long savedId, Long storyId) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("savedId", savedId);
+        values.put("id", storyId);
+        values.put("title", "Story " + storyId);
+        return new SpelAwareProxyProjectionFactory().createProjection(SavedStoryCardView.class, values);
+    }
+}
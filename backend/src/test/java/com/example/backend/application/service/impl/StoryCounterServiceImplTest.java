@@ -0,0 +1,112 @@
+package com.example.backend.application.service.impl;
+
+import com.example.backend.domain.entity.Story;
+import com.example.backend.domain.repository.StoryRepository;
+import com.example.backend.infrastructure.cache.StoryResponseCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StoryCounterServiceImplTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private StoryRepository storyRepository;
+
+    @Mock
+    private StoryResponseCache storyResponseCache;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private StoryCounterServiceImpl storyCounterService;
+
+    @BeforeEach
+    void setUp() {
+        storyCounterService.registerMetrics();
+    }
+
+    @Test
+    void adjustLikeCount_shouldIncrementInSqlAndReturnStoredValue() {
+        when(jdbcTemplate.queryForObject(contains("begeni_sayisi = GREATEST(COALESCE(begeni_sayisi, 0) + ?, 0)"),
+                eq(Long.class), eq(1L), eq(7L))).thenReturn(42L);
+
+        assertEquals(42L, storyCounterService.adjustLikeCount(7L, 1));
+        verify(storyResponseCache).invalidateAfterCommit(7L);
+    }
+
+    @Test
+    void adjustCommentCount_shouldDecrementInSqlAndReturnStoredValue() {
+        when(jdbcTemplate.queryForObject(contains("yorum_sayisi = GREATEST(COALESCE(yorum_sayisi, 0) + ?, 0)"),
+                eq(Long.class), eq(-1L), eq(7L))).thenReturn(0L);
+
+        assertEquals(0L, storyCounterService.adjustCommentCount(7L, -1));
+    }
+
+    @Test
+    void adjustLikeCount_shouldWriteNewValueToStoryLoadedInSameTransaction() {
+        Story loaded = new Story();
+        loaded.setId(7L);
+        loaded.setLikeCount(41L);
+        when(storyRepository.getReferenceById(7L)).thenReturn(loaded);
+        when(jdbcTemplate.queryForObject(contains("begeni_sayisi"), eq(Long.class), eq(1L), eq(7L))).thenReturn(42L);
+
+        storyCounterService.adjustLikeCount(7L, 1);
+
+        assertEquals(42L, loaded.getLikeCount());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void reconcile_shouldLockAndRecomputeEachDriftedStoryInItsOwnTransaction() {
+        doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(jdbcTemplate.queryForList(contains("<>"), eq(Long.class))).thenReturn(List.of(3L, 8L));
+
+        int reconciled = storyCounterService.reconcile();
+
+        assertEquals(2, reconciled);
+        verify(transactionTemplate, times(2)).executeWithoutResult(any());
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).queryForList(contains("FOR UPDATE"), eq(Long.class), eq(3L));
+        inOrder.verify(jdbcTemplate).update(contains("SELECT COUNT(*) FROM likes"), eq(3L), eq(3L), eq(3L));
+        inOrder.verify(jdbcTemplate).queryForList(contains("FOR UPDATE"), eq(Long.class), eq(8L));
+        inOrder.verify(jdbcTemplate).update(contains("SELECT COUNT(*) FROM likes"), eq(8L), eq(8L), eq(8L));
+        assertEquals(2.0, meterRegistry.get("story.counters.reconciled").counter().count());
+    }
+
+    @Test
+    void reconcile_shouldDoNothingWhenCountersMatch() {
+        when(jdbcTemplate.queryForList(contains("<>"), eq(Long.class))).thenReturn(List.of());
+
+        assertEquals(0, storyCounterService.reconcile());
+        verifyNoInteractions(transactionTemplate);
+        assertEquals(0.0, meterRegistry.get("story.counters.reconciled").counter().count());
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.backend.application.service.impl;
+
+import com.example.backend.application.dto.response.StoryResponse;
+import com.example.backend.domain.entity.Story;
+import com.example.backend.domain.projection.StorySearchView;
+import com.example.backend.domain.projection.StoryCardView;
+import com.example.backend.domain.repository.StoryRepository;
+import com.example.backend.infrastructure.search.StorySearchIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StorySearchServiceImplTest {
+
+    @Mock
+    private StoryRepository storyRepository;
+
+    @Mock
+    private StorySearchIndex storySearchIndex;
+
+    @InjectMocks
+    private StorySearchServiceImpl storySearchService;
+
+    @Test
+    void search_shouldBuildPrefixQueryFromFoldedTerms() {
+        Pageable pageable = PageRequest.of(1, 10, Sort.by(Sort.Direction.DESC, "id"));
+        when(storyRepository.fullTextSearch(anyString(), anyString(), anyString(), any(Pageable.class)))
+                .thenReturn(Page.empty());
+
+        storySearchService.search("Yazılım Doğrulama", pageable);
+
+        // İstekteki Sort native sorguya taşınmaz, sayfa bilgisi korunur
+        verify(storyRepository).fullTextSearch("yazilim:* & dogrulama:*", "yazilim",
+                Story.StoryStatus.YAYINLANDI.name(), PageRequest.of(1, 10));
+    }
+
+    @Test
+    void search_shouldReturnEmptyPageWithoutQueryingWhenNoTerms() {
+        Page<StoryResponse> response = storySearchService.search(" '&! ", PageRequest.of(0, 10));
+
+        assertTrue(response.isEmpty());
+        verifyNoInteractions(storyRepository);
+    }
+
+    @Test
+    void search_shouldCapNumberOfTerms() {
+        when(storyRepository.fullTextSearch(anyString(), anyString(), anyString(), any(Pageable.class)))
+                .thenReturn(Page.empty());
+
+        storySearchService.search("a b c d e f g h i j", PageRequest.of(0, 10));
+
+        verify(storyRepository).fullTextSearch(argThat(tsquery -> tsquery.split("&").length == StorySearchServiceImpl.MAX_TERMS),
+                eq("a"), anyString(), any(Pageable.class));
+    }
+
+    @Test
+    void search_shouldMapCardFieldsAndHighlightTitleAndSnippet() {
+        Map<String, Object> values = new HashMap<>();
+        values.put("id", 7L);
+        values.put("title", "Yazılım testleri");
+        values.put("slug", "yazilim-testleri");
+        values.put("status", Story.StoryStatus.YAYINLANDI);
+        values.put("userId", 3L);
+        values.put("username", "yazar");
+        values.put("snippet", "Bu yazıda yazılım <testleri> anlatılıyor");
+        StorySearchView view = new SpelAwareProxyProjectionFactory().createProjection(StorySearchView.class, values);
+        when(storyRepository.fullTextSearch(anyString(), anyString(), anyString(), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(view)));
+
+        Page<StoryResponse> response = storySearchService.search("yazilim", PageRequest.of(0, 10));
+
+        StoryResponse result = response.getContent().get(0);
+        assertEquals(7L, result.getId());
+        assertEquals("Yazılım testleri", result.getBaslik());
+        assertEquals("yazar", result.getKullaniciAdi());
+        assertEquals("<mark>Yazılım</mark> testleri", result.getVurguluBaslik());
+        assertEquals("Bu yazıda <mark>yazılım</mark> &lt;testleri&gt; anlatılıyor", result.getVurguluParca());
+        assertNull(result.getIcerik());
+    }
+
+    @Test
+    void search_shouldLoadCardsForIndexHitsInScoreOrderWhenMemoryEngine() {
+        ReflectionTestUtils.setField(storySearchService, "searchEngine", "memory");
+        when(storySearchIndex.search(List.of("yazilim"), 3, 3))
+                .thenReturn(new StorySearchIndex.SearchResult(List.of(9L, 4L, 5L), 13));
+        // Veritabanı id sırasıyla döner, silinmiş 5 numara gelmez
+        when(storyRepository.findCardsByIdIn(List.of(9L, 4L, 5L)))
+                .thenReturn(List.of(card(4L, "Yazılım 101"), card(9L, "Yazılımda test")));
+
+        Page<StoryResponse> response = storySearchService.search("Yazılım", PageRequest.of(1, 3));
+
+        assertEquals(13, response.getTotalElements());
+        assertEquals(List.of(9L, 4L), response.getContent().stream().map(StoryResponse::getId).toList());
+        assertEquals("<mark>Yazılımda</mark> test", response.getContent().get(0).getVurguluBaslik());
+        verify(storyRepository, never()).fullTextSearch(any(), any(), any(), any());
+    }
+
+    @Test
+    void search_shouldSkipCardQueryWhenIndexHasNoHits() {
+        ReflectionTestUtils.setField(storySearchService, "searchEngine", "memory");
+        when(storySearchIndex.search(anyList(), anyInt(), anyInt()))
+                .thenReturn(new StorySearchIndex.SearchResult(List.of(), 0));
+
+        Page<StoryResponse> response = storySearchService.search("yok", PageRequest.of(0, 10));
+
+        assertTrue(response.isEmpty());
+        verifyNoInteractions(storyRepository);
+    }
+
+    private StoryCardView card(Long id, String title) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("id", id);
+        values.put("title", title);
+        values.put("status", Story.StoryStatus.YAYINLANDI);
+        return new SpelAwareProxyProjectionFactory().createProjection(StoryCardView.class, values);
+    }
+}
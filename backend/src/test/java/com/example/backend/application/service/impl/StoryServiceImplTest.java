@@ -2,11 +2,22 @@ package com.example.backend.application.service.impl;
 
 import com.example.backend.application.dto.request.StoryCreateRequest;
 import com.example.backend.application.dto.request.StoryUpdateRequest;
+import com.example.backend.application.dto.request.TagCreateRequest;
+import com.example.backend.application.dto.response.CursorPageResponse;
+import com.example.backend.application.dto.response.TagResponse;
 import com.example.backend.application.dto.response.StoryResponse;
+import com.example.backend.application.exception.BadRequestException;
 import com.example.backend.application.exception.ResourceNotFoundException;
 import com.example.backend.domain.entity.*;
+import com.example.backend.domain.projection.StoryCardView;
 import com.example.backend.domain.repository.*;
-import com.example.backend.application.service.NotificationService;
+import com.example.backend.infrastructure.cache.StoryResponseCache;
+import com.example.backend.infrastructure.search.StorySearchIndex;
+import com.example.backend.infrastructure.util.CursorUtil;
+import com.example.backend.application.service.NotificationFanoutService;
+import com.example.backend.application.service.StorySearchService;
+import com.example.backend.application.service.TagService;
+import com.example.backend.application.service.ViewCountService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -16,7 +27,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -39,14 +53,34 @@ class StoryServiceImplTest {
     private TagRepository tagRepository;
 
     @Mock
-    private FollowRepository followRepository;
+    private NotificationFanoutService notificationFanoutService;
 
     @Mock
-    private NotificationService notificationService;
+    private ViewCountService viewCountService;
+
+    @Mock
+    private StorySearchService storySearchService;
+
+    @Mock
+    private StorySearchIndex storySearchIndex;
+
+    @Mock
+    private TagService tagService;
+
+    @Mock
+    private StoryResponseCache storyResponseCache;
 
     @InjectMocks
     private StoryServiceImpl storyService;
 
+    @SuppressWarnings("unchecked")
+    private void passThroughResponseCache() {
+        lenient().when(storyResponseCache.getById(any(), any()))
+                .thenAnswer(invocation -> ((java.util.function.Supplier<StoryResponse>) invocation.getArgument(1)).get());
+        lenient().when(storyResponseCache.getBySlug(any(), any()))
+                .thenAnswer(invocation -> ((java.util.function.Supplier<StoryResponse>) invocation.getArgument(1)).get());
+    }
+
     @Test
     void create_shouldCreateStoryWithSlug() {
         Long userId = 1L;
@@ -123,24 +157,19 @@ class StoryServiceImplTest {
         story.setStatus(Story.StoryStatus.YAYIN_BEKLIYOR);
         story.setTitle("Test Story");
 
-        User follower = new User();
-        follower.setId(4L);
-
         when(storyRepository.findById(storyId)).thenReturn(Optional.of(story));
-        when(followRepository.findFollowersByFollowedId(authorId)).thenReturn(List.of(follower));
 
         storyService.approve(storyId, adminId);
 
         assertEquals(Story.StoryStatus.YAYINLANDI, story.getStatus());
         assertNotNull(story.getPublishedAt());
         verify(storyRepository, times(1)).save(story);
-        verify(notificationService, times(1)).createNotification(
-                eq(4L),
+        verify(notificationFanoutService, times(1)).enqueueForFollowers(
+                eq(authorId),
                 eq("Yeni İçerik"),
                 contains("author"),
                 eq(Notification.NotificationType.HABER_YAYINLANDI),
-                eq(storyId),
-                isNull()
+                eq(storyId)
         );
     }
 
@@ -218,7 +247,8 @@ class StoryServiceImplTest {
         story.setStatus(Story.StoryStatus.YAYINLANDI);
         story.setUser(user);
 
-        when(storyRepository.findById(storyId)).thenReturn(Optional.of(story));
+        when(storyRepository.findDetailById(storyId)).thenReturn(Optional.of(story));
+        passThroughResponseCache();
 
         StoryResponse response = storyService.findById(storyId);
 
@@ -229,7 +259,8 @@ class StoryServiceImplTest {
     @Test
     void findById_shouldThrowExceptionWhenNotFound() {
         Long storyId = 999L;
-        when(storyRepository.findById(storyId)).thenReturn(Optional.empty());
+        when(storyRepository.findDetailById(storyId)).thenReturn(Optional.empty());
+        passThroughResponseCache();
 
         assertThrows(RuntimeException.class, () -> storyService.findById(storyId));
     }
@@ -261,11 +292,48 @@ class StoryServiceImplTest {
         story.setUser(user);
 
         when(storyRepository.findBySlug(slug)).thenReturn(Optional.of(story));
+        passThroughResponseCache();
 
         StoryResponse response = storyService.findBySlug(slug);
 
         assertNotNull(response);
         assertEquals(1L, response.getId());
+        verify(viewCountService, never()).recordView(any());
+    }
+
+    @Test
+    void findBySlug_shouldRecordViewForPublishedStory() {
+        String slug = "published-story";
+        User user = new User();
+        user.setId(1L);
+
+        Story story = new Story();
+        story.setId(5L);
+        story.setSlug(slug);
+        story.setUser(user);
+        story.setStatus(Story.StoryStatus.YAYINLANDI);
+
+        when(storyRepository.findBySlug(slug)).thenReturn(Optional.of(story));
+        passThroughResponseCache();
+
+        storyService.findBySlug(slug);
+
+        verify(viewCountService, times(1)).recordView(5L);
+    }
+
+    @Test
+    void findBySlug_shouldRecordViewWhenServedFromCache() {
+        StoryResponse cached = new StoryResponse();
+        cached.setId(5L);
+        cached.setSlug("published-story");
+        cached.setDurum(Story.StoryStatus.YAYINLANDI);
+        when(storyResponseCache.getBySlug(eq("published-story"), any())).thenReturn(cached);
+
+        StoryResponse response = storyService.findBySlug("published-story");
+
+        assertSame(cached, response);
+        verify(storyRepository, never()).findBySlug(anyString());
+        verify(viewCountService, times(1)).recordView(5L);
     }
 
     @Test
@@ -384,6 +452,7 @@ class StoryServiceImplTest {
 
         assertNotNull(response);
         verify(storyRepository, times(1)).save(any(Story.class));
+        verify(storyResponseCache).invalidateAfterCommit(storyId);
     }
 
     @Test
@@ -456,10 +525,10 @@ class StoryServiceImplTest {
 
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
         when(storyRepository.existsBySlug(anyString())).thenReturn(false);
-        when(tagRepository.findByName("java")).thenReturn(Optional.empty());
-        when(tagRepository.findByName("spring")).thenReturn(Optional.empty());
-        when(tagRepository.findByName("test")).thenReturn(Optional.empty());
-        when(tagRepository.existsBySlug(anyString())).thenReturn(false);
+        when(tagService.findIdByName(anyString())).thenReturn(null);
+        when(tagService.create(any(TagCreateRequest.class)))
+                .thenAnswer(invocation -> new TagResponse(5L, ((TagCreateRequest) invocation.getArgument(0)).getName(), null, null, null));
+        when(tagRepository.getReferenceById(5L)).thenReturn(new Tag());
 
         Story saved = new Story();
         saved.setId(10L);
@@ -472,14 +541,13 @@ class StoryServiceImplTest {
         tags.add(tag1);
         saved.setTags(tags);
 
-        when(tagRepository.save(any(Tag.class))).thenAnswer(invocation -> invocation.getArgument(0));
         when(storyRepository.save(any(Story.class))).thenReturn(saved);
 
         StoryResponse response = storyService.create(userId, request);
 
         assertNotNull(response);
         assertEquals(10L, response.getId());
-        verify(tagRepository, atLeast(1)).save(any(Tag.class));
+        verify(tagService, times(3)).create(any(TagCreateRequest.class));
         verify(storyRepository, times(1)).save(any(Story.class));
     }
 
@@ -500,7 +568,8 @@ class StoryServiceImplTest {
 
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
         when(storyRepository.existsBySlug(anyString())).thenReturn(false);
-        when(tagRepository.findByName("java")).thenReturn(Optional.of(existingTag));
+        when(tagService.findIdByName("java")).thenReturn(1L);
+        when(tagRepository.getReferenceById(1L)).thenReturn(existingTag);
 
         Story saved = new Story();
         saved.setId(10L);
@@ -513,7 +582,7 @@ class StoryServiceImplTest {
         StoryResponse response = storyService.create(userId, request);
 
         assertNotNull(response);
-        verify(tagRepository, never()).save(any(Tag.class));
+        verify(tagService, never()).create(any(TagCreateRequest.class));
         verify(storyRepository, times(1)).save(any(Story.class));
     }
 
@@ -561,14 +630,14 @@ class StoryServiceImplTest {
         user.setRoles(Set.of(role));
         story.setUser(user);
 
-        Page<Story> storyPage = new PageImpl<>(List.of(story));
-        when(storyRepository.findAll(pageable)).thenReturn(storyPage);
+        Page<StoryCardView> storyPage = new PageImpl<>(List.of(cardView(story)));
+        when(storyRepository.findAllCards(pageable)).thenReturn(storyPage);
 
         Page<StoryResponse> response = storyService.findAll(pageable);
 
         assertNotNull(response);
         assertEquals(1, response.getContent().size());
-        verify(storyRepository, times(1)).findAll(pageable);
+        verify(storyRepository, times(1)).findAllCards(pageable);
     }
 
     @Test
@@ -586,13 +655,16 @@ class StoryServiceImplTest {
         user.setRoles(Set.of(role));
         story.setUser(user);
 
-        Page<Story> storyPage = new PageImpl<>(List.of(story));
+        Page<StoryCardView> storyPage = new PageImpl<>(List.of(cardView(story)));
         when(storyRepository.findByUserId(userId, pageable)).thenReturn(storyPage);
 
         Page<StoryResponse> response = storyService.findByUserId(userId, pageable);
 
         assertNotNull(response);
         assertEquals(1, response.getContent().size());
+        // Kartta içerik yok; okuma süresi sorgudan gelir
+        assertNull(response.getContent().get(0).getIcerik());
+        assertEquals(4, response.getContent().get(0).getOkumaSuresi());
         verify(storyRepository, times(1)).findByUserId(userId, pageable);
     }
 
@@ -611,7 +683,7 @@ class StoryServiceImplTest {
         user.setRoles(Set.of(role));
         story.setUser(user);
 
-        Page<Story> storyPage = new PageImpl<>(List.of(story));
+        Page<StoryCardView> storyPage = new PageImpl<>(List.of(cardView(story)));
         when(storyRepository.findByCategoryId(categoryId, pageable)).thenReturn(storyPage);
 
         Page<StoryResponse> response = storyService.findByCategoryId(categoryId, pageable);
@@ -637,7 +709,7 @@ class StoryServiceImplTest {
         user.setRoles(Set.of(role));
         story.setUser(user);
 
-        Page<Story> storyPage = new PageImpl<>(List.of(story));
+        Page<StoryCardView> storyPage = new PageImpl<>(List.of(cardView(story)));
         when(storyRepository.findByStatus(status, pageable)).thenReturn(storyPage);
 
         Page<StoryResponse> response = storyService.findByStatus(status, pageable);
@@ -662,7 +734,7 @@ class StoryServiceImplTest {
         user.setRoles(Set.of(role));
         story.setUser(user);
 
-        Page<Story> storyPage = new PageImpl<>(List.of(story));
+        Page<StoryCardView> storyPage = new PageImpl<>(List.of(cardView(story)));
         when(storyRepository.findPublishedStories(Story.StoryStatus.YAYINLANDI, pageable)).thenReturn(storyPage);
 
         Page<StoryResponse> response = storyService.findPublishedStories(pageable);
@@ -687,7 +759,7 @@ class StoryServiceImplTest {
         user.setRoles(Set.of(role));
         story.setUser(user);
 
-        Page<Story> storyPage = new PageImpl<>(List.of(story));
+        Page<StoryCardView> storyPage = new PageImpl<>(List.of(cardView(story)));
         when(storyRepository.findPopularStories(Story.StoryStatus.YAYINLANDI, pageable)).thenReturn(storyPage);
 
         Page<StoryResponse> response = storyService.findPopularStories(pageable);
@@ -713,7 +785,7 @@ class StoryServiceImplTest {
         user.setRoles(Set.of(role));
         story.setUser(user);
 
-        Page<Story> storyPage = new PageImpl<>(List.of(story));
+        Page<StoryCardView> storyPage = new PageImpl<>(List.of(cardView(story)));
         when(storyRepository.findEditorPicks(Story.StoryStatus.YAYINLANDI, pageable)).thenReturn(storyPage);
 
         Page<StoryResponse> response = storyService.findEditorPicks(pageable);
@@ -724,7 +796,8 @@ class StoryServiceImplTest {
     }
 
     @Test
-    void search_shouldReturnPageOfMatchingStories() {
+    void search_shouldUseLegacyLikeQueryWhenConfigured() {
+        ReflectionTestUtils.setField(storyService, "searchEngine", "like");
         String query = "test";
         Pageable pageable = PageRequest.of(0, 10);
         Story story = new Story();
@@ -739,7 +812,7 @@ class StoryServiceImplTest {
         user.setRoles(Set.of(role));
         story.setUser(user);
 
-        Page<Story> storyPage = new PageImpl<>(List.of(story));
+        Page<StoryCardView> storyPage = new PageImpl<>(List.of(cardView(story)));
         when(storyRepository.searchStories(query, Story.StoryStatus.YAYINLANDI, pageable)).thenReturn(storyPage);
 
         Page<StoryResponse> response = storyService.search(query, pageable);
@@ -747,6 +820,20 @@ class StoryServiceImplTest {
         assertNotNull(response);
         assertEquals(1, response.getContent().size());
         verify(storyRepository, times(1)).searchStories(query, Story.StoryStatus.YAYINLANDI, pageable);
+        verifyNoInteractions(storySearchService);
+    }
+
+    @Test
+    void search_shouldDelegateToFullTextSearchByDefault() {
+        ReflectionTestUtils.setField(storyService, "searchEngine", "fulltext");
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<StoryResponse> expected = new PageImpl<>(List.of(new StoryResponse()));
+        when(storySearchService.search("test", pageable)).thenReturn(expected);
+
+        Page<StoryResponse> response = storyService.search("test", pageable);
+
+        assertSame(expected, response);
+        verify(storyRepository, never()).searchStories(any(), any(), any());
     }
 
     @Test
@@ -765,7 +852,7 @@ class StoryServiceImplTest {
         user.setRoles(Set.of(role));
         story.setUser(user);
 
-        Page<Story> storyPage = new PageImpl<>(List.of(story));
+        Page<StoryCardView> storyPage = new PageImpl<>(List.of(cardView(story)));
         when(storyRepository.findByTagId(tagId, Story.StoryStatus.YAYINLANDI, pageable)).thenReturn(storyPage);
 
         Page<StoryResponse> response = storyService.findByTagId(tagId, pageable);
@@ -779,6 +866,7 @@ class StoryServiceImplTest {
     void findBySlug_shouldThrowExceptionWhenNotFound() {
         String slug = "non-existent";
         when(storyRepository.findBySlug(slug)).thenReturn(Optional.empty());
+        passThroughResponseCache();
 
         assertThrows(ResourceNotFoundException.class, () -> storyService.findBySlug(slug));
     }
@@ -829,12 +917,12 @@ class StoryServiceImplTest {
         story.setTitle("Test Story");
 
         when(storyRepository.findById(storyId)).thenReturn(Optional.of(story));
-        when(followRepository.findFollowersByFollowedId(authorId)).thenReturn(List.of());
-
         storyService.approve(storyId, adminId);
 
         assertEquals(Story.StoryStatus.YAYINLANDI, story.getStatus());
         verify(storyRepository, times(1)).save(story);
+        verify(notificationFanoutService).enqueueForFollowers(
+                eq(authorId), anyString(), contains("John"), any(), eq(storyId));
     }
 
     @Test
@@ -855,12 +943,12 @@ class StoryServiceImplTest {
         story.setTitle("Test Story");
 
         when(storyRepository.findById(storyId)).thenReturn(Optional.of(story));
-        when(followRepository.findFollowersByFollowedId(authorId)).thenReturn(List.of());
-
         storyService.approve(storyId, adminId);
 
         assertEquals(Story.StoryStatus.YAYINLANDI, story.getStatus());
         verify(storyRepository, times(1)).save(story);
+        verify(notificationFanoutService).enqueueForFollowers(
+                eq(authorId), anyString(), contains("Bir yazar"), any(), eq(storyId));
     }
 
     @Test
@@ -886,20 +974,20 @@ class StoryServiceImplTest {
 
         when(storyRepository.findById(storyId)).thenReturn(Optional.of(story));
         when(storyRepository.existsBySlug(anyString())).thenReturn(false);
-        when(tagRepository.findByName("new-tag")).thenReturn(Optional.empty());
-        when(tagRepository.existsBySlug(anyString())).thenReturn(false);
+        when(tagService.findIdByName("new-tag")).thenReturn(null);
+        when(tagService.create(any(TagCreateRequest.class))).thenReturn(new TagResponse(7L, "new-tag", "new-tag", null, null));
+        when(tagRepository.getReferenceById(7L)).thenReturn(new Tag());
 
         Story saved = new Story();
         saved.setId(storyId);
         saved.setTitle("New Title");
         saved.setUser(owner);
-        when(tagRepository.save(any(Tag.class))).thenAnswer(invocation -> invocation.getArgument(0));
         when(storyRepository.save(any(Story.class))).thenReturn(saved);
 
         StoryResponse response = storyService.update(storyId, userId, request);
 
         assertNotNull(response);
-        verify(tagRepository, atLeast(1)).save(any(Tag.class));
+        verify(tagService, times(1)).create(any(TagCreateRequest.class));
         verify(storyRepository, times(1)).save(any(Story.class));
     }
 
@@ -942,5 +1030,104 @@ class StoryServiceImplTest {
         assertFalse(story.getIsEditorPick());
         verify(storyRepository, times(1)).save(story);
     }
-}
 
+    @Test
+    void findPublishedStories_shouldNotShipContentInFeedCards() {
+        Pageable pageable = PageRequest.of(0, 10);
+        Story story = new Story();
+        story.setId(1L);
+        story.setTitle("Test Story");
+        story.setSummary("Kısa özet");
+        story.setStatus(Story.StoryStatus.YAYINLANDI);
+        User user = new User();
+        user.setId(2L);
+        user.setUsername("testuser");
+        story.setUser(user);
+        Category category = new Category();
+        category.setId(3L);
+        category.setName("Teknoloji");
+        story.setCategory(category);
+
+        when(storyRepository.findPublishedStories(Story.StoryStatus.YAYINLANDI, pageable))
+                .thenReturn(new PageImpl<>(List.of(cardView(story))));
+
+        StoryResponse response = storyService.findPublishedStories(pageable).getContent().get(0);
+
+        assertEquals("Kısa özet", response.getOzet());
+        assertEquals("testuser", response.getKullaniciAdi());
+        assertEquals(3L, response.getKategoriId());
+        assertEquals("Teknoloji", response.getKategoriAdi());
+        assertNull(response.getContent());
+        assertNull(response.getIcerik());
+    }
+
+    @Test
+    void findPublishedFeed_shouldStartFromTopAndEncodeLastCardAsCursor() {
+        LocalDateTime newest = LocalDateTime.of(2024, 5, 2, 12, 0);
+        LocalDateTime older = LocalDateTime.of(2024, 5, 1, 12, 0);
+        List<StoryCardView> rows = List.of(feedCard(5L, newest), feedCard(4L, older), feedCard(3L, older));
+        when(storyRepository.findPublishedFeed(eq(Story.StoryStatus.YAYINLANDI), any(LocalDateTime.class),
+                eq(Long.MAX_VALUE), eq(PageRequest.of(0, 3)))).thenReturn(rows);
+
+        CursorPageResponse<StoryResponse> response = storyService.findPublishedFeed(null, 2);
+
+        assertTrue(response.isHasMore());
+        assertEquals(List.of(5L, 4L), response.getContent().stream().map(StoryResponse::getId).toList());
+        CursorUtil.TimeKey next = CursorUtil.decodeTimeKey(response.getNextCursor());
+        assertEquals(older, next.timestamp());
+        assertEquals(4L, next.id());
+        verify(storyRepository, never()).findPublishedStories(any(), any());
+    }
+
+    @Test
+    void findCategoryFeed_shouldContinueFromCursorKey() {
+        LocalDateTime publishedAt = LocalDateTime.of(2024, 5, 1, 12, 0);
+        when(storyRepository.findCategoryFeed(7L, Story.StoryStatus.YAYINLANDI, publishedAt, 4L, PageRequest.of(0, 11)))
+                .thenReturn(List.of(feedCard(3L, publishedAt)));
+
+        CursorPageResponse<StoryResponse> response =
+                storyService.findCategoryFeed(7L, CursorUtil.encode(publishedAt, 4L), 10);
+
+        assertFalse(response.isHasMore());
+        assertNull(response.getNextCursor());
+        assertEquals(3L, response.getContent().get(0).getId());
+    }
+
+    @Test
+    void findPublishedFeed_shouldRejectInvalidCursor() {
+        assertThrows(BadRequestException.class, () -> storyService.findPublishedFeed("geçersiz", 10));
+        verify(storyRepository, never()).findPublishedFeed(any(), any(), any(), any());
+    }
+
+    private StoryCardView feedCard(Long id, LocalDateTime publishedAt) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("id", id);
+        values.put("publishedAt", publishedAt);
+        values.put("status", Story.StoryStatus.YAYINLANDI);
+        return new SpelAwareProxyProjectionFactory().createProjection(StoryCardView.class, values);
+    }
+
+    private StoryCardView cardView(Story story) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("id", story.getId());
+        values.put("title", story.getTitle());
+        values.put("slug", story.getSlug());
+        values.put("summary", story.getSummary());
+        values.put("coverImageUrl", story.getCoverImageUrl());
+        values.put("status", story.getStatus());
+        values.put("publishedAt", story.getPublishedAt());
+        values.put("viewCount", story.getViewCount());
+        values.put("likeCount", story.getLikeCount());
+        values.put("commentCount", story.getCommentCount());
+        values.put("isEditorPick", story.getIsEditorPick());
+        values.put("metaDescription", story.getMetaDescription());
+        values.put("userId", story.getUser().getId());
+        values.put("username", story.getUser().getUsername());
+        values.put("categoryId", story.getCategory() != null ? story.getCategory().getId() : null);
+        values.put("categoryName", story.getCategory() != null ? story.getCategory().getName() : null);
+        values.put("createdAt", story.getCreatedAt());
+        values.put("updatedAt", story.getUpdatedAt());
+        values.put("readTime", 4);
+        return new SpelAwareProxyProjectionFactory().createProjection(StoryCardView.class, values);
+    }
+}
@@ -92,6 +92,15 @@ class TagServiceImplTest {
         assertThrows(ResourceNotFoundException.class, () -> tagService.findById(tagId));
     }
 
+    @Test
+    void findIdByName_shouldReturnNullWhenTagDoesNotExist() {
+        when(tagRepository.findIdByName("java")).thenReturn(Optional.of(3L));
+        when(tagRepository.findIdByName("yok")).thenReturn(Optional.empty());
+
+        assertEquals(3L, tagService.findIdByName("java"));
+        assertNull(tagService.findIdByName("yok"));
+    }
+
     @Test
     void findBySlug_shouldReturnTagResponse() {
         String slug = "test-tag";
@@ -9,6 +9,7 @@ import com.example.backend.domain.entity.User;
 import com.example.backend.domain.entity.Role;
 import com.example.backend.domain.repository.UserRepository;
 import com.example.backend.domain.repository.RoleRepository;
+import com.example.backend.infrastructure.security.VerifiedTokenCache;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -41,6 +42,9 @@ class UserServiceImplTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private VerifiedTokenCache verifiedTokenCache;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -128,6 +132,7 @@ class UserServiceImplTest {
 
         assertFalse(user.getIsActive());
         verify(userRepository, times(1)).save(user);
+        verify(verifiedTokenCache).invalidateUser(userId);
     }
 
     @Test
@@ -248,6 +253,7 @@ class UserServiceImplTest {
 
         assertFalse(user.getIsActive());
         verify(userRepository, times(1)).save(user);
+        verify(verifiedTokenCache).invalidateUser(userId);
     }
 
     @Test
@@ -0,0 +1,122 @@
+package com.example.backend.application.service.impl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ViewCountServiceImplTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private ViewCountServiceImpl viewCountService;
+
+    @BeforeEach
+    void setUp() {
+        viewCountService.registerMetrics();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runTransactionCallbacks() {
+        doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_shouldWriteAggregatedDeltasInSingleBatch() {
+        runTransactionCallbacks();
+
+        viewCountService.recordView(2L);
+        viewCountService.recordView(1L);
+        viewCountService.recordView(2L);
+        viewCountService.recordView(2L);
+
+        assertEquals(4L, viewCountService.getPendingViewCount());
+
+        int flushed = viewCountService.flush();
+
+        assertEquals(2, flushed);
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), captor.capture());
+        List<Object[]> args = captor.getValue();
+        assertEquals(2, args.size());
+        // Id'ye göre sıralı: önce story 1, sonra story 2
+        assertArrayEquals(new Object[]{1L, 1L}, args.get(0));
+        assertArrayEquals(new Object[]{3L, 2L}, args.get(1));
+        assertEquals(0L, viewCountService.getPendingViewCount());
+    }
+
+    @Test
+    void flush_shouldSkipDatabaseWhenBufferIsEmpty() {
+        assertEquals(0, viewCountService.flush());
+        verifyNoInteractions(jdbcTemplate);
+        verifyNoInteractions(transactionTemplate);
+    }
+
+    @Test
+    void flush_shouldKeepViewsInBufferWhenWriteFails() {
+        doThrow(new DataAccessResourceFailureException("db down"))
+                .when(transactionTemplate).executeWithoutResult(any());
+
+        viewCountService.recordView(7L);
+        viewCountService.recordView(7L);
+
+        assertEquals(0, viewCountService.flush());
+        assertEquals(2L, viewCountService.getPendingViewCount());
+    }
+
+    @Test
+    void recordView_shouldIgnoreNullStoryId() {
+        viewCountService.recordView(null);
+        assertEquals(0L, viewCountService.getPendingViewCount());
+    }
+
+    @Test
+    void registerMetrics_shouldExposeBufferAndFlushMeters() {
+        viewCountService.recordView(1L);
+
+        assertNotNull(meterRegistry.find("story.views.flush").timer());
+        assertEquals(1.0, meterRegistry.get("story.views.buffer.stories").gauge().value());
+        assertEquals(1.0, meterRegistry.get("story.views.buffer.views").gauge().value());
+    }
+
+    @Test
+    void drain_shouldFlushPendingViewsOnShutdown() {
+        runTransactionCallbacks();
+        viewCountService.recordView(3L);
+
+        viewCountService.drain();
+
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList());
+        assertEquals(0L, viewCountService.getPendingViewCount());
+    }
+}
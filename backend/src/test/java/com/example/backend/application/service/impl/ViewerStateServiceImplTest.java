@@ -0,0 +1,76 @@
+package com.example.backend.application.service.impl;
+
+import com.example.backend.application.dto.response.ViewerStateResponse;
+import com.example.backend.application.exception.BadRequestException;
+import com.example.backend.domain.repository.LikeRepository;
+import com.example.backend.domain.repository.SavedStoryRepository;
+import com.example.backend.domain.repository.StoryRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ViewerStateServiceImplTest {
+
+    @Mock
+    private LikeRepository likeRepository;
+
+    @Mock
+    private SavedStoryRepository savedStoryRepository;
+
+    @Mock
+    private StoryRepository storyRepository;
+
+    @InjectMocks
+    private ViewerStateServiceImpl viewerStateService;
+
+    @Test
+    void getViewerState_shouldRunOneQueryPerFlagForWholePage() {
+        Long userId = 5L;
+        Set<Long> ids = Set.of(1L, 2L, 3L);
+        when(likeRepository.findLikedStoryIds(userId, ids)).thenReturn(List.of(1L, 3L));
+        when(savedStoryRepository.findSavedStoryIds(userId, ids)).thenReturn(List.of(2L));
+        when(storyRepository.findFollowedAuthorIds(userId, ids)).thenReturn(List.of(40L));
+
+        // Tekrarlanan ve null id'ler sorguya girmez
+        ViewerStateResponse response = viewerStateService.getViewerState(userId, Arrays.asList(1L, 2L, 2L, null, 3L));
+
+        assertEquals(Set.of(1L, 3L), response.getBegenilenHaberIdleri());
+        assertEquals(Set.of(2L), response.getKaydedilenHaberIdleri());
+        assertEquals(Set.of(40L), response.getTakipEdilenYazarIdleri());
+        verify(likeRepository, times(1)).findLikedStoryIds(anyLong(), anyCollection());
+        verify(savedStoryRepository, times(1)).findSavedStoryIds(anyLong(), anyCollection());
+        verify(storyRepository, times(1)).findFollowedAuthorIds(anyLong(), anyCollection());
+    }
+
+    @Test
+    void getViewerState_shouldNotQueryForEmptyPage() {
+        ViewerStateResponse response = viewerStateService.getViewerState(5L, List.of());
+
+        assertTrue(response.getBegenilenHaberIdleri().isEmpty());
+        assertTrue(response.getKaydedilenHaberIdleri().isEmpty());
+        assertTrue(response.getTakipEdilenYazarIdleri().isEmpty());
+        verifyNoInteractions(likeRepository, savedStoryRepository, storyRepository);
+    }
+
+    @Test
+    void getViewerState_shouldRejectTooManyIds() {
+        List<Long> ids = new ArrayList<>();
+        LongStream.rangeClosed(1, ViewerStateServiceImpl.MAX_STORY_IDS + 1).forEach(ids::add);
+
+        assertThrows(BadRequestException.class, () -> viewerStateService.getViewerState(5L, ids));
+        verifyNoInteractions(likeRepository, savedStoryRepository, storyRepository);
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.backend.infrastructure.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MediaFileHandleCacheTest {
+
+    private MediaFileHandleCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new MediaFileHandleCache();
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "maxEntries", 10);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 300L);
+    }
+
+    @Test
+    void get_shouldLoadOnceAndServeFromCache() {
+        AtomicInteger loads = new AtomicInteger();
+
+        MediaFileHandleCache.Handle first = cache.get("2024/01/a.mp4", () -> {
+            loads.incrementAndGet();
+            return handle("a.mp4");
+        });
+        MediaFileHandleCache.Handle second = cache.get("2024/01/a.mp4", () -> {
+            loads.incrementAndGet();
+            return handle("a.mp4");
+        });
+
+        assertEquals(1, loads.get());
+        assertSame(first, second);
+        assertEquals("\"a.mp4\"", first.etag());
+    }
+
+    @Test
+    void get_shouldNotCacheMissingFiles() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertNull(cache.get("2024/01/yok.jpg", () -> {
+            loads.incrementAndGet();
+            return null;
+        }));
+        cache.get("2024/01/yok.jpg", () -> {
+            loads.incrementAndGet();
+            return null;
+        });
+
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void invalidate_shouldForceReload() {
+        cache.get("2024/01/a.mp4", () -> handle("a.mp4"));
+
+        cache.invalidate("2024/01/a.mp4");
+
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("2024/01/a.mp4", () -> {
+            loads.incrementAndGet();
+            return handle("a.mp4");
+        });
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_shouldReloadExpiredEntries() {
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 0L);
+        cache.get("2024/01/a.mp4", () -> handle("a.mp4"));
+
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("2024/01/a.mp4", () -> {
+            loads.incrementAndGet();
+            return handle("a.mp4");
+        });
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_shouldStayWithinMaxEntries() {
+        for (int i = 0; i < 25; i++) {
+            String name = i + ".jpg";
+            cache.get("2024/01/" + name, () -> handle(name));
+        }
+
+        assertTrue(cache.size() <= 10);
+    }
+
+    @Test
+    void get_shouldBypassCacheWhenDisabled() {
+        ReflectionTestUtils.setField(cache, "enabled", false);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("2024/01/a.mp4", () -> {
+            loads.incrementAndGet();
+            return handle("a.mp4");
+        });
+        cache.get("2024/01/a.mp4", () -> {
+            loads.incrementAndGet();
+            return handle("a.mp4");
+        });
+
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.size());
+    }
+
+    private MediaFileHandleCache.Handle handle(String name) {
+        return MediaFileHandleCache.Handle.of(Path.of("uploads", "2024", "01", name), 100L, 1_000L, "video/mp4");
+    }
+}
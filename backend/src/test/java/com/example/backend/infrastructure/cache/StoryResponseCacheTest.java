@@ -0,0 +1,222 @@
+package com.example.backend.infrastructure.cache;
+
+import com.example.backend.application.dto.response.StoryResponse;
+import com.example.backend.application.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StoryResponseCacheTest {
+
+    private final StoryResponseCache cache = new StoryResponseCache();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cache, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "maxWeight", 1_000_000L);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 600L);
+        cache.registerMetrics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private StoryResponse response(Long id, String slug, String content) {
+        StoryResponse response = new StoryResponse();
+        response.setId(id);
+        response.setSlug(slug);
+        response.setContent(content);
+        return response;
+    }
+
+    @Test
+    void getBySlug_shouldLoadOnceAndServeByIdToo() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.getBySlug("haber", () -> { loads.incrementAndGet(); return response(1L, "haber", "içerik"); });
+        StoryResponse bySlug = cache.getBySlug("haber", () -> { loads.incrementAndGet(); return null; });
+        StoryResponse byId = cache.getById(1L, () -> { loads.incrementAndGet(); return null; });
+
+        assertEquals(1, loads.get());
+        assertSame(bySlug, byId);
+    }
+
+    @Test
+    void getBySlug_shouldMissWhenSlugNowBelongsToAnotherStory() {
+        cache.getBySlug("eski-baslik", () -> response(1L, "eski-baslik", "içerik"));
+        cache.invalidate(1L);
+        cache.getById(1L, () -> response(1L, "yeni-baslik", "içerik"));
+
+        StoryResponse loaded = cache.getBySlug("eski-baslik", () -> response(2L, "eski-baslik", "başka haber"));
+
+        assertEquals(2L, loaded.getId());
+    }
+
+    @Test
+    void invalidate_shouldRejectValueLoadedBeforeInvalidation() {
+        cache.getById(1L, () -> {
+            // Yükleme sürerken yazma commit edilir
+            cache.invalidate(1L);
+            return response(1L, "haber", "eski");
+        });
+
+        StoryResponse reloaded = cache.getById(1L, () -> response(1L, "haber", "yeni"));
+
+        assertEquals("yeni", reloaded.getContent());
+    }
+
+    @Test
+    void invalidate_shouldDropTombstoneOnceNoOlderLoadIsInFlight() {
+        AtomicInteger sizeDuringLoad = new AtomicInteger();
+        cache.getById(1L, () -> {
+            cache.invalidate(1L);
+            // İşaret, kendisinden önce başlamış bu yükleme sürdükçe kalır
+            sizeDuringLoad.set(cache.size());
+            return response(1L, "haber", "eski");
+        });
+        cache.getById(2L, () -> response(2L, "diger", "içerik"));
+        cache.invalidate(2L);
+
+        assertEquals(1, sizeDuringLoad.get());
+        assertEquals(0, cache.size());
+        assertEquals("yeni", cache.getById(1L, () -> response(1L, "haber", "yeni")).getContent());
+    }
+
+    @Test
+    void invalidateAfterCommit_shouldWaitForCommit() {
+        cache.getById(1L, () -> response(1L, "haber", "eski"));
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.invalidateAfterCommit(1L);
+
+        assertEquals("eski", cache.getById(1L, () -> response(1L, "haber", "yeni")).getContent());
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+        }
+        assertEquals("yeni", cache.getById(1L, () -> response(1L, "haber", "yeni")).getContent());
+    }
+
+    @Test
+    void getById_shouldCoalesceConcurrentMissesIntoOneLoad() throws Exception {
+        int threads = 16;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<StoryResponse>> results = new ArrayList<>();
+            results.add(executor.submit(() -> cache.getById(1L, () -> {
+                loads.incrementAndGet();
+                loaderStarted.countDown();
+                await(release);
+                return response(1L, "gundem", "içerik");
+            })));
+            assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+            for (int i = 1; i < threads; i++) {
+                results.add(executor.submit(() -> cache.getById(1L, () -> {
+                    loads.incrementAndGet();
+                    return response(1L, "gundem", "içerik");
+                })));
+            }
+            // Bekleyenlerin kuyruğa girmesi için kısa bir süre tanınır; erken gelen varsa zaten isabet alır
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<StoryResponse> result : results) {
+                assertEquals(1L, result.get(5, TimeUnit.SECONDS).getId());
+            }
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void getBySlug_shouldPropagateLoaderFailureToWaiters() throws Exception {
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<StoryResponse> first = executor.submit(() -> cache.getBySlug("yok", () -> {
+                loaderStarted.countDown();
+                await(release);
+                throw new ResourceNotFoundException("Story bulunamadı");
+            }));
+            assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+            Future<StoryResponse> second = executor.submit(() -> cache.getBySlug("yok", () -> {
+                throw new ResourceNotFoundException("Story bulunamadı");
+            }));
+            Thread.sleep(100);
+            release.countDown();
+
+            Exception firstError = assertThrows(Exception.class, () -> first.get(5, TimeUnit.SECONDS));
+            Exception secondError = assertThrows(Exception.class, () -> second.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(ResourceNotFoundException.class, firstError.getCause());
+            assertInstanceOf(ResourceNotFoundException.class, secondError.getCause());
+            assertEquals(0, cache.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void store_shouldEvictLeastRecentlyReadStoriesWhenWeightExceedsLimit() throws Exception {
+        ReflectionTestUtils.setField(cache, "maxWeight", 30_000L);
+        String content = "x".repeat(9_000);
+
+        cache.getById(1L, () -> response(1L, "bir", content));
+        Thread.sleep(5);
+        cache.getById(2L, () -> response(2L, "iki", content));
+        Thread.sleep(5);
+        // 1 yeniden okunur, en eski okunan 2 olur
+        cache.getById(1L, () -> null);
+        Thread.sleep(5);
+        cache.getById(3L, () -> response(3L, "uc", content));
+
+        assertTrue(cache.weight() <= 30_000L);
+        AtomicInteger reloads = new AtomicInteger();
+        cache.getById(1L, () -> { reloads.incrementAndGet(); return response(1L, "bir", content); });
+        cache.getById(2L, () -> { reloads.incrementAndGet(); return response(2L, "iki", content); });
+        assertEquals(1, reloads.get());
+    }
+
+    @Test
+    void getBySlug_shouldBypassCacheWhenDisabled() {
+        ReflectionTestUtils.setField(cache, "enabled", false);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.getBySlug("haber", () -> { loads.incrementAndGet(); return response(1L, "haber", "içerik"); });
+        cache.getBySlug("haber", () -> { loads.incrementAndGet(); return response(1L, "haber", "içerik"); });
+
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.size());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.backend.infrastructure.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TtlCacheTest {
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void get_shouldLoadOnceAndServeFromCache() {
+        TtlCache cache = new TtlCache("tags", Duration.ofMinutes(10), 100);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("java", cache.get("k", () -> { loads.incrementAndGet(); return "java"; }));
+        assertEquals("java", cache.get("k", () -> { loads.incrementAndGet(); return "spring"; }));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_shouldNotStoreNullValues() {
+        TtlCache cache = new TtlCache("tags", Duration.ofMinutes(10), 100);
+
+        assertNull(cache.get("k", () -> null));
+
+        assertEquals(0, cache.size());
+        assertEquals("java", cache.get("k", () -> "java"));
+    }
+
+    @Test
+    void get_shouldReloadExpiredEntries() {
+        TtlCache cache = new TtlCache("tags", Duration.ZERO, 100);
+        cache.put("k", "eski");
+
+        assertNull(cache.get("k"));
+        assertEquals("yeni", cache.get("k", () -> "yeni"));
+    }
+
+    @Test
+    void put_shouldKeepSizeWithinLimit() {
+        TtlCache cache = new TtlCache("tags", Duration.ofMinutes(10), 3);
+
+        for (int i = 0; i < 10; i++) {
+            cache.put(i, "deger-" + i);
+        }
+
+        assertTrue(cache.size() <= 3);
+    }
+
+    @Test
+    void clear_shouldWaitForCommit() {
+        TtlCache cache = new TtlCache("categories", Duration.ofMinutes(10), 100);
+        cache.put("active", "liste");
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.clear();
+
+        assertNotNull(cache.get("active"));
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+        }
+        assertNull(cache.get("active"));
+    }
+
+    @Test
+    void evict_shouldRunImmediatelyOutsideTransaction() {
+        TtlCache cache = new TtlCache("categories", Duration.ofMinutes(10), 100);
+        cache.put("teknoloji", "kategori");
+
+        cache.evict("teknoloji");
+
+        assertNull(cache.get("teknoloji"));
+    }
+
+    @Test
+    void bindTo_shouldReportHitsAndMisses() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TtlCache cache = new TtlCache("tags", Duration.ofMinutes(10), 100);
+        cache.bindTo(registry);
+
+        cache.get("k", () -> "java");
+        cache.get("k", () -> "java");
+        cache.get("k", () -> "java");
+
+        assertEquals(2.0, registry.get("cache.gets").tag("cache", "tags").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "tags").tag("result", "miss").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.size").tag("cache", "tags").gauge().value());
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.backend.infrastructure.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnreadNotificationCountCacheTest {
+
+    private final UnreadNotificationCountCache cache = new UnreadNotificationCountCache();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cache, "maxEntries", 100);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 30L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void get_shouldLoadOnceAndServeFromCache() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals(3L, cache.get(1L, () -> { loads.incrementAndGet(); return 3L; }));
+        assertEquals(3L, cache.get(1L, () -> { loads.incrementAndGet(); return 99L; }));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void invalidate_shouldForceReload() {
+        cache.get(1L, () -> 3L);
+
+        cache.invalidate(1L);
+
+        assertEquals(7L, cache.get(1L, () -> 7L));
+    }
+
+    @Test
+    void get_shouldNotCacheValueLoadedBeforeConcurrentInvalidation() {
+        // Yükleme sürerken bir yazma commit edilirse okunan değer eskidir
+        Long loaded = cache.get(1L, () -> {
+            cache.invalidate(1L);
+            return 3L;
+        });
+
+        assertEquals(3L, loaded);
+        assertEquals(0L, cache.get(1L, () -> 0L));
+    }
+
+    @Test
+    void invalidateAfterCompletion_shouldWaitForTransactionToFinish() {
+        cache.get(1L, () -> 3L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.invalidateAfterCompletion(List.of(1L));
+
+        assertEquals(3L, cache.get(1L, () -> 0L));
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+        assertEquals(0L, cache.get(1L, () -> 0L));
+    }
+
+    @Test
+    void invalidateAfterCompletion_shouldInvalidateImmediatelyWithoutTransaction() {
+        cache.get(1L, () -> 3L);
+
+        cache.invalidateAfterCompletion(1L);
+
+        assertEquals(0L, cache.get(1L, () -> 0L));
+    }
+
+    @Test
+    void invalidate_shouldNotAddEntriesForUsersWhoNeverAsked() {
+        cache.get(1L, () -> 3L);
+
+        cache.invalidateAfterCompletion(List.of(1L, 2L, 3L, 4L));
+
+        assertEquals(1, cache.size());
+        assertEquals(5L, cache.get(1L, () -> 5L));
+    }
+
+    @Test
+    void get_shouldReloadExpiredCounts() {
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 0L);
+        cache.get(1L, () -> 3L);
+
+        // Başka bir sunucudaki yazma bu sunucuda geçersiz kılma tetiklemez; TTL dolunca yeniden okunur
+        assertEquals(4L, cache.get(1L, () -> 4L));
+    }
+
+    @Test
+    void get_shouldStayWithinMaxEntries() {
+        ReflectionTestUtils.setField(cache, "maxEntries", 10);
+
+        for (long userId = 1; userId <= 50; userId++) {
+            cache.get(userId, () -> 1L);
+        }
+
+        assertTrue(cache.size() <= 10);
+    }
+}
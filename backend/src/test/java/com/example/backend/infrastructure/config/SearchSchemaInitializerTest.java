@@ -0,0 +1,79 @@
+package com.example.backend.infrastructure.config;
+
+import com.example.backend.infrastructure.util.TurkishCharacterUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchSchemaInitializerTest {
+
+    private static final Pattern TRANSLATE = Pattern.compile(
+            "lower\\(translate\\(metin, '((?:[^']++|'')*+)', '((?:[^']++|'')*+)'\\)\\)");
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private SearchSchemaInitializer initializer;
+
+    @Test
+    void run_shouldExecuteScriptWithFoldTableWhenFullTextEngineIsSelected() throws Exception {
+        ReflectionTestUtils.setField(initializer, "searchEngine", "fulltext");
+
+        initializer.run();
+
+        ArgumentCaptor<String> script = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).execute(script.capture());
+        assertTrue(script.getValue().contains("CREATE OR REPLACE FUNCTION turkce_katla"));
+        assertFalse(script.getValue().contains("@KATLA_"));
+    }
+
+    @Test
+    void run_shouldSkipScriptForOtherEngines() throws Exception {
+        ReflectionTestUtils.setField(initializer, "searchEngine", "memory");
+
+        initializer.run();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void turkceKatla_shouldFoldEveryCharacterLikeFoldForSearch() throws Exception {
+        Matcher matcher = TRANSLATE.matcher(SearchSchemaInitializer.loadScript());
+        assertTrue(matcher.find());
+        String source = matcher.group(1).replace("''", "'");
+        String target = matcher.group(2).replace("''", "'");
+        assertEquals(source.length(), target.length());
+
+        // lower(translate(...)) Java'da taklit edilir; her karakter foldForSearch ile aynı sonuca inmeli
+        for (char c = 0; c < 0x3000; c++) {
+            String text = String.valueOf(c);
+            assertEquals(TurkishCharacterUtil.foldForSearch(text), sqlFold(text, source, target),
+                    "U+" + Integer.toHexString(c));
+        }
+        String sample = "İSTANBUL'da Çığ, Crème Brûlée ve Ærø";
+        assertEquals(TurkishCharacterUtil.foldForSearch(sample), sqlFold(sample, source, target));
+    }
+
+    private static String sqlFold(String text, String source, String target) {
+        StringBuilder folded = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            int index = source.indexOf(c);
+            folded.append(Character.toLowerCase(index >= 0 ? target.charAt(index) : c));
+        }
+        return folded.toString();
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.backend.infrastructure.search;
+
+import com.example.backend.domain.entity.Story;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class StorySearchIndexTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+    private final StorySearchIndex index = new StorySearchIndex();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(index, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(index, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(index, "searchEngine", "memory");
+        index.registerMetrics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private Story story(Long id, String title, String content, Story.StoryStatus status) {
+        Story story = new Story();
+        story.setId(id);
+        story.setTitle(title);
+        story.setContent(content);
+        story.setStatus(status);
+        story.setIsActive(true);
+        return story;
+    }
+
+    private void publish(Long id, String title, String content) {
+        index.updateAfterCommit(story(id, title, content, Story.StoryStatus.YAYINLANDI));
+    }
+
+    @Test
+    void search_shouldMatchFoldedPrefixesAndRequireAllTerms() {
+        publish(1L, "Yazılım testleri", "Birim testleri üzerine");
+        publish(2L, "Yazılımcılar için Git", "Dal stratejileri");
+        publish(3L, "Bahçe işleri", "Domates yetiştirme");
+
+        assertEquals(List.of(1L, 2L), sorted(index.search(List.of("yazilim"), 0, 10).storyIds()));
+        assertEquals(List.of(1L), index.search(List.of("yazilim", "test"), 0, 10).storyIds());
+        assertEquals(0, index.search(List.of("yazilim", "domates"), 0, 10).total());
+    }
+
+    @Test
+    void search_shouldRankTitleMatchesAboveContentMatches() {
+        publish(1L, "Haftalık notlar", "Bu hafta doğrulama araçlarına baktık ve birkaç deneme yaptık");
+        publish(2L, "Doğrulama rehberi", "Adım adım anlatım");
+        publish(3L, "Başka bir konu", "İlgisiz içerik");
+
+        assertEquals(List.of(2L, 1L), index.search(List.of("dogrulama"), 0, 10).storyIds());
+    }
+
+    @Test
+    void search_shouldPageResultsAndReportTotal() {
+        for (long id = 1; id <= 5; id++) {
+            publish(id, "Haber " + id, "Ortak içerik");
+        }
+
+        StorySearchIndex.SearchResult secondPage = index.search(List.of("haber"), 2, 2);
+
+        assertEquals(5, secondPage.total());
+        assertEquals(2, secondPage.storyIds().size());
+        assertEquals(1, index.search(List.of("haber"), 4, 2).storyIds().size());
+        assertTrue(index.search(List.of("haber"), 10, 2).storyIds().isEmpty());
+    }
+
+    @Test
+    void updateAfterCommit_shouldReplaceTermsAndRemoveUnpublishedStories() {
+        publish(1L, "Eski başlık", "İçerik");
+        publish(1L, "Yeni başlık", "İçerik");
+
+        assertEquals(0, index.search(List.of("eski"), 0, 10).total());
+        assertEquals(List.of(1L), index.search(List.of("yeni"), 0, 10).storyIds());
+
+        Story deleted = story(1L, "Yeni başlık", "İçerik", Story.StoryStatus.YAYINLANDI);
+        deleted.setIsActive(false);
+        index.updateAfterCommit(deleted);
+
+        assertEquals(0, index.search(List.of("yeni"), 0, 10).total());
+        assertEquals(0, index.documentCount());
+    }
+
+    @Test
+    void updateAfterCommit_shouldWaitForCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        publish(1L, "Commit bekleyen", "İçerik");
+
+        assertEquals(0, index.documentCount());
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+        }
+        assertEquals(1, index.documentCount());
+    }
+
+    @Test
+    void updateAfterCommit_shouldDoNothingWhenEngineIsNotMemory() {
+        ReflectionTestUtils.setField(index, "searchEngine", "fulltext");
+
+        publish(1L, "Başlık", "İçerik");
+
+        assertEquals(0, index.documentCount());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rebuild_shouldLoadPublishedStoriesFromDatabase() {
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(0L), anyInt()))
+                .thenReturn(List.of(new Object[]{4L, "Veritabanından", "Özet", "İçerik"},
+                        new Object[]{7L, "İkinci kayıt", null, "Veritabanı içeriği"}));
+        publish(99L, "Eski indeks", "Kurulumla silinir");
+
+        index.rebuild();
+
+        assertEquals(2, index.documentCount());
+        assertEquals(List.of(4L, 7L), sorted(index.search(List.of("veritaban"), 0, 10).storyIds()));
+        assertEquals(0, index.search(List.of("eski"), 0, 10).total());
+    }
+
+    private List<Long> sorted(List<Long> ids) {
+        return ids.stream().sorted().toList();
+    }
+}
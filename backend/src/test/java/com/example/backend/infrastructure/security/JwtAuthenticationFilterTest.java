@@ -1,6 +1,10 @@
 package com.example.backend.infrastructure.security;
 
 import com.example.backend.infrastructure.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,6 +22,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import java.io.IOException;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -31,6 +36,9 @@ class JwtAuthenticationFilterTest {
     @Mock
     private FilterChain filterChain;
 
+    @Mock
+    private VerifiedTokenCache verifiedTokenCache;
+
     @InjectMocks
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
@@ -42,6 +50,10 @@ class JwtAuthenticationFilterTest {
         request = new MockHttpServletRequest();
         response = new MockHttpServletResponse();
         SecurityContextHolder.clearContext();
+        // Önbellek her seferinde ıskalar; filtre token'ı kendisi doğrular
+        lenient().when(verifiedTokenCache.get(anyString(), any()))
+                .thenAnswer(invocation -> invocation.<Function<String, VerifiedTokenCache.VerifiedPrincipal>>getArgument(1)
+                        .apply(invocation.getArgument(0)));
     }
 
     @Test
@@ -74,10 +86,10 @@ class JwtAuthenticationFilterTest {
         request = new MockHttpServletRequest();
         ((MockHttpServletRequest) request).addHeader("Authorization", "Bearer " + token);
 
-        when(jwtUtil.extractEmail(token)).thenReturn(email);
-        when(jwtUtil.validateToken(token, email)).thenReturn(true);
-        when(jwtUtil.extractUserId(token)).thenReturn(userId);
-        when(jwtUtil.extractRoles(token)).thenReturn(java.util.Arrays.asList("USER"));
+        Claims claims = Jwts.claims().subject(email).build();
+        when(jwtUtil.parseVerifiedClaims(token)).thenReturn(claims);
+        when(jwtUtil.extractUserId(claims)).thenReturn(userId);
+        when(jwtUtil.extractRoles(claims)).thenReturn(java.util.Arrays.asList("USER"));
 
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
@@ -89,13 +101,11 @@ class JwtAuthenticationFilterTest {
     @Test
     void testDoFilterInternal_InvalidToken() throws ServletException, IOException {
         String token = "not-a-jwt-token";
-        String email = "test@example.com";
 
         request = new MockHttpServletRequest();
         ((MockHttpServletRequest) request).addHeader("Authorization", "Bearer " + token);
 
-        when(jwtUtil.extractEmail(token)).thenReturn(email);
-        when(jwtUtil.validateToken(token, email)).thenReturn(false);
+        when(jwtUtil.parseVerifiedClaims(token)).thenThrow(new MalformedJwtException("Invalid compact JWT string"));
 
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
@@ -112,10 +122,10 @@ class JwtAuthenticationFilterTest {
         request = new MockHttpServletRequest();
         ((MockHttpServletRequest) request).addHeader("Authorization", "Bearer " + token);
 
-        when(jwtUtil.extractEmail(token)).thenReturn(email);
-        when(jwtUtil.validateToken(token, email)).thenReturn(true);
-        when(jwtUtil.extractUserId(token)).thenReturn(userId);
-        when(jwtUtil.extractRoles(token)).thenReturn(java.util.Arrays.asList("USER", "ADMIN", "WRITER"));
+        Claims claims = Jwts.claims().subject(email).build();
+        when(jwtUtil.parseVerifiedClaims(token)).thenReturn(claims);
+        when(jwtUtil.extractUserId(claims)).thenReturn(userId);
+        when(jwtUtil.extractRoles(claims)).thenReturn(java.util.Arrays.asList("USER", "ADMIN", "WRITER"));
 
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
@@ -133,10 +143,10 @@ class JwtAuthenticationFilterTest {
         request = new MockHttpServletRequest();
         ((MockHttpServletRequest) request).addHeader("Authorization", "Bearer " + token);
 
-        when(jwtUtil.extractEmail(token)).thenReturn(email);
-        when(jwtUtil.validateToken(token, email)).thenReturn(true);
-        when(jwtUtil.extractUserId(token)).thenReturn(userId);
-        when(jwtUtil.extractRoles(token)).thenReturn(java.util.Collections.emptyList());
+        Claims claims = Jwts.claims().subject(email).build();
+        when(jwtUtil.parseVerifiedClaims(token)).thenReturn(claims);
+        when(jwtUtil.extractUserId(claims)).thenReturn(userId);
+        when(jwtUtil.extractRoles(claims)).thenReturn(java.util.Collections.emptyList());
 
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
@@ -152,7 +162,7 @@ class JwtAuthenticationFilterTest {
         request = new MockHttpServletRequest();
         ((MockHttpServletRequest) request).addHeader("Authorization", "Bearer " + token);
 
-        when(jwtUtil.extractEmail(token)).thenThrow(new RuntimeException("Token parse error"));
+        when(jwtUtil.parseVerifiedClaims(token)).thenThrow(new RuntimeException("Token parse error"));
 
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
@@ -167,7 +177,7 @@ class JwtAuthenticationFilterTest {
         request = new MockHttpServletRequest();
         ((MockHttpServletRequest) request).addHeader("Authorization", "Bearer " + token);
 
-        when(jwtUtil.extractEmail(token)).thenReturn(null);
+        when(jwtUtil.parseVerifiedClaims(token)).thenReturn(Jwts.claims().add("userId", 1L).build());
 
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
@@ -178,7 +188,6 @@ class JwtAuthenticationFilterTest {
     @Test
     void testDoFilterInternal_AlreadyAuthenticated() throws ServletException, IOException {
         String token = "valid.token.here";
-        String email = "test@example.com";
 
         // Set existing authentication
         org.springframework.security.core.Authentication existingAuth = 
@@ -189,8 +198,7 @@ class JwtAuthenticationFilterTest {
         request = new MockHttpServletRequest();
         ((MockHttpServletRequest) request).addHeader("Authorization", "Bearer " + token);
 
-        when(jwtUtil.extractEmail(token)).thenReturn(email);
-        // validateToken won't be called because authentication already exists
+        // Authentication zaten varken token parse edilmez
 
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
@@ -198,7 +206,60 @@ class JwtAuthenticationFilterTest {
         // Existing authentication should remain
         assertEquals("existing@example.com", 
             SecurityContextHolder.getContext().getAuthentication().getName());
+        verifyNoInteractions(jwtUtil);
+    }
+
+    @Test
+    void testDoFilterInternal_ExpiredToken() throws ServletException, IOException {
+        String token = "expired.token.here";
+
+        request = new MockHttpServletRequest();
+        ((MockHttpServletRequest) request).addHeader("Authorization", "Bearer " + token);
+
+        when(jwtUtil.parseVerifiedClaims(token)).thenThrow(new ExpiredJwtException(null, null, "JWT expired"));
+
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        verify(filterChain).doFilter(request, response);
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void testDoFilterInternal_ShouldParseTokenOnce() throws ServletException, IOException {
+        String token = "valid.token.here";
+
+        request = new MockHttpServletRequest();
+        ((MockHttpServletRequest) request).addHeader("Authorization", "Bearer " + token);
+
+        Claims claims = Jwts.claims().subject("test@example.com").build();
+        when(jwtUtil.parseVerifiedClaims(token)).thenReturn(claims);
+        when(jwtUtil.extractUserId(claims)).thenReturn(7L);
+        when(jwtUtil.extractRoles(claims)).thenReturn(java.util.Arrays.asList("USER"));
+
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        verify(jwtUtil, times(1)).parseVerifiedClaims(token);
+        verify(jwtUtil, never()).extractEmail(anyString());
         verify(jwtUtil, never()).validateToken(anyString(), anyString());
+        assertEquals(7L, SecurityContextHolder.getContext().getAuthentication().getDetails());
     }
-}
 
+    @Test
+    void testDoFilterInternal_CachedTokenSkipsVerification() throws ServletException, IOException {
+        String token = "cached.token.here";
+
+        request = new MockHttpServletRequest();
+        ((MockHttpServletRequest) request).addHeader("Authorization", "Bearer " + token);
+
+        when(verifiedTokenCache.get(eq(token), any())).thenReturn(new VerifiedTokenCache.VerifiedPrincipal(
+                "test@example.com", 3L, java.util.List.of("ADMIN"), Long.MAX_VALUE));
+
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        verifyNoInteractions(jwtUtil);
+        assertEquals("test@example.com", SecurityContextHolder.getContext().getAuthentication().getName());
+        assertEquals(3L, SecurityContextHolder.getContext().getAuthentication().getDetails());
+        assertEquals("ROLE_ADMIN", SecurityContextHolder.getContext().getAuthentication()
+                .getAuthorities().iterator().next().getAuthority());
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.backend.infrastructure.security;
+
+import com.example.backend.infrastructure.security.VerifiedTokenCache.VerifiedPrincipal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final VerifiedTokenCache cache = new VerifiedTokenCache();
+
+    private final AtomicInteger verifications = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cache, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "maxSize", 100);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 300L);
+        cache.registerMetrics();
+    }
+
+    private Function<String, VerifiedPrincipal> verifier(Long userId, long expiresAt) {
+        return token -> {
+            verifications.incrementAndGet();
+            return new VerifiedPrincipal("user" + userId + "@example.com", userId, List.of("USER"), expiresAt);
+        };
+    }
+
+    private long inOneHour() {
+        return System.currentTimeMillis() + 3_600_000;
+    }
+
+    @Test
+    void get_shouldVerifyOnceForRepeatedToken() {
+        VerifiedPrincipal first = cache.get("token-a", verifier(1L, inOneHour()));
+        VerifiedPrincipal second = cache.get("token-a", verifier(1L, inOneHour()));
+
+        assertSame(first, second);
+        assertEquals(1, verifications.get());
+        assertEquals(1.0, meterRegistry.get("jwt.verified_cache.requests").tag("result", "hit").counter().count());
+        assertEquals(1.0, meterRegistry.get("jwt.verified_cache.requests").tag("result", "miss").counter().count());
+        assertEquals(0.5, meterRegistry.get("jwt.verified_cache.hit_ratio").gauge().value());
+    }
+
+    @Test
+    void get_shouldNotKeepEntryPastTokenExpiry() {
+        cache.get("expired", verifier(1L, System.currentTimeMillis() - 1));
+        cache.get("expired", verifier(1L, System.currentTimeMillis() - 1));
+
+        assertEquals(2, verifications.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void get_shouldNotCacheFailedVerification() {
+        Function<String, VerifiedPrincipal> failing = token -> {
+            throw new IllegalArgumentException("bozuk token");
+        };
+
+        assertThrows(IllegalArgumentException.class, () -> cache.get("bad", failing));
+        assertNull(cache.get("no-subject", token -> null));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void get_shouldEvictWhenSizeLimitIsExceeded() {
+        for (int i = 0; i < 150; i++) {
+            cache.get("token-" + i, verifier((long) i, inOneHour()));
+        }
+
+        assertTrue(cache.size() <= 100);
+    }
+
+    @Test
+    void invalidateUser_shouldDropOnlyThatUsersTokens() {
+        cache.get("token-a", verifier(1L, inOneHour()));
+        cache.get("token-b", verifier(1L, inOneHour()));
+        cache.get("token-c", verifier(2L, inOneHour()));
+
+        cache.invalidateUser(1L);
+
+        assertEquals(1, cache.size());
+        cache.get("token-a", verifier(1L, inOneHour()));
+        assertEquals(4, verifications.get());
+    }
+
+    @Test
+    void get_shouldAlwaysVerifyWhenDisabled() {
+        ReflectionTestUtils.setField(cache, "enabled", false);
+
+        cache.get("token-a", verifier(1L, inOneHour()));
+        cache.get("token-a", verifier(1L, inOneHour()));
+
+        assertEquals(2, verifications.get());
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.backend.infrastructure.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContentAddressedStoreTest {
+
+    // "abc" için SHA-256
+    private static final String ABC_SHA256 = "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad";
+
+    @TempDir
+    Path uploadDir;
+
+    private ContentAddressedStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new ContentAddressedStore();
+        ReflectionTestUtils.setField(store, "uploadDir", uploadDir.toString());
+        ReflectionTestUtils.setField(store, "maxUploadSize", DataSize.ofBytes(16));
+    }
+
+    @Test
+    void stage_shouldHashWhileWriting() throws IOException {
+        ContentAddressedStore.StagedBlob staged = store.stage(stream("abc"));
+
+        assertEquals(ABC_SHA256, staged.hash());
+        assertEquals(3L, staged.size());
+        assertEquals("abc", Files.readString(staged.tempFile()));
+    }
+
+    @Test
+    void pathFor_shouldFanOutByHashPrefix() {
+        assertEquals("ba/78/" + ABC_SHA256 + ".png", store.pathFor(ABC_SHA256, ".png"));
+    }
+
+    @Test
+    void hashOf_shouldReadHashBackFromPath() {
+        assertEquals(ABC_SHA256, store.hashOf(store.pathFor(ABC_SHA256, ".png")));
+        assertEquals(ABC_SHA256, store.hashOf(store.pathFor(ABC_SHA256, "")));
+    }
+
+    @Test
+    void commit_shouldMoveFirstCopyAndDropDuplicates() throws IOException {
+        String path = store.pathFor(ABC_SHA256, ".txt");
+        ContentAddressedStore.StagedBlob first = store.stage(stream("abc"));
+        ContentAddressedStore.StagedBlob second = store.stage(stream("abc"));
+
+        store.commit(first, path);
+        store.commit(second, path);
+
+        assertEquals("abc", Files.readString(uploadDir.resolve(path)));
+        assertFalse(Files.exists(first.tempFile()));
+        assertFalse(Files.exists(second.tempFile()));
+    }
+
+    @Test
+    void stage_shouldRejectOversizedUploadAndCleanUp() throws IOException {
+        assertThrows(ContentAddressedStore.UploadTooLargeException.class,
+                () -> store.stage(stream("0123456789abcdefXYZ")));
+
+        try (var staging = Files.list(uploadDir.resolve(".staging"))) {
+            assertEquals(0, staging.count());
+        }
+    }
+
+    @Test
+    void delete_shouldRemoveStoredFile() throws IOException {
+        String path = store.pathFor(ABC_SHA256, "");
+        store.commit(store.stage(stream("abc")), path);
+
+        store.delete(path);
+
+        assertFalse(Files.exists(uploadDir.resolve(path)));
+    }
+
+    @Test
+    void commit_shouldRejectPathsOutsideUploadDir() throws IOException {
+        ContentAddressedStore.StagedBlob staged = store.stage(stream("abc"));
+
+        assertThrows(IllegalArgumentException.class, () -> store.commit(staged, "../disari.txt"));
+    }
+
+    private ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.backend.infrastructure.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImageResizerTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void formatFor_shouldOnlyAcceptResizableExtensions() {
+        assertEquals("jpeg", ImageResizer.formatFor("ab/cd/kapak.JPG"));
+        assertEquals("png", ImageResizer.formatFor("kapak.png"));
+        assertNull(ImageResizer.formatFor("animasyon.gif"));
+        assertNull(ImageResizer.formatFor("kapak.webp"));
+        assertNull(ImageResizer.formatFor("uzantisiz"));
+    }
+
+    @Test
+    void resize_shouldKeepAspectRatio() throws IOException {
+        Path source = write("kaynak.jpg", "jpeg", 1600, 900);
+        Path target = dir.resolve("hedef.jpg");
+
+        assertTrue(ImageResizer.resize(source, target, 320, "jpeg", 10_000_000));
+
+        BufferedImage result = ImageIO.read(target.toFile());
+        assertEquals(320, result.getWidth());
+        assertEquals(180, result.getHeight());
+    }
+
+    @Test
+    void resize_shouldSkipImagesAlreadyNarrowerThanTarget() throws IOException {
+        Path source = write("kucuk.png", "png", 200, 100);
+        Path target = dir.resolve("hedef.png");
+
+        assertFalse(ImageResizer.resize(source, target, 320, "png", 10_000_000));
+        assertFalse(Files.exists(target));
+    }
+
+    @Test
+    void resize_shouldRefuseImagesAbovePixelLimit() throws IOException {
+        Path source = write("buyuk.png", "png", 2000, 2000);
+        Path target = dir.resolve("hedef.png");
+
+        assertFalse(ImageResizer.resize(source, target, 320, "png", 1_000_000));
+        assertFalse(Files.exists(target));
+    }
+
+    @Test
+    void resize_shouldIgnoreFilesThatAreNotImages() throws IOException {
+        Path source = Files.writeString(dir.resolve("bozuk.jpg"), "resim degil");
+
+        assertFalse(ImageResizer.resize(source, dir.resolve("hedef.jpg"), 320, "jpeg", 10_000_000));
+    }
+
+    private Path write(String name, String format, int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Path path = dir.resolve(name);
+        ImageIO.write(image, format, path.toFile());
+        return path;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.backend.infrastructure.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorUtilTest {
+
+    @Test
+    void encodeTimeKey_shouldRoundTrip() {
+        LocalDateTime publishedAt = LocalDateTime.of(2024, 5, 1, 10, 30, 15, 123_000_000);
+
+        CursorUtil.TimeKey key = CursorUtil.decodeTimeKey(CursorUtil.encode(publishedAt, 42L));
+
+        assertEquals(publishedAt, key.timestamp());
+        assertEquals(42L, key.id());
+    }
+
+    @Test
+    void encodeId_shouldRoundTrip() {
+        assertEquals(7L, CursorUtil.decodeId(CursorUtil.encode(7L)));
+    }
+
+    @Test
+    void encode_shouldBeUrlSafe() {
+        String cursor = CursorUtil.encode(LocalDateTime.of(2024, 1, 1, 0, 0), Long.MAX_VALUE);
+
+        assertTrue(cursor.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    void decode_shouldRejectMalformedCursor() {
+        assertThrows(IllegalArgumentException.class, () -> CursorUtil.decodeTimeKey("%%%"));
+        assertThrows(IllegalArgumentException.class, () -> CursorUtil.decodeTimeKey(CursorUtil.encode(5L)));
+        assertThrows(IllegalArgumentException.class, () -> CursorUtil.decodeId(CursorUtil.encode(LocalDateTime.now(), 5L)));
+    }
+
+    @Test
+    void pageSize_shouldClampToSharedLimit() {
+        assertEquals(1, CursorUtil.pageSize(0));
+        assertEquals(1, CursorUtil.pageSize(-5));
+        assertEquals(20, CursorUtil.pageSize(20));
+        assertEquals(CursorUtil.MAX_PAGE_SIZE, CursorUtil.pageSize(10_000));
+    }
+}
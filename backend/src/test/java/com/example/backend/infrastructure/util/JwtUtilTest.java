@@ -1,5 +1,8 @@
 package com.example.backend.infrastructure.util;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -357,5 +360,35 @@ class JwtUtilTest {
         assertNotNull(extractedRoles);
         assertFalse(extractedRoles.isEmpty());
     }
-}
 
+    @Test
+    void testParseVerifiedClaims() {
+        String token = jwtUtil.generateToken("test@example.com", 5L, Set.of("WRITER"));
+
+        Claims claims = jwtUtil.parseVerifiedClaims(token);
+
+        assertEquals("test@example.com", claims.getSubject());
+        assertEquals(5L, jwtUtil.extractUserId(claims));
+        assertEquals(List.of("WRITER"), jwtUtil.extractRoles(claims));
+    }
+
+    @Test
+    void testParseVerifiedClaimsRejectsExpiredToken() {
+        ReflectionTestUtils.setField(jwtUtil, "expiration", -1000L);
+        String token = jwtUtil.generateToken("test@example.com", 1L, Set.of("USER"));
+
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.parseVerifiedClaims(token));
+    }
+
+    @Test
+    void testParseVerifiedClaimsRejectsTokenSignedWithAnotherSecret() {
+        String token = jwtUtil.generateToken("test@example.com", 1L, Set.of("USER"));
+
+        // Secret değişince önbellekteki anahtar ve parser yenilenir
+        ReflectionTestUtils.setField(jwtUtil, "secret", testSecret + "-rotated");
+
+        assertThrows(SignatureException.class, () -> jwtUtil.parseVerifiedClaims(token));
+        String rotatedToken = jwtUtil.generateToken("test@example.com", 1L, Set.of("USER"));
+        assertEquals("test@example.com", jwtUtil.parseVerifiedClaims(rotatedToken).getSubject());
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.backend.infrastructure.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchHighlightUtilTest {
+
+    @Test
+    void highlight_shouldMarkWordsStartingWithFoldedTerm() {
+        String result = SearchHighlightUtil.highlight("Yazılımcılar için doğrulama", List.of("yazilim", "dogru"));
+        assertEquals("<mark>Yazılımcılar</mark> için <mark>doğrulama</mark>", result);
+    }
+
+    @Test
+    void highlight_shouldNotMarkTermInsideWord() {
+        String result = SearchHighlightUtil.highlight("Yeni haber", List.of("ber"));
+        assertEquals("Yeni haber", result);
+    }
+
+    @Test
+    void highlight_shouldEscapeHtml() {
+        String result = SearchHighlightUtil.highlight("<b>Test</b> & haber", List.of("test"));
+        assertEquals("&lt;b&gt;<mark>Test</mark>&lt;/b&gt; &amp; haber", result);
+    }
+
+    @Test
+    void highlight_shouldHandleNull() {
+        assertNull(SearchHighlightUtil.highlight(null, List.of("test")));
+    }
+}
@@ -2,6 +2,10 @@ package com.example.backend.infrastructure.util;
 
 import org.junit.jupiter.api.Test;
 
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Locale;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class TurkishCharacterUtilTest {
@@ -97,5 +101,73 @@ class TurkishCharacterUtilTest {
         assertNotNull(result);
         assertTrue(result.contains("%hello%"));
     }
-}
 
+    @Test
+    void foldForSearch_shouldKeepLengthAndFoldTurkishCharacters() {
+        String text = "İstanbul'da Çığ Şöleni";
+        String result = TurkishCharacterUtil.foldForSearch(text);
+        assertEquals("istanbul'da cig soleni", result);
+        assertEquals(text.length(), result.length());
+    }
+
+    @Test
+    void foldForSearch_shouldUseFoldTableAndKeepUnfoldableCharactersInPlace() {
+        String text = "Café Ünlü Ærø cafe\u0301";
+        String result = TurkishCharacterUtil.foldForSearch(text);
+        assertEquals("cafe unlu ærø cafe\u0301", result);
+        assertEquals(text.length(), result.length());
+    }
+
+    @Test
+    void tokenize_shouldFoldLikeFoldForSearchAndKeepDuplicates() {
+        assertEquals(List.of("cafe", "creme", "cafe", "2024"),
+                TurkishCharacterUtil.tokenize("Café—crème; cafe\u0301 (2024)"));
+        assertEquals(List.of("\uD801\uDC00x"), TurkishCharacterUtil.tokenize("\uD801\uDC00x"));
+    }
+
+    @Test
+    void searchTerms_shouldSplitFoldAndDeduplicate() {
+        assertEquals(List.of("yazilim", "dogrulama"), TurkishCharacterUtil.searchTerms("  Yazılım, DOĞRULAMA & yazilim "));
+    }
+
+    @Test
+    void searchTerms_shouldReturnEmptyForBlankOrPunctuationOnlyQuery() {
+        assertTrue(TurkishCharacterUtil.searchTerms(null).isEmpty());
+        assertTrue(TurkishCharacterUtil.searchTerms("  ").isEmpty());
+        assertTrue(TurkishCharacterUtil.searchTerms("'&|:*").isEmpty());
+    }
+
+    @Test
+    void normalizeTurkish_shouldMatchNormalizerBasedFoldingForEveryTableCharacter() {
+        for (char c = 0; c < 0x3000; c++) {
+            String text = "a" + c + "Ş";
+            assertEquals(referenceNormalize(text), TurkishCharacterUtil.normalizeTurkish(text),
+                    "U+" + Integer.toHexString(c));
+        }
+    }
+
+    @Test
+    void normalizeTurkish_shouldFoldCharactersOutsideTableAndSurrogatePairs() {
+        String text = "\uAC00 \uD801\uDC00 Çağ";
+        assertEquals(referenceNormalize(text), TurkishCharacterUtil.normalizeTurkish(text));
+    }
+
+    @Test
+    void normalizeTurkish_shouldAppendToReusableBuilder() {
+        StringBuilder target = new StringBuilder("önek:");
+        TurkishCharacterUtil.normalizeTurkish("Güneş", target);
+        assertEquals("önek:gunes", target.toString());
+
+        target.setLength(0);
+        char[] source = "xxIĞDIRxx".toCharArray();
+        TurkishCharacterUtil.normalizeTurkish(source, 2, 5, target);
+        assertEquals("igdir", target.toString());
+    }
+
+    // Tablo tabanlı uygulamadan önceki davranış: NFD, ı -> i, birleşik aksanları sil, küçük harf
+    private static String referenceNormalize(String text) {
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFD).replace('ı', 'i');
+        normalized = normalized.replaceAll("\\p{InCombiningDiacriticalMarks}+", "");
+        return normalized.toLowerCase(Locale.ROOT);
+    }
+}
@@ -2,6 +2,7 @@ package com.example.backend.integration;
 
 import com.example.backend.application.dto.request.CommentCreateRequest;
 import com.example.backend.application.dto.response.CommentResponse;
+import com.example.backend.application.dto.response.CommentThreadResponse;
 import com.example.backend.application.service.CommentService;
 import com.example.backend.domain.entity.*;
 import com.example.backend.domain.repository.*;
@@ -168,6 +169,44 @@ class CommentServiceIntegrationTest extends BaseIntegrationTest {
         assertTrue(comments.getTotalElements() >= 2);
     }
 
+    @Test
+    void testFindThreadShouldNestRepliesAndPageBothLevels() {
+        Comment olderRoot = createTestComment("Eski kök", testStory.getId());
+        Comment newerRoot = createTestComment("Yeni kök", testStory.getId());
+        Comment firstReply = createTestReply("Yanıt 1", olderRoot);
+        createTestReply("Yanıt 2", olderRoot);
+        createTestReply("Yanıt 3", olderRoot);
+        Comment nested = createTestReply("Yanıta yanıt", firstReply);
+
+        CommentThreadResponse firstPage = commentService.findThread(testStory.getId(), null, 1, 2);
+
+        assertTrue(firstPage.isHasMore());
+        assertEquals(newerRoot.getId(), firstPage.getComments().get(0).getId());
+
+        CommentThreadResponse secondPage = commentService.findThread(testStory.getId(), firstPage.getNextCursor(), 1, 2);
+        CommentResponse root = secondPage.getComments().get(0);
+        assertFalse(secondPage.isHasMore());
+        assertEquals(olderRoot.getId(), root.getId());
+        assertEquals(2, root.getReplies().size());
+        assertTrue(root.getHasMoreReplies());
+        assertEquals(nested.getId(), root.getReplies().get(0).getReplies().get(0).getId());
+
+        CommentThreadResponse moreReplies = commentService.findReplies(
+                olderRoot.getId(), root.getReplies().get(1).getId(), 10, 2);
+        assertEquals(1, moreReplies.getComments().size());
+        assertEquals("Yanıt 3", moreReplies.getComments().get(0).getContent());
+    }
+
+    private Comment createTestReply(String content, Comment parent) {
+        Comment reply = new Comment();
+        reply.setContent(content);
+        reply.setUser(testUser);
+        reply.setStory(testStory);
+        reply.setParentComment(parent);
+        reply.setStatus(Comment.CommentStatus.ONAYLANDI);
+        return commentRepository.save(reply);
+    }
+
     private Comment createTestComment(String content, Long storyId) {
         Comment comment = new Comment();
         comment.setContent(content);
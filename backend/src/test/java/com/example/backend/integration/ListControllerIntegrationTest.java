@@ -132,6 +132,28 @@ class ListControllerIntegrationTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.slug").value(list.getSlug()));
     }
 
+    @Test
+    void testFindByIdReturnsNotModifiedUntilListChanges() throws Exception {
+        ListEntity list = createTestList("Conditional List", user.getId());
+
+        String etag = mockMvc.perform(get("/api/listeler/{id}", list.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().exists("Last-Modified"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/listeler/{id}", list.getId()).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        list.getStories().add(story);
+        listRepository.saveAndFlush(list);
+
+        mockMvc.perform(get("/api/listeler/{id}", list.getId()).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.stories.length()").value(1));
+    }
+
     @Test
     void testFindByKullaniciId() throws Exception {
         createTestList("List 1", user.getId());
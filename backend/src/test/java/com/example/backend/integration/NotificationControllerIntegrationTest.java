@@ -129,6 +129,20 @@ class NotificationControllerIntegrationTest extends BaseIntegrationTest {
         assertEquals(0L, unreadCount);
     }
 
+    @Test
+    void testMarkAsReadUpToId() throws Exception {
+        Notification first = createTestNotification("Unread 1", user.getId(), false);
+        createTestNotification("Unread 2", user.getId(), false);
+
+        mockMvc.perform(patch("/api/bildirimler/okundu-kadar/" + first.getId())
+                        .header("Authorization", userToken))
+                .andExpect(status().isOk())
+                .andExpect(content().string("1"));
+
+        Long unreadCount = notificationRepository.countUnreadByUserId(user.getId());
+        assertEquals(1L, unreadCount);
+    }
+
     @Test
     void testFindAllUnauthorized() throws Exception {
         mockMvc.perform(get("/api/bildirimler")
@@ -0,0 +1,259 @@
+package com.example.backend.integration;
+
+import com.example.backend.application.service.CommentService;
+import com.example.backend.application.service.ListService;
+import com.example.backend.application.service.SavedStoryService;
+import com.example.backend.application.service.StoryService;
+import com.example.backend.domain.entity.Category;
+import com.example.backend.domain.entity.Comment;
+import com.example.backend.domain.entity.ListEntity;
+import com.example.backend.domain.entity.Role;
+import com.example.backend.domain.entity.SavedStory;
+import com.example.backend.domain.entity.Story;
+import com.example.backend.domain.entity.User;
+import com.example.backend.domain.repository.CategoryRepository;
+import com.example.backend.domain.repository.CommentRepository;
+import com.example.backend.domain.repository.ListRepository;
+import com.example.backend.domain.repository.RoleRepository;
+import com.example.backend.domain.repository.SavedStoryRepository;
+import com.example.backend.domain.repository.StoryRepository;
+import com.example.backend.domain.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Uç başına çalışan SQL sayısını Hibernate istatistikleriyle sabitler.
+ * Bir akışa N+1 geri gelirse sayı değişir ve test kırılır.
+ */
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        // İstatistikler global; ölçüm sırasında zamanlanmış işler SQL çalıştırmasın
+        "story.view-count.flush-interval-ms=3600000",
+        "notification.fanout.poll-interval-ms=3600000"
+})
+class QueryCountIntegrationTest extends BaseIntegrationTest {
+
+    // Kart sorgusu + sayfa dolu olduğu için count sorgusu
+    private static final long PAGED_FEED_STATEMENTS = 2;
+
+    @Autowired
+    private StoryService storyService;
+
+    @Autowired
+    private SavedStoryService savedStoryService;
+
+    @Autowired
+    private ListService listService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private StoryRepository storyRepository;
+
+    @Autowired
+    private SavedStoryRepository savedStoryRepository;
+
+    @Autowired
+    private ListRepository listRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User reader;
+    private Category category;
+    private ListEntity list;
+    private final List<Story> stories = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Role writerRole = createRoleIfNotExists("WRITER");
+        Role userRole = createRoleIfNotExists("USER");
+
+        category = new Category();
+        category.setName("Sorgu Sayısı");
+        category.setSlug("sorgu-sayisi");
+        category = categoryRepository.save(category);
+
+        // Her story farklı yazara ait; yazar başına ek sorgu olursa sayı büyür
+        for (int i = 0; i < 3; i++) {
+            User author = createUser("querycount-writer" + i, Set.of(writerRole));
+            Story story = new Story();
+            story.setTitle("Sorgu sayısı " + i);
+            story.setSlug("sorgu-sayisi-" + i);
+            story.setSummary("Özet " + i);
+            story.setContent("İçerik " + i);
+            story.setStatus(Story.StoryStatus.YAYINLANDI);
+            story.setPublishedAt(LocalDateTime.now().plusYears(1).plusMinutes(i));
+            story.setUser(author);
+            story.setCategory(category);
+            stories.add(storyRepository.save(story));
+        }
+
+        reader = createUser("querycount-reader", Set.of(userRole));
+        for (Story story : stories) {
+            SavedStory savedStory = new SavedStory();
+            savedStory.setUser(reader);
+            savedStory.setStory(story);
+            savedStory.setIsActive(true);
+            savedStoryRepository.save(savedStory);
+        }
+
+        list = new ListEntity();
+        list.setName("Sorgu sayısı listesi");
+        list.setSlug("sorgu-sayisi-listesi");
+        list.setIsPrivate(false);
+        list.setUser(reader);
+        list.setStories(new HashSet<>(stories));
+        list = listRepository.save(list);
+    }
+
+    @Test
+    void publishedFeed_shouldRunCardAndCountQueriesOnly() {
+        assertStatements(PAGED_FEED_STATEMENTS, () -> storyService.findPublishedStories(PageRequest.of(0, 2)));
+    }
+
+    @Test
+    void popularFeed_shouldRunCardAndCountQueriesOnly() {
+        assertStatements(PAGED_FEED_STATEMENTS, () -> storyService.findPopularStories(PageRequest.of(0, 2)));
+    }
+
+    @Test
+    void categoryFeed_shouldRunCardAndCountQueriesOnly() {
+        assertStatements(PAGED_FEED_STATEMENTS,
+                () -> storyService.findByCategoryId(category.getId(), PageRequest.of(0, 2)));
+    }
+
+    @Test
+    void searchFeed_shouldRunCardAndCountQueriesOnly() {
+        assertStatements(PAGED_FEED_STATEMENTS, () -> storyService.search("Sorgu sayısı", PageRequest.of(0, 2)));
+    }
+
+    @Test
+    void savedStoriesFeed_shouldRunCardAndCountQueriesOnly() {
+        assertStatements(PAGED_FEED_STATEMENTS,
+                () -> savedStoryService.findByUserId(reader.getId(), PageRequest.of(0, 2)));
+    }
+
+    @Test
+    void storyDetailBySlug_shouldLoadAuthorRolesAndCategoryInOneQuery() {
+        assertStatements(1, () -> storyService.findBySlug(stories.get(0).getSlug()));
+    }
+
+    @Test
+    void storyDetailById_shouldLoadAuthorRolesAndCategoryInOneQuery() {
+        assertStatements(1, () -> storyService.findById(stories.get(0).getId()));
+    }
+
+    @Test
+    void listDetail_shouldLoadListAndStoryCardsInTwoQueries() {
+        assertStatements(2, () -> {
+            var response = listService.findBySlug(list.getSlug());
+            assertEquals(3, response.getStories().size());
+        });
+    }
+
+    @Test
+    void commentThread_shouldLoadRootsAndNestedRepliesInTwoQueries() {
+        createCommentThread();
+
+        assertStatements(2, () -> {
+            var thread = commentService.findThread(stories.get(0).getId(), null, 10, 10);
+            assertEquals(3, thread.getComments().size());
+        });
+    }
+
+    @Test
+    void commentList_shouldNotQueryPerRootComment() {
+        createCommentThread();
+
+        assertStatements(2, () -> assertEquals(3, commentService.findByStoryId(stories.get(0).getId()).size()));
+    }
+
+    // Her kök farklı yazardan ve iki seviye yanıtlı; yorum veya yazar başına sorgu olursa sayı büyür
+    private void createCommentThread() {
+        Role userRole = createRoleIfNotExists("USER");
+        for (int i = 0; i < 3; i++) {
+            User commenter = createUser("querycount-commenter" + i, Set.of(userRole));
+            Comment root = saveComment(commenter, null);
+            Comment reply = saveComment(reader, root);
+            saveComment(commenter, reply);
+        }
+    }
+
+    private Comment saveComment(User user, Comment parent) {
+        Comment comment = new Comment();
+        comment.setContent("Sorgu sayısı yorumu");
+        comment.setUser(user);
+        comment.setStory(stories.get(0));
+        comment.setParentComment(parent);
+        comment.setStatus(Comment.CommentStatus.ONAYLANDI);
+        return commentRepository.save(comment);
+    }
+
+    private void assertStatements(long expected, Runnable action) {
+        // Kurulumda yazılanlar gönderilir ve birinci seviye önbellek boşaltılır; sayım sadece uçu kapsar
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        action.run();
+
+        assertEquals(expected, statistics.getPrepareStatementCount(),
+                "Beklenmeyen SQL sayısı: " + statistics.getQueries().length + " farklı sorgu çalıştı");
+    }
+
+    private User createUser(String username, Set<Role> roles) {
+        User user = new User();
+        user.setEmail(username + "@test.com");
+        user.setUsername(username);
+        user.setFirstName("Query");
+        user.setLastName("Count");
+        user.setPassword(passwordEncoder.encode("password123"));
+        user.setIsActive(true);
+        user.setRoles(new HashSet<>(roles));
+        return userRepository.save(user);
+    }
+
+    private Role createRoleIfNotExists(String roleName) {
+        return roleRepository.findByName(roleName).orElseGet(() -> {
+            Role role = new Role();
+            role.setName(roleName);
+            role.setIsActive(true);
+            return roleRepository.save(role);
+        });
+    }
+}
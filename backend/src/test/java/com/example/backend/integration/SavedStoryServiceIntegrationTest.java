@@ -96,6 +96,21 @@ class SavedStoryServiceIntegrationTest extends BaseIntegrationTest {
         assertFalse(isNotSaved);
     }
 
+    @Test
+    void testSaveStoryAgainAfterRemove() {
+        savedStoryService.saveStory(testUser.getId(), testStory.getId());
+        savedStoryService.removeStory(testUser.getId(), testStory.getId());
+
+        // Pasif satır tekil kısıta takılmadan yeniden aktif edilmeli
+        savedStoryService.saveStory(testUser.getId(), testStory.getId());
+        savedStoryService.saveStory(testUser.getId(), testStory.getId());
+
+        assertTrue(savedStoryService.isSaved(testUser.getId(), testStory.getId()));
+        assertEquals(1, savedStoryRepository.findAll().stream()
+                .filter(saved -> saved.getUser().getId().equals(testUser.getId()))
+                .count());
+    }
+
     private Story createTestStory(String title, Long userId) {
         Story story = new Story();
         story.setTitle(title);
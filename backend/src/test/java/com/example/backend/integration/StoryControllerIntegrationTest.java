@@ -4,13 +4,20 @@ import com.example.backend.application.dto.request.StoryCreateRequest;
 import com.example.backend.application.dto.request.StoryUpdateRequest;
 import com.example.backend.application.dto.response.StoryResponse;
 import com.example.backend.domain.entity.Category;
+import com.example.backend.domain.entity.Follow;
+import com.example.backend.domain.entity.Like;
 import com.example.backend.domain.entity.Role;
+import com.example.backend.domain.entity.SavedStory;
 import com.example.backend.domain.entity.Story;
 import com.example.backend.domain.entity.User;
 import com.example.backend.domain.repository.CategoryRepository;
+import com.example.backend.domain.repository.FollowRepository;
+import com.example.backend.domain.repository.LikeRepository;
 import com.example.backend.domain.repository.RoleRepository;
+import com.example.backend.domain.repository.SavedStoryRepository;
 import com.example.backend.domain.repository.StoryRepository;
 import com.example.backend.domain.repository.UserRepository;
+import com.example.backend.infrastructure.cache.StoryResponseCache;
 import com.example.backend.infrastructure.util.JwtUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
@@ -18,6 +25,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers;
 import org.springframework.test.web.servlet.MockMvc;
@@ -39,6 +47,12 @@ class StoryControllerIntegrationTest extends BaseIntegrationTest {
     @Autowired
     private StoryRepository storyRepository;
 
+    @Autowired
+    private StoryResponseCache storyResponseCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Autowired
     private UserRepository userRepository;
 
@@ -48,6 +62,15 @@ class StoryControllerIntegrationTest extends BaseIntegrationTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private SavedStoryRepository savedStoryRepository;
+
+    @Autowired
+    private FollowRepository followRepository;
+
     @Autowired
     private PasswordEncoder passwordEncoder;
 
@@ -153,6 +176,38 @@ class StoryControllerIntegrationTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.slug").value(story.getSlug()));
     }
 
+    @Test
+    void testFindBySlugReturnsNotModifiedForMatchingEtag() throws Exception {
+        Story story = createTestStory("Conditional Story", writer.getId());
+
+        String etag = mockMvc.perform(get("/api/haberler/slug/{slug}", story.getSlug()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-cache"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/haberler/slug/{slug}", story.getSlug()).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/api/haberler/slug/{slug}", story.getSlug()).header("If-None-Match", "W/\"eski\""))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testFindBySlugKeepsEtagWhenOnlyViewCountChanges() throws Exception {
+        Story story = createTestStory("Read Story", writer.getId());
+
+        String etag = mockMvc.perform(get("/api/haberler/slug/{slug}", story.getSlug()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Okuma sayacı toplu güncellemesi gibi: updatedAt değişmez
+        jdbcTemplate.update("UPDATE stories SET okunma_sayisi = COALESCE(okunma_sayisi, 0) + 25 WHERE id = ?", story.getId());
+        storyResponseCache.invalidate(story.getId());
+
+        mockMvc.perform(get("/api/haberler/slug/{slug}", story.getSlug()).header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+    }
+
     @Test
     void testFindAll() throws Exception {
         createTestStory("Story 1", writer.getId());
@@ -321,6 +376,48 @@ class StoryControllerIntegrationTest extends BaseIntegrationTest {
         assertTrue(updatedStory.getIsEditorPick());
     }
 
+    @Test
+    void testViewerStateForFeedPage() throws Exception {
+        Story liked = createTestStory("Viewer State Liked", writer.getId());
+        Story saved = createTestStory("Viewer State Saved", writer.getId());
+        Story untouched = createTestStory("Viewer State Untouched", writer.getId());
+
+        Like like = new Like();
+        like.setUser(admin);
+        like.setStory(liked);
+        likeRepository.save(like);
+
+        SavedStory savedStory = new SavedStory();
+        savedStory.setUser(admin);
+        savedStory.setStory(saved);
+        savedStoryRepository.save(savedStory);
+
+        Follow follow = new Follow();
+        follow.setFollower(admin);
+        follow.setFollowed(writer);
+        followRepository.save(follow);
+
+        mockMvc.perform(get("/api/haberler/izleyici-durumu")
+                        .header("Authorization", adminToken)
+                        .param("ids", liked.getId() + "," + saved.getId() + "," + untouched.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.begenilenHaberIdleri.length()").value(1))
+                .andExpect(jsonPath("$.begenilenHaberIdleri[0]").value(liked.getId()))
+                .andExpect(jsonPath("$.kaydedilenHaberIdleri.length()").value(1))
+                .andExpect(jsonPath("$.kaydedilenHaberIdleri[0]").value(saved.getId()))
+                .andExpect(jsonPath("$.takipEdilenYazarIdleri[0]").value(writer.getId()));
+    }
+
+    @Test
+    void testViewerStateRequiresAuthentication() throws Exception {
+        mockMvc.perform(get("/api/haberler/izleyici-durumu").param("ids", "1,2"))
+                .andExpect(result -> {
+                    int status = result.getResponse().getStatus();
+                    assertTrue(status == 401 || status == 403,
+                        "Expected 401 or 403 but got " + status);
+                });
+    }
+
     @Test
     void testGetBekleyen() throws Exception {
         Story story = createTestStory("Pending Story", writer.getId());
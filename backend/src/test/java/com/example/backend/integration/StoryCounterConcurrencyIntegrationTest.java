@@ -0,0 +1,168 @@
+package com.example.backend.integration;
+
+import com.example.backend.application.service.LikeService;
+import com.example.backend.domain.entity.*;
+import com.example.backend.domain.repository.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Aynı habere eşzamanlı beğenilerde sayaç kaybı olmamalı. Her beğeni kendi transaction'ında
+ * commit edilmeli; bu yüzden sınıf seviyesindeki test transaction'ı kapatılır ve veriler elle silinir.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class StoryCounterConcurrencyIntegrationTest extends BaseIntegrationTest {
+
+    private static final int LIKERS = 500;
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private StoryRepository storyRepository;
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> userIds = new ArrayList<>();
+    private Long writerId;
+    private Long storyId;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = String.valueOf(System.nanoTime());
+        Role userRole = createRoleIfNotExists("USER");
+        // 500 kullanıcı için BCrypt'i bir kez çalıştır
+        String password = passwordEncoder.encode("password123");
+
+        User writer = createUser("counter-writer-" + suffix, password, createRoleIfNotExists("WRITER"));
+        writerId = writer.getId();
+        userIds.add(writerId);
+
+        for (int i = 0; i < LIKERS; i++) {
+            userIds.add(createUser("counter-liker-" + i + "-" + suffix, password, userRole).getId());
+        }
+
+        Story story = new Story();
+        story.setTitle("Eşzamanlı beğeni testi");
+        story.setContent("Sayaç kaybı olmamalı");
+        story.setSummary("Summary");
+        story.setSlug("eszamanli-begeni-testi-" + suffix);
+        story.setUser(writer);
+        story.setStatus(Story.StoryStatus.YAYINLANDI);
+        story.setViewCount(0L);
+        story.setLikeCount(0L);
+        story.setCommentCount(0L);
+        story.setIsActive(true);
+        storyId = storyRepository.save(story).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (storyId != null) {
+            jdbcTemplate.update("DELETE FROM likes WHERE story_id = ?", storyId);
+            jdbcTemplate.update("DELETE FROM bildirimler WHERE kullanici_id = ?", writerId);
+            jdbcTemplate.update("DELETE FROM stories WHERE id = ?", storyId);
+        }
+        for (Long userId : userIds) {
+            jdbcTemplate.update("DELETE FROM kullanici_roller WHERE kullanici_id = ?", userId);
+            jdbcTemplate.update("DELETE FROM kullanicilar WHERE id = ?", userId);
+        }
+        userIds.clear();
+    }
+
+    @Test
+    void concurrentLikesAndUnlikes_shouldKeepCounterInSyncWithLikeRows() throws Exception {
+        List<Long> likers = userIds.subList(1, userIds.size());
+
+        assertEquals(0, runConcurrently(likers, userId -> likeService.like(storyId, userId)));
+        assertCounterMatchesRows(LIKERS);
+
+        assertEquals(0, runConcurrently(likers.subList(0, LIKERS / 2), userId -> likeService.unlike(storyId, userId)));
+        assertCounterMatchesRows(LIKERS - LIKERS / 2);
+    }
+
+    private void assertCounterMatchesRows(long expected) {
+        Long counter = jdbcTemplate.queryForObject("SELECT begeni_sayisi FROM stories WHERE id = ?", Long.class, storyId);
+        assertEquals(expected, likeRepository.countActiveByStoryId(storyId));
+        assertEquals(expected, counter);
+    }
+
+    /**
+     * Görevleri aynı anda başlatır ve hata sayısını döner.
+     */
+    private int runConcurrently(List<Long> userIds, Consumer<Long> action) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger failures = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>(userIds.size());
+        try {
+            for (Long userId : userIds) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        action.accept(userId);
+                    } catch (RuntimeException e) {
+                        failures.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return failures.get();
+    }
+
+    private User createUser(String username, String encodedPassword, Role role) {
+        User user = new User();
+        user.setEmail(username + "@test.com");
+        user.setUsername(username);
+        user.setFirstName("Test");
+        user.setLastName("Counter");
+        user.setPassword(encodedPassword);
+        user.setIsActive(true);
+        user.setRoles(Set.of(role));
+        return userRepository.save(user);
+    }
+
+    private Role createRoleIfNotExists(String roleName) {
+        return roleRepository.findByName(roleName).orElseGet(() -> {
+            Role role = new Role();
+            role.setName(roleName);
+            role.setIsActive(true);
+            return roleRepository.save(role);
+        });
+    }
+}
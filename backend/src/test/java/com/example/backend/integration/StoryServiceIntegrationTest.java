@@ -211,6 +211,25 @@ class StoryServiceIntegrationTest extends BaseIntegrationTest {
         assertTrue(stories.getTotalElements() >= 1);
     }
 
+    @Test
+    void testSearchShouldFoldTurkishCharactersAndRankTitleMatchesFirst() {
+        Story inContent = createTestStory("Haftanın notları", testUser.getId());
+        inContent.setContent("Bu hafta doğrulama araçlarına baktık");
+        inContent.setStatus(Story.StoryStatus.YAYINLANDI);
+        storyRepository.save(inContent);
+
+        Story inTitle = createTestStory("Yazılım Doğrulama Rehberi", testUser.getId());
+        inTitle.setStatus(Story.StoryStatus.YAYINLANDI);
+        storyRepository.save(inTitle);
+
+        Page<StoryResponse> stories = storyService.search("dogrulama", PageRequest.of(0, 10));
+
+        assertEquals(2, stories.getTotalElements());
+        assertEquals(inTitle.getId(), stories.getContent().get(0).getId());
+        assertTrue(stories.getContent().get(0).getVurguluBaslik().contains("<mark>Doğrulama</mark>"));
+        assertTrue(stories.getContent().get(1).getVurguluParca().contains("<mark>doğrulama</mark>"));
+    }
+
     @Test
     void testUpdateStory() {
         Story story = createTestStory("Update Story", testUser.getId());
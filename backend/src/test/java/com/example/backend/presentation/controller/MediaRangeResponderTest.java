@@ -0,0 +1,169 @@
+package com.example.backend.presentation.controller;
+
+import com.example.backend.infrastructure.cache.MediaFileHandleCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MediaRangeResponderTest {
+
+    private static final String CONTENT = "0123456789abcdefghij";
+
+    @TempDir
+    Path tempDir;
+
+    private MediaFileHandleCache.Handle handle;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path file = tempDir.resolve("3f2a.mp4");
+        Files.writeString(file, CONTENT, StandardCharsets.US_ASCII);
+        handle = MediaFileHandleCache.Handle.of(file, CONTENT.length(), 1_700_000_000_000L, "video/mp4");
+    }
+
+    @Test
+    void respond_shouldWriteWholeFileWithImmutableCaching() throws IOException {
+        MockHttpServletResponse response = respond(get());
+
+        assertEquals(200, response.getStatus());
+        assertEquals(CONTENT, response.getContentAsString());
+        assertEquals("video/mp4", response.getContentType());
+        assertEquals("bytes", response.getHeader("Accept-Ranges"));
+        assertEquals("\"3f2a.mp4\"", response.getHeader("ETag"));
+        assertEquals(MediaRangeResponder.CACHE_CONTROL, response.getHeader("Cache-Control"));
+        assertEquals(CONTENT.length(), response.getContentLengthLong());
+    }
+
+    @Test
+    void respond_shouldRevalidateFallbackOriginals() throws IOException {
+        handle = handle.asFallback();
+
+        MockHttpServletResponse response = respond(get());
+
+        assertEquals(200, response.getStatus());
+        assertEquals(MediaRangeResponder.FALLBACK_CACHE_CONTROL, response.getHeader("Cache-Control"));
+    }
+
+    @Test
+    void respond_shouldServeAllowlistedMediaInline() throws IOException {
+        MockHttpServletResponse response = respond(get());
+
+        assertEquals("inline; filename=\"3f2a.mp4\"", response.getHeader("Content-Disposition"));
+        assertEquals("nosniff", response.getHeader("X-Content-Type-Options"));
+    }
+
+    @Test
+    void respond_shouldForceDownloadForScriptableTypes() throws IOException {
+        for (String type : new String[]{"text/html", "image/svg+xml", "application/xhtml+xml", "TEXT/HTML; charset=utf-8"}) {
+            handle = MediaFileHandleCache.Handle.of(handle.path(), CONTENT.length(), 1_700_000_000_000L, type);
+
+            MockHttpServletResponse response = respond(get());
+
+            assertEquals("attachment; filename=\"3f2a.mp4\"", response.getHeader("Content-Disposition"), type);
+            assertEquals("nosniff", response.getHeader("X-Content-Type-Options"));
+        }
+    }
+
+    @Test
+    void respond_shouldServeSingleRangeAsPartialContent() throws IOException {
+        MockHttpServletRequest request = get();
+        request.addHeader("Range", "bytes=5-9");
+
+        MockHttpServletResponse response = respond(request);
+
+        assertEquals(206, response.getStatus());
+        assertEquals("56789", response.getContentAsString());
+        assertEquals("bytes 5-9/20", response.getHeader("Content-Range"));
+        assertEquals(5, response.getContentLengthLong());
+    }
+
+    @Test
+    void respond_shouldServeSuffixAndOpenEndedRanges() throws IOException {
+        MockHttpServletRequest suffix = get();
+        suffix.addHeader("Range", "bytes=-3");
+        MockHttpServletRequest openEnded = get();
+        openEnded.addHeader("Range", "bytes=15-");
+
+        assertEquals("hij", respond(suffix).getContentAsString());
+        MockHttpServletResponse response = respond(openEnded);
+        assertEquals("fghij", response.getContentAsString());
+        assertEquals("bytes 15-19/20", response.getHeader("Content-Range"));
+    }
+
+    @Test
+    void respond_shouldRejectUnsatisfiableRange() throws IOException {
+        MockHttpServletRequest request = get();
+        request.addHeader("Range", "bytes=50-60");
+
+        MockHttpServletResponse response = respond(request);
+
+        assertEquals(416, response.getStatus());
+        assertEquals("bytes */20", response.getHeader("Content-Range"));
+        assertEquals("", response.getContentAsString());
+    }
+
+    @Test
+    void respond_shouldIgnoreRangeWhenIfRangeDoesNotMatch() throws IOException {
+        MockHttpServletRequest request = get();
+        request.addHeader("Range", "bytes=0-1");
+        request.addHeader("If-Range", "\"baska.mp4\"");
+
+        MockHttpServletResponse response = respond(request);
+
+        assertEquals(200, response.getStatus());
+        assertEquals(CONTENT, response.getContentAsString());
+    }
+
+    @Test
+    void respond_shouldReturnNotModifiedForMatchingEtag() throws IOException {
+        MockHttpServletRequest request = get();
+        request.addHeader("If-None-Match", "\"3f2a.mp4\"");
+
+        MockHttpServletResponse response = respond(request);
+
+        assertEquals(304, response.getStatus());
+        assertEquals("", response.getContentAsString());
+    }
+
+    @Test
+    void respond_shouldHandOffToSendfileWhenContainerSupportsIt() throws IOException {
+        MockHttpServletRequest request = get();
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        request.addHeader("Range", "bytes=2-4");
+
+        MockHttpServletResponse response = respond(request);
+
+        assertEquals(206, response.getStatus());
+        assertEquals("", response.getContentAsString());
+        assertEquals(handle.path().toAbsolutePath().toString(), request.getAttribute("org.apache.tomcat.sendfile.filename"));
+        assertEquals(2L, request.getAttribute("org.apache.tomcat.sendfile.start"));
+        assertEquals(5L, request.getAttribute("org.apache.tomcat.sendfile.end"));
+    }
+
+    @Test
+    void respond_shouldFailWhenFileWasDeleted() throws IOException {
+        Files.delete(handle.path());
+
+        assertThrows(NoSuchFileException.class, () -> respond(get()));
+    }
+
+    private MockHttpServletRequest get() {
+        return new MockHttpServletRequest("GET", "/api/dosyalar/2024/01/3f2a.mp4");
+    }
+
+    private MockHttpServletResponse respond(MockHttpServletRequest request) throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MediaRangeResponder.respond(request, response, handle, "3f2a.mp4");
+        return response;
+    }
+}
@@ -72,15 +72,23 @@ const ReaderHeader = ({ onSidebarToggle }) => {
     }
   };
 
-  // İlk yüklemede ve periyodik olarak okunmamış bildirim sayısını kontrol et
+  // Okunmamış sayısı canlı akıştan gelir; bağlantı açılınca ve her değişiklikte sunucu güncel sayıyı gönderir
   useEffect(() => {
     if (isAuthenticated && user?.id) {
-      fetchUnreadCount();
-      
-      // Her 30 saniyede bir kontrol et
-      const interval = setInterval(fetchUnreadCount, 30000);
+      const kapat = bildirimAPI.canliDinle({
+        onOkunmamis: (count) => {
+          setUnreadCount((previousCount) => {
+            if (count === 0 && previousCount > 0) {
+              setBadgeVisible(false);
+            } else if (count > previousCount) {
+              setBadgeVisible(true);
+            }
+            return count;
+          });
+        },
+      });
       
-      return () => clearInterval(interval);
+      return kapat;
     }
   }, [isAuthenticated, user?.id]);
 
@@ -1160,7 +1160,7 @@ const ArticleDetail = ({ sidebarOpen, setSidebarOpen }) => {
                     <div className="more-article-meta">
                       <span>{formatDate(h.createdAt)}</span>
                       <span>•</span>
-                      <span>{calculateReadTime(h.icerik)} dk okuma</span>
+                      <span>{h.okumaSuresi ?? calculateReadTime(h.icerik)} dk okuma</span>
                     </div>
                   </Link>
                 ))}
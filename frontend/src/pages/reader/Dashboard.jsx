@@ -73,20 +73,17 @@ const ReaderDashboard = ({ sidebarOpen, setSidebarOpen }) => {
       setStaffPicks(populerResponse.data.content || []);
       setKategoriler(kategorilerResponse.data || []);
 
-      // Her haber için beğeni durumunu kontrol et
-      const begenilenIds = new Set();
-      await Promise.all(
-        [...forYouHaberler, ...featuredHaberler].map(async (haber) => {
-          try {
-            const response = await begeniAPI.begenildiMi(haber.id);
-            if (response.data === true) {
-              begenilenIds.add(haber.id);
-            }
-          } catch (error) {
-            // Hata durumunda beğenilmemiş say
-          }
-        })
-      );
+      // Sayfadaki haberlerin beğeni durumunu tek istekte al
+      let begenilenIds = new Set();
+      const haberIds = [...new Set([...forYouHaberler, ...featuredHaberler].map((haber) => haber.id))];
+      if (haberIds.length > 0) {
+        try {
+          const durumResponse = await haberAPI.izleyiciDurumu(haberIds);
+          begenilenIds = new Set(durumResponse.data?.begenilenHaberIdleri || []);
+        } catch (error) {
+          // Hata durumunda beğenilmemiş say
+        }
+      }
       setBegenilenHaberler(begenilenIds);
 
     } catch (error) {
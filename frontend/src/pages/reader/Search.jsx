@@ -141,8 +141,17 @@ const Search = ({ sidebarOpen, setSidebarOpen }) => {
                         </span>
                         <span className="result-date">{formatDate(story.createdAt)}</span>
                       </div>
-                      <h2 className="result-title">{story.baslik}</h2>
-                      <p className="result-excerpt">{story.ozet || story.icerik?.substring(0, 200)}</p>
+                      {/* Vurgulu alanlar sunucuda HTML kaçışlı üretilir, sadece <mark> etiketi içerir */}
+                      {story.vurguluBaslik ? (
+                        <h2 className="result-title" dangerouslySetInnerHTML={{ __html: story.vurguluBaslik }} />
+                      ) : (
+                        <h2 className="result-title">{story.baslik}</h2>
+                      )}
+                      {story.vurguluParca ? (
+                        <p className="result-excerpt" dangerouslySetInnerHTML={{ __html: story.vurguluParca }} />
+                      ) : (
+                        <p className="result-excerpt">{story.ozet || story.icerik?.substring(0, 200)}</p>
+                      )}
                       <div className="result-footer">
                         <div className="result-engagement">
                           <svg width="16" height="16" viewBox="0 0 24 24" fill="none">
@@ -125,12 +125,17 @@ export const haberAPI = {
   yayinOnayla: (id) => api.post(`/haberler/${id}/onayla`),
   yayinReddet: (id, sebep) => api.post(`/haberler/${id}/reddet`, null, { params: { sebep } }),
   search: (q, params) => api.get('/haberler/arama', { params: { q, ...params } }),
+  // İmleçli akış: { cursor, size } -> { content, nextCursor, hasMore }
+  akis: (params) => api.get('/haberler/akis', { params }),
   getPopular: (params) => api.get('/haberler/populer', { params }),
   getBekleyen: (params) => api.get('/haberler/bekleyen', { params }),
   getByKategori: (kategoriId, params) => api.get(`/haberler/kategori/${kategoriId}`, { params }),
+  kategoriAkisi: (kategoriId, params) => api.get(`/haberler/kategori/${kategoriId}/akis`, { params }),
   getByKullanici: (kullaniciId, params) => api.get(`/haberler/kullanici/${kullaniciId}`, { params }),
   getEditorPicks: (params) => api.get('/haberler/editor-secimleri', { params }),
   toggleEditorPick: (id) => api.post(`/haberler/${id}/editor-secimi`),
+  // Sayfadaki tüm kartlar için beğeni/kayıt/yazar takip durumu tek istekte
+  izleyiciDurumu: (ids) => api.get('/haberler/izleyici-durumu', { params: { ids: ids.join(',') } }),
 };
 
 // Story API (alias for haberAPI)
@@ -199,6 +204,7 @@ export const yazarProfiliAPI = {
 // Kayıtlı Haber API
 export const kayitliHaberAPI = {
   getAll: (params) => api.get('/kayitli-haberler', { params }),
+  akis: (params) => api.get('/kayitli-haberler/akis', { params }),
   kaydet: (haberId) => api.post(`/kayitli-haberler/haber/${haberId}`),
   kaldir: (haberId) => api.delete(`/kayitli-haberler/haber/${haberId}`),
 };
@@ -207,9 +213,77 @@ export const kayitliHaberAPI = {
 export const bildirimAPI = {
   getAll: (params) => api.get('/bildirimler', { params }),
   getOkunmamis: (params) => api.get('/bildirimler/okunmamis', { params }),
+  akis: (params) => api.get('/bildirimler/akis', { params }),
   getOkunmamisSayisi: () => api.get('/bildirimler/okunmamis-sayi'),
   okunduIsaretle: (id) => api.patch(`/bildirimler/${id}/okundu`),
   tumunuOkunduIsaretle: () => api.patch('/bildirimler/tumunu-okundu'),
+  okunduIsaretleKadar: (sonId) => api.patch(`/bildirimler/okundu-kadar/${sonId}`),
+  canliDinle: (dinleyiciler) => bildirimAkisiDinle(dinleyiciler),
+};
+
+// Canlı bildirim akışı (SSE). EventSource Authorization başlığı gönderemediği için fetch ile okunur.
+// Bağlantı koparsa son bildirim id'si Last-Event-ID olarak gönderilir, sunucu kaçırılanları tekrar yollar.
+// Dönen fonksiyon akışı kapatır.
+const bildirimAkisiDinle = ({ onOkunmamis, onBildirim, onYenile }) => {
+  const controller = new AbortController();
+  let sonId = null;
+  let bekleme = 5000;
+
+  const olayIsle = (blok) => {
+    let ad = 'message';
+    let veri = '';
+    blok.split('\n').forEach((satir) => {
+      // ':' ile başlayan satırlar heartbeat yorumudur
+      if (!satir || satir.startsWith(':')) return;
+      const ayrac = satir.indexOf(':');
+      const alan = ayrac < 0 ? satir : satir.slice(0, ayrac);
+      const deger = ayrac < 0 ? '' : satir.slice(ayrac + 1).replace(/^ /, '');
+      if (alan === 'event') ad = deger;
+      else if (alan === 'data') veri += (veri ? '\n' : '') + deger;
+      else if (alan === 'id') sonId = deger;
+      else if (alan === 'retry' && Number(deger) > 0) bekleme = Number(deger);
+    });
+    if (!veri) return;
+    const data = JSON.parse(veri);
+    if (ad === 'okunmamis') onOkunmamis?.(data);
+    else if (ad === 'bildirim') onBildirim?.(data);
+    else if (ad === 'yenile') onYenile?.();
+  };
+
+  const baglan = async () => {
+    while (!controller.signal.aborted) {
+      try {
+        const headers = { Accept: 'text/event-stream' };
+        const token = localStorage.getItem('token');
+        if (token) headers.Authorization = `Bearer ${token}`;
+        if (sonId) headers['Last-Event-ID'] = sonId;
+        const response = await fetch(`${API_BASE_URL}/bildirimler/canli`, { headers, signal: controller.signal });
+        // Oturum geçersizse yeniden denemenin anlamı yok
+        if (response.status === 401 || response.status === 403) return;
+        if (!response.ok || !response.body) throw new Error(`Bildirim akışı açılamadı: ${response.status}`);
+
+        const reader = response.body.pipeThrough(new TextDecoderStream()).getReader();
+        let tampon = '';
+        for (;;) {
+          const { value, done } = await reader.read();
+          if (done) break;
+          tampon += value;
+          let son;
+          while ((son = tampon.indexOf('\n\n')) >= 0) {
+            olayIsle(tampon.slice(0, son));
+            tampon = tampon.slice(son + 2);
+          }
+        }
+      } catch (error) {
+        if (controller.signal.aborted) return;
+        console.warn('Bildirim akışı koptu, yeniden bağlanılacak:', error.message);
+      }
+      await new Promise((resolve) => setTimeout(resolve, bekleme));
+    }
+  };
+
+  baglan();
+  return () => controller.abort();
 };
 
 // Dosya Yükleme API
@@ -221,6 +295,13 @@ export const dosyaAPI = {
     // multipart/form-data ve boundary ekler. Manuel set edilirse boundary eksik kalır.
     return api.post('/dosyalar/yukle', formData);
   },
+  // Dosya gövdesi multipart olmadan gönderilir; sunucu diske akıtırken özetler
+  yukleAkis: (file) => api.post('/dosyalar/yukle/akis', file, {
+    headers: {
+      'Content-Type': file.type || 'application/octet-stream',
+      'X-Dosya-Adi': encodeURIComponent(file.name),
+    },
+  }),
   getById: (id) => api.get(`/dosyalar/${id}`),
   sil: (id) => api.delete(`/dosyalar/${id}`),
 };